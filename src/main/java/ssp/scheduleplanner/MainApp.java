@@ -1,6 +1,7 @@
 package ssp.scheduleplanner;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -15,6 +16,7 @@ import ssp.scheduleplanner.commons.core.EventsCenter;
 import ssp.scheduleplanner.commons.core.LogsCenter;
 import ssp.scheduleplanner.commons.core.Version;
 import ssp.scheduleplanner.commons.events.ui.ExitAppRequestEvent;
+import ssp.scheduleplanner.commons.events.ui.NewResultAvailableEvent;
 import ssp.scheduleplanner.commons.exceptions.DataConversionException;
 import ssp.scheduleplanner.commons.util.ConfigUtil;
 import ssp.scheduleplanner.commons.util.StringUtil;
@@ -27,13 +29,14 @@ import ssp.scheduleplanner.model.ModelManager;
 import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
 import ssp.scheduleplanner.model.SchedulePlanner;
 import ssp.scheduleplanner.model.UserPrefs;
+import ssp.scheduleplanner.model.task.Date;
 import ssp.scheduleplanner.model.util.SampleDataUtil;
 import ssp.scheduleplanner.storage.JsonUserPrefsStorage;
 import ssp.scheduleplanner.storage.SchedulePlannerStorage;
 import ssp.scheduleplanner.storage.Storage;
+import ssp.scheduleplanner.storage.StorageFormat;
 import ssp.scheduleplanner.storage.StorageManager;
 import ssp.scheduleplanner.storage.UserPrefsStorage;
-import ssp.scheduleplanner.storage.XmlSchedulePlannerStorage;
 import ssp.scheduleplanner.ui.Ui;
 import ssp.scheduleplanner.ui.UiManager;
 
@@ -63,9 +66,15 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        SchedulePlannerStorage schedulePlannerStorage =
-                new XmlSchedulePlannerStorage(userPrefs.getSchedulePlannerFilePath());
-        storage = new StorageManager(schedulePlannerStorage, userPrefsStorage);
+        Path schedulePlannerFilePath = userPrefs.getSchedulePlannerFilePath();
+        migrateSchedulePlannerFile(schedulePlannerFilePath);
+        SchedulePlannerStorage schedulePlannerStorage = StorageFormat.fromFilePath(schedulePlannerFilePath)
+                .createIncrementalStorage(schedulePlannerFilePath, Date.today());
+        StorageManager storageManager = new StorageManager(schedulePlannerStorage, userPrefsStorage);
+        if (userPrefs.getSaveDelayMillis() > 0) {
+            storageManager.enableWriteBehind(userPrefs.getSaveDelayMillis(), Platform::runLater);
+        }
+        storage = storageManager;
 
         initLogging(config);
 
@@ -85,7 +94,9 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s schedule planner and {@code userPrefs}. <br>
      * The data from the sample schedule planner will be used instead if {@code storage}'s schedule planner is not
      * found, or an empty schedule planner will be used instead if errors occur when reading {@code storage}'s
-     * schedule planner.
+     * schedule planner and all of its backup generations. <br>
+     * If some records of {@code storage}'s schedule planner could not be read, the records that could be read are
+     * saved back at once, so that the data file no longer holds the records set aside.
      */
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
         Optional<ReadOnlySchedulePlanner> schedulePlannerOptional;
@@ -96,15 +107,51 @@ public class MainApp extends Application {
                 logger.info("Data file not found. Will be starting with a sample SchedulePlanner");
             }
             initialData = schedulePlannerOptional.orElseGet(SampleDataUtil::getSampleSchedulePlanner);
+            if (storage.getRecoveryReport().isPresent()) {
+                saveRecoveredData(storage, initialData);
+            }
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty SchedulePlanner");
+            logger.warning("Data file and its backups not in the correct format. "
+                    + "Will be starting with an empty SchedulePlanner");
             initialData = new SchedulePlanner();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty SchedulePlanner");
             initialData = new SchedulePlanner();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, storage.getDeferredTaskLoader().orElse(null));
+    }
+
+    /**
+     * Saves {@code recoveredData}, read from a data file in which some records could not be read.
+     */
+    private void saveRecoveredData(Storage storage, ReadOnlySchedulePlanner recoveredData) {
+        try {
+            storage.saveSchedulePlanner(recoveredData);
+        } catch (IOException e) {
+            logger.warning("Failed to save the recovered data file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Converts the data file with the same name as {@code filePath} in another format, if {@code filePath} is
+     * missing and there is such a file, so that changing the extension of the data file keeps the data.
+     */
+    private void migrateSchedulePlannerFile(Path filePath) {
+        if (Files.exists(filePath)) {
+            return;
+        }
+        Optional<Path> fileInOtherFormat = StorageFormat.findFileInOtherFormat(filePath);
+        if (!fileInOtherFormat.isPresent()) {
+            return;
+        }
+        try {
+            StorageFormat.convert(fileInOtherFormat.get(), filePath);
+            logger.info("Converted data file " + fileInOtherFormat.get() + " to " + filePath);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Unable to convert data file " + fileInOtherFormat.get() + " to " + filePath + ": "
+                    + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -132,16 +179,10 @@ public class MainApp extends Application {
 
         //When user launch the application for the first time or deleted the 'rangeofweek.xml'
         //or modify the content until some are invalid
-        //generate the file with a default setting to allow user to use 'firstday' command
-        FirstDayCommand fdc = new FirstDayCommand();
-        fdc.createDefaultFileIfNotExist();
-        fdc.createDefaultFileIfUnableConvert();
-        fdc.createDefaultFileIfSizeDiff();
-        fdc.createDefaultFileIfNull();
-        fdc.createDefaultFileIfInvalidDateOrRange();
+        //the semester calendar replaces it with a default setting to allow user to use 'firstday' command
         try {
             Config updateConfig = new Config();
-            updateConfig.setAppTitle(fdc.computeAppTitle());
+            updateConfig.setAppTitle(new FirstDayCommand().computeAppTitle());
             ConfigUtil.saveConfig(updateConfig, configFilePathUsed);
         } catch (IOException e) {
             logger.warning("Failed to update config file : " + StringUtil.getDetails(e));
@@ -205,12 +246,16 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting SchedulePlanner " + MainApp.VERSION);
         ui.start(primaryStage);
+        storage.getRecoveryReport().ifPresent(report ->
+                EventsCenter.getInstance().post(new NewResultAvailableEvent(report.toString())));
+        model.loadTasksInBackground(Platform::runLater);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Schedule Planner ] =============================");
         ui.stop();
+        storage.flushSchedulePlanner();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
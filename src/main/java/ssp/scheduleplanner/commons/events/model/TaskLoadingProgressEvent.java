@@ -0,0 +1,34 @@
+package ssp.scheduleplanner.commons.events.model;
+
+import ssp.scheduleplanner.commons.events.BaseEvent;
+
+/** Indicates how far the model has got in loading, in the background, the tasks left out at startup */
+public class TaskLoadingProgressEvent extends BaseEvent {
+
+    public final int loadedParts;
+    public final int totalParts;
+
+    public TaskLoadingProgressEvent(int loadedParts, int totalParts) {
+        this.loadedParts = loadedParts;
+        this.totalParts = totalParts;
+    }
+
+    /**
+     * Returns true if every task left out at startup has been loaded.
+     */
+    public boolean isComplete() {
+        return loadedParts >= totalParts;
+    }
+
+    /**
+     * Returns the share of the parts loaded so far, as a whole percentage.
+     */
+    public int getPercentLoaded() {
+        return isComplete() ? 100 : loadedParts * 100 / totalParts;
+    }
+
+    @Override
+    public String toString() {
+        return loadedParts + " of " + totalParts + " parts of the tasks loaded";
+    }
+}
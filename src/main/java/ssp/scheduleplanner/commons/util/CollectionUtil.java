@@ -4,9 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
+import javafx.collections.ObservableList;
+
 /**
  * Utility methods related to Collections
  */
@@ -32,4 +35,20 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Replaces the elements of {@code list} from {@code from} inclusive to {@code to} exclusive with
+     * {@code replacement}, using the fewest list operations so that observers of the list see few changes.
+     */
+    public static <T> void replaceRange(ObservableList<T> list, int from, int to, List<? extends T> replacement) {
+        requireAllNonNull(list, replacement);
+        if (to - from == 1 && replacement.size() == 1) {
+            list.set(from, replacement.get(0));
+        } else if (from == 0 && to == list.size()) {
+            list.setAll(replacement);
+        } else {
+            list.subList(from, to).clear();
+            list.addAll(from, replacement);
+        }
+    }
 }
@@ -38,6 +38,29 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if the {@code sentence} contains a word starting with {@code prefix}.
+     *   Ignores case.
+     *   <br>examples:<pre>
+     *       containsWordStartingWithIgnoreCase("ABc def", "ab") == true
+     *       containsWordStartingWithIgnoreCase("ABc def", "DEF") == true
+     *       containsWordStartingWithIgnoreCase("ABc def", "bc") == false //not the start of a word
+     *       </pre>
+     * @param sentence cannot be null
+     * @param prefix cannot be null, cannot contain whitespace
+     */
+    public static boolean containsWordStartingWithIgnoreCase(String sentence, String prefix) {
+        requireNonNull(sentence);
+        requireNonNull(prefix);
+
+        String preppedPrefix = prefix.trim();
+        checkArgument(!preppedPrefix.matches(".*\\s.*"), "Prefix parameter should be a single word");
+
+        return Arrays.stream(sentence.split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .anyMatch(word -> word.regionMatches(true, 0, preppedPrefix, 0, preppedPrefix.length()));
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
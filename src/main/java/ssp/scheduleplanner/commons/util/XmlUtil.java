@@ -3,8 +3,11 @@ package ssp.scheduleplanner.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -16,6 +19,9 @@ import javax.xml.bind.Unmarshaller;
  */
 public class XmlUtil {
 
+    /** JAXB contexts are expensive to create and safe to share, so one is kept for each bound class. */
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,7 +43,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
+        JAXBContext context = getContext(classToConvert);
         Unmarshaller um = context.createUnmarshaller();
 
         return ((T) um.unmarshal(file.toFile()));
@@ -45,6 +51,7 @@ public class XmlUtil {
 
     /**
      * Saves the data in the file in xml format.
+     * The file is replaced atomically, as in {@link FileUtil#writeAtomically(Path, FileUtil.ContentWriter)}.
      *
      * @param file Points to a valid xml file containing data that match the {@code classToConvert}.
      *             Cannot be null.
@@ -52,7 +59,7 @@ public class XmlUtil {
      * @throws JAXBException         Thrown if there is an error during converting the data
      *                               into xml and writing to the file.
      */
-    public static <T> void saveDataToFile(Path file, T data) throws FileNotFoundException, JAXBException {
+    public static <T> void saveDataToFile(Path file, T data) throws IOException, JAXBException {
 
         requireNonNull(file);
         requireNonNull(data);
@@ -61,11 +68,23 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
+        JAXBContext context = getContext(data.getClass());
         Marshaller m = context.createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
-        m.marshal(data, file.toFile());
+        FileUtil.writeAtomically(file, out -> m.marshal(data, out));
+    }
+
+    /**
+     * Returns the shared JAXB context of {@code boundClass}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> boundClass) throws JAXBException {
+        JAXBContext context = contexts.get(boundClass);
+        if (context == null) {
+            context = JAXBContext.newInstance(boundClass);
+            contexts.putIfAbsent(boundClass, context);
+        }
+        return context;
     }
 
 }
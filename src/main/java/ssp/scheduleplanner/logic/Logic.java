@@ -5,6 +5,7 @@ import ssp.scheduleplanner.logic.commands.CommandResult;
 import ssp.scheduleplanner.logic.commands.exceptions.CommandException;
 import ssp.scheduleplanner.logic.parser.exceptions.ParseException;
 import ssp.scheduleplanner.model.category.Category;
+import ssp.scheduleplanner.model.rangeofweek.SemesterCalendar;
 import ssp.scheduleplanner.model.task.Task;
 
 /**
@@ -29,6 +30,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the list of categories */
     ObservableList<Category> getCategoryList();
 
+    /** Returns the academic calendar of the semester, which tells the academic week of a date */
+    SemesterCalendar getSemesterCalendar();
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
 }
@@ -12,7 +12,9 @@ import ssp.scheduleplanner.logic.parser.SchedulePlannerParser;
 import ssp.scheduleplanner.logic.parser.exceptions.ParseException;
 import ssp.scheduleplanner.model.Model;
 import ssp.scheduleplanner.model.category.Category;
+import ssp.scheduleplanner.model.rangeofweek.SemesterCalendar;
 import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.storage.SemesterCalendarStorage;
 
 /**
  * The main LogicManager of the app.
@@ -56,6 +58,11 @@ public class LogicManager extends ComponentManager implements Logic {
         return model.getCategoryList();
     }
 
+    @Override
+    public SemesterCalendar getSemesterCalendar() {
+        return SemesterCalendarStorage.getInstance().getSemesterCalendar();
+    }
+
     @Override
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
@@ -2,9 +2,8 @@ package ssp.scheduleplanner.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
+import java.util.ArrayList;
+import java.util.List;
 
 import ssp.scheduleplanner.commons.core.EventsCenter;
 import ssp.scheduleplanner.commons.events.ui.ChangeViewEvent;
@@ -42,6 +41,7 @@ public class AddRepeatCommand extends Command {
             + CliSyntax.PREFIX_TAG + "Tutorial";
 
     public static final String MESSAGE_SUCCESS = "New repeated task added: %1$s";
+    public static final String MESSAGE_DATE_OUT_OF_RANGE = "The repeated task cannot be dated beyond 31 Dec 2099.";
     private final Task toAdd;
     private final Repeat repeat;
     private final Interval repeatInterval;
@@ -60,30 +60,23 @@ public class AddRepeatCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        // Add the first task.
         int interval = Integer.parseInt(repeatInterval.value);
-        DateFormat schedulerFormat = new SimpleDateFormat("ddMMyy");
-        Calendar baseDate = toAdd.getDate().calendar;
-        String newDate = schedulerFormat.format(baseDate.getTime());
-        Date date = new Date(newDate);
-        Task newTask = new Task(toAdd.getName(), date,
-                toAdd.getPriority(), toAdd.getVenue(), toAdd.getTags());
-        // If the first task is not a duplicate task, add it.
-        if (!model.hasTask(newTask)) {
-            model.addTask(newTask);
+        int times = Integer.parseInt(repeat.value);
+        Date baseDate = toAdd.getDate();
+        if (!Date.isValidEpochDay(baseDate.getEpochDay() + (long) interval * (times - 1))) {
+            throw new CommandException(MESSAGE_DATE_OUT_OF_RANGE);
         }
-        // Loop through to add the rest of the tasks.
-        for (int i = 1; i < Integer.parseInt(repeat.value); i++) {
-            baseDate.add(Calendar.DAY_OF_YEAR, interval);
-            newDate = schedulerFormat.format(baseDate.getTime());
-            date = new Date(newDate);
-            newTask = new Task(toAdd.getName(), date,
+
+        List<Task> newTasks = new ArrayList<>();
+        for (int i = 0; i < times; i++) {
+            Task newTask = new Task(toAdd.getName(), baseDate.plusDays(i * interval),
                     toAdd.getPriority(), toAdd.getVenue(), toAdd.getTags());
             // Add the task only if there is no duplicate task within the model.
             if (!model.hasTask(newTask)) {
-                model.addTask(newTask);
+                newTasks.add(newTask);
             }
         }
+        model.addTasks(newTasks);
         model.commitSchedulePlanner();
         EventsCenter.getInstance().post(new ChangeViewEvent(ChangeViewEvent.View.NORMAL));
 
@@ -31,6 +31,7 @@ public class FilterCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
+        model.loadAllTasks();
         model.updateFilteredTaskList(predicate);
         EventsCenter.getInstance().post(new ChangeViewEvent(ChangeViewEvent.View.NORMAL));
         return new CommandResult(
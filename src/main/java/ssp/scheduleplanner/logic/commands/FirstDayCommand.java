@@ -2,26 +2,25 @@ package ssp.scheduleplanner.logic.commands;
 
 import static ssp.scheduleplanner.commons.util.AppUtil.checkArgument;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.logging.Logger;
 
 import ssp.scheduleplanner.commons.core.LogsCenter;
-import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.commons.util.FileUtil;
 import ssp.scheduleplanner.logic.CommandHistory;
 import ssp.scheduleplanner.logic.commands.exceptions.CommandException;
 import ssp.scheduleplanner.model.Model;
+import ssp.scheduleplanner.model.rangeofweek.RangeOfWeek;
+import ssp.scheduleplanner.model.rangeofweek.SemesterCalendar;
 import ssp.scheduleplanner.model.task.Date;
-import ssp.scheduleplanner.storage.XmlFileStorage;
-import ssp.scheduleplanner.storage.XmlSerializableRangeOfWeek;
+import ssp.scheduleplanner.storage.SemesterCalendarStorage;
 
 /**
- * Generate academic calendar based on given date input. It also have methods to save and retrieve the
- * generated data in storage.
+ * Generate academic calendar based on given date input. It also have methods to save the generated data in
+ * storage, and to compute the application title from the semester calendar in use.
  */
 public class FirstDayCommand extends Command {
 
@@ -37,11 +36,10 @@ public class FirstDayCommand extends Command {
             + "default file is missing";
     public static final String MESSAGE_DATA_UNABLE_CONVERT = "Data unable to convert from saved file";
 
-    public static final int WEEKS_IN_SEMESTER = 17;
-    public static final String DEFAULT_MONDAY_DATE = "010118";
+    public static final int WEEKS_IN_SEMESTER = SemesterCalendar.WEEKS_IN_SEMESTER;
+    public static final String DEFAULT_MONDAY_DATE = SemesterCalendarStorage.DEFAULT_FIRST_DAY;
 
     private static final Logger logger = LogsCenter.getLogger(FirstDayCommand.class);
-    private static final Path PATH = Paths.get("rangeofweek.xml");
     private String inputDate = "";
     private String[][] rangeOfWeek = new String[WEEKS_IN_SEMESTER][3];
     private String weekDescription = "";
@@ -57,11 +55,12 @@ public class FirstDayCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
-        computeRangeOfWeeks(inputDate);
-        saveRangeOfWeeks(rangeOfWeek);
+        SemesterCalendar semesterCalendar = SemesterCalendar.startingOn(Date.of(inputDate));
+        saveSemesterCalendar(semesterCalendar);
 
-        if (isWithinDateRange(rangeOfWeek[0][0], rangeOfWeek[16][1])) {
-            weekDescription = retrieveWeekDescription(rangeOfWeek);
+        Date today = Date.today();
+        if (semesterCalendar.isWithinSemester(today)) {
+            weekDescription = semesterCalendar.getWeekLabel(today).orElse("");
             return new CommandResult(String.format(MESSAGE_SUCCESS + "\n" + "Current week: %s", weekDescription
                     + "\n" + "The week description will be reflected when you relaunch the application"));
         }
@@ -106,35 +105,18 @@ public class FirstDayCommand extends Command {
     }
 
     /**
-     * This method save the rangeOfWeeks into storage
-     * @param rangeOfWeek the 2d String array that contains the dates and description of the academic calendar
+     * This method save the semester calendar into storage, where it replaces the calendar in use
+     * @param semesterCalendar the weeks of the academic semester
      * @throws CommandException
      */
-    public void saveRangeOfWeeks (String[][] rangeOfWeek) throws CommandException {
+    public void saveSemesterCalendar(SemesterCalendar semesterCalendar) throws CommandException {
         try {
-            XmlFileStorage.saveWeekDataToFile(PATH, new XmlSerializableRangeOfWeek(rangeOfWeek));
-        } catch (FileNotFoundException e) {
+            SemesterCalendarStorage.getInstance().saveSemesterCalendar(semesterCalendar);
+        } catch (IOException e) {
             throw new CommandException(MESSAGE_FILE_DOES_NOT_EXIST);
         }
     }
 
-    /**
-     * This method retrieve the rangeOfWeeks from storage
-     * @throws DataConversionException
-     * @throws FileNotFoundException
-     */
-    public String[][] retrieveRangeOfWeeks (String[][] storeRangeOfWeeks) throws CommandException {
-        try {
-            XmlSerializableRangeOfWeek range = XmlFileStorage.loadWeekDataFromSaveFile(PATH);
-            storeRangeOfWeeks = range.convertRangeOfWeeksToString2dArray(range);
-        } catch (DataConversionException e) {
-            throw new CommandException(MESSAGE_DATA_UNABLE_CONVERT);
-        } catch (FileNotFoundException e) {
-            throw new CommandException(MESSAGE_FILE_DOES_NOT_EXIST);
-        }
-        return storeRangeOfWeeks;
-    }
-
     /**
      * The following code is referenced from:
      * https://docs.oracle.com/javase/8/docs/api/java/time/LocalDate.html
@@ -143,43 +125,15 @@ public class FirstDayCommand extends Command {
      * @return the 2d string array
      */
     public String[][] computeRangeOfWeeks(String firstDay) {
+        List<RangeOfWeek> weeks = SemesterCalendar.startingOn(Date.of(firstDay)).getWeeks();
         for (int i = 0; i < WEEKS_IN_SEMESTER; i++) {
-            String startOfWeekDate = LocalDate.parse(firstDay, DateTimeFormatter.ofPattern("ddMMyy")).plusDays(7 * i)
-                    .format(DateTimeFormatter.ofPattern("ddMMyy"));
-            String endOfWeekDate = LocalDate.parse(firstDay, DateTimeFormatter.ofPattern("ddMMyy")).plusDays(7 * i + 6)
-                    .format(DateTimeFormatter.ofPattern("ddMMyy"));
-            rangeOfWeek[i][0] = startOfWeekDate;
-            rangeOfWeek[i][1] = endOfWeekDate;
+            rangeOfWeek[i][0] = weeks.get(i).getStartOfWeekDate();
+            rangeOfWeek[i][1] = weeks.get(i).getEndOfWeekDate();
+            rangeOfWeek[i][2] = weeks.get(i).getDescription();
         }
-
-        addDescriptionForWeeks(rangeOfWeek);
         return rangeOfWeek;
     }
 
-    /**
-     * Helper method to insert description of each week in the 2d String array
-     * @param rangeOfWeek the 2d String array that contains the dates and description of the academic semester
-     */
-    public void addDescriptionForWeeks(String[][] rangeOfWeek) {
-        rangeOfWeek[0][2] = "Week 1";
-        rangeOfWeek[1][2] = "Week 2";
-        rangeOfWeek[2][2] = "Week 3";
-        rangeOfWeek[3][2] = "Week 4";
-        rangeOfWeek[4][2] = "Week 5";
-        rangeOfWeek[5][2] = "Week 6";
-        rangeOfWeek[6][2] = "Recess Week";
-        rangeOfWeek[7][2] = "Week 7";
-        rangeOfWeek[8][2] = "Week 8";
-        rangeOfWeek[9][2] = "Week 9";
-        rangeOfWeek[10][2] = "Week 10";
-        rangeOfWeek[11][2] = "Week 11";
-        rangeOfWeek[12][2] = "Week 12";
-        rangeOfWeek[13][2] = "Week 13";
-        rangeOfWeek[14][2] = "Study Week";
-        rangeOfWeek[15][2] = "Examination Week";
-        rangeOfWeek[16][2] = "Examination Week";
-    }
-
     /**
      * This method check if the input date is a monday
      * Pre-requisite: this method only work for dates in 21st century
@@ -193,16 +147,14 @@ public class FirstDayCommand extends Command {
     /**
      * This method compute the correct application title and return the string value
      * @return application title
-     * @throws CommandException
      */
-    public String computeAppTitle() throws CommandException {
+    public String computeAppTitle() {
         String appTitle = "Student Schedule Planner";
 
-        String[][] retrieveData = new String[WEEKS_IN_SEMESTER][3];
-        retrieveData = retrieveRangeOfWeeks(retrieveData);
-
-        if (isWithinDateRange(retrieveData[0][0], retrieveData[16][1])) {
-            appTitle = "Student Schedule Planner" + "  - " + retrieveWeekDescription(retrieveData);
+        SemesterCalendar semesterCalendar = SemesterCalendarStorage.getInstance().getSemesterCalendar();
+        Date today = Date.today();
+        if (semesterCalendar.isWithinSemester(today)) {
+            appTitle = "Student Schedule Planner" + "  - " + semesterCalendar.getWeekLabel(today).orElse("");
         }
 
         return appTitle;
@@ -210,94 +162,13 @@ public class FirstDayCommand extends Command {
 
     /**
      * This method create default storage file if not exist.
-     * solution below adapted from
-     * https://stackoverflow.com/questions/1816673/how-do-i-check-if-a-file-exists-in-java
      * @throws CommandException
      */
     public void createDefaultFileIfNotExist () throws CommandException {
-        File checkFileExist = new File("rangeofweek.xml");
-        if (!checkFileExist.exists()) {
-            try {
-                logger.info("rangeofweek.xml data file not found. "
-                        + "Will be starting with a default rangeofweek.xml");
-                checkFileExist.createNewFile();
-                saveRangeOfWeeks(computeRangeOfWeeks(DEFAULT_MONDAY_DATE));
-            } catch (java.io.IOException e) {
-                throw new CommandException("Failed to create rangeofweek.xml");
-            }
-        }
-    }
-
-    /**
-     * This method the default storage file is the number of data entry is different from expected
-     * @throws CommandException
-     */
-    public void createDefaultFileIfSizeDiff () throws CommandException {
-        try {
-            XmlSerializableRangeOfWeek range = XmlFileStorage.loadWeekDataFromSaveFile(PATH);
-            if (range.returnSize() != WEEKS_IN_SEMESTER) {
-                logger.warning("rangeofweek.xml data entries different from expected academic number of weeks. "
-                        + "Will be starting with a default rangeofweek.xml");
-                saveRangeOfWeeks(computeRangeOfWeeks(DEFAULT_MONDAY_DATE));
-            }
-        } catch (DataConversionException e) {
-            throw new CommandException(MESSAGE_DATA_UNABLE_CONVERT);
-        } catch (FileNotFoundException e) {
-            throw new CommandException(MESSAGE_FILE_DOES_NOT_EXIST);
-        }
-    }
-
-    /**
-     * This method create default storage file if the date data in the storage is modified into invalid date
-     * @throws CommandException
-     */
-    public void createDefaultFileIfInvalidDateOrRange () throws CommandException {
-        try {
-            XmlSerializableRangeOfWeek range = XmlFileStorage.loadWeekDataFromSaveFile(PATH);
-            if (!range.checkIfValidDateOrRangeFromStorage()) {
-                logger.warning("rangeofweek.xml data contains invalid date or date range. "
-                        + "Will be starting with a default rangeofweek.xml");
-                saveRangeOfWeeks(computeRangeOfWeeks(DEFAULT_MONDAY_DATE));
-            }
-        } catch (DataConversionException e) {
-            throw new CommandException(MESSAGE_DATA_UNABLE_CONVERT);
-        } catch (FileNotFoundException e) {
-            throw new CommandException(MESSAGE_FILE_DOES_NOT_EXIST);
-        }
-    }
-
-    /**
-     * This method create default storage file if either data in the storage is null
-     * @throws CommandException
-     */
-    public void createDefaultFileIfNull () throws CommandException {
-        try {
-            XmlSerializableRangeOfWeek range = XmlFileStorage.loadWeekDataFromSaveFile(PATH);
-            if (!range.checkIfNullValueFromStorage()) {
-                logger.warning("rangeofweek.xml data file contains null value. "
-                        + "Will be starting with a default rangeofweek.xml");
-                saveRangeOfWeeks(computeRangeOfWeeks(DEFAULT_MONDAY_DATE));
-            }
-        } catch (DataConversionException e) {
-            throw new CommandException(MESSAGE_DATA_UNABLE_CONVERT);
-        } catch (FileNotFoundException e) {
-            throw new CommandException(MESSAGE_FILE_DOES_NOT_EXIST);
-        }
-    }
-
-    /**
-     * This method create default storage file if the date data in the storage is unable to be converted
-     * @throws CommandException
-     */
-    public void createDefaultFileIfUnableConvert () throws CommandException {
-        try {
-            XmlSerializableRangeOfWeek range = XmlFileStorage.loadWeekDataFromSaveFile(PATH);
-        } catch (DataConversionException e) {
-            logger.warning("rangeofweek.xml data file unable to convert. "
+        if (!FileUtil.isFileExists(SemesterCalendarStorage.getInstance().getFilePath())) {
+            logger.info("rangeofweek.xml data file not found. "
                     + "Will be starting with a default rangeofweek.xml");
-            saveRangeOfWeeks(computeRangeOfWeeks(DEFAULT_MONDAY_DATE));
-        } catch (FileNotFoundException e) {
-            throw new CommandException(MESSAGE_FILE_DOES_NOT_EXIST);
+            saveSemesterCalendar(SemesterCalendar.startingOn(Date.of(DEFAULT_MONDAY_DATE)));
         }
     }
 
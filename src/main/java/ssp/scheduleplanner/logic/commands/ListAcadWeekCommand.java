@@ -0,0 +1,73 @@
+package ssp.scheduleplanner.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import ssp.scheduleplanner.commons.core.EventsCenter;
+import ssp.scheduleplanner.commons.events.ui.ChangeViewEvent;
+import ssp.scheduleplanner.logic.CommandHistory;
+import ssp.scheduleplanner.logic.commands.exceptions.CommandException;
+import ssp.scheduleplanner.model.Model;
+import ssp.scheduleplanner.model.rangeofweek.RangeOfWeek;
+import ssp.scheduleplanner.model.rangeofweek.SemesterCalendar;
+import ssp.scheduleplanner.model.task.AcademicWeekPredicate;
+import ssp.scheduleplanner.model.task.Date;
+import ssp.scheduleplanner.storage.SemesterCalendarStorage;
+
+/**
+ * List all tasks in the academic week with the given description, such as "Week 7" or "Recess Week".
+ */
+public class ListAcadWeekCommand extends Command {
+    public static final String COMMAND_WORD = "listacadweek";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": List all task(s) in the academic week with the given description, ignoring case.\n"
+            + "Parameters: WEEK_DESCRIPTION\n"
+            + "Example: " + COMMAND_WORD + " Recess Week";
+    public static final String MESSAGE_SUCCESS = "Task(s) of %1$s are listed as follows.";
+    public static final String MESSAGE_UNKNOWN_WEEK = "There is no %1$s in the academic calendar. "
+            + "The academic weeks are: %2$s";
+
+    private final String weekLabel;
+    private final SemesterCalendarStorage semesterCalendarStorage;
+
+    public ListAcadWeekCommand(String weekLabel) {
+        this(weekLabel, SemesterCalendarStorage.getInstance());
+    }
+
+    /**
+     * Creates a ListAcadWeekCommand that lists the tasks in the weeks labelled {@code weekLabel} in the semester
+     * calendar of {@code semesterCalendarStorage}.
+     */
+    public ListAcadWeekCommand(String weekLabel, SemesterCalendarStorage semesterCalendarStorage) {
+        requireNonNull(weekLabel);
+        requireNonNull(semesterCalendarStorage);
+        this.weekLabel = weekLabel;
+        this.semesterCalendarStorage = semesterCalendarStorage;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        SemesterCalendar semesterCalendar = semesterCalendarStorage.getSemesterCalendar();
+        List<RangeOfWeek> weeks = semesterCalendar.getWeeksLabelled(weekLabel);
+        if (weeks.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_WEEK, weekLabel,
+                    String.join(", ", semesterCalendar.getWeekLabels())));
+        }
+
+        for (RangeOfWeek week : weeks) {
+            model.loadTasksInDateRange(Date.of(week.getStartOfWeekDate()), Date.of(week.getEndOfWeekDate()));
+        }
+        model.updateFilteredTaskList(new AcademicWeekPredicate(semesterCalendar, weekLabel));
+        EventsCenter.getInstance().post(new ChangeViewEvent(ChangeViewEvent.View.NORMAL));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, weeks.get(0).getDescription()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListAcadWeekCommand // instanceof handles nulls
+                && weekLabel.equalsIgnoreCase(((ListAcadWeekCommand) other).weekLabel)); // state check
+    }
+}
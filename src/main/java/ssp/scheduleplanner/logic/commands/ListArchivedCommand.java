@@ -22,6 +22,7 @@ public class ListArchivedCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
+        model.loadAllTasks();
         model.updateFilteredArchivedTaskList(PREDICATE_SHOW_ALL_ARCHIVED_TASKS);
         EventsCenter.getInstance().post(new ChangeViewEvent(ChangeViewEvent.View.ARCHIVE));
         return new CommandResult(MESSAGE_SUCCESS);
@@ -7,6 +7,7 @@ import ssp.scheduleplanner.commons.core.EventsCenter;
 import ssp.scheduleplanner.commons.events.ui.ChangeViewEvent;
 import ssp.scheduleplanner.logic.CommandHistory;
 import ssp.scheduleplanner.model.Model;
+import ssp.scheduleplanner.model.task.Date;
 import ssp.scheduleplanner.model.task.DateSamePredicate;
 
 /**
@@ -24,7 +25,8 @@ public class ListDayCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
-
+        Date today = Date.of(systemDate);
+        model.loadTasksInDateRange(today, today);
         model.updateFilteredTaskList(new DateSamePredicate(systemDate));
         EventsCenter.getInstance().post(new ChangeViewEvent(ChangeViewEvent.View.NORMAL));
         return new CommandResult(MESSAGE_SUCCESS);
@@ -10,7 +10,8 @@ import ssp.scheduleplanner.commons.core.EventsCenter;
 import ssp.scheduleplanner.commons.events.ui.ChangeViewEvent;
 import ssp.scheduleplanner.logic.CommandHistory;
 import ssp.scheduleplanner.model.Model;
-import ssp.scheduleplanner.model.task.DateWeekSamePredicate;
+import ssp.scheduleplanner.model.task.Date;
+import ssp.scheduleplanner.model.task.DateRangePredicate;
 
 /**
  * List all tasks till the end of current month.
@@ -27,7 +28,10 @@ public class ListMonthCommand extends Command {
         LocalDate currentDate = LocalDate.now();
 
         appendDateList(dateList, numDaysTillEndOfMonth(currentDate));
-        model.updateFilteredTaskList(new DateWeekSamePredicate(dateList));
+        Date start = Date.of(dateList.get(0));
+        Date end = Date.of(dateList.get(dateList.size() - 1));
+        model.loadTasksInDateRange(start, end);
+        model.updateFilteredTaskList(new DateRangePredicate(start, end));
         EventsCenter.getInstance().post(new ChangeViewEvent(ChangeViewEvent.View.NORMAL));
         return new CommandResult(MESSAGE_SUCCESS);
     }
@@ -7,6 +7,7 @@ import ssp.scheduleplanner.commons.core.EventsCenter;
 import ssp.scheduleplanner.commons.events.ui.ChangeViewEvent;
 import ssp.scheduleplanner.logic.CommandHistory;
 import ssp.scheduleplanner.model.Model;
+import ssp.scheduleplanner.model.task.Date;
 import ssp.scheduleplanner.model.task.OverduePredicate;
 
 /**
@@ -27,6 +28,7 @@ public class ListOverdueCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
+        model.loadTasksInDateRange(Date.earliest(), Date.today());
         // Filter the task list using the OverduePredicate with the current date as the parameter.
         model.updateFilteredTaskList(new OverduePredicate(SYSTEM_DATE));
         EventsCenter.getInstance().post(new ChangeViewEvent(ChangeViewEvent.View.NORMAL));
@@ -10,7 +10,8 @@ import ssp.scheduleplanner.commons.core.EventsCenter;
 import ssp.scheduleplanner.commons.events.ui.ChangeViewEvent;
 import ssp.scheduleplanner.logic.CommandHistory;
 import ssp.scheduleplanner.model.Model;
-import ssp.scheduleplanner.model.task.DateWeekSamePredicate;
+import ssp.scheduleplanner.model.task.Date;
+import ssp.scheduleplanner.model.task.DateRangePredicate;
 
 /**
  * List all tasks from the current date till closest Sunday.
@@ -25,7 +26,10 @@ public class ListWeekCommand extends Command {
         List<String> dateList = new ArrayList<String>();
         String dateName = LocalDate.now().getDayOfWeek().name();
         appendDateList(dateList, numDaysTillSunday(dateName));
-        model.updateFilteredTaskList(new DateWeekSamePredicate(dateList));
+        Date start = Date.of(dateList.get(0));
+        Date end = Date.of(dateList.get(dateList.size() - 1));
+        model.loadTasksInDateRange(start, end);
+        model.updateFilteredTaskList(new DateRangePredicate(start, end));
         EventsCenter.getInstance().post(new ChangeViewEvent(ChangeViewEvent.View.NORMAL));
         return new CommandResult(MESSAGE_SUCCESS);
     }
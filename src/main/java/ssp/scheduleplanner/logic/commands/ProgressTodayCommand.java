@@ -7,6 +7,7 @@ import java.util.Calendar;
 
 import ssp.scheduleplanner.logic.CommandHistory;
 import ssp.scheduleplanner.model.Model;
+import ssp.scheduleplanner.model.task.Date;
 import ssp.scheduleplanner.model.task.DateSamePredicate;
 
 /**
@@ -22,10 +23,12 @@ public class ProgressTodayCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
+        Date today = Date.of(systemDate);
+        model.loadTasksInDateRange(today, today);
         model.updateFilteredTaskList(new DateSamePredicate(systemDate));
         model.updateFilteredArchivedTaskList(new DateSamePredicate(systemDate));
-        int uncompleted = model.getFilteredTaskList().size();
-        int completed = model.getFilteredArchivedTaskList().size();
+        int uncompleted = model.getTasksInDateRange(today, today).size();
+        int completed = model.getArchivedTasksInDateRange(today, today).size();
         int total = uncompleted + completed;
         float percentage;
         if (total == 0) {
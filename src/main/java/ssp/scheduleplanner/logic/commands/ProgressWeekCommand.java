@@ -8,7 +8,8 @@ import java.util.List;
 
 import ssp.scheduleplanner.logic.CommandHistory;
 import ssp.scheduleplanner.model.Model;
-import ssp.scheduleplanner.model.task.DateWeekSamePredicate;
+import ssp.scheduleplanner.model.task.Date;
+import ssp.scheduleplanner.model.task.DateRangePredicate;
 
 /**
  * Displays the percentage of tasks done for this week.
@@ -24,10 +25,13 @@ public class ProgressWeekCommand extends Command {
         List<String> dateList = new ArrayList<String>();
         String dateName = LocalDate.now().getDayOfWeek().name();
         ListWeekCommand.appendDateList(dateList, ListWeekCommand.numDaysTillSunday(dateName));
-        model.updateFilteredTaskList(new DateWeekSamePredicate(dateList));
-        model.updateFilteredArchivedTaskList(new DateWeekSamePredicate(dateList));
-        int uncompleted = model.getFilteredTaskList().size();
-        int completed = model.getFilteredArchivedTaskList().size();
+        Date start = Date.of(dateList.get(0));
+        Date end = Date.of(dateList.get(dateList.size() - 1));
+        model.loadTasksInDateRange(start, end);
+        model.updateFilteredTaskList(new DateRangePredicate(start, end));
+        model.updateFilteredArchivedTaskList(new DateRangePredicate(start, end));
+        int uncompleted = model.getTasksInDateRange(start, end).size();
+        int completed = model.getArchivedTasksInDateRange(start, end).size();
         int total = uncompleted + completed;
         float percentage;
         if (total == 0) {
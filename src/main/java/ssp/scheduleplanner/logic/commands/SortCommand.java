@@ -0,0 +1,42 @@
+package ssp.scheduleplanner.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import ssp.scheduleplanner.logic.CommandHistory;
+import ssp.scheduleplanner.model.Model;
+import ssp.scheduleplanner.model.task.TaskSortOrder;
+
+/**
+ * Changes the order in which the tasks are listed.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the tasks in the given order.\n"
+            + "Parameters: date, priority or name\n"
+            + "Example: " + COMMAND_WORD + " priority";
+
+    public static final String MESSAGE_SUCCESS = "Tasks sorted by %1$s";
+
+    private final TaskSortOrder sortOrder;
+
+    public SortCommand(TaskSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        model.updateTaskSortOrder(sortOrder);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortOrder.getKeyword()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                && sortOrder == ((SortCommand) other).sortOrder); // state check
+    }
+}
@@ -0,0 +1,29 @@
+package ssp.scheduleplanner.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import ssp.scheduleplanner.logic.CommandHistory;
+import ssp.scheduleplanner.model.Model;
+import ssp.scheduleplanner.model.UndoHistorySummary;
+
+/**
+ * Shows how many undo and redo steps are kept, and the memory they are estimated to take.
+ */
+public class UndoHistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "undohistory";
+    public static final String MESSAGE_SUCCESS = "Steps that can be undone: %1$d (at most %2$d are kept)\n"
+            + "Steps that can be redone: %3$d\n"
+            + "Estimated memory used: %4$d KB of %5$d KB";
+
+    private static final long BYTES_PER_KB = 1024;
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        UndoHistorySummary summary = model.getUndoHistorySummary();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, summary.getUndoableSteps(),
+                summary.getMaxUndoSteps(), summary.getRedoableSteps(),
+                summary.getEstimatedMemoryUsed() / BYTES_PER_KB, summary.getMemoryBudget() / BYTES_PER_KB));
+    }
+}
@@ -0,0 +1,28 @@
+package ssp.scheduleplanner.logic.parser;
+
+import ssp.scheduleplanner.commons.core.Messages;
+import ssp.scheduleplanner.logic.commands.ListAcadWeekCommand;
+import ssp.scheduleplanner.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListAcadWeekCommand object
+ */
+public class ListAcadWeekCommandParser implements Parser<ListAcadWeekCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListAcadWeekCommand
+     * and returns a ListAcadWeekCommand object for execution.
+     * Runs of white space within the week description are read as a single space.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListAcadWeekCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ListAcadWeekCommand.MESSAGE_USAGE));
+        }
+
+        return new ListAcadWeekCommand(trimmedArgs.replaceAll("\\s+", " "));
+    }
+
+}
@@ -50,7 +50,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_NAME_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -95,7 +95,7 @@ public class ParserUtil {
         if (!Date.isValidDate(trimmedDate)) {
             throw new ParseException(Date.MESSAGE_DATE_CONSTRAINTS);
         }
-        return new Date(trimmedDate);
+        return Date.of(trimmedDate);
     }
 
     /**
@@ -110,7 +110,7 @@ public class ParserUtil {
         if (!Venue.isValidAddress(trimmedAddress)) {
             throw new ParseException(Venue.MESSAGE_ADDRESS_CONSTRAINTS);
         }
-        return new Venue(trimmedAddress);
+        return Venue.of(trimmedAddress);
     }
 
     /**
@@ -125,7 +125,7 @@ public class ParserUtil {
         if (!Priority.isValidPriority(trimmedEmail)) {
             throw new ParseException(Priority.MESSAGE_PRIORITY_CONSTRAINTS);
         }
-        return new Priority(trimmedEmail);
+        return Priority.of(trimmedEmail);
     }
 
     /**
@@ -172,7 +172,7 @@ public class ParserUtil {
             throw new ParseException(Tag.MESSAGE_TAG_CONSTRAINTS);
         }
 
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
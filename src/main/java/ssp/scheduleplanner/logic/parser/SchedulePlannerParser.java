@@ -22,6 +22,7 @@ import ssp.scheduleplanner.logic.commands.FindCommand;
 import ssp.scheduleplanner.logic.commands.FirstDayCommand;
 import ssp.scheduleplanner.logic.commands.HelpCommand;
 import ssp.scheduleplanner.logic.commands.HistoryCommand;
+import ssp.scheduleplanner.logic.commands.ListAcadWeekCommand;
 import ssp.scheduleplanner.logic.commands.ListArchivedCommand;
 import ssp.scheduleplanner.logic.commands.ListCommand;
 import ssp.scheduleplanner.logic.commands.ListDayCommand;
@@ -34,7 +35,9 @@ import ssp.scheduleplanner.logic.commands.RedoCommand;
 import ssp.scheduleplanner.logic.commands.RemoveCategoryCommand;
 import ssp.scheduleplanner.logic.commands.SelectCommand;
 import ssp.scheduleplanner.logic.commands.ShowTagsCommand;
+import ssp.scheduleplanner.logic.commands.SortCommand;
 import ssp.scheduleplanner.logic.commands.UndoCommand;
+import ssp.scheduleplanner.logic.commands.UndoHistoryCommand;
 import ssp.scheduleplanner.logic.parser.exceptions.ParseException;
 
 /**
@@ -115,6 +118,9 @@ public class SchedulePlannerParser {
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case ListAcadWeekCommand.COMMAND_WORD:
+            return new ListAcadWeekCommandParser().parse(arguments);
+
         case ListArchivedCommand.COMMAND_WORD:
             return new ListArchivedCommand();
 
@@ -139,6 +145,9 @@ public class SchedulePlannerParser {
         case ShowTagsCommand.COMMAND_WORD:
             return new ShowTagsCommandParser().parse(arguments);
 
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
         case HistoryCommand.COMMAND_WORD:
             return new HistoryCommand();
 
@@ -151,6 +160,9 @@ public class SchedulePlannerParser {
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
+        case UndoHistoryCommand.COMMAND_WORD:
+            return new UndoHistoryCommand();
+
         case RedoCommand.COMMAND_WORD:
             return new RedoCommand();
 
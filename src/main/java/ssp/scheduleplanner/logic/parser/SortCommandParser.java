@@ -0,0 +1,27 @@
+package ssp.scheduleplanner.logic.parser;
+
+import ssp.scheduleplanner.commons.core.Messages;
+import ssp.scheduleplanner.logic.commands.SortCommand;
+import ssp.scheduleplanner.logic.parser.exceptions.ParseException;
+import ssp.scheduleplanner.model.task.TaskSortOrder;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        String keyword = args.trim();
+        for (TaskSortOrder sortOrder : TaskSortOrder.values()) {
+            if (sortOrder.getKeyword().equalsIgnoreCase(keyword)) {
+                return new SortCommand(sortOrder);
+            }
+        }
+        throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+}
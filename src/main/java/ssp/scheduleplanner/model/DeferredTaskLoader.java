@@ -0,0 +1,56 @@
+package ssp.scheduleplanner.model;
+
+import ssp.scheduleplanner.model.task.Date;
+
+/**
+ * Loads the tasks that were left out of the schedule planner read at startup, when they are needed.
+ * Each task is loaded at most once.
+ *
+ * The tasks not loaded yet are stored in parts, such as the tasks of one month, which can be read ahead of their
+ * loading on another thread, so that loading them later takes no reading.
+ */
+public interface DeferredTaskLoader {
+
+    /**
+     * Returns true if there are no tasks left to load.
+     */
+    boolean isFullyLoaded();
+
+    /**
+     * Returns true if there are no tasks or archived tasks dated from {@code start} to {@code end} inclusive left
+     * to load, so that loading them would return nothing.
+     */
+    boolean isLoaded(Date start, Date end);
+
+    /**
+     * Returns the tasks and archived tasks dated from {@code start} to {@code end} inclusive that have not been
+     * loaded yet. More tasks may be returned than asked for. The categories of the result are to be ignored.
+     */
+    ReadOnlySchedulePlanner loadTasksInDateRange(Date start, Date end);
+
+    /**
+     * Returns every task and archived task that has not been loaded yet.
+     * The categories of the result are to be ignored.
+     */
+    ReadOnlySchedulePlanner loadAllTasks();
+
+    /**
+     * Returns the tasks and archived tasks of the parts read ahead by {@link #readAheadNextPart()} that have not
+     * been loaded yet. The categories of the result are to be ignored.
+     */
+    ReadOnlySchedulePlanner loadReadAheadTasks();
+
+    /**
+     * Reads one more part of the tasks not loaded yet ahead of its loading, parts nearer to the dates read at
+     * startup first. Reading a part ahead changes neither the tasks that are loaded nor what a save writes.
+     * Unlike the other methods, this method may be called on a thread other than the one loading the tasks.
+     *
+     * @return false if there was no part left to read.
+     */
+    boolean readAheadNextPart();
+
+    /**
+     * Returns the number of parts of the tasks not loaded yet that have not been read ahead either.
+     */
+    int countUnreadParts();
+}
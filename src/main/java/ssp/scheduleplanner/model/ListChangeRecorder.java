@@ -0,0 +1,81 @@
+package ssp.scheduleplanner.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Records the changes made to an observable list since they were last taken, as a {@code ListDelta}.
+ * Recording costs time and memory in proportion to the number of changed elements only.
+ */
+final class ListChangeRecorder<T> implements ListChangeListener<T> {
+
+    /** Kept so that the list, which may be an unmodifiable view, is not collected while it is observed. */
+    private final ObservableList<T> list;
+    private final List<ListDelta.Replacement<T>> replacements = new ArrayList<>();
+    private boolean isPaused;
+
+    /**
+     * Creates a recorder of the changes made to {@code list} from now on.
+     */
+    ListChangeRecorder(ObservableList<T> list) {
+        requireNonNull(list);
+        this.list = list;
+        list.addListener(this);
+    }
+
+    /**
+     * Returns the changes recorded since the last call, and forgets them.
+     */
+    ListDelta<T> takeChanges() {
+        ListDelta<T> changes = new ListDelta<>(replacements);
+        replacements.clear();
+        return changes;
+    }
+
+    /**
+     * Runs {@code action} without recording the changes it makes.
+     */
+    void runUnrecorded(Runnable action) {
+        isPaused = true;
+        try {
+            action.run();
+        } finally {
+            isPaused = false;
+        }
+    }
+
+    @Override
+    public void onChanged(Change<? extends T> change) {
+        if (isPaused) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue;
+            }
+            ListDelta.Replacement<T> replacement = change.wasPermutated()
+                    ? toReplacement(change)
+                    : new ListDelta.Replacement<>(change.getFrom(), change.getRemoved(), change.getAddedSubList());
+            if (!replacement.isNoOp()) {
+                replacements.add(replacement);
+            }
+        }
+    }
+
+    /**
+     * Returns the permutation in {@code change} as the replacement of the range it reordered.
+     */
+    private ListDelta.Replacement<T> toReplacement(Change<? extends T> change) {
+        List<T> reordered = new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()));
+        List<T> original = new ArrayList<>(reordered);
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            original.set(i - change.getFrom(), change.getList().get(change.getPermutation(i)));
+        }
+        return new ListDelta.Replacement<>(change.getFrom(), original, reordered);
+    }
+}
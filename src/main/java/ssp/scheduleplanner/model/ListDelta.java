@@ -0,0 +1,156 @@
+package ssp.scheduleplanner.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * The changes that turn one state of a list into the next, as a sequence of replaced ranges.
+ * Only the replaced elements are kept, so the two states share every element that was left untouched.
+ * Guarantees: immutable.
+ */
+final class ListDelta<T> {
+
+    /**
+     * A list whose elements can be replaced by range.
+     */
+    @FunctionalInterface
+    interface Target<T> {
+        /**
+         * Replaces the elements from position {@code from} inclusive to {@code to} exclusive with {@code elements}.
+         */
+        void setRange(int from, int to, List<T> elements);
+    }
+
+    /**
+     * The replacement of {@code removed}, found at position {@code from}, by {@code added}.
+     */
+    static final class Replacement<T> {
+        private final int from;
+        private final List<T> removed;
+        private final List<T> added;
+
+        Replacement(int from, List<? extends T> removed, List<? extends T> added) {
+            this.from = from;
+            this.removed = toCompactList(removed);
+            this.added = toCompactList(added);
+        }
+
+        /**
+         * Returns true if the replacement puts back the very same elements it removes.
+         */
+        boolean isNoOp() {
+            if (removed.size() != added.size()) {
+                return false;
+            }
+            for (int i = 0; i < removed.size(); i++) {
+                if (removed.get(i) != added.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns true if the replacement puts back elements equal to the ones it removes.
+         */
+        boolean isEqualReplacement() {
+            return removed.equals(added);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Replacement // instanceof handles nulls
+                    && from == ((Replacement<?>) other).from
+                    && removed.equals(((Replacement<?>) other).removed)
+                    && added.equals(((Replacement<?>) other).added));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removed, added);
+        }
+
+        /**
+         * Returns an unmodifiable copy of {@code elements} that takes as little memory as possible.
+         */
+        private static <T> List<T> toCompactList(List<? extends T> elements) {
+            switch (elements.size()) {
+            case 0:
+                return Collections.emptyList();
+            case 1:
+                return Collections.singletonList(elements.get(0));
+            default:
+                return Collections.unmodifiableList(new ArrayList<>(elements));
+            }
+        }
+    }
+
+    private final List<Replacement<T>> replacements;
+
+    ListDelta(List<Replacement<T>> replacements) {
+        requireNonNull(replacements);
+        this.replacements = replacements.isEmpty() ? Collections.emptyList() : new ArrayList<>(replacements);
+    }
+
+    /**
+     * Returns true if the delta leaves the list unchanged.
+     */
+    boolean isEmpty() {
+        return replacements.isEmpty();
+    }
+
+    /**
+     * Returns the number of elements kept by this delta.
+     */
+    int getElementCount() {
+        return replacements.stream()
+                .mapToInt(replacement -> replacement.removed.size() + replacement.added.size())
+                .sum();
+    }
+
+    /**
+     * Turns {@code target} from the earlier state of this delta into the later one.
+     */
+    void apply(Target<T> target) {
+        for (Replacement<T> replacement : replacements) {
+            target.setRange(replacement.from, replacement.from + replacement.removed.size(), replacement.added);
+        }
+    }
+
+    /**
+     * Turns {@code target} from the later state of this delta back into the earlier one.
+     */
+    void revert(Target<T> target) {
+        for (int i = replacements.size() - 1; i >= 0; i--) {
+            Replacement<T> replacement = replacements.get(i);
+            target.setRange(replacement.from, replacement.from + replacement.added.size(), replacement.removed);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListDelta // instanceof handles nulls
+                && getChangingReplacements().equals(((ListDelta<?>) other).getChangingReplacements()));
+    }
+
+    @Override
+    public int hashCode() {
+        return getChangingReplacements().hashCode();
+    }
+
+    /**
+     * Returns the replacements that change the list as seen by {@code equals}, like the states the delta links.
+     */
+    private List<Replacement<T>> getChangingReplacements() {
+        return replacements.stream()
+                .filter(replacement -> !replacement.isEqualReplacement())
+                .collect(Collectors.toList());
+    }
+}
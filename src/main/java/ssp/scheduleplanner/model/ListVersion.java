@@ -0,0 +1,16 @@
+package ssp.scheduleplanner.model;
+
+/**
+ * Identifies one state of a list of a schedule planner, so that the list can be known to be unchanged without
+ * comparing its elements.
+ * A list keeps its version for as long as it is left unchanged, and gets a new version whenever it changes.
+ * Versions are compared by identity, so the versions of two different lists are never the same.
+ * Guarantees: immutable.
+ */
+public final class ListVersion {
+
+    @Override
+    public String toString() {
+        return "ListVersion@" + Integer.toHexString(System.identityHashCode(this));
+    }
+}
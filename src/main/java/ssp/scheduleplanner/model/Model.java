@@ -1,11 +1,15 @@
 package ssp.scheduleplanner.model;
 
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import ssp.scheduleplanner.model.category.Category;
 import ssp.scheduleplanner.model.tag.Tag;
+import ssp.scheduleplanner.model.task.Date;
 import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.model.task.TaskSortOrder;
 
 /**
  * The API of the Model component.
@@ -71,6 +75,12 @@ public interface Model {
      */
     void addTask(Task task);
 
+    /**
+     * Adds the given tasks as a single change to the Schedule Planner.
+     * The tasks must not already exist in the Schedule Planner, nor be duplicates of each other.
+     */
+    void addTasks(List<Task> tasks);
+
     /**
      * Archive the given task.
      */
@@ -93,12 +103,45 @@ public interface Model {
      */
     void updateTask(Task target, Task editedTask);
 
+    /**
+     * Loads the tasks and archived tasks dated from {@code start} to {@code end} inclusive that were left out of
+     * the Schedule Planner at startup. Queries call this before they filter by date.
+     */
+    void loadTasksInDateRange(Date start, Date end);
+
+    /**
+     * Loads every task and archived task that was left out of the Schedule Planner at startup.
+     * Queries that are not limited to a date range call this before they filter.
+     */
+    void loadAllTasks();
+
+    /**
+     * Starts loading, on a background thread, the tasks and archived tasks that were left out of the Schedule
+     * Planner at startup. The loaded tasks are added by {@code modelExecutor}, which must run them on the thread
+     * that uses the model, and the progress is raised as {@code TaskLoadingProgressEvent}s.
+     * The loaded tasks are left out of the filtered task lists until the lists are next filtered, so that the
+     * indexes shown stay valid.
+     */
+    void loadTasksInBackground(Executor modelExecutor);
+
     /** Returns an unmodifiable view of the filtered task list */
     ObservableList<Task> getFilteredTaskList();
 
     /** Returns an unmodifiable view of the filtered archived task list */
     ObservableList<Task> getFilteredArchivedTaskList();
 
+    /**
+     * Returns the tasks dated from {@code start} to {@code end} inclusive, in ascending date order.
+     * Only the tasks within the range are visited.
+     */
+    List<Task> getTasksInDateRange(Date start, Date end);
+
+    /**
+     * Returns the archived tasks dated from {@code start} to {@code end} inclusive, in ascending date order.
+     * Only the archived tasks within the range are visited.
+     */
+    List<Task> getArchivedTasksInDateRange(Date start, Date end);
+
     /** Returns an unmodifiable view of the categories. */
     ObservableList<Category> getCategoryList();
 
@@ -114,6 +157,12 @@ public interface Model {
      */
     void updateFilteredTaskList(Predicate<Task> predicate);
 
+    /**
+     * Updates the order of the filtered task list to {@code sortOrder}.
+     * @throws NullPointerException if {@code sortOrder} is null.
+     */
+    void updateTaskSortOrder(TaskSortOrder sortOrder);
+
     /**
      * updates the filter of filtered archived task list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -145,4 +194,9 @@ public interface Model {
      */
     void commitSchedulePlanner();
 
+    /**
+     * Returns how many Schedule Planner states are kept for undo/redo, and the memory they are estimated to take.
+     */
+    UndoHistorySummary getUndoHistorySummary();
+
 }
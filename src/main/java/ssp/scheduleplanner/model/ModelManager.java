@@ -3,19 +3,24 @@ package ssp.scheduleplanner.model;
 import static java.util.Objects.requireNonNull;
 import static ssp.scheduleplanner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import ssp.scheduleplanner.commons.core.ComponentManager;
 import ssp.scheduleplanner.commons.core.LogsCenter;
 import ssp.scheduleplanner.commons.events.model.SchedulePlannerChangedEvent;
+import ssp.scheduleplanner.commons.events.model.TaskLoadingProgressEvent;
 import ssp.scheduleplanner.model.category.Category;
 import ssp.scheduleplanner.model.tag.Tag;
+import ssp.scheduleplanner.model.task.Date;
+import ssp.scheduleplanner.model.task.FilteredTaskList;
 import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.model.task.TaskSortOrder;
 
 /**
  * Represents the in-memory model of the Schedule Planner data.
@@ -25,39 +30,51 @@ public class ModelManager extends ComponentManager implements Model {
 
     private final VersionedSchedulePlanner versionedSchedulePlanner;
     private final ObservableList<Category> categories;
-    private final FilteredList<Task> filteredTasks;
-    private final FilteredList<Task> filteredArchivedTasks;
+    private final FilteredTaskList filteredTasks;
+    private final SortedList<Task> sortedFilteredTasks;
+    private final ObservableList<Task> unmodifiableSortedFilteredTasks;
+    private final FilteredTaskList filteredArchivedTasks;
+    private final DeferredTaskLoader deferredTaskLoader;
 
     /**
      * Initializes a ModelManager with the given Schedule Planner and userPrefs.
      */
     public ModelManager(ReadOnlySchedulePlanner schedulePlanner, UserPrefs userPrefs) {
+        this(schedulePlanner, userPrefs, null);
+    }
+
+    /**
+     * Initializes a ModelManager with the given Schedule Planner and userPrefs, loading the tasks that were left out
+     * of {@code schedulePlanner} through {@code deferredTaskLoader} once they are needed.
+     * {@code deferredTaskLoader} may be null if no tasks were left out.
+     */
+    public ModelManager(ReadOnlySchedulePlanner schedulePlanner, UserPrefs userPrefs,
+                        DeferredTaskLoader deferredTaskLoader) {
         super();
         requireAllNonNull(schedulePlanner, userPrefs);
 
         logger.fine("Initializing with Schedule Planner: " + schedulePlanner + " and user prefs " + userPrefs);
 
-        versionedSchedulePlanner = new VersionedSchedulePlanner(schedulePlanner);
+        versionedSchedulePlanner = new VersionedSchedulePlanner(schedulePlanner, userPrefs.getMaxUndoSteps(),
+                userPrefs.getUndoHistoryMemoryBudget());
         categories = versionedSchedulePlanner.getCategoryList();
-        filteredTasks = new FilteredList<>(versionedSchedulePlanner.getTaskList());
-        filteredArchivedTasks = new FilteredList<>(versionedSchedulePlanner.getArchivedTaskList());
+        filteredTasks = new FilteredTaskList(versionedSchedulePlanner.getTaskList(),
+                versionedSchedulePlanner.getTaskIndex());
+        sortedFilteredTasks = filteredTasks.asUnmodifiableObservableList()
+                .sorted(TaskSortOrder.DATE.getComparator());
+        unmodifiableSortedFilteredTasks = FXCollections.unmodifiableObservableList(sortedFilteredTasks);
+        filteredArchivedTasks = new FilteredTaskList(versionedSchedulePlanner.getArchivedTaskList(),
+                versionedSchedulePlanner.getArchivedTaskIndex());
+        this.deferredTaskLoader = deferredTaskLoader;
     }
 
     public ModelManager() {
         this(new SchedulePlanner(), new UserPrefs());
     }
 
-    /**
-     * Sort filtered tasks.
-     * @return SortedList containing tasks sorted according to priority.
-     */
-    public SortedList<Task> sortFilteredTasks() {
-        SortedList<Task> sortedTasks = filteredTasks.sorted((a, b) -> Task.compare(a, b));
-        return sortedTasks;
-    }
-
     @Override
     public void resetData(ReadOnlySchedulePlanner newData) {
+        loadAllTasks();
         versionedSchedulePlanner.resetData(newData);
         indicateSchedulePlannerChanged();
     }
@@ -79,6 +96,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public boolean hasTask(Task task) {
         requireNonNull(task);
+        loadTasksOnDateOf(task);
         return versionedSchedulePlanner.hasTask(task);
     }
 
@@ -86,6 +104,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public boolean hasArchivedTask(Task archivedTask) {
         requireNonNull(archivedTask);
+        loadTasksOnDateOf(archivedTask);
         return versionedSchedulePlanner.hasArchivedTask(archivedTask);
     }
 
@@ -127,11 +146,20 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void addTask(Task task) {
+        loadTasksOnDateOf(task);
         versionedSchedulePlanner.addTask(task);
         updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
         indicateSchedulePlannerChanged();
     }
 
+    @Override
+    public void addTasks(List<Task> tasks) {
+        tasks.forEach(this::loadTasksOnDateOf);
+        versionedSchedulePlanner.addTasks(tasks);
+        updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        indicateSchedulePlannerChanged();
+    }
+
     @Override
     public void archiveTask(Task completedTask) {
         versionedSchedulePlanner.archiveTask(completedTask);
@@ -159,11 +187,92 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
+        loadTasksOnDateOf(editedTask);
 
         versionedSchedulePlanner.updateTask(target, editedTask);
         indicateSchedulePlannerChanged();
     }
 
+    //=========== Deferred Tasks ============================================================================
+
+    @Override
+    public void loadTasksInDateRange(Date start, Date end) {
+        requireAllNonNull(start, end);
+        if (hasDeferredTasks()) {
+            addLoadedTasks(deferredTaskLoader.loadTasksInDateRange(start, end));
+        }
+    }
+
+    @Override
+    public void loadAllTasks() {
+        if (hasDeferredTasks()) {
+            addLoadedTasks(deferredTaskLoader.loadAllTasks());
+        }
+    }
+
+    @Override
+    public void loadTasksInBackground(Executor modelExecutor) {
+        requireNonNull(modelExecutor);
+        if (!hasDeferredTasks()) {
+            return;
+        }
+        int totalParts = deferredTaskLoader.countUnreadParts();
+        logger.info("Loading " + totalParts + " parts of the tasks in the background");
+        raise(new TaskLoadingProgressEvent(0, totalParts));
+        Thread loadingThread = new Thread(() -> readAheadDeferredTasks(modelExecutor, totalParts),
+                "Deferred task loader");
+        loadingThread.setDaemon(true);
+        loadingThread.start();
+    }
+
+    /**
+     * Reads ahead the deferred tasks one part at a time, and has {@code modelExecutor} load each part once it is
+     * read. Runs on the background loading thread, so it must not touch the schedule planner itself.
+     * The tasks loaded are held back from the filtered lists until they are next filtered, so that the positions
+     * of the tasks shown, which commands refer to by index, do not change under the user.
+     */
+    private void readAheadDeferredTasks(Executor modelExecutor, int totalParts) {
+        int readParts = 0;
+        while (deferredTaskLoader.readAheadNextPart()) {
+            int loadedParts = ++readParts;
+            modelExecutor.execute(() -> {
+                ReadOnlySchedulePlanner loaded = deferredTaskLoader.loadReadAheadTasks();
+                filteredTasks.holdBack(loaded.getTaskList());
+                filteredArchivedTasks.holdBack(loaded.getArchivedTaskList());
+                addLoadedTasks(loaded);
+                raise(new TaskLoadingProgressEvent(loadedParts, totalParts));
+            });
+        }
+        modelExecutor.execute(() -> raise(new TaskLoadingProgressEvent(totalParts, totalParts)));
+    }
+
+    /**
+     * Loads the tasks dated on the same day as {@code task}, so that it can be compared with them.
+     */
+    private void loadTasksOnDateOf(Task task) {
+        loadTasksInDateRange(task.getDate(), task.getDate());
+    }
+
+    private boolean hasDeferredTasks() {
+        return deferredTaskLoader != null && !deferredTaskLoader.isFullyLoaded();
+    }
+
+    /**
+     * Adds the tasks and archived tasks of {@code loaded} to the schedule planner, outside the undo history.
+     * Loaded archived tasks that have expired are deleted, and the deletion is saved.
+     */
+    private void addLoadedTasks(ReadOnlySchedulePlanner loaded) {
+        if (loaded.getTaskList().isEmpty() && loaded.getArchivedTaskList().isEmpty()) {
+            return;
+        }
+        logger.info("Loaded " + loaded.getTaskList().size() + " tasks and " + loaded.getArchivedTaskList().size()
+                + " archived tasks");
+        if (versionedSchedulePlanner.addLoadedTasks(loaded.getTaskList(), loaded.getArchivedTaskList())) {
+            logger.info("Deleted expired archived tasks among the loaded tasks");
+            indicateSchedulePlannerChanged();
+        }
+    }
+
     //=========== Filtered Task List Accessors =============================================================
 
     /**
@@ -172,12 +281,26 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<Task> getFilteredTaskList() {
-        return FXCollections.unmodifiableObservableList(sortFilteredTasks());
+        return unmodifiableSortedFilteredTasks;
     }
 
     @Override
     public ObservableList<Task> getFilteredArchivedTaskList() {
-        return FXCollections.unmodifiableObservableList(filteredArchivedTasks);
+        return filteredArchivedTasks.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public List<Task> getTasksInDateRange(Date start, Date end) {
+        requireAllNonNull(start, end);
+        loadTasksInDateRange(start, end);
+        return versionedSchedulePlanner.getTasksInDateRange(start, end);
+    }
+
+    @Override
+    public List<Task> getArchivedTasksInDateRange(Date start, Date end) {
+        requireAllNonNull(start, end);
+        loadTasksInDateRange(start, end);
+        return versionedSchedulePlanner.getArchivedTasksInDateRange(start, end);
     }
 
     @Override
@@ -191,6 +314,12 @@ public class ModelManager extends ComponentManager implements Model {
         filteredTasks.setPredicate(predicate);
     }
 
+    @Override
+    public void updateTaskSortOrder(TaskSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        sortedFilteredTasks.setComparator(sortOrder.getComparator());
+    }
+
     @Override
     public void updateFilteredArchivedTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
@@ -227,6 +356,11 @@ public class ModelManager extends ComponentManager implements Model {
         versionedSchedulePlanner.commit();
     }
 
+    @Override
+    public UndoHistorySummary getUndoHistorySummary() {
+        return versionedSchedulePlanner.getUndoHistorySummary();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -242,8 +376,9 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return versionedSchedulePlanner.equals(other.versionedSchedulePlanner)
-                && (filteredTasks.equals(other.filteredTasks)
-                || this.sortFilteredTasks().equals(other.sortFilteredTasks()))
+                && (filteredTasks.asUnmodifiableObservableList()
+                .equals(other.filteredTasks.asUnmodifiableObservableList())
+                || sortedFilteredTasks.equals(other.sortedFilteredTasks))
                 && (getCategoryList().equals(other.getCategoryList()));
     }
 
@@ -25,6 +25,26 @@ public interface ReadOnlySchedulePlanner {
      */
     ObservableList<Category> getCategoryList();
 
+    /**
+     * Returns the version of the tasks list, which stays the same for as long as the list is left unchanged.
+     * Views that do not keep track of their changes return a new version on every call.
+     */
+    default ListVersion getTaskListVersion() {
+        return new ListVersion();
+    }
 
+    /**
+     * Returns the version of the archived tasks list, as in {@link #getTaskListVersion()}.
+     */
+    default ListVersion getArchivedTaskListVersion() {
+        return new ListVersion();
+    }
+
+    /**
+     * Returns the version of the categories, as in {@link #getTaskListVersion()}.
+     */
+    default ListVersion getCategoryListVersion() {
+        return new ListVersion();
+    }
 }
 
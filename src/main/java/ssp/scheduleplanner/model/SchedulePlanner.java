@@ -2,15 +2,24 @@ package ssp.scheduleplanner.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import ssp.scheduleplanner.model.category.Category;
 import ssp.scheduleplanner.model.category.UniqueCategoryList;
 import ssp.scheduleplanner.model.category.exceptions.CategoryNotFoundException;
 import ssp.scheduleplanner.model.tag.Tag;
+import ssp.scheduleplanner.model.tag.UniqueTagList;
+import ssp.scheduleplanner.model.task.Date;
 import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.model.task.TaskIndex;
 import ssp.scheduleplanner.model.task.TaskList;
 import ssp.scheduleplanner.model.task.UniqueTaskList;
 
@@ -24,6 +33,13 @@ public class SchedulePlanner implements ReadOnlySchedulePlanner {
     private final UniqueTaskList tasks;
     private final TaskList archivedTasks;
 
+    /** The version of each list, replaced whenever the list changes, so that a save can skip unchanged lists. */
+    private ListVersion categoryListVersion = new ListVersion();
+    private ListVersion taskListVersion = new ListVersion();
+    private ListVersion archivedTaskListVersion = new ListVersion();
+    /** Kept so that the unmodifiable views observed for changes are not collected while they are observed. */
+    private final List<ObservableList<?>> observedLists = new ArrayList<>();
+
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -37,6 +53,9 @@ public class SchedulePlanner implements ReadOnlySchedulePlanner {
         categories.add(new Category("Others"));
         tasks = new UniqueTaskList();
         archivedTasks = new TaskList();
+        observe(getCategoryList(), () -> categoryListVersion = new ListVersion());
+        observe(getTaskList(), () -> taskListVersion = new ListVersion());
+        observe(getArchivedTaskList(), () -> archivedTaskListVersion = new ListVersion());
     }
 
     public SchedulePlanner() {}
@@ -49,6 +68,14 @@ public class SchedulePlanner implements ReadOnlySchedulePlanner {
         resetData(toBeCopied);
     }
 
+    /**
+     * Runs {@code onChange} whenever {@code list} changes.
+     */
+    private <T> void observe(ObservableList<T> list, Runnable onChange) {
+        observedLists.add(list);
+        list.addListener((ListChangeListener<T>) change -> onChange.run());
+    }
+
     //// list overwrite operations
 
     /**
@@ -59,6 +86,14 @@ public class SchedulePlanner implements ReadOnlySchedulePlanner {
         this.tasks.setTasks(tasks);
     }
 
+    /**
+     * Replaces the tasks from position {@code from} inclusive to {@code to} exclusive with {@code tasks}.
+     * The task list must not contain duplicate tasks afterwards.
+     */
+    void setTasks(int from, int to, List<Task> tasks) {
+        this.tasks.setTasks(from, to, tasks);
+    }
+
     /**
      * Replaces the contents of the archived task list with {@code archivedTasks}.
      */
@@ -66,6 +101,14 @@ public class SchedulePlanner implements ReadOnlySchedulePlanner {
         this.archivedTasks.setTasks(archivedTasks);
     }
 
+    /**
+     * Replaces the archived tasks from position {@code from} inclusive to {@code to} exclusive with
+     * {@code archivedTasks}.
+     */
+    void setArchivedTasks(int from, int to, List<Task> archivedTasks) {
+        this.archivedTasks.setTasks(from, to, archivedTasks);
+    }
+
     /**
      * Replaces the contents of the category list with {@code categories}.
      */
@@ -73,6 +116,14 @@ public class SchedulePlanner implements ReadOnlySchedulePlanner {
         this.categories.setCategories(categories);
     }
 
+    /**
+     * Replaces the categories from position {@code from} inclusive to {@code to} exclusive with {@code categories}.
+     * The category list must not contain duplicate categories afterwards.
+     */
+    void setCategories(int from, int to, List<Category> categories) {
+        this.categories.setCategories(from, to, categories);
+    }
+
     /**
      * Remove selected category from schedule planner.
      */
@@ -121,6 +172,15 @@ public class SchedulePlanner implements ReadOnlySchedulePlanner {
         archivedTasks.autoDelete();
     }
 
+    /**
+     * Deletes the archived tasks among {@code candidates} that have expired, as {@link #autoDeleteArchived()} would.
+     *
+     * @return true if an archived task was deleted.
+     */
+    public boolean autoDeleteArchived(Collection<Task> candidates) {
+        return archivedTasks.autoDelete(candidates);
+    }
+
     /**
      * Returns true if a task with the same identity as {@code task} exists in the task list of schedule planner.
      */
@@ -163,28 +223,28 @@ public class SchedulePlanner implements ReadOnlySchedulePlanner {
      * The task must not already exist in the current task list of schedule planner.
      */
     public void addTask(Task p) {
+        addTasks(Collections.singletonList(p));
+    }
 
-        Iterator tagIterator = p.getTags().iterator();
-
-
-        while (tagIterator.hasNext()) {
-            boolean tagExists = false;
-            Tag nextTag = (Tag) tagIterator.next();
-            Iterator catIterator = getCategoryList().iterator();
-            while (catIterator.hasNext()) {
-                Category nextCat = (Category) catIterator.next();
-                if (nextCat.hasTag(nextTag)) {
-                    tagExists = true;
-                    break;
-                }
-            }
-            if (!tagExists) {
-                addTag(nextTag, "Others");
-            }
-            continue;
+    /**
+     * Adds {@code newTasks} to the task list of schedule planner in a single change.
+     * The tasks must not already exist in the current task list, nor be duplicates of each other.
+     * Tags of the tasks that are in no category are added to the "Others" category.
+     */
+    public void addTasks(List<Task> newTasks) {
+        requireNonNull(newTasks);
+        Set<Tag> categorizedTags = new HashSet<>();
+        getCategoryList().forEach(category -> categorizedTags.addAll(category.getTags()));
+        Set<Tag> uncategorizedTags = new LinkedHashSet<>();
+        newTasks.stream()
+                .flatMap(task -> task.getTags().stream())
+                .filter(tag -> !categorizedTags.contains(tag))
+                .forEach(uncategorizedTags::add);
+
+        tasks.addAll(newTasks);
+        if (!uncategorizedTags.isEmpty()) {
+            addTags(uncategorizedTags, "Others");
         }
-
-        tasks.add(p);
     }
 
     /**
@@ -202,10 +262,22 @@ public class SchedulePlanner implements ReadOnlySchedulePlanner {
     /**
      * Adds a tag to the given category of schedule planner.
      * The tag must not already exist under given category.
+     * The category is replaced rather than changed, so earlier states that share it are left untouched.
      */
     public void addTag(Tag tag, String categoryName) {
+        addTags(Collections.singletonList(tag), categoryName);
+    }
+
+    /**
+     * Adds {@code newTags} to the given category of schedule planner in a single change.
+     * The category is replaced rather than changed, so earlier states that share it are left untouched.
+     */
+    private void addTags(Collection<Tag> newTags, String categoryName) {
         Category category = categories.getCategory(categoryName);
-        category.addTag(tag);
+        UniqueTagList tags = new UniqueTagList();
+        tags.setTags(category.getUniqueTagList());
+        newTags.forEach(tags::add);
+        categories.setCategory(categoryName, new Category(categoryName, tags));
     }
 
     /**
@@ -215,6 +287,13 @@ public class SchedulePlanner implements ReadOnlySchedulePlanner {
         archivedTasks.add(p);
     }
 
+    /**
+     * Adds {@code newArchivedTasks} to archived task list in a single change.
+     */
+    public void addArchivedTasks(List<Task> newArchivedTasks) {
+        archivedTasks.addAll(newArchivedTasks);
+    }
+
 
     /**
      * Replaces the given task {@code target} in the list with {@code editedTask}.
@@ -253,11 +332,54 @@ public class SchedulePlanner implements ReadOnlySchedulePlanner {
         return archivedTasks.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the index of the task list.
+     */
+    public TaskIndex getTaskIndex() {
+        return tasks.getIndex();
+    }
+
+    /**
+     * Returns the index of the archived task list.
+     */
+    public TaskIndex getArchivedTaskIndex() {
+        return archivedTasks.getIndex();
+    }
+
+    /**
+     * Returns the tasks dated from {@code start} to {@code end} inclusive, in ascending date order.
+     */
+    public List<Task> getTasksInDateRange(Date start, Date end) {
+        return tasks.getIndex().getTasksInDateRange(start.yymmdd, end.yymmdd);
+    }
+
+    /**
+     * Returns the archived tasks dated from {@code start} to {@code end} inclusive, in ascending date order.
+     */
+    public List<Task> getArchivedTasksInDateRange(Date start, Date end) {
+        return archivedTasks.getIndex().getTasksInDateRange(start.yymmdd, end.yymmdd);
+    }
+
     @Override
     public ObservableList<Category> getCategoryList() {
         return categories.asUnmodifiableObservableList();
     }
 
+    @Override
+    public ListVersion getTaskListVersion() {
+        return taskListVersion;
+    }
+
+    @Override
+    public ListVersion getArchivedTaskListVersion() {
+        return archivedTaskListVersion;
+    }
+
+    @Override
+    public ListVersion getCategoryListVersion() {
+        return categoryListVersion;
+    }
+
     /**
      * Get corresponding category from schedule planner.
      * @param name
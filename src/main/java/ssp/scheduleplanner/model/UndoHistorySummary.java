@@ -0,0 +1,76 @@
+package ssp.scheduleplanner.model;
+
+import java.util.Objects;
+
+/**
+ * How many states the undo history of the schedule planner keeps, and how much memory they are estimated to take.
+ * Guarantees: immutable.
+ */
+public class UndoHistorySummary {
+
+    private final int undoableSteps;
+    private final int redoableSteps;
+    private final int maxUndoSteps;
+    private final long estimatedMemoryUsed;
+    private final long memoryBudget;
+
+    public UndoHistorySummary(int undoableSteps, int redoableSteps, int maxUndoSteps, long estimatedMemoryUsed,
+                              long memoryBudget) {
+        this.undoableSteps = undoableSteps;
+        this.redoableSteps = redoableSteps;
+        this.maxUndoSteps = maxUndoSteps;
+        this.estimatedMemoryUsed = estimatedMemoryUsed;
+        this.memoryBudget = memoryBudget;
+    }
+
+    public int getUndoableSteps() {
+        return undoableSteps;
+    }
+
+    public int getRedoableSteps() {
+        return redoableSteps;
+    }
+
+    public int getMaxUndoSteps() {
+        return maxUndoSteps;
+    }
+
+    /**
+     * Returns the estimated number of bytes taken by the states kept in the history.
+     */
+    public long getEstimatedMemoryUsed() {
+        return estimatedMemoryUsed;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof UndoHistorySummary)) {
+            return false;
+        }
+
+        UndoHistorySummary otherSummary = (UndoHistorySummary) other;
+        return undoableSteps == otherSummary.undoableSteps
+                && redoableSteps == otherSummary.redoableSteps
+                && maxUndoSteps == otherSummary.maxUndoSteps
+                && estimatedMemoryUsed == otherSummary.estimatedMemoryUsed
+                && memoryBudget == otherSummary.memoryBudget;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(undoableSteps, redoableSteps, maxUndoSteps, estimatedMemoryUsed, memoryBudget);
+    }
+
+    @Override
+    public String toString() {
+        return undoableSteps + " undoable and " + redoableSteps + " redoable steps, about "
+                + estimatedMemoryUsed + " bytes";
+    }
+}
@@ -14,6 +14,9 @@ public class UserPrefs {
     private GuiSettings guiSettings;
     //private Path schedulePlannerFilePath = Paths.get("data" , "addressbook.xml");
     private Path schedulePlannerFilePath = Paths.get("scheduleplanner.xml");
+    private int maxUndoSteps = VersionedSchedulePlanner.DEFAULT_MAX_UNDO_STEPS;
+    private long undoHistoryMemoryBudget = VersionedSchedulePlanner.DEFAULT_MEMORY_BUDGET;
+    private long saveDelayMillis = 300;
 
     public UserPrefs() {
         setGuiSettings(1000, 700, 0, 0);
@@ -39,6 +42,37 @@ public class UserPrefs {
         this.schedulePlannerFilePath = schedulePlannerFilePath;
     }
 
+    public int getMaxUndoSteps() {
+        return maxUndoSteps;
+    }
+
+    public void setMaxUndoSteps(int maxUndoSteps) {
+        this.maxUndoSteps = maxUndoSteps;
+    }
+
+    /**
+     * Returns the number of bytes the undo history may take before its oldest states are forgotten.
+     */
+    public long getUndoHistoryMemoryBudget() {
+        return undoHistoryMemoryBudget;
+    }
+
+    public void setUndoHistoryMemoryBudget(long undoHistoryMemoryBudget) {
+        this.undoHistoryMemoryBudget = undoHistoryMemoryBudget;
+    }
+
+    /**
+     * Returns how long changes are held in memory before they are saved together, or zero or less if every change
+     * is saved as soon as it is made.
+     */
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -51,12 +85,16 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(schedulePlannerFilePath, o.schedulePlannerFilePath);
+                && Objects.equals(schedulePlannerFilePath, o.schedulePlannerFilePath)
+                && maxUndoSteps == o.maxUndoSteps
+                && undoHistoryMemoryBudget == o.undoHistoryMemoryBudget
+                && saveDelayMillis == o.saveDelayMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, schedulePlannerFilePath);
+        return Objects.hash(guiSettings, schedulePlannerFilePath, maxUndoSteps, undoHistoryMemoryBudget,
+                saveDelayMillis);
     }
 
     @Override
@@ -64,6 +102,9 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + schedulePlannerFilePath);
+        sb.append("\nUndo steps kept : " + maxUndoSteps);
+        sb.append("\nUndo history memory budget : " + undoHistoryMemoryBudget + " bytes");
+        sb.append("\nSave delay (ms) : " + saveDelayMillis);
         return sb.toString();
     }
 
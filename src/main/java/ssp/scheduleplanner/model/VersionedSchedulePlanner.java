@@ -1,36 +1,101 @@
 package ssp.scheduleplanner.model;
 
+import static ssp.scheduleplanner.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+
+import ssp.scheduleplanner.model.category.Category;
+import ssp.scheduleplanner.model.task.Task;
 
 /**
  * {@code SchedulePlanner} that keeps track of its own history.
+ * Instead of a full copy of every state, the history keeps the changes made by each commit, so the states share
+ * every task and category that a commit left untouched. Committing, undoing and redoing take time in proportion
+ * to the number of changed tasks.
+ * The history is bounded by a number of undoable states and by an estimate of the memory it takes; the oldest
+ * states are forgotten once either bound is exceeded.
  */
 public class VersionedSchedulePlanner extends SchedulePlanner {
 
-    private final List<ReadOnlySchedulePlanner> schedulePlannerStateList;
+    public static final String MESSAGE_HISTORY_LIMITS_CONSTRAINTS =
+            "The number of undo steps and the memory budget of the undo history must not be negative.";
+    public static final int DEFAULT_MAX_UNDO_STEPS = 100;
+    public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+    /** Estimated memory taken by one task or category kept in the history, including the reference to it. */
+    static final long ESTIMATED_BYTES_PER_ELEMENT = 256;
+
+    private final ListChangeRecorder<Category> categoryRecorder = new ListChangeRecorder<>(getCategoryList());
+    private final ListChangeRecorder<Task> taskRecorder = new ListChangeRecorder<>(getTaskList());
+    private final ListChangeRecorder<Task> archivedTaskRecorder = new ListChangeRecorder<>(getArchivedTaskList());
+
+    /** The changes made by each commit; the change at position i turns state i into state i + 1. */
+    private final List<StateChange> stateChangeList;
     private int currentStatePointer;
 
+    private final int maxUndoSteps;
+    private final long memoryBudget;
+    private long estimatedMemoryUsed;
+
     public VersionedSchedulePlanner(ReadOnlySchedulePlanner initialState) {
+        this(initialState, DEFAULT_MAX_UNDO_STEPS, DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Creates a {@code VersionedSchedulePlanner} that keeps at most {@code maxUndoSteps} states to undo to, and
+     * forgets the oldest of them once the history is estimated to take more than {@code memoryBudget} bytes.
+     * The most recent state is kept regardless of the memory budget.
+     */
+    public VersionedSchedulePlanner(ReadOnlySchedulePlanner initialState, int maxUndoSteps, long memoryBudget) {
         super(initialState);
+        checkArgument(maxUndoSteps >= 0 && memoryBudget >= 0, MESSAGE_HISTORY_LIMITS_CONSTRAINTS);
 
-        schedulePlannerStateList = new ArrayList<>();
-        schedulePlannerStateList.add(new SchedulePlanner(initialState));
+        stateChangeList = new ArrayList<>();
         currentStatePointer = 0;
+        this.maxUndoSteps = maxUndoSteps;
+        this.memoryBudget = memoryBudget;
     }
 
     /**
-     * Saves a copy of the current {@code SchedulePlanner} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the current state as a new state at the end of the state list.
+     * Undone states are removed from the state list, and the oldest states are removed while the history exceeds
+     * its bounds.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        schedulePlannerStateList.add(new SchedulePlanner(this));
+        StateChange stateChange = takeUncommittedChanges();
+        stateChangeList.add(stateChange);
+        estimatedMemoryUsed += stateChange.estimatedSize;
         currentStatePointer++;
+        removeOldestStatesOverLimits();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        schedulePlannerStateList.subList(currentStatePointer + 1, schedulePlannerStateList.size()).clear();
+        List<StateChange> undoneStateChanges = stateChangeList.subList(currentStatePointer, stateChangeList.size());
+        undoneStateChanges.forEach(stateChange -> estimatedMemoryUsed -= stateChange.estimatedSize);
+        undoneStateChanges.clear();
+    }
+
+    /**
+     * Forgets the oldest states until the history is within its bounds.
+     * Must only be called when there are no states to redo.
+     */
+    private void removeOldestStatesOverLimits() {
+        while (stateChangeList.size() > maxUndoSteps
+                || (stateChangeList.size() > 1 && estimatedMemoryUsed > memoryBudget)) {
+            estimatedMemoryUsed -= stateChangeList.remove(0).estimatedSize;
+            currentStatePointer--;
+        }
+    }
+
+    /**
+     * Returns a summary of the states kept by the history and the memory they are estimated to take.
+     */
+    public UndoHistorySummary getUndoHistorySummary() {
+        return new UndoHistorySummary(currentStatePointer, stateChangeList.size() - currentStatePointer,
+                maxUndoSteps, estimatedMemoryUsed, memoryBudget);
     }
 
     /**
@@ -40,8 +105,9 @@ public class VersionedSchedulePlanner extends SchedulePlanner {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        discardUncommittedChanges();
         currentStatePointer--;
-        resetData(schedulePlannerStateList.get(currentStatePointer));
+        revert(stateChangeList.get(currentStatePointer));
     }
 
     /**
@@ -51,8 +117,9 @@ public class VersionedSchedulePlanner extends SchedulePlanner {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        discardUncommittedChanges();
+        apply(stateChangeList.get(currentStatePointer));
         currentStatePointer++;
-        resetData(schedulePlannerStateList.get(currentStatePointer));
     }
 
     /**
@@ -66,7 +133,54 @@ public class VersionedSchedulePlanner extends SchedulePlanner {
      * Returns true if {@code redo()} has schedule planner states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < schedulePlannerStateList.size() - 1;
+        return currentStatePointer < stateChangeList.size();
+    }
+
+    /**
+     * Adds tasks and archived tasks that were left out when the schedule planner was created, as if they had been
+     * in every state of the history. Adding them is not a change that can be undone.
+     * The tasks are added at the end of their lists, so the changes kept by the history still apply.
+     * They must not already exist in the schedule planner.
+     * Loaded archived tasks that have expired are deleted again at once, as they would have been by
+     * {@link #autoDeleteArchived()} had they been there from the start.
+     *
+     * @return true if a loaded archived task was deleted, so that the data as stored is out of date.
+     */
+    public boolean addLoadedTasks(List<Task> loadedTasks, List<Task> loadedArchivedTasks) {
+        boolean[] isArchivedTaskDeleted = new boolean[1];
+        categoryRecorder.runUnrecorded(() -> taskRecorder.runUnrecorded(() -> archivedTaskRecorder.runUnrecorded(() -> {
+            addTasks(loadedTasks);
+            addArchivedTasks(loadedArchivedTasks);
+            isArchivedTaskDeleted[0] = autoDeleteArchived(loadedArchivedTasks);
+        })));
+        return isArchivedTaskDeleted[0];
+    }
+
+    private StateChange takeUncommittedChanges() {
+        return new StateChange(categoryRecorder.takeChanges(), taskRecorder.takeChanges(),
+                archivedTaskRecorder.takeChanges());
+    }
+
+    /**
+     * Brings the schedule planner back to the current state, undoing changes that were made but not committed.
+     */
+    private void discardUncommittedChanges() {
+        StateChange uncommittedChanges = takeUncommittedChanges();
+        if (!uncommittedChanges.isEmpty()) {
+            revert(uncommittedChanges);
+        }
+    }
+
+    private void apply(StateChange stateChange) {
+        categoryRecorder.runUnrecorded(() -> stateChange.categories.apply(this::setCategories));
+        taskRecorder.runUnrecorded(() -> stateChange.tasks.apply(this::setTasks));
+        archivedTaskRecorder.runUnrecorded(() -> stateChange.archivedTasks.apply(this::setArchivedTasks));
+    }
+
+    private void revert(StateChange stateChange) {
+        categoryRecorder.runUnrecorded(() -> stateChange.categories.revert(this::setCategories));
+        taskRecorder.runUnrecorded(() -> stateChange.tasks.revert(this::setTasks));
+        archivedTaskRecorder.runUnrecorded(() -> stateChange.archivedTasks.revert(this::setArchivedTasks));
     }
 
     @Override
@@ -85,7 +199,7 @@ public class VersionedSchedulePlanner extends SchedulePlanner {
 
         // state check
         return super.equals(otherVersionedSchedulePlanner)
-                && schedulePlannerStateList.equals(otherVersionedSchedulePlanner.schedulePlannerStateList)
+                && stateChangeList.equals(otherVersionedSchedulePlanner.stateChangeList)
                 && currentStatePointer == otherVersionedSchedulePlanner.currentStatePointer;
     }
 
@@ -106,4 +220,40 @@ public class VersionedSchedulePlanner extends SchedulePlanner {
             super("Current state pointer at end of schedulePlannerState list, unable to redo.");
         }
     }
+
+    /**
+     * The changes to each list of the schedule planner made by one commit.
+     */
+    private static class StateChange {
+        private final ListDelta<Category> categories;
+        private final ListDelta<Task> tasks;
+        private final ListDelta<Task> archivedTasks;
+        private final long estimatedSize;
+
+        StateChange(ListDelta<Category> categories, ListDelta<Task> tasks, ListDelta<Task> archivedTasks) {
+            this.categories = categories;
+            this.tasks = tasks;
+            this.archivedTasks = archivedTasks;
+            estimatedSize = ESTIMATED_BYTES_PER_ELEMENT
+                    * (categories.getElementCount() + tasks.getElementCount() + archivedTasks.getElementCount());
+        }
+
+        boolean isEmpty() {
+            return categories.isEmpty() && tasks.isEmpty() && archivedTasks.isEmpty();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof StateChange // instanceof handles nulls
+                    && categories.equals(((StateChange) other).categories)
+                    && tasks.equals(((StateChange) other).tasks)
+                    && archivedTasks.equals(((StateChange) other).archivedTasks));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(categories, tasks, archivedTasks);
+        }
+    }
 }
@@ -1,8 +1,10 @@
 package ssp.scheduleplanner.model.category;
 
 import static java.util.Objects.requireNonNull;
+import static ssp.scheduleplanner.commons.util.CollectionUtil.replaceRange;
 import static ssp.scheduleplanner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -86,6 +88,21 @@ public class UniqueCategoryList implements Iterable<Category> {
         internalList.setAll(categories);
     }
 
+    /**
+     * Replaces the categories from position {@code from} inclusive to {@code to} exclusive with {@code categories}.
+     * The list must not contain duplicate categories afterwards.
+     */
+    public void setCategories(int from, int to, List<Category> categories) {
+        requireAllNonNull(categories);
+        List<Category> result = new ArrayList<>(internalList);
+        result.subList(from, to).clear();
+        result.addAll(from, categories);
+        if (!categoriesAreUnique(result)) {
+            throw new DuplicateCategoryException();
+        }
+        replaceRange(internalList, from, to, categories);
+    }
+
     /**
      * Remove selected category from schedule planner.
      */
@@ -0,0 +1,175 @@
+package ssp.scheduleplanner.model.rangeofweek;
+
+import static java.util.Objects.requireNonNull;
+import static ssp.scheduleplanner.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import ssp.scheduleplanner.model.task.Date;
+
+/**
+ * The academic calendar of a semester: its weeks in order, each with a label such as "Week 1" or "Recess Week".
+ * The week of a date is looked up in constant time, in a table holding the week of every day of the semester.
+ * Guarantees: immutable; the weeks are valid as declared in {@link #isValidWeeks(List)}
+ */
+public class SemesterCalendar {
+
+    public static final int WEEKS_IN_SEMESTER = 17;
+    public static final String MESSAGE_WEEKS_CONSTRAINTS = "A semester should have " + WEEKS_IN_SEMESTER
+            + " weeks, each starting no later than it ends";
+
+    private static final String[] WEEK_LABELS = {
+        "Week 1", "Week 2", "Week 3", "Week 4", "Week 5", "Week 6", "Recess Week", "Week 7", "Week 8", "Week 9",
+        "Week 10", "Week 11", "Week 12", "Week 13", "Study Week", "Examination Week", "Examination Week"
+    };
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int NO_WEEK = -1;
+
+    private final List<RangeOfWeek> weeks;
+    private final int firstEpochDay;
+    private final int lastEpochDay;
+    /** The position in {@code weeks} of the week of each day, from the earliest day of any week, or NO_WEEK. */
+    private final int[] weekOfDay;
+    private final int tableStartEpochDay;
+
+    /**
+     * Creates the calendar of the semester made of {@code weeks}, in order.
+     * A day in more than one week belongs to the earliest of them in {@code weeks}.
+     *
+     * @param weeks Weeks for which {@link #isValidWeeks(List)} is true.
+     */
+    public SemesterCalendar(List<RangeOfWeek> weeks) {
+        requireNonNull(weeks);
+        checkArgument(isValidWeeks(weeks), MESSAGE_WEEKS_CONSTRAINTS);
+        this.weeks = Collections.unmodifiableList(new ArrayList<>(weeks));
+        firstEpochDay = toEpochDay(weeks.get(0).getStartOfWeekDate());
+        lastEpochDay = toEpochDay(weeks.get(weeks.size() - 1).getEndOfWeekDate());
+
+        int tableStart = Integer.MAX_VALUE;
+        int tableEnd = Integer.MIN_VALUE;
+        for (RangeOfWeek week : weeks) {
+            tableStart = Math.min(tableStart, toEpochDay(week.getStartOfWeekDate()));
+            tableEnd = Math.max(tableEnd, toEpochDay(week.getEndOfWeekDate()));
+        }
+        tableStartEpochDay = tableStart;
+        weekOfDay = new int[tableEnd - tableStart + 1];
+        Arrays.fill(weekOfDay, NO_WEEK);
+        for (int i = weeks.size() - 1; i >= 0; i--) {
+            int start = toEpochDay(weeks.get(i).getStartOfWeekDate());
+            int end = toEpochDay(weeks.get(i).getEndOfWeekDate());
+            Arrays.fill(weekOfDay, start - tableStart, end - tableStart + 1, i);
+        }
+    }
+
+    /**
+     * Returns the calendar of the semester whose first week starts on {@code firstDay}, with weeks of seven days
+     * following each other and labelled as in the academic calendar.
+     */
+    public static SemesterCalendar startingOn(Date firstDay) {
+        requireNonNull(firstDay);
+        List<RangeOfWeek> weeks = new ArrayList<>(WEEKS_IN_SEMESTER);
+        for (int i = 0; i < WEEKS_IN_SEMESTER; i++) {
+            Date startOfWeek = firstDay.plusDays(DAYS_IN_WEEK * i);
+            Date endOfWeek = startOfWeek.plusDays(DAYS_IN_WEEK - 1);
+            weeks.add(new RangeOfWeek(startOfWeek.value, endOfWeek.value, WEEK_LABELS[i]));
+        }
+        return new SemesterCalendar(weeks);
+    }
+
+    /**
+     * Returns true if {@code weeks} has {@link #WEEKS_IN_SEMESTER} weeks, whose dates are valid as declared in
+     * {@link Date#isValidDate(String)} and which each start no later than they end.
+     */
+    public static boolean isValidWeeks(List<RangeOfWeek> weeks) {
+        if (weeks.size() != WEEKS_IN_SEMESTER) {
+            return false;
+        }
+        for (RangeOfWeek week : weeks) {
+            if (!Date.isValidDate(week.getStartOfWeekDate()) || !Date.isValidDate(week.getEndOfWeekDate())
+                    || toEpochDay(week.getStartOfWeekDate()) > toEpochDay(week.getEndOfWeekDate())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the day number of the valid date {@code date}, counted from 1970-01-01.
+     */
+    private static int toEpochDay(String date) {
+        return Date.of(date).getEpochDay();
+    }
+
+    public List<RangeOfWeek> getWeeks() {
+        return weeks;
+    }
+
+    /**
+     * Returns true if {@code date} lies between the start of the first week and the end of the last week.
+     */
+    public boolean isWithinSemester(Date date) {
+        requireNonNull(date);
+        return firstEpochDay <= date.getEpochDay() && date.getEpochDay() <= lastEpochDay;
+    }
+
+    /**
+     * Returns the week that {@code date} lies in, if any.
+     */
+    public Optional<RangeOfWeek> getWeek(Date date) {
+        requireNonNull(date);
+        int day = date.getEpochDay() - tableStartEpochDay;
+        if (day < 0 || day >= weekOfDay.length || weekOfDay[day] == NO_WEEK) {
+            return Optional.empty();
+        }
+        return Optional.of(weeks.get(weekOfDay[day]));
+    }
+
+    /**
+     * Returns the label of the week that {@code date} lies in, if any.
+     */
+    public Optional<String> getWeekLabel(Date date) {
+        return getWeek(date).map(RangeOfWeek::getDescription);
+    }
+
+    /**
+     * Returns the weeks labelled {@code label}, ignoring case, in the order of the semester.
+     */
+    public List<RangeOfWeek> getWeeksLabelled(String label) {
+        requireNonNull(label);
+        return weeks.stream()
+                .filter(week -> week.getDescription().equalsIgnoreCase(label))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the labels of the weeks, each once, in the order of the semester.
+     */
+    public List<String> getWeekLabels() {
+        return weeks.stream()
+                .map(RangeOfWeek::getDescription)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SemesterCalendar // instanceof handles nulls
+                && weeks.equals(((SemesterCalendar) other).weeks)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return weeks.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return weeks.toString();
+    }
+}
@@ -3,6 +3,11 @@ package ssp.scheduleplanner.model.tag;
 import static java.util.Objects.requireNonNull;
 import static ssp.scheduleplanner.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 
 /**
  * Represents a Tag in the Schedule Planner.
@@ -17,6 +22,10 @@ public class Tag {
     public static final String MESSAGE_TAG_NONEXISTENT = "Tag not found. Please add tag first.";
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Pattern TAG_VALIDATION_PATTERN = Pattern.compile(TAG_VALIDATION_REGEX);
+
+    private static final Interner<Tag> INTERNER = Interners.newWeakInterner();
+
     public final String tagName;
 
     /**
@@ -30,11 +39,21 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the {@code Tag} named {@code tagName}, reusing the instance of any equal tag still in use.
+     * Tag names keep their case, so "CS2103" and "cs2103" stay two different tags.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return INTERNER.intern(new Tag(tagName));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(TAG_VALIDATION_REGEX);
+        return TAG_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -0,0 +1,58 @@
+package ssp.scheduleplanner.model.task;
+
+import static ssp.scheduleplanner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import ssp.scheduleplanner.model.rangeofweek.RangeOfWeek;
+import ssp.scheduleplanner.model.rangeofweek.SemesterCalendar;
+
+/**
+ * Tests that a {@code Task}'s {@code Date} lies in an academic week labelled as given, such as "Recess Week",
+ * ignoring case. The week of a date is looked up in the day table of a {@code SemesterCalendar}, and the candidate
+ * tasks are looked up by the date ranges of the weeks with that label.
+ */
+public class AcademicWeekPredicate implements IndexedTaskPredicate {
+    private final SemesterCalendar semesterCalendar;
+    private final String weekLabel;
+
+    public AcademicWeekPredicate(SemesterCalendar semesterCalendar, String weekLabel) {
+        requireAllNonNull(semesterCalendar, weekLabel);
+        this.semesterCalendar = semesterCalendar;
+        this.weekLabel = weekLabel;
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return semesterCalendar.getWeekLabel(task.getDate())
+                .map(weekLabel::equalsIgnoreCase)
+                .orElse(false);
+    }
+
+    @Override
+    public List<Task> getCandidates(TaskIndex index) {
+        List<Task> candidates = new ArrayList<>();
+        // weeks of a semester may overlap, so a task must not be returned once for each of its weeks
+        Set<Task> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (RangeOfWeek week : semesterCalendar.getWeeksLabelled(weekLabel)) {
+            index.getTasksInDateRange(Date.of(week.getStartOfWeekDate()).yymmdd,
+                    Date.of(week.getEndOfWeekDate()).yymmdd).stream()
+                    .filter(seen::add)
+                    .forEach(candidates::add);
+        }
+        return candidates;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AcademicWeekPredicate // instanceof handles nulls
+                && semesterCalendar.equals(((AcademicWeekPredicate) other).semesterCalendar)
+                && weekLabel.equalsIgnoreCase(((AcademicWeekPredicate) other).weekLabel)); // state check
+    }
+
+}
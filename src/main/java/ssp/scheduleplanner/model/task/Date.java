@@ -3,10 +3,15 @@ package ssp.scheduleplanner.model.task;
 import static java.util.Objects.requireNonNull;
 import static ssp.scheduleplanner.commons.util.AppUtil.checkArgument;
 
-import java.util.Calendar;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Task's date in the Schedule Planner.
+ * A date is stored as its day number counted from 1970-01-01, so date arithmetic needs no {@code Calendar}.
+ * Dates are shared: {@link #of(String)} and {@link #plusDays(int)} return a single instance per day, also when
+ * called from several threads at once, as when tasks are read in parallel.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
  */
 public class Date {
@@ -14,16 +19,27 @@ public class Date {
             "Date format should be: ddmmyy \nExample: 191219 will be 19th Dec, 2019\n"
             + "Please make sure your date is valid ^ ^ \n";
     public static final String DATE_VALIDATION_REGEX = "\\d{6}";
-    public final String value;
-    public final int yymmdd;
-    public final Calendar calendar;
-    public final String displayDate;
-    public final String[] monthNames = {
+
+    private static final Pattern DATE_VALIDATION_PATTERN = Pattern.compile(DATE_VALIDATION_REGEX);
+    private static final String[] MONTH_NAMES = {
         "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
     };
 
+    /** Dates can only be written with a two digit year, so only the 21st century can be represented. */
+    private static final int FIRST_EPOCH_DAY = (int) LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final int LAST_EPOCH_DAY = (int) LocalDate.of(2099, 12, 31).toEpochDay();
+
+    /** The shared instance of each day that has been asked for, indexed by {@link #toSlot(int)}. */
+    private static final AtomicReferenceArray<Date> SHARED_DATES = new AtomicReferenceArray<>(100 * 12 * 31);
+
+    public final String value;
+    public final int yymmdd;
+    private final int epochDay;
+    private String displayDate;
+
     /**
      * Constructs a {@code Date}.
+     * Prefer {@link #of(String)}, which returns the shared instance of the date.
      *
      * @param date A valid date.
      */
@@ -32,28 +48,104 @@ public class Date {
         checkArgument(isValidDate(date), MESSAGE_DATE_CONSTRAINTS);
         value = date;
 
-        String dayString = date.substring(0, 2);
-        int day = Integer.parseInt(dayString);
-        String monthString = date.substring(2, 4);
-        int month = Integer.parseInt(monthString);
-        String yearString = date.substring(4, 6);
-        int year = Integer.parseInt(yearString) + 2000;
+        int ddmmyy = Integer.parseInt(date);
+        int day = ddmmyy / 10000;
+        int month = ddmmyy / 100 % 100;
+        int year = ddmmyy % 100;
+        yymmdd = year * 10000 + month * 100 + day;
+        epochDay = (int) LocalDate.of(2000 + year, month, day).toEpochDay();
+    }
+
+    /**
+     * Returns the shared {@code Date} of the given date.
+     *
+     * @param date A valid date.
+     */
+    public static Date of(String date) {
+        requireNonNull(date);
+        checkArgument(isValidDate(date), MESSAGE_DATE_CONSTRAINTS);
+        int slot = toSlot(Integer.parseInt(date));
+        Date sharedDate = SHARED_DATES.get(slot);
+        if (sharedDate == null) {
+            Date newDate = new Date(date);
+            // another thread may have shared its own instance of the day in the meantime
+            sharedDate = SHARED_DATES.compareAndSet(slot, null, newDate) ? newDate : SHARED_DATES.get(slot);
+        }
+        return sharedDate;
+    }
+
+    /**
+     * Returns the shared {@code Date} of the day {@code epochDay} days after 1970-01-01.
+     *
+     * @param epochDay A day for which {@link #isValidEpochDay(long)} is true.
+     */
+    public static Date ofEpochDay(long epochDay) {
+        checkArgument(isValidEpochDay(epochDay), MESSAGE_DATE_CONSTRAINTS);
+        LocalDate localDate = LocalDate.ofEpochDay(epochDay);
+        int ddmmyy = localDate.getDayOfMonth() * 10000 + localDate.getMonthValue() * 100 + localDate.getYear() % 100;
+        Date sharedDate = SHARED_DATES.get(toSlot(ddmmyy));
+        if (sharedDate != null) {
+            return sharedDate;
+        }
+        return of(String.format("%06d", ddmmyy));
+    }
 
-        calendar = Calendar.getInstance();
-        calendar.set(Calendar.YEAR, year);
-        calendar.set(Calendar.MONTH, month - 1);
-        calendar.set(Calendar.DATE, day);
+    /**
+     * Returns the position of the valid date {@code ddmmyy} in {@link #SHARED_DATES}.
+     */
+    private static int toSlot(int ddmmyy) {
+        int day = ddmmyy / 10000;
+        int month = ddmmyy / 100 % 100;
+        int year = ddmmyy % 100;
+        return (year * 12 + month - 1) * 31 + day - 1;
+    }
+
+    /**
+     * Returns the shared {@code Date} of the earliest date that can be represented, 1 Jan 2000.
+     */
+    public static Date earliest() {
+        return ofEpochDay(FIRST_EPOCH_DAY);
+    }
 
-        yymmdd = Integer.parseInt(yearString + monthString + dayString);
+    /**
+     * Returns the shared {@code Date} of the current system date.
+     */
+    public static Date today() {
+        return ofEpochDay(LocalDate.now().toEpochDay());
+    }
 
-        displayDate = dayString + " " + monthNames[month - 1] + " " + year;
+    /**
+     * Returns the number of days from 1970-01-01 to this date.
+     */
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the shared {@code Date} of the day {@code days} days after this date.
+     * {@code days} may be negative.
+     * @throws IllegalArgumentException if the resulting date is not in the 21st century.
+     */
+    public Date plusDays(int days) {
+        return ofEpochDay((long) epochDay + days);
+    }
+
+    /**
+     * Returns this date in a readable form, such as "19 Dec 2019".
+     */
+    public String getDisplayDate() {
+        if (displayDate == null) {
+            displayDate = value.substring(0, 2) + " " + MONTH_NAMES[yymmdd / 100 % 100 - 1] + " "
+                    + (2000 + yymmdd / 10000);
+        }
+        return displayDate;
     }
 
     /**
      * Returns true if a given string is a valid date.
      */
     public static boolean isValidDate(String test) {
-        if (!test.matches(DATE_VALIDATION_REGEX)) {
+        if (!DATE_VALIDATION_PATTERN.matcher(test).matches()) {
             return false;
         }
         String dayString = test.substring(0, 2);
@@ -79,6 +171,13 @@ public class Date {
         }
     }
 
+    /**
+     * Returns true if the day {@code epochDay} days after 1970-01-01 can be represented by a {@code Date}.
+     */
+    public static boolean isValidEpochDay(long epochDay) {
+        return FIRST_EPOCH_DAY <= epochDay && epochDay <= LAST_EPOCH_DAY;
+    }
+
     /**
      * Returns true if a given year is a leap year.
      * @param year A year
@@ -130,13 +229,7 @@ public class Date {
      * 1 if a is a later date than b.
      */
     public static int compare(Date a, Date b) {
-        if (a.yymmdd < b.yymmdd) {
-            return -1;
-        } else if (a.yymmdd == b.yymmdd) {
-            return 0;
-        } else {
-            return 1;
-        }
+        return Integer.compare(a.epochDay, b.epochDay);
     }
 
 }
@@ -0,0 +1,39 @@
+package ssp.scheduleplanner.model.task;
+
+import static ssp.scheduleplanner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+/**
+ * Tests that a {@code Task}'s {@code Date} lies between a start and an end date, both inclusive.
+ */
+public class DateRangePredicate implements IndexedTaskPredicate {
+    private final Date start;
+    private final Date end;
+
+    public DateRangePredicate(Date start, Date end) {
+        requireAllNonNull(start, end);
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public boolean test(Task task) {
+        int date = task.getDate().yymmdd;
+        return start.yymmdd <= date && date <= end.yymmdd;
+    }
+
+    @Override
+    public List<Task> getCandidates(TaskIndex index) {
+        return index.getTasksInDateRange(start.yymmdd, end.yymmdd);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DateRangePredicate // instanceof handles nulls
+                && start.equals(((DateRangePredicate) other).start)
+                && end.equals(((DateRangePredicate) other).end)); // state check
+    }
+
+}
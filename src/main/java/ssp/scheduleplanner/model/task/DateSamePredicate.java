@@ -1,11 +1,12 @@
 package ssp.scheduleplanner.model.task;
 
-import java.util.function.Predicate;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Tests that a {@code Task}'s {@code Date} matches the current system date.
  */
-public class DateSamePredicate implements Predicate<Task> {
+public class DateSamePredicate implements IndexedTaskPredicate {
     private final String date;
 
     public DateSamePredicate(String date) {
@@ -17,6 +18,15 @@ public class DateSamePredicate implements Predicate<Task> {
         return date.equals(task.getDate().value);
     }
 
+    @Override
+    public List<Task> getCandidates(TaskIndex index) {
+        if (!Date.isValidDate(date)) {
+            return Collections.emptyList();
+        }
+        int yymmdd = Date.of(date).yymmdd;
+        return index.getTasksInDateRange(yymmdd, yymmdd);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,14 +1,14 @@
 package ssp.scheduleplanner.model.task;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
 
 import ssp.scheduleplanner.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Task}'s {@code Date} matches the current list of system date.
  */
-public class DateWeekSamePredicate implements Predicate<Task> {
+public class DateWeekSamePredicate implements IndexedTaskPredicate {
     private final List<String> dates;
 
     public DateWeekSamePredicate(List<String> date) {
@@ -21,6 +21,17 @@ public class DateWeekSamePredicate implements Predicate<Task> {
                 .anyMatch(date -> StringUtil.containsWordIgnoreCase(task.getDate().value, date));
     }
 
+    @Override
+    public List<Task> getCandidates(TaskIndex index) {
+        List<Task> candidates = new ArrayList<>();
+        dates.stream()
+                .filter(Date::isValidDate)
+                .mapToInt(date -> Date.of(date).yymmdd)
+                .distinct()
+                .forEach(yymmdd -> candidates.addAll(index.getTasksInDateRange(yymmdd, yymmdd)));
+        return candidates;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,171 @@
+package ssp.scheduleplanner.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static ssp.scheduleplanner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A view of the tasks in a task list that satisfy a predicate.
+ * Predicates that implement {@code IndexedTaskPredicate} are answered from the {@code TaskIndex} of the list,
+ * so setting them only visits the candidate tasks instead of the whole list.
+ * Small changes to the list are applied to the view directly instead of filtering the list again.
+ * Tasks about to be added to the list can be held back from the view until the predicate is next set, so that
+ * adding them does not move the tasks shown.
+ */
+public class FilteredTaskList {
+
+    /** Changes that add or remove more tasks than this are handled by filtering the list again. */
+    private static final int MAX_INCREMENTAL_CHANGE_SIZE = 16;
+
+    private final ObservableList<Task> source;
+    private final TaskIndex index;
+    private final ObservableList<Task> filteredTasks = FXCollections.observableArrayList();
+    private final ObservableList<Task> unmodifiableFilteredTasks =
+            FXCollections.unmodifiableObservableList(filteredTasks);
+    private Predicate<Task> predicate = unused -> true;
+    /** The tasks left out of the view, whatever the predicate, until the predicate is next set. */
+    private final Set<Task> heldBackTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a view showing every task in {@code source}.
+     * {@code index} must be the index of {@code source}.
+     */
+    public FilteredTaskList(ObservableList<Task> source, TaskIndex index) {
+        requireAllNonNull(source, index);
+        this.source = source;
+        this.index = index;
+        filteredTasks.setAll(source);
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Returns the tasks in the view as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Task> asUnmodifiableObservableList() {
+        return unmodifiableFilteredTasks;
+    }
+
+    /**
+     * Shows only the tasks that satisfy {@code predicate}.
+     * Setting the predicate that is already in use leaves the view untouched, as the view is kept up to date,
+     * unless tasks are held back; they are shown again.
+     */
+    public void setPredicate(Predicate<Task> predicate) {
+        requireNonNull(predicate);
+        if (predicate == this.predicate && heldBackTasks.isEmpty()) {
+            return;
+        }
+        this.predicate = predicate;
+        heldBackTasks.clear();
+        refilter();
+    }
+
+    /**
+     * Leaves {@code tasks}, which are about to be added to the list, out of the view until the predicate is next
+     * set.
+     */
+    public void holdBack(Collection<Task> tasks) {
+        requireNonNull(tasks);
+        heldBackTasks.addAll(tasks);
+    }
+
+    /**
+     * Returns true if {@code task} belongs in the view.
+     */
+    private boolean isShown(Task task) {
+        return predicate.test(task) && !heldBackTasks.contains(task);
+    }
+
+    /**
+     * Fills the view again with the tasks that satisfy the current predicate.
+     */
+    private void refilter() {
+        List<Task> candidates = predicate instanceof IndexedTaskPredicate
+                ? ((IndexedTaskPredicate) predicate).getCandidates(index)
+                : source;
+        filteredTasks.setAll(candidates.stream().filter(this::isShown).collect(Collectors.toList()));
+    }
+
+    /**
+     * Applies {@code change} to the view, or filters the list again if the change is too large.
+     */
+    private void onSourceChanged(ListChangeListener.Change<? extends Task> change) {
+        int changedTasksCount = 0;
+        while (change.next()) {
+            if (!change.wasPermutated() && !change.wasUpdated()) {
+                changedTasksCount += change.getRemovedSize() + change.getAddedSize();
+            }
+        }
+        if (changedTasksCount > MAX_INCREMENTAL_CHANGE_SIZE) {
+            refilter();
+            return;
+        }
+
+        change.reset();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            if (change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+                replace(change.getRemoved().get(0), change.getAddedSubList().get(0));
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().stream().filter(this::isShown).forEach(filteredTasks::add);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedTask} in the view, keeping its position if both are shown.
+     */
+    private void replace(Task target, Task editedTask) {
+        heldBackTasks.remove(target);
+        int position = indexOfInstance(target);
+        boolean isEditedTaskShown = isShown(editedTask);
+        if (position != -1 && isEditedTaskShown) {
+            filteredTasks.set(position, editedTask);
+            return;
+        }
+        if (position != -1) {
+            filteredTasks.remove(position);
+        }
+        if (isEditedTaskShown) {
+            filteredTasks.add(editedTask);
+        }
+    }
+
+    /**
+     * Removes {@code task} from the view if it is shown.
+     */
+    private void remove(Task task) {
+        heldBackTasks.remove(task);
+        int position = indexOfInstance(task);
+        if (position != -1) {
+            filteredTasks.remove(position);
+        }
+    }
+
+    /**
+     * Returns the position of {@code task} itself in the view, or -1 if it is not shown.
+     * {@code Task#equals(Object)} ignores the priority, so two distinct tasks in the view can be equal.
+     */
+    private int indexOfInstance(Task task) {
+        for (int i = 0; i < filteredTasks.size(); i++) {
+            if (filteredTasks.get(i) == task) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
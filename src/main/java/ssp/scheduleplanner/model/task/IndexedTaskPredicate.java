@@ -0,0 +1,17 @@
+package ssp.scheduleplanner.model.task;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} on tasks whose matches can be looked up in a {@code TaskIndex}
+ * instead of being found by testing every task in the list.
+ */
+public interface IndexedTaskPredicate extends Predicate<Task> {
+
+    /**
+     * Returns the tasks in {@code index} that may satisfy this predicate.
+     * Every indexed task that satisfies the predicate must be returned.
+     */
+    List<Task> getCandidates(TaskIndex index);
+}
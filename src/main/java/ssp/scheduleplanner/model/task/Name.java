@@ -3,6 +3,11 @@ package ssp.scheduleplanner.model.task;
 import static java.util.Objects.requireNonNull;
 import static ssp.scheduleplanner.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 /**
  * Represents a Task's name in the Schedule Planner.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +23,10 @@ public class Name {
      */
     public static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern NAME_VALIDATION_PATTERN = Pattern.compile(NAME_VALIDATION_REGEX);
+
+    private static final Interner<Name> INTERNER = Interners.newWeakInterner();
+
     public final String fullName;
 
     /**
@@ -31,11 +40,21 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Returns the {@code Name} for {@code name}, shared by every task that currently has that exact name, such as
+     * the weekly repeats of one lecture.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        return INTERNER.intern(new Name(name));
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return NAME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -1,14 +1,17 @@
 package ssp.scheduleplanner.model.task;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import ssp.scheduleplanner.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Task}'s {@code Name} matches any of the keywords given.
+ * A keyword ending with {@value #PREFIX_WILDCARD} matches any word starting with the rest of the keyword.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Task> {
+public class NameContainsKeywordsPredicate implements IndexedTaskPredicate {
+    public static final String PREFIX_WILDCARD = "*";
+
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -18,7 +21,31 @@ public class NameContainsKeywordsPredicate implements Predicate<Task> {
     @Override
     public boolean test(Task task) {
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(task.getName().fullName, keyword));
+                .anyMatch(keyword -> isPrefix(keyword)
+                        ? StringUtil.containsWordStartingWithIgnoreCase(task.getName().fullName, toPrefix(keyword))
+                        : StringUtil.containsWordIgnoreCase(task.getName().fullName, keyword));
+    }
+
+    @Override
+    public List<Task> getCandidates(TaskIndex index) {
+        List<String> words = keywords.stream()
+                .filter(keyword -> !isPrefix(keyword))
+                .map(String::trim)
+                .collect(Collectors.toList());
+        List<String> prefixes = keywords.stream()
+                .filter(NameContainsKeywordsPredicate::isPrefix)
+                .map(NameContainsKeywordsPredicate::toPrefix)
+                .collect(Collectors.toList());
+        return index.getTasksWithAnyNameWord(words, prefixes);
+    }
+
+    private static boolean isPrefix(String keyword) {
+        return keyword.trim().endsWith(PREFIX_WILDCARD);
+    }
+
+    private static String toPrefix(String keyword) {
+        String trimmedKeyword = keyword.trim();
+        return trimmedKeyword.substring(0, trimmedKeyword.length() - PREFIX_WILDCARD.length());
     }
 
     @Override
@@ -1,11 +1,11 @@
 package ssp.scheduleplanner.model.task;
 
-import java.util.function.Predicate;
+import java.util.List;
 
 /**
  * This encapsulates the information regarding the OverduePredicate class.
  */
-public class OverduePredicate implements Predicate<Task> {
+public class OverduePredicate implements IndexedTaskPredicate {
     private final int date;
 
     public OverduePredicate(int date) {
@@ -22,6 +22,11 @@ public class OverduePredicate implements Predicate<Task> {
         return date - task.getDate().yymmdd > 0 ? true : false;
     }
 
+    @Override
+    public List<Task> getCandidates(TaskIndex index) {
+        return index.getTasksInDateRange(Integer.MIN_VALUE, date - 1);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
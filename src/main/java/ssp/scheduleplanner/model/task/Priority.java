@@ -3,6 +3,8 @@ package ssp.scheduleplanner.model.task;
 import static java.util.Objects.requireNonNull;
 import static ssp.scheduleplanner.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Task's priority in the Schedule Planner.
  * Guarantees: immutable; is valid as declared in {@link #isValidPriority(String)}
@@ -13,6 +15,10 @@ public class Priority {
     // value 1,2 or 3
     public static final String PRIORITY_VALIDATION_REGEX = "[123]";
 
+    private static final Pattern PRIORITY_VALIDATION_PATTERN = Pattern.compile(PRIORITY_VALIDATION_REGEX);
+
+    /** The priority of each level, lowest first. */
+    private static final Priority[] LEVELS = {new Priority("1"), new Priority("2"), new Priority("3")};
 
     public final String value;
 
@@ -27,11 +33,23 @@ public class Priority {
         value = priority;
     }
 
+    /**
+     * Returns the priority of the given level. There are only three levels, so each has a single instance that is
+     * kept for as long as the application runs.
+     *
+     * @param priority A valid priority.
+     */
+    public static Priority of(String priority) {
+        requireNonNull(priority);
+        checkArgument(isValidPriority(priority), MESSAGE_PRIORITY_CONSTRAINTS);
+        return LEVELS[priority.charAt(0) - '1'];
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidPriority(String test) {
-        return test.matches(PRIORITY_VALIDATION_REGEX);
+        return PRIORITY_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -2,7 +2,6 @@ package ssp.scheduleplanner.model.task;
 
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import ssp.scheduleplanner.commons.util.StringUtil;
 import ssp.scheduleplanner.model.tag.Tag;
@@ -10,7 +9,7 @@ import ssp.scheduleplanner.model.tag.Tag;
 /**
  * Tests that a {@code Task}'s {@code Tag(s)} matches all of the keywords given.
  */
-public class TagsContainsAllKeywordsPredicate implements Predicate<Task> {
+public class TagsContainsAllKeywordsPredicate implements IndexedTaskPredicate {
     private final List<String> keywords;
 
     public TagsContainsAllKeywordsPredicate(List<String> keywords) {
@@ -30,6 +29,11 @@ public class TagsContainsAllKeywordsPredicate implements Predicate<Task> {
                 keyword)));
     }
 
+    @Override
+    public List<Task> getCandidates(TaskIndex index) {
+        return index.getTasksWithAllTags(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
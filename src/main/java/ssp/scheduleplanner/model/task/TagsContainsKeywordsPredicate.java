@@ -2,7 +2,6 @@ package ssp.scheduleplanner.model.task;
 
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import ssp.scheduleplanner.commons.util.StringUtil;
 import ssp.scheduleplanner.model.tag.Tag;
@@ -10,7 +9,7 @@ import ssp.scheduleplanner.model.tag.Tag;
 /**
  * Tests that a {@code Task}'s {@code Tag(s)} matches any of the keywords given.
  */
-public class TagsContainsKeywordsPredicate implements Predicate<Task> {
+public class TagsContainsKeywordsPredicate implements IndexedTaskPredicate {
     private final List<String> keywords;
 
     public TagsContainsKeywordsPredicate(List<String> keywords) {
@@ -25,6 +24,11 @@ public class TagsContainsKeywordsPredicate implements Predicate<Task> {
                 keyword)));
     }
 
+    @Override
+    public List<Task> getCandidates(TaskIndex index) {
+        return index.getTasksWithAnyTag(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
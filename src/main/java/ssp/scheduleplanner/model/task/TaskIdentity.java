@@ -0,0 +1,52 @@
+package ssp.scheduleplanner.model.task;
+
+import java.util.Objects;
+import java.util.Set;
+
+import ssp.scheduleplanner.model.tag.Tag;
+
+/**
+ * Hashable key made up of the identity fields of a {@code Task}.
+ * Two tasks have equal identities if and only if {@code Task#isSameTask(Task)} returns true for them.
+ *
+ * @see Task#isSameTask(Task)
+ */
+final class TaskIdentity {
+
+    private final Name name;
+    private final Date date;
+    private final Venue venue;
+    private final Set<Tag> tags;
+    private final int hash;
+
+    TaskIdentity(Task task) {
+        name = task.getName();
+        date = task.getDate();
+        venue = task.getVenue();
+        tags = task.getTags();
+        hash = Objects.hash(name, date, venue, tags);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TaskIdentity)) {
+            return false;
+        }
+
+        TaskIdentity otherIdentity = (TaskIdentity) other;
+        return hash == otherIdentity.hash
+                && name.equals(otherIdentity.name)
+                && date.equals(otherIdentity.date)
+                && venue.equals(otherIdentity.venue)
+                && tags.equals(otherIdentity.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
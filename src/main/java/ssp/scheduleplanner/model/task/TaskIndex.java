@@ -0,0 +1,298 @@
+package ssp.scheduleplanner.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static ssp.scheduleplanner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import ssp.scheduleplanner.model.tag.Tag;
+
+/**
+ * Secondary indexes over an observable list of tasks.
+ * The index listens to the list it was created for, so it stays in sync with every change made to that list,
+ * including removals made through the list's iterator.
+ * Each posting removes any of its tasks in constant time, so removing many tasks that share a date, tag or name word
+ * costs only as much as the tasks removed.
+ */
+public class TaskIndex implements ListChangeListener<Task> {
+
+    /** Number of tasks in the list for each task identity. */
+    private final Map<TaskIdentity, Integer> identityCounts = new HashMap<>();
+
+    /** Tasks in the list grouped by their {@code Date#yymmdd}, in ascending date order. */
+    private final TreeMap<Integer, Posting> tasksByDate = new TreeMap<>();
+
+    /** Tasks in the list carrying each tag, keyed by the tag name in lower case. */
+    private final Map<String, Posting> tasksByTag = new HashMap<>();
+
+    /** Tasks in the list whose name contains each word, keyed by the word in lower case, in sorted order. */
+    private final TreeMap<String, Posting> tasksByNameWord = new TreeMap<>();
+
+    /**
+     * Creates an index of the tasks in {@code source} that is kept up to date with {@code source}.
+     */
+    TaskIndex(ObservableList<Task> source) {
+        requireNonNull(source);
+        source.forEach(this::add);
+        source.addListener(this);
+    }
+
+    /**
+     * Returns true if the indexed list contains a task with the same identity as {@code task}.
+     */
+    boolean containsSameTask(Task task) {
+        requireNonNull(task);
+        return identityCounts.containsKey(new TaskIdentity(task));
+    }
+
+    /**
+     * Returns the indexed tasks whose date lies between {@code startYymmdd} and {@code endYymmdd} inclusive,
+     * in ascending date order. Only the tasks within the range are visited.
+     */
+    public List<Task> getTasksInDateRange(int startYymmdd, int endYymmdd) {
+        List<Task> tasksInRange = new ArrayList<>();
+        if (startYymmdd > endYymmdd) {
+            return tasksInRange;
+        }
+        tasksByDate.subMap(startYymmdd, true, endYymmdd, true).values().forEach(tasksInRange::addAll);
+        return tasksInRange;
+    }
+
+    /**
+     * Returns the indexed tasks with a tag named like any of {@code tagNames}, ignoring case.
+     * Each task is returned once, however many of the names it matches.
+     */
+    public List<Task> getTasksWithAnyTag(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        return union(tagNames.stream().map(this::getPosting));
+    }
+
+    /**
+     * Returns the indexed tasks with a tag named like each of {@code tagNames}, ignoring case.
+     * Returns no tasks if {@code tagNames} is empty. Only the tasks carrying the least used of the tags are visited.
+     */
+    public List<Task> getTasksWithAllTags(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        List<Collection<Task>> postings = tagNames.stream()
+                .map(this::getPosting)
+                .sorted(Comparator.comparingInt(Collection::size))
+                .collect(Collectors.toList());
+        if (postings.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<Task> tasksWithAllTags = newIdentitySet();
+        tasksWithAllTags.addAll(postings.get(0));
+        for (Collection<Task> posting : postings.subList(1, postings.size())) {
+            if (tasksWithAllTags.isEmpty()) {
+                break;
+            }
+            Set<Task> tasksWithTag = newIdentitySet();
+            tasksWithTag.addAll(posting);
+            tasksWithAllTags.retainAll(tasksWithTag);
+        }
+        // removing each match keeps a task that carries several matching tags from being returned twice
+        return postings.get(0).stream().filter(tasksWithAllTags::remove).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the indexed tasks whose name contains any of {@code words}, or a word starting with any of
+     * {@code prefixes}, ignoring case. Each task is returned once, however many of the words it matches.
+     * Only the tasks that match are visited.
+     */
+    public List<Task> getTasksWithAnyNameWord(Collection<String> words, Collection<String> prefixes) {
+        requireAllNonNull(words, prefixes);
+        Stream<Collection<Task>> wordPostings = words.stream()
+                .map(word -> getPosting(tasksByNameWord, toKey(word)));
+        Stream<Collection<Task>> prefixPostings = prefixes.stream()
+                .flatMap(prefix -> getNameWordsWithPrefix(prefix).values().stream());
+        return union(Stream.concat(wordPostings, prefixPostings));
+    }
+
+    @Override
+    public void onChanged(Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Adds {@code task} to every index.
+     */
+    private void add(Task task) {
+        identityCounts.merge(new TaskIdentity(task), 1, Integer::sum);
+        addToPosting(tasksByDate, task.getDate().yymmdd, task);
+        for (Tag tag : task.getTags()) {
+            addToPosting(tasksByTag, toKey(tag.tagName), task);
+        }
+        for (String word : getNameWords(task)) {
+            addToPosting(tasksByNameWord, word, task);
+        }
+    }
+
+    /**
+     * Removes {@code task} from every index.
+     */
+    private void remove(Task task) {
+        identityCounts.computeIfPresent(new TaskIdentity(task), (identity, count) -> count == 1 ? null : count - 1);
+        removeFromPosting(tasksByDate, task.getDate().yymmdd, task);
+        for (Tag tag : task.getTags()) {
+            removeFromPosting(tasksByTag, toKey(tag.tagName), task);
+        }
+        for (String word : getNameWords(task)) {
+            removeFromPosting(tasksByNameWord, word, task);
+        }
+    }
+
+    private Collection<Task> getPosting(String tagName) {
+        return getPosting(tasksByTag, toKey(tagName));
+    }
+
+    /**
+     * Returns the tasks in the posting of {@code key}, or none if there is no such posting.
+     */
+    private static <K> Collection<Task> getPosting(Map<K, Posting> postings, K key) {
+        Posting posting = postings.get(key);
+        return posting == null ? Collections.emptyList() : posting;
+    }
+
+    /**
+     * Returns the entries of the name word index whose word starts with {@code prefix}, ignoring case.
+     */
+    private SortedMap<String, Posting> getNameWordsWithPrefix(String prefix) {
+        String key = toKey(prefix);
+        if (key.isEmpty()) {
+            return tasksByNameWord;
+        }
+        return tasksByNameWord.subMap(key, key + Character.MAX_VALUE);
+    }
+
+    /**
+     * Returns the distinct words in the name of {@code task}, in lower case.
+     */
+    private static Set<String> getNameWords(Task task) {
+        return Arrays.stream(task.getName().fullName.split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .map(TaskIndex::toKey)
+                .collect(Collectors.toSet());
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    private static <K> void addToPosting(Map<K, Posting> postings, K key, Task task) {
+        postings.computeIfAbsent(key, unused -> new Posting()).add(task);
+    }
+
+    /**
+     * Removes {@code task} from the posting of {@code key}, dropping the posting once it is empty.
+     */
+    private static <K> void removeFromPosting(Map<K, Posting> postings, K key, Task task) {
+        Posting posting = postings.get(key);
+        if (posting != null && posting.removeInstance(task) && posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    /**
+     * Returns the tasks in {@code postings}, each task once, in the order they are first seen.
+     */
+    private static List<Task> union(Stream<Collection<Task>> postings) {
+        Set<Task> seenTasks = newIdentitySet();
+        return postings.flatMap(Collection::stream).filter(seenTasks::add).collect(Collectors.toList());
+    }
+
+    private static Set<Task> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * The tasks indexed under one key, in the order they were first added, each as many times as it was added.
+     * Tasks are told apart by identity rather than by {@code Task#equals(Object)}, which ignores the priority, so
+     * two distinct tasks in the list can be equal.
+     */
+    private static class Posting extends AbstractCollection<Task> {
+        /** The number of times each task was added and not yet removed. */
+        private final Map<IdentityKey, Integer> counts = new LinkedHashMap<>();
+        private int size;
+
+        @Override
+        public boolean add(Task task) {
+            counts.merge(new IdentityKey(task), 1, Integer::sum);
+            size++;
+            return true;
+        }
+
+        /**
+         * Removes {@code task} itself once, rather than a task equal to it. Returns true if it was in the posting.
+         */
+        boolean removeInstance(Task task) {
+            Integer count = counts.computeIfPresent(new IdentityKey(task), (key, oldCount) -> oldCount - 1);
+            if (count == null) {
+                return false;
+            }
+            if (count == 0) {
+                counts.remove(new IdentityKey(task));
+            }
+            size--;
+            return true;
+        }
+
+        @Override
+        public Iterator<Task> iterator() {
+            return counts.entrySet().stream()
+                    .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey().task).stream())
+                    .iterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * A task as a map key that is equal only to a key of the same task instance.
+     */
+    private static class IdentityKey {
+        private final Task task;
+
+        IdentityKey(Task task) {
+            this.task = task;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey && ((IdentityKey) other).task == task;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(task);
+        }
+    }
+}
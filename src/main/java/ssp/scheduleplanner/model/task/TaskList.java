@@ -1,11 +1,16 @@
 package ssp.scheduleplanner.model.task;
 
 import static java.util.Objects.requireNonNull;
+import static ssp.scheduleplanner.commons.util.CollectionUtil.replaceRange;
 import static ssp.scheduleplanner.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,23 +26,55 @@ import ssp.scheduleplanner.model.task.exceptions.TaskNotFoundException;
 
 public class TaskList implements Iterable<Task> {
 
+    /** Number of days an archived task is kept after its date before {@link #autoDelete()} deletes it. */
+    private static final int DAYS_KEPT_AFTER_DATE = 14;
+
     private ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final TaskIndex index = new TaskIndex(internalList);
 
     /**
-     * Check through the task list and deletes tasks with date earlier than one week ago.
+     * Deletes the tasks dated two weeks ago or earlier.
+     * Only the expired tasks are visited.
      */
     public void autoDelete() {
-        Calendar expireTime = Calendar.getInstance();
-        expireTime.add(Calendar.DAY_OF_MONTH, -14);
-        java.util.Date expireDate = expireTime.getTime();
-        Iterator iterator = this.iterator();
-        while (iterator.hasNext()) {
-            Task nextTask = (Task) iterator.next();
-            java.util.Date date = nextTask.getDate().calendar.getTime();
-            if (date.compareTo(expireDate) < 0) {
-                iterator.remove();
-            }
+        Date expiryDate = getExpiryDate();
+        removeAllByIdentity(index.getTasksInDateRange(Integer.MIN_VALUE, expiryDate.yymmdd));
+    }
+
+    /**
+     * Deletes the tasks among {@code tasks} that are dated two weeks ago or earlier, as {@link #autoDelete()} would.
+     * Only {@code tasks} are visited, so tasks just added to the list can be checked on their own.
+     *
+     * @return true if a task was deleted.
+     */
+    public boolean autoDelete(Collection<Task> tasks) {
+        requireNonNull(tasks);
+        int expiryDay = getExpiryDate().yymmdd;
+        List<Task> expiredTasks = tasks.stream()
+                .filter(task -> task.getDate().yymmdd <= expiryDay)
+                .collect(Collectors.toList());
+        removeAllByIdentity(expiredTasks);
+        return !expiredTasks.isEmpty();
+    }
+
+    /**
+     * Returns the latest date of the tasks that have expired.
+     */
+    private static Date getExpiryDate() {
+        return Date.today().plusDays(-DAYS_KEPT_AFTER_DATE);
+    }
+
+    /**
+     * Removes the very tasks in {@code tasks} from the list in a single change.
+     */
+    private void removeAllByIdentity(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
         }
+        // compare by identity, as Task#equals(Object) ignores the priority
+        Set<Task> taskSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        taskSet.addAll(tasks);
+        internalList.removeAll(taskSet);
     }
 
 
@@ -46,7 +83,7 @@ public class TaskList implements Iterable<Task> {
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return index.containsSameTask(toCheck);
     }
 
 
@@ -59,6 +96,14 @@ public class TaskList implements Iterable<Task> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code tasks} to the end of the list in a single change.
+     */
+    public void addAll(List<Task> tasks) {
+        requireAllNonNull(tasks);
+        internalList.addAll(tasks);
+    }
+
     /**
      * Replaces the task {@code target} in the list with {@code editedTask}.
      * {@code target} must exist in the list.
@@ -98,6 +143,14 @@ public class TaskList implements Iterable<Task> {
         internalList.setAll(tasks);
     }
 
+    /**
+     * Replaces the tasks from position {@code from} inclusive to {@code to} exclusive with {@code tasks}.
+     */
+    public void setTasks(int from, int to, List<Task> tasks) {
+        requireAllNonNull(tasks);
+        replaceRange(internalList, from, to, tasks);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      *
@@ -106,6 +159,13 @@ public class TaskList implements Iterable<Task> {
         return FXCollections.unmodifiableObservableList(internalList);
     }
 
+    /**
+     * Returns the index of the tasks in this list.
+     */
+    public TaskIndex getIndex() {
+        return index;
+    }
+
     @Override
     public Iterator<Task> iterator() {
         return internalList.iterator();
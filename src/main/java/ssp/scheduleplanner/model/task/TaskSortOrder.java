@@ -0,0 +1,39 @@
+package ssp.scheduleplanner.model.task;
+
+import java.util.Comparator;
+
+/**
+ * The orders in which the tasks of the Schedule Planner can be shown.
+ * Each order falls back on the other fields of the tasks to break ties.
+ */
+public enum TaskSortOrder {
+    /** By date, then priority, then name. */
+    DATE(Task::compare),
+    /** By priority, highest first, then date, then name. */
+    PRIORITY((a, b) -> {
+        int result = Priority.compare(a.getPriority(), b.getPriority());
+        return result != 0 ? result : Task.compare(a, b);
+    }),
+    /** By name, then date, then priority. */
+    NAME((a, b) -> {
+        int result = Name.compare(a.getName(), b.getName());
+        return result != 0 ? result : Task.compare(a, b);
+    });
+
+    private final Comparator<Task> comparator;
+
+    TaskSortOrder(Comparator<Task> comparator) {
+        this.comparator = comparator;
+    }
+
+    public Comparator<Task> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the keyword the user enters to choose this order.
+     */
+    public String getKeyword() {
+        return name().toLowerCase();
+    }
+}
@@ -1,10 +1,14 @@
 package ssp.scheduleplanner.model.task;
 
 import static java.util.Objects.requireNonNull;
+import static ssp.scheduleplanner.commons.util.CollectionUtil.replaceRange;
 import static ssp.scheduleplanner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -27,13 +31,14 @@ import ssp.scheduleplanner.model.task.exceptions.TaskNotFoundException;
 public class UniqueTaskList implements Iterable<Task> {
 
     private ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final TaskIndex index = new TaskIndex(internalList);
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return index.containsSameTask(toCheck);
     }
 
 
@@ -49,6 +54,25 @@ public class UniqueTaskList implements Iterable<Task> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code tasks} to the end of the list in a single change.
+     * The tasks must not already exist in the list, nor be duplicates of each other.
+     *
+     * @throws DuplicateTaskException giving the position in {@code tasks} of the first duplicate.
+     */
+    public void addAll(List<Task> tasks) {
+        requireAllNonNull(tasks);
+        boolean isEmpty = internalList.isEmpty();
+        Set<TaskIdentity> identities = new HashSet<>(tasks.size() * 4 / 3 + 1);
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if ((!isEmpty && contains(task)) || !identities.add(new TaskIdentity(task))) {
+                throw new DuplicateTaskException(i);
+            }
+        }
+        internalList.addAll(tasks);
+    }
+
     /**
      * Replaces the task {@code target} in the list with {@code editedTask}.
      * {@code target} must exist in the list.
@@ -98,6 +122,27 @@ public class UniqueTaskList implements Iterable<Task> {
         internalList.setAll(tasks);
     }
 
+    /**
+     * Replaces the tasks from position {@code from} inclusive to {@code to} exclusive with {@code tasks}.
+     * {@code tasks} must not contain duplicate tasks, nor a task with the same identity as a task outside the range.
+     * Only the replaced tasks are visited.
+     */
+    public void setTasks(int from, int to, List<Task> tasks) {
+        requireAllNonNull(tasks);
+        Set<TaskIdentity> replacedIdentities = internalList.subList(from, to).stream()
+                .map(TaskIdentity::new)
+                .collect(Collectors.toSet());
+        Set<TaskIdentity> identities = new HashSet<>();
+        for (Task task : tasks) {
+            TaskIdentity identity = new TaskIdentity(task);
+            if (!identities.add(identity) || (contains(task) && !replacedIdentities.contains(identity))) {
+                throw new DuplicateTaskException();
+            }
+        }
+
+        replaceRange(internalList, from, to, tasks);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      *
@@ -106,6 +151,13 @@ public class UniqueTaskList implements Iterable<Task> {
         return FXCollections.unmodifiableObservableList(internalList);
     }
 
+    /**
+     * Returns the index of the tasks in this list.
+     */
+    public TaskIndex getIndex() {
+        return index;
+    }
+
     @Override
     public Iterator<Task> iterator() {
         return internalList.iterator();
@@ -137,11 +189,10 @@ public class UniqueTaskList implements Iterable<Task> {
      * Returns true if {@code tasks} contains only unique tasks.
      */
     private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+        Set<TaskIdentity> identities = new HashSet<>();
+        for (Task task : tasks) {
+            if (!identities.add(new TaskIdentity(task))) {
+                return false;
             }
         }
         return true;
@@ -3,6 +3,11 @@ package ssp.scheduleplanner.model.task;
 import static java.util.Objects.requireNonNull;
 import static ssp.scheduleplanner.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 /**
  * Represents a Task's venue.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -18,6 +23,10 @@ public class Venue {
      */
     public static final String ADDRESS_VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Pattern ADDRESS_VALIDATION_PATTERN = Pattern.compile(ADDRESS_VALIDATION_REGEX);
+
+    private static final Interner<Venue> INTERNER = Interners.newWeakInterner();
+
     public final String value;
 
     /**
@@ -31,11 +40,21 @@ public class Venue {
         value = address;
     }
 
+    /**
+     * Returns the {@code Venue} at {@code address}, shared with the other tasks held there.
+     * The address is free text, so only addresses that match character for character share an instance.
+     *
+     * @param address A valid venue.
+     */
+    public static Venue of(String address) {
+        return INTERNER.intern(new Venue(address));
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(ADDRESS_VALIDATION_REGEX);
+        return ADDRESS_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
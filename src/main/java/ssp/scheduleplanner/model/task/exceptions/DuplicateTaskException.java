@@ -5,7 +5,27 @@ package ssp.scheduleplanner.model.task.exceptions;
  * identity).
  */
 public class DuplicateTaskException extends RuntimeException {
+    public static final int UNKNOWN_POSITION = -1;
+
+    private final int position;
+
     public DuplicateTaskException() {
         super("Operation would result in duplicate tasks");
+        position = UNKNOWN_POSITION;
+    }
+
+    /**
+     * Signals that the task at {@code position}, counted from 0, of the tasks being added is a duplicate.
+     */
+    public DuplicateTaskException(int position) {
+        super("Operation would result in duplicate tasks at position " + position);
+        this.position = position;
+    }
+
+    /**
+     * Returns the position of the duplicate among the tasks being added, or {@code UNKNOWN_POSITION}.
+     */
+    public int getPosition() {
+        return position;
     }
 }
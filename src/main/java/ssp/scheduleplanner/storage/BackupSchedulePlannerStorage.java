@@ -0,0 +1,200 @@
+package ssp.scheduleplanner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static ssp.scheduleplanner.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import ssp.scheduleplanner.commons.core.LogsCenter;
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.commons.util.FileUtil;
+import ssp.scheduleplanner.commons.util.StringUtil;
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+
+/**
+ * A class to access SchedulePlanner data stored by another {@code SchedulePlannerStorage} in a single file, keeping
+ * the last few versions of the file as backup generations next to it.
+ * Before a save replaces the file, the file becomes the first generation and older generations move down by one;
+ * the oldest generation is dropped. The stored storage must replace the file as a whole when saving, so that a
+ * generation is never changed by a later save.
+ *
+ * If the file cannot be read, the newest generation that can be read is copied over it, and the unreadable file is
+ * kept next to it for inspection.
+ */
+public class BackupSchedulePlannerStorage implements SchedulePlannerStorage {
+
+    public static final int DEFAULT_GENERATIONS = 3;
+    public static final String GENERATION_FILE_SUFFIX = ".bak";
+    public static final String CORRUPT_FILE_SUFFIX = ".corrupt";
+    public static final String MESSAGE_GENERATIONS_CONSTRAINTS = "At least one backup generation must be kept.";
+
+    private static final Logger logger = LogsCenter.getLogger(BackupSchedulePlannerStorage.class);
+
+    private final SchedulePlannerStorage storage;
+    private final int generations;
+
+    public BackupSchedulePlannerStorage(SchedulePlannerStorage storage) {
+        this(storage, DEFAULT_GENERATIONS);
+    }
+
+    /**
+     * Creates a storage that saves and reads with {@code storage}, keeping {@code generations} backup generations.
+     */
+    public BackupSchedulePlannerStorage(SchedulePlannerStorage storage, int generations) {
+        requireNonNull(storage);
+        checkArgument(generations > 0, MESSAGE_GENERATIONS_CONSTRAINTS);
+        this.storage = storage;
+        this.generations = generations;
+    }
+
+    @Override
+    public Path getSchedulePlannerFilePath() {
+        return storage.getSchedulePlannerFilePath();
+    }
+
+    @Override
+    public Optional<RecoveryReport> getRecoveryReport() {
+        return storage.getRecoveryReport();
+    }
+
+    /**
+     * Returns the path of backup generation {@code generation} of the file at {@code filePath}, counted from 1 for
+     * the newest generation.
+     */
+    public static Path getGenerationFilePath(Path filePath, int generation) {
+        return filePath.resolveSibling(filePath.getFileName() + GENERATION_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Returns the path the unreadable file at {@code filePath} is kept at once it has been replaced by a generation.
+     */
+    public static Path getCorruptFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CORRUPT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlySchedulePlanner> readSchedulePlanner() throws DataConversionException, IOException {
+        return readSchedulePlanner(getSchedulePlannerFilePath());
+    }
+
+    /**
+     * Similar to {@link #readSchedulePlanner()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if neither the file nor any of its generations is in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlySchedulePlanner> readSchedulePlanner(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+        try {
+            return storage.readSchedulePlanner(filePath);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Unable to read " + filePath + ", looking for a backup generation: "
+                    + StringUtil.getDetails(e));
+            for (Path generationFilePath : getExistingGenerationFilePaths(filePath)) {
+                Optional<ReadOnlySchedulePlanner> generation = readGeneration(generationFilePath);
+                if (generation.isPresent()) {
+                    restore(generationFilePath, filePath);
+                    return generation;
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the data in the generation at {@code generationFilePath}, or nothing if it cannot be read.
+     */
+    private Optional<ReadOnlySchedulePlanner> readGeneration(Path generationFilePath) {
+        try {
+            return storage.readSchedulePlanner(generationFilePath);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Unable to read backup generation " + generationFilePath + ": " + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Copies the generation at {@code generationFilePath} over the unreadable file at {@code filePath}, keeping the
+     * unreadable file at {@link #getCorruptFilePath(Path)}.
+     * The data of the generation has already been read, so a failed copy is only logged.
+     */
+    private void restore(Path generationFilePath, Path filePath) {
+        try {
+            if (Files.exists(filePath)) {
+                Files.copy(filePath, getCorruptFilePath(filePath), StandardCopyOption.REPLACE_EXISTING);
+            }
+            FileUtil.writeAtomically(filePath, out -> Files.copy(generationFilePath, out));
+            logger.warning("Restored " + filePath + " from backup generation " + generationFilePath
+                    + "; the unreadable file is kept as " + getCorruptFilePath(filePath));
+        } catch (IOException e) {
+            logger.warning("Unable to restore " + filePath + " from " + generationFilePath + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the paths of the generations of the file at {@code filePath} that exist, newest first.
+     */
+    private List<Path> getExistingGenerationFilePaths(Path filePath) {
+        List<Path> generationFilePaths = new ArrayList<>();
+        for (int generation = 1; generation <= generations; generation++) {
+            Path generationFilePath = getGenerationFilePath(filePath, generation);
+            if (Files.exists(generationFilePath)) {
+                generationFilePaths.add(generationFilePath);
+            }
+        }
+        return generationFilePaths;
+    }
+
+    @Override
+    public void saveSchedulePlanner(ReadOnlySchedulePlanner schedulePlanner) throws IOException {
+        saveSchedulePlanner(schedulePlanner, getSchedulePlannerFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveSchedulePlanner(ReadOnlySchedulePlanner)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveSchedulePlanner(ReadOnlySchedulePlanner schedulePlanner, Path filePath) throws IOException {
+        requireNonNull(schedulePlanner);
+        requireNonNull(filePath);
+        rotateGenerations(filePath);
+        storage.saveSchedulePlanner(schedulePlanner, filePath);
+    }
+
+    /**
+     * Makes the file at {@code filePath} the first generation, moving older generations down by one.
+     * An empty file holds no data worth keeping and is left out.
+     * The file itself is left in place, so that it is never missing should the save that follows fail.
+     */
+    private void rotateGenerations(Path filePath) throws IOException {
+        if (!Files.exists(filePath) || Files.size(filePath) == 0) {
+            return;
+        }
+        for (int generation = generations - 1; generation >= 1; generation--) {
+            Path generationFilePath = getGenerationFilePath(filePath, generation);
+            if (Files.exists(generationFilePath)) {
+                Files.move(generationFilePath, getGenerationFilePath(filePath, generation + 1),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path newestFilePath = getGenerationFilePath(filePath, 1);
+        Files.deleteIfExists(newestFilePath);
+        try {
+            // the save replaces the file rather than writing into it, so the link keeps the content of the file
+            Files.createLink(newestFilePath, filePath);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(filePath, newestFilePath);
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package ssp.scheduleplanner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import ssp.scheduleplanner.commons.core.LogsCenter;
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
+import ssp.scheduleplanner.commons.util.FileUtil;
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.category.Category;
+import ssp.scheduleplanner.model.tag.Tag;
+import ssp.scheduleplanner.model.task.Date;
+import ssp.scheduleplanner.model.task.Name;
+import ssp.scheduleplanner.model.task.Priority;
+import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.model.task.Venue;
+
+/**
+ * A class to access SchedulePlanner data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number, the format version, and the number of dictionary strings, categories,
+ * tasks and archived tasks, so the reader can size its lists up front. Every category name, tag and venue is
+ * written once in the dictionary and referred to by its position. Numbers are written as variable-length
+ * integers, and dates as the number of days since the first date a {@code Date} can hold.
+ */
+public class BinarySchedulePlannerStorage implements SchedulePlannerStorage {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_NOT_BINARY_FILE = "File is not a binary schedule planner file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary schedule planner file version %1$d is not "
+            + "supported.";
+    public static final String MESSAGE_INVALID_REFERENCE = "Binary schedule planner file refers to a string it does "
+            + "not hold.";
+
+    private static final byte[] MAGIC = {'S', 'S', 'P', 'B'};
+    private static final int FIRST_EPOCH_DAY = Date.of("010100").getEpochDay();
+    /** Longer strings and counts are taken as a sign of a damaged file rather than allocated. */
+    private static final int MAX_STRING_BYTES = 1 << 20;
+    private static final int MAX_COUNT = 1 << 24;
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySchedulePlannerStorage.class);
+
+    private Path filePath;
+
+    public BinarySchedulePlannerStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getSchedulePlannerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<RecoveryReport> getRecoveryReport() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<ReadOnlySchedulePlanner> readSchedulePlanner() throws DataConversionException, IOException {
+        return readSchedulePlanner(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSchedulePlanner()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlySchedulePlanner> readSchedulePlanner(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("SchedulePlanner file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(new BinaryReader(in).read());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (EOFException eofe) {
+            throw new DataConversionException(eofe);
+        }
+    }
+
+    @Override
+    public void saveSchedulePlanner(ReadOnlySchedulePlanner schedulePlanner) throws IOException {
+        saveSchedulePlanner(schedulePlanner, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSchedulePlanner(ReadOnlySchedulePlanner)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveSchedulePlanner(ReadOnlySchedulePlanner schedulePlanner, Path filePath) throws IOException {
+        requireNonNull(schedulePlanner);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeAtomically(filePath, out -> new BinaryWriter(new DataOutputStream(out), schedulePlanner).write());
+    }
+
+    /**
+     * Writes one schedule planner in the binary format.
+     */
+    private static class BinaryWriter {
+        private final DataOutputStream out;
+        private final ReadOnlySchedulePlanner schedulePlanner;
+        /** The position of each string in the dictionary. */
+        private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+
+        BinaryWriter(DataOutputStream out, ReadOnlySchedulePlanner schedulePlanner) {
+            this.out = out;
+            this.schedulePlanner = schedulePlanner;
+        }
+
+        /**
+         * Writes the header, the dictionary, the categories, the tasks and the archived tasks, in that order.
+         */
+        void write() throws IOException {
+            buildDictionary();
+
+            out.write(MAGIC);
+            writeVarInt(out, FORMAT_VERSION);
+            writeVarInt(out, dictionary.size());
+            writeVarInt(out, schedulePlanner.getCategoryList().size());
+            writeVarInt(out, schedulePlanner.getTaskList().size());
+            writeVarInt(out, schedulePlanner.getArchivedTaskList().size());
+
+            for (String string : dictionary.keySet()) {
+                writeString(out, string);
+            }
+            for (Category category : schedulePlanner.getCategoryList()) {
+                writeVarInt(out, dictionary.get(category.getName()));
+                writeTags(category.getTags());
+            }
+            for (Task task : schedulePlanner.getTaskList()) {
+                writeTask(task);
+            }
+            for (Task task : schedulePlanner.getArchivedTaskList()) {
+                writeTask(task);
+            }
+        }
+
+        /**
+         * Adds every category name, tag and venue of the schedule planner to the dictionary.
+         */
+        private void buildDictionary() {
+            for (Category category : schedulePlanner.getCategoryList()) {
+                addToDictionary(category.getName());
+                category.getTags().forEach(tag -> addToDictionary(tag.tagName));
+            }
+            for (List<Task> tasks : Arrays.asList(schedulePlanner.getTaskList(),
+                    schedulePlanner.getArchivedTaskList())) {
+                for (Task task : tasks) {
+                    addToDictionary(task.getVenue().value);
+                    task.getTags().forEach(tag -> addToDictionary(tag.tagName));
+                }
+            }
+        }
+
+        private void addToDictionary(String string) {
+            dictionary.putIfAbsent(string, dictionary.size());
+        }
+
+        /**
+         * Writes {@code task}, referring to its venue and tags by their positions in the dictionary.
+         */
+        private void writeTask(Task task) throws IOException {
+            writeString(out, task.getName().fullName);
+            writeVarInt(out, task.getDate().getEpochDay() - FIRST_EPOCH_DAY);
+            writeVarInt(out, Integer.parseInt(task.getPriority().value));
+            writeVarInt(out, dictionary.get(task.getVenue().value));
+            writeTags(task.getTags());
+        }
+
+        /**
+         * Writes the number of {@code tags}, then the position of each of them in the dictionary.
+         */
+        private void writeTags(Iterable<Tag> tags) throws IOException {
+            List<Tag> tagList = new ArrayList<>();
+            tags.forEach(tagList::add);
+            writeVarInt(out, tagList.size());
+            for (Tag tag : tagList) {
+                writeVarInt(out, dictionary.get(tag.tagName));
+            }
+        }
+    }
+
+    /**
+     * Reads one schedule planner in the binary format.
+     * Each dictionary string is validated once, the first time it is used as a tag or venue.
+     */
+    private static class BinaryReader {
+        private final DataInputStream in;
+        private String[] dictionary;
+        private Tag[] tags;
+        private Venue[] venues;
+
+        BinaryReader(DataInputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Reads the schedule planner.
+         *
+         * @throws IllegalValueException if the data is not valid, or the file is not in the binary format.
+         */
+        SchedulePlanner read() throws IOException, IllegalValueException {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+            }
+            int version = readVarInt(in);
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            int dictionarySize = readCount(in);
+            int categoryCount = readCount(in);
+            int taskCount = readCount(in);
+            int archivedTaskCount = readCount(in);
+
+            dictionary = new String[dictionarySize];
+            for (int i = 0; i < dictionarySize; i++) {
+                dictionary[i] = readString(in);
+            }
+            tags = new Tag[dictionarySize];
+            venues = new Venue[dictionarySize];
+
+            List<Category> categories = new ArrayList<>(categoryCount);
+            for (int i = 0; i < categoryCount; i++) {
+                categories.add(readCategory());
+            }
+            List<Task> taskList = new ArrayList<>(taskCount);
+            for (int i = 0; i < taskCount; i++) {
+                taskList.add(readTask());
+            }
+            List<Task> archivedTaskList = new ArrayList<>(archivedTaskCount);
+            for (int i = 0; i < archivedTaskCount; i++) {
+                archivedTaskList.add(readTask());
+            }
+            return XmlSerializableSchedulePlanner.toSchedulePlanner(categories, taskList, archivedTaskList);
+        }
+
+        /**
+         * Reads a category written by {@link BinaryWriter}.
+         */
+        private Category readCategory() throws IOException, IllegalValueException {
+            String name = lookUp(readVarInt(in));
+            int tagCount = readCount(in);
+            List<XmlAdaptedTag> categoryTags = new ArrayList<>(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                categoryTags.add(new XmlAdaptedTag(lookUp(readVarInt(in))));
+            }
+            if (!Category.isValidName(name)) {
+                throw new IllegalValueException(Category.MESSAGE_NAME_CONSTRAINTS);
+            }
+            return new XmlAdaptedCategory(name, categoryTags).toModelType();
+        }
+
+        /**
+         * Reads a task written by {@link BinaryWriter}, validating each of its fields.
+         */
+        private Task readTask() throws IOException, IllegalValueException {
+            String name = readString(in);
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+            }
+            long epochDay = (long) FIRST_EPOCH_DAY + readVarInt(in);
+            if (!Date.isValidEpochDay(epochDay)) {
+                throw new IllegalValueException(Date.MESSAGE_DATE_CONSTRAINTS);
+            }
+            String priority = Integer.toString(readVarInt(in));
+            if (!Priority.isValidPriority(priority)) {
+                throw new IllegalValueException(Priority.MESSAGE_PRIORITY_CONSTRAINTS);
+            }
+            Venue venue = getVenue(readVarInt(in));
+            int tagCount = readCount(in);
+            Set<Tag> taskTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                taskTags.add(getTag(readVarInt(in)));
+            }
+            return new Task(Name.of(name), Date.ofEpochDay(epochDay), Priority.of(priority), venue, taskTags);
+        }
+
+        /**
+         * Returns the dictionary string at {@code index}.
+         */
+        private String lookUp(int index) throws IllegalValueException {
+            if (index < 0 || index >= dictionary.length) {
+                throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+            }
+            return dictionary[index];
+        }
+
+        private Tag getTag(int index) throws IllegalValueException {
+            String tagName = lookUp(index);
+            if (tags[index] == null) {
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+                }
+                tags[index] = Tag.of(tagName);
+            }
+            return tags[index];
+        }
+
+        private Venue getVenue(int index) throws IllegalValueException {
+            String venue = lookUp(index);
+            if (venues[index] == null) {
+                if (!Venue.isValidAddress(venue)) {
+                    throw new IllegalValueException(Venue.MESSAGE_ADDRESS_CONSTRAINTS);
+                }
+                venues[index] = Venue.of(venue);
+            }
+            return venues[index];
+        }
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, in as few bytes as it needs, seven bits to a byte.
+     */
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Reads a number written by {@link #writeVarInt(DataOutputStream, int)}.
+     *
+     * @throws IllegalValueException if the number does not fit in an {@code int}.
+     */
+    static int readVarInt(DataInputStream in) throws IOException, IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+    }
+
+    /**
+     * Reads a count written by {@link #writeVarInt(DataOutputStream, int)}.
+     *
+     * @throws IllegalValueException if the count is too large to be real.
+     */
+    private static int readCount(DataInputStream in) throws IOException, IllegalValueException {
+        int count = readVarInt(in);
+        if (count > MAX_COUNT) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+        }
+        return count;
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written as its length in bytes followed by its UTF-8 encoding.
+     */
+    private static String readString(DataInputStream in) throws IOException, IllegalValueException {
+        int length = readVarInt(in);
+        if (length > MAX_STRING_BYTES) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
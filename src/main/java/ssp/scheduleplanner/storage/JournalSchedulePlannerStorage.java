@@ -0,0 +1,359 @@
+package ssp.scheduleplanner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static ssp.scheduleplanner.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import ssp.scheduleplanner.commons.core.LogsCenter;
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
+import ssp.scheduleplanner.commons.util.FileUtil;
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.category.Category;
+import ssp.scheduleplanner.model.category.exceptions.DuplicateCategoryException;
+import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.model.task.exceptions.DuplicateTaskException;
+
+/**
+ * A class to access SchedulePlanner data stored as a checkpoint file and a journal of the saves made since.
+ * The checkpoint is written by another {@code SchedulePlannerStorage}. Each later save appends the ranges of the
+ * lists it changed to the journal, so a save takes time in proportion to the size of the change rather than the
+ * size of the schedule planner; a list whose version did not change since the last save is not even compared.
+ * The journal is folded into a new checkpoint once it holds too many records or bytes, and is replayed on top of
+ * the checkpoint when the data is read.
+ *
+ * The journal starts with the checksum of the checkpoint it follows, so a journal left behind by a checkpoint that
+ * was interrupted is not replayed twice. A record cut short by a crash is dropped when the journal is read.
+ * Each append is forced to the disk before the save returns, so a save that returned survives a power loss.
+ */
+public class JournalSchedulePlannerStorage implements SchedulePlannerStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_MAX_JOURNAL_RECORDS = 100;
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1024 * 1024;
+    public static final String MESSAGE_JOURNAL_LIMITS_CONSTRAINTS = "The journal must be allowed to hold a record.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalSchedulePlannerStorage.class);
+
+    private final SchedulePlannerStorage checkpointStorage;
+    private final int maxJournalRecords;
+    private final long maxJournalBytes;
+
+    /** The data as last read from or saved to the default file, or null if the file is not known to hold it. */
+    private SchedulePlannerSnapshot savedData;
+    private long checkpointChecksum;
+    private int journalRecordCount;
+    private long journalSize;
+
+    public JournalSchedulePlannerStorage(SchedulePlannerStorage checkpointStorage) {
+        this(checkpointStorage, DEFAULT_MAX_JOURNAL_RECORDS, DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    /**
+     * Creates a storage that writes checkpoints with {@code checkpointStorage}, and writes a new checkpoint when
+     * the journal would otherwise hold more than {@code maxJournalRecords} records or {@code maxJournalBytes} bytes.
+     */
+    public JournalSchedulePlannerStorage(SchedulePlannerStorage checkpointStorage, int maxJournalRecords,
+                                         long maxJournalBytes) {
+        requireNonNull(checkpointStorage);
+        checkArgument(maxJournalRecords > 0 && maxJournalBytes > 0, MESSAGE_JOURNAL_LIMITS_CONSTRAINTS);
+        this.checkpointStorage = checkpointStorage;
+        this.maxJournalRecords = maxJournalRecords;
+        this.maxJournalBytes = maxJournalBytes;
+    }
+
+    @Override
+    public Path getSchedulePlannerFilePath() {
+        return checkpointStorage.getSchedulePlannerFilePath();
+    }
+
+    @Override
+    public Optional<RecoveryReport> getRecoveryReport() {
+        return checkpointStorage.getRecoveryReport();
+    }
+
+    /**
+     * Returns the path of the journal kept next to the checkpoint at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlySchedulePlanner> readSchedulePlanner() throws DataConversionException, IOException {
+        return readSchedulePlanner(getSchedulePlannerFilePath());
+    }
+
+    /**
+     * Similar to {@link #readSchedulePlanner()}
+     * @param filePath location of the checkpoint. Cannot be null
+     * @throws DataConversionException if the checkpoint or a complete record of the journal is not in the correct
+     * format.
+     */
+    @Override
+    public Optional<ReadOnlySchedulePlanner> readSchedulePlanner(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+        boolean isDefaultFile = filePath.equals(getSchedulePlannerFilePath());
+        if (isDefaultFile) {
+            savedData = null;
+        }
+
+        Optional<ReadOnlySchedulePlanner> checkpoint = checkpointStorage.readSchedulePlanner(filePath);
+        if (!checkpoint.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Category> categories = new ArrayList<>(checkpoint.get().getCategoryList());
+        List<Task> tasks = new ArrayList<>(checkpoint.get().getTaskList());
+        List<Task> archivedTasks = new ArrayList<>(checkpoint.get().getArchivedTaskList());
+        long checksum = computeChecksum(filePath);
+        JournalReplay replay = replayJournal(getJournalFilePath(filePath), checksum, categories, tasks, archivedTasks);
+
+        SchedulePlanner schedulePlanner;
+        try {
+            schedulePlanner = new SchedulePlanner(new SchedulePlannerSnapshot(categories, tasks, archivedTasks));
+        } catch (DuplicateTaskException | DuplicateCategoryException e) {
+            logger.info("Journal of " + filePath + " leads to duplicates: " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        if (isDefaultFile) {
+            savedData = new SchedulePlannerSnapshot(schedulePlanner);
+            checkpointChecksum = checksum;
+            // a checkpoint with records set aside is rewritten by the next save, so the records are read only once
+            boolean isRecovered = checkpointStorage.getRecoveryReport().isPresent();
+            journalRecordCount = replay.isTornAtEnd || isRecovered ? maxJournalRecords : replay.recordCount;
+            journalSize = replay.size;
+        }
+        return Optional.of(schedulePlanner);
+    }
+
+    @Override
+    public void saveSchedulePlanner(ReadOnlySchedulePlanner schedulePlanner) throws IOException {
+        saveSchedulePlanner(schedulePlanner, getSchedulePlannerFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveSchedulePlanner(ReadOnlySchedulePlanner)}
+     * Saves to a file other than the default one are always written as a checkpoint.
+     * @param filePath location of the checkpoint. Cannot be null
+     */
+    @Override
+    public void saveSchedulePlanner(ReadOnlySchedulePlanner schedulePlanner, Path filePath) throws IOException {
+        requireNonNull(schedulePlanner);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getSchedulePlannerFilePath())) {
+            checkpointStorage.saveSchedulePlanner(schedulePlanner, filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return;
+        }
+
+        if (savedData == null || journalRecordCount >= maxJournalRecords) {
+            writeCheckpoint(schedulePlanner);
+            return;
+        }
+
+        XmlAdaptedJournalRecord record = new XmlAdaptedJournalRecord(savedData, schedulePlanner);
+        if (record.isEmpty()) {
+            return;
+        }
+        byte[] line = toLine(record);
+        if (journalSize + line.length > maxJournalBytes) {
+            writeCheckpoint(schedulePlanner);
+            return;
+        }
+
+        appendToJournal(line);
+        savedData = SchedulePlannerSnapshot.of(schedulePlanner, savedData);
+    }
+
+    /**
+     * Writes {@code schedulePlanner} as the checkpoint of the default file and starts a new journal.
+     */
+    private void writeCheckpoint(ReadOnlySchedulePlanner schedulePlanner) throws IOException {
+        savedData = null;
+        Path filePath = getSchedulePlannerFilePath();
+        checkpointStorage.saveSchedulePlanner(schedulePlanner, filePath);
+        // a journal left behind from here on no longer matches the checksum of the checkpoint
+        checkpointChecksum = computeChecksum(filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        journalRecordCount = 0;
+        journalSize = 0;
+        savedData = new SchedulePlannerSnapshot(schedulePlanner);
+        logger.fine("Wrote checkpoint to " + filePath);
+    }
+
+    /**
+     * Appends {@code line} to the journal of the default file, starting the journal if there is none, and forces
+     * it to the disk.
+     */
+    private void appendToJournal(byte[] line) throws IOException {
+        Path journalFilePath = getJournalFilePath(getSchedulePlannerFilePath());
+        if (journalSize == 0) {
+            byte[] header = (Long.toString(checkpointChecksum) + "\n").getBytes(StandardCharsets.UTF_8);
+            try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeFully(channel, header);
+                writeFully(channel, line);
+                channel.force(false);
+            }
+            FileUtil.forceDirectory(journalFilePath.toAbsolutePath().getParent());
+            journalSize = header.length;
+        } else {
+            try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND)) {
+                writeFully(channel, line);
+                channel.force(false);
+            }
+        }
+        journalRecordCount++;
+        journalSize += line.length;
+    }
+
+    /**
+     * Writes every byte of {@code bytes} to {@code channel}.
+     */
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalFilePath} to the given lists, if the journal follows the
+     * checkpoint with {@code checkpointChecksum}.
+     *
+     * @throws DataConversionException if a complete record is not in the correct format.
+     */
+    private JournalReplay replayJournal(Path journalFilePath, long checkpointChecksum, List<Category> categories,
+                                        List<Task> tasks, List<Task> archivedTasks)
+            throws DataConversionException, IOException {
+        JournalReplay replay = new JournalReplay();
+        if (!Files.exists(journalFilePath)) {
+            return replay;
+        }
+
+        byte[] content = Files.readAllBytes(journalFilePath);
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new StringReader(new String(content, StandardCharsets.UTF_8)))) {
+            reader.lines().forEach(lines::add);
+        }
+        if (lines.isEmpty() || !lines.get(0).equals(Long.toString(checkpointChecksum))) {
+            logger.info("Journal " + journalFilePath + " does not follow its checkpoint, ignoring it");
+            return replay;
+        }
+
+        boolean endsWithNewLine = content[content.length - 1] == '\n';
+        for (int i = 1; i < lines.size(); i++) {
+            boolean isLast = i == lines.size() - 1;
+            XmlAdaptedJournalRecord record;
+            try {
+                record = fromLine(lines.get(i));
+            } catch (JAXBException e) {
+                if (isLast && !endsWithNewLine) {
+                    logger.warning("Dropping incomplete last record of journal " + journalFilePath);
+                    replay.isTornAtEnd = true;
+                    break;
+                }
+                throw new DataConversionException(e);
+            }
+            try {
+                record.applyTo(categories, tasks, archivedTasks);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+            replay.recordCount++;
+        }
+        // a record appended after a line that was cut short would be joined to it
+        replay.isTornAtEnd |= !endsWithNewLine;
+        replay.size = content.length;
+        return replay;
+    }
+
+    /**
+     * Returns the checksum of the content of the file at {@code filePath}.
+     */
+    private static long computeChecksum(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), crc)) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // the checksum is updated as the file is read
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Returns {@code record} as one line of XML, line break included.
+     */
+    private static byte[] toLine(XmlAdaptedJournalRecord record) {
+        StringWriter writer = new StringWriter();
+        try {
+            Marshaller marshaller = RecordContextHolder.CONTEXT.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            marshaller.marshal(record, writer);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+        // line breaks inside values are written as character references to keep the record on one line
+        String line = writer.toString().replace("\r", "&#13;").replace("\n", "&#10;") + "\n";
+        return line.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static XmlAdaptedJournalRecord fromLine(String line) throws JAXBException {
+        return (XmlAdaptedJournalRecord) RecordContextHolder.CONTEXT.createUnmarshaller()
+                .unmarshal(new StringReader(line));
+    }
+
+    /**
+     * Holds the JAXB context of journal records, which is expensive to create, until it is first needed.
+     */
+    private static class RecordContextHolder {
+        private static final JAXBContext CONTEXT;
+
+        static {
+            try {
+                CONTEXT = JAXBContext.newInstance(XmlAdaptedJournalRecord.class);
+            } catch (JAXBException e) {
+                throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * The outcome of replaying a journal.
+     */
+    private static class JournalReplay {
+        private int recordCount;
+        private long size;
+        private boolean isTornAtEnd;
+    }
+}
@@ -0,0 +1,311 @@
+package ssp.scheduleplanner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import ssp.scheduleplanner.commons.core.LogsCenter;
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
+import ssp.scheduleplanner.commons.util.FileUtil;
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.category.Category;
+import ssp.scheduleplanner.model.tag.Tag;
+import ssp.scheduleplanner.model.task.Task;
+
+/**
+ * A class to access SchedulePlanner data stored as a json file on the hard disk.
+ * The file is read and written token by token. Tasks read are converted into the model's {@code Task}s in chunks, in
+ * parallel with the reading of the rest of the file, so only the chunks still being converted are held as text.
+ * Fields the reader does not know are skipped, so files written by newer versions can still be read.
+ */
+public class JsonSchedulePlannerStorage implements SchedulePlannerStorage {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Json schedule planner file version %1$d is not "
+            + "supported.";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Expected %1$s but found %2$s.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSchedulePlannerStorage.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private Path filePath;
+
+    public JsonSchedulePlannerStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getSchedulePlannerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<RecoveryReport> getRecoveryReport() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<ReadOnlySchedulePlanner> readSchedulePlanner() throws DataConversionException, IOException {
+        return readSchedulePlanner(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSchedulePlanner()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlySchedulePlanner> readSchedulePlanner(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("SchedulePlanner file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+             JsonParser parser = JSON_FACTORY.createParser(in)) {
+            return Optional.of(parseSchedulePlanner(parser));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (JsonParseException jpe) {
+            throw new DataConversionException(jpe);
+        }
+    }
+
+    @Override
+    public void saveSchedulePlanner(ReadOnlySchedulePlanner schedulePlanner) throws IOException {
+        saveSchedulePlanner(schedulePlanner, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSchedulePlanner(ReadOnlySchedulePlanner)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveSchedulePlanner(ReadOnlySchedulePlanner schedulePlanner, Path filePath) throws IOException {
+        requireNonNull(schedulePlanner);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeAtomically(filePath, out -> writeSchedulePlanner(out, schedulePlanner));
+    }
+
+    /**
+     * Writes {@code schedulePlanner} to {@code out} in the json format.
+     */
+    private static void writeSchedulePlanner(OutputStream out, ReadOnlySchedulePlanner schedulePlanner)
+            throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeNumberField("version", FORMAT_VERSION);
+
+            generator.writeArrayFieldStart("categories");
+            for (Category category : schedulePlanner.getCategoryList()) {
+                generator.writeStartObject();
+                generator.writeStringField("name", category.getName());
+                writeTags(generator, category.getTags());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            writeTasks(generator, "tasks", schedulePlanner.getTaskList());
+            writeTasks(generator, "archivedTasks", schedulePlanner.getArchivedTaskList());
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code tasks} as an array field named {@code fieldName}.
+     */
+    private static void writeTasks(JsonGenerator generator, String fieldName, List<Task> tasks) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (Task task : tasks) {
+            generator.writeStartObject();
+            generator.writeStringField("name", task.getName().fullName);
+            generator.writeStringField("date", task.getDate().value);
+            generator.writeStringField("priority", task.getPriority().value);
+            generator.writeStringField("venue", task.getVenue().value);
+            writeTags(generator, task.getTags());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes the names of {@code tags} as an array field named "tags".
+     */
+    private static void writeTags(JsonGenerator generator, Iterable<Tag> tags) throws IOException {
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : tags) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Reads the schedule planner object that {@code parser} is about to read.
+     *
+     * @throws IllegalValueException if the data is not valid or not laid out as written by this class.
+     */
+    private static SchedulePlanner parseSchedulePlanner(JsonParser parser) throws IOException, IllegalValueException {
+        List<Category> categories = new ArrayList<>();
+        ParallelConverter.Conversion<XmlAdaptedTask, Task> tasks =
+                ParallelConverter.startAll(XmlAdaptedTask::toModelType);
+        ParallelConverter.Conversion<XmlAdaptedTask, Task> archivedTasks =
+                ParallelConverter.startAll(XmlAdaptedTask::toModelType);
+
+        expect(parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+            case "version":
+                expect(value, JsonToken.VALUE_NUMBER_INT);
+                if (parser.getIntValue() != FORMAT_VERSION) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION,
+                            parser.getIntValue()));
+                }
+                break;
+            case "categories":
+                expect(value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    categories.add(readCategory(parser));
+                }
+                break;
+            case "tasks":
+                readTasks(parser, value, tasks);
+                break;
+            case "archivedTasks":
+                readTasks(parser, value, archivedTasks);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        expect(parser.getCurrentToken(), JsonToken.END_OBJECT);
+        return XmlSerializableSchedulePlanner.toSchedulePlanner(categories, tasks.finish().getElements("Task"),
+                archivedTasks.finish().getElements("Task"));
+    }
+
+    /**
+     * Reads the array of tasks that starts with {@code value}, adding each task to {@code tasks} as it is read.
+     */
+    private static void readTasks(JsonParser parser, JsonToken value,
+                                  ParallelConverter.Conversion<XmlAdaptedTask, Task> tasks)
+            throws IOException, IllegalValueException {
+        expect(value, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            tasks.add(readTask(parser));
+        }
+    }
+
+    /**
+     * Reads the category object that {@code parser} is at.
+     */
+    private static Category readCategory(JsonParser parser) throws IOException, IllegalValueException {
+        expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String name = null;
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (fieldName.equals("name")) {
+                name = readString(parser, value);
+            } else if (fieldName.equals("tags")) {
+                readTags(parser, value, tags);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (name != null && !Category.isValidName(name)) {
+            throw new IllegalValueException(Category.MESSAGE_NAME_CONSTRAINTS);
+        }
+        return new XmlAdaptedCategory(name, tags).toModelType();
+    }
+
+    /**
+     * Reads the task object that {@code parser} is at.
+     */
+    private static XmlAdaptedTask readTask(JsonParser parser) throws IOException, IllegalValueException {
+        expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String name = null;
+        String date = null;
+        String priority = null;
+        String venue = null;
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+            case "name":
+                name = readString(parser, value);
+                break;
+            case "date":
+                date = readString(parser, value);
+                break;
+            case "priority":
+                priority = readString(parser, value);
+                break;
+            case "venue":
+                venue = readString(parser, value);
+                break;
+            case "tags":
+                readTags(parser, value, tags);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new XmlAdaptedTask(name, date, priority, venue, tags);
+    }
+
+    /**
+     * Reads the array of tag names that starts with {@code value} into {@code tags}.
+     */
+    private static void readTags(JsonParser parser, JsonToken value, List<XmlAdaptedTag> tags)
+            throws IOException, IllegalValueException {
+        expect(value, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            tags.add(new XmlAdaptedTag(readString(parser, parser.getCurrentToken())));
+        }
+    }
+
+    /**
+     * Returns the string {@code value} that {@code parser} is at.
+     */
+    private static String readString(JsonParser parser, JsonToken value) throws IOException, IllegalValueException {
+        expect(value, JsonToken.VALUE_STRING);
+        return parser.getText();
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} unless {@code actual} is the {@code expected} token.
+     */
+    private static void expect(JsonToken actual, JsonToken expected) throws IllegalValueException {
+        if (actual != expected) {
+            throw new IllegalValueException(String.format(MESSAGE_UNEXPECTED_TOKEN, expected, actual));
+        }
+    }
+}
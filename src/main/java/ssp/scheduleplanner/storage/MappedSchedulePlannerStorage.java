@@ -0,0 +1,812 @@
+package ssp.scheduleplanner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import ssp.scheduleplanner.commons.core.LogsCenter;
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
+import ssp.scheduleplanner.model.ListVersion;
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.category.Category;
+import ssp.scheduleplanner.model.tag.Tag;
+import ssp.scheduleplanner.model.task.Date;
+import ssp.scheduleplanner.model.task.Task;
+
+/**
+ * A class to access SchedulePlanner data stored as fixed-width records in a memory-mapped file, with the strings
+ * of the records kept in a side file.
+ *
+ * Each category, task and archived task takes one record slot. A record holds the kind of its element, an order
+ * key that gives the position of the element in its list, the date and priority of a task, and references to its
+ * name, venue and tags in the string file. Slots of removed elements are kept in a free list and reused.
+ *
+ * Once the default file has been read or written, each save compares the data with the last saved data and
+ * rewrites only the records of the elements that changed, in place. Editing one task writes one record.
+ * A list whose version is the same as at the last save is not compared at all.
+ * The file is rewritten in full when the string file holds too many strings that are no longer referred to, or
+ * after a save failed part way. The default file is then rewritten in place through the channels already open, as
+ * some systems refuse to truncate or replace a file that this process still has mapped; the string file is
+ * truncated, while the record file keeps its size and its slots past the new slot count are left unused.
+ * A save interrupted part way can leave the records inconsistent, so this storage does not replace the
+ * crash safety of whole-file formats.
+ * A default file that could not be read is never rewritten in place: the first save copies the record and string
+ * files aside, to the paths given by {@link BackupSchedulePlannerStorage#getCorruptFilePath(Path)}, before it
+ * writes new ones.
+ */
+public class MappedSchedulePlannerStorage implements SchedulePlannerStorage {
+
+    public static final String STRING_FILE_SUFFIX = ".strings";
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_NOT_MAPPED_FILE = "File is not a record schedule planner file.";
+    public static final String MESSAGE_INVALID_RECORD = "Record %1$d of the schedule planner file is damaged.";
+
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 48;
+
+    private static final int MAGIC = 0x5353504D;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long ORDER_KEY_GAP = 1L << 20;
+    /** The string file is rewritten once it grows by this much more than twice its size after a full write. */
+    private static final long STRING_FILE_SLACK = 1L << 20;
+    private static final String TAG_SEPARATOR = " ";
+
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_SLOT_COUNT = 8;
+    private static final int HEADER_FREE_SLOT = 12;
+    private static final int HEADER_STRING_FILE_SIZE = 16;
+
+    private static final int RECORD_KIND = 0;
+    /** The order key of a used slot, or the next free slot of a free one. */
+    private static final int RECORD_ORDER_KEY = 8;
+    private static final int RECORD_EPOCH_DAY = 16;
+    private static final int RECORD_PRIORITY = 20;
+    private static final int RECORD_NAME = 24;
+    private static final int RECORD_VENUE = 32;
+    private static final int RECORD_TAGS = 40;
+
+    private static final byte KIND_FREE = 0;
+    private static final byte KIND_CATEGORY = 1;
+    private static final byte KIND_TASK = 2;
+    private static final byte KIND_ARCHIVED_TASK = 3;
+
+    private static final int NO_SLOT = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedSchedulePlannerStorage.class);
+
+    private Path filePath;
+
+    /** The open default file, or null if it has not been read or written. */
+    private Store store;
+    /** True if the last read of the default file failed, so that its content is not known. */
+    private boolean isDefaultFileUnreadable;
+
+    public MappedSchedulePlannerStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getSchedulePlannerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<RecoveryReport> getRecoveryReport() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the path of the string file kept next to the record file at {@code filePath}.
+     */
+    public static Path getStringFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + STRING_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlySchedulePlanner> readSchedulePlanner() throws DataConversionException, IOException {
+        return readSchedulePlanner(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSchedulePlanner()}
+     * @param filePath location of the record file. Cannot be null
+     * @throws DataConversionException if the record or string file is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlySchedulePlanner> readSchedulePlanner(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        boolean isDefaultFile = filePath.equals(this.filePath);
+        if (isDefaultFile) {
+            closeStore();
+            isDefaultFileUnreadable = false;
+        }
+
+        if (!Files.exists(filePath) || !Files.exists(getStringFilePath(filePath))) {
+            logger.info("SchedulePlanner file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        if (isDefaultFile) {
+            isDefaultFileUnreadable = true;
+        }
+        Store openedStore = Store.open(filePath);
+        if (isDefaultFile) {
+            // kept open even if it cannot be read, as the next save then rewrites it in place
+            store = openedStore;
+        }
+        try {
+            SchedulePlanner schedulePlanner = openedStore.read();
+            if (isDefaultFile) {
+                isDefaultFileUnreadable = false;
+            }
+            return Optional.of(schedulePlanner);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } finally {
+            if (!isDefaultFile) {
+                openedStore.close();
+            }
+        }
+    }
+
+    @Override
+    public void saveSchedulePlanner(ReadOnlySchedulePlanner schedulePlanner) throws IOException {
+        saveSchedulePlanner(schedulePlanner, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSchedulePlanner(ReadOnlySchedulePlanner)}
+     * Saves to a file other than the default one always write the file in full.
+     * @param filePath location of the record file. Cannot be null
+     */
+    @Override
+    public synchronized void saveSchedulePlanner(ReadOnlySchedulePlanner schedulePlanner, Path filePath)
+            throws IOException {
+        requireNonNull(schedulePlanner);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            Store.create(filePath, schedulePlanner).close();
+            return;
+        }
+
+        if (isDefaultFileUnreadable) {
+            keepUnreadableFiles();
+            isDefaultFileUnreadable = false;
+        }
+        if (store == null) {
+            store = Store.create(filePath, schedulePlanner);
+            return;
+        }
+        try {
+            if (store.canUpdate()) {
+                store.update(schedulePlanner);
+            } else {
+                store.rewrite(schedulePlanner);
+            }
+        } catch (IOException | RuntimeException e) {
+            store.setIncomplete();
+            throw e;
+        }
+    }
+
+    /**
+     * Copies the record and string files of the default file, which could not be read, to the paths given by
+     * {@link BackupSchedulePlannerStorage#getCorruptFilePath(Path)}, so that writing new files does not lose them.
+     */
+    private void keepUnreadableFiles() throws IOException {
+        for (Path unreadableFilePath : Arrays.asList(filePath, getStringFilePath(filePath))) {
+            if (Files.exists(unreadableFilePath)) {
+                Files.copy(unreadableFilePath, BackupSchedulePlannerStorage.getCorruptFilePath(unreadableFilePath),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        logger.warning("Replacing " + filePath + ", which could not be read; the unreadable files are kept as "
+                + BackupSchedulePlannerStorage.getCorruptFilePath(filePath));
+    }
+
+    /**
+     * Closes the open default file, if any.
+     */
+    private void closeStore() throws IOException {
+        if (store != null) {
+            Store closedStore = store;
+            store = null;
+            closedStore.close();
+        }
+    }
+
+    /**
+     * An open record file and its string file.
+     */
+    private static class Store {
+        private final FileChannel recordChannel;
+        private final FileChannel stringChannel;
+        private MappedByteBuffer records;
+        private int capacity;
+        private int slotCount;
+        private int freeSlot = NO_SLOT;
+        private long stringFileSize;
+        private long stringFileSizeAfterFullWrite;
+
+        /** The strings shared by many records, such as venues and tags, by their references in the string file. */
+        private final Map<String, Long> sharedStrings = new HashMap<>();
+
+        private final SavedList categories = new SavedList(KIND_CATEGORY);
+        private final SavedList tasks = new SavedList(KIND_TASK);
+        private final SavedList archivedTasks = new SavedList(KIND_ARCHIVED_TASK);
+        /** True if the saved lists hold every element of the file, each with its slot. */
+        private boolean isComplete;
+
+        private Store(FileChannel recordChannel, FileChannel stringChannel) {
+            this.recordChannel = recordChannel;
+            this.stringChannel = stringChannel;
+        }
+
+        /**
+         * Opens the existing record file at {@code filePath} and its string file.
+         */
+        static Store open(Path filePath) throws IOException {
+            FileChannel recordChannel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            FileChannel stringChannel = FileChannel.open(getStringFilePath(filePath), StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            return new Store(recordChannel, stringChannel);
+        }
+
+        /**
+         * Writes {@code schedulePlanner} in full to new files at {@code filePath}, replacing any existing ones.
+         */
+        static Store create(Path filePath, ReadOnlySchedulePlanner schedulePlanner) throws IOException {
+            if (filePath.getParent() != null) {
+                Files.createDirectories(filePath.getParent());
+            }
+            FileChannel recordChannel = FileChannel.open(filePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            FileChannel stringChannel = FileChannel.open(getStringFilePath(filePath), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Store store = new Store(recordChannel, stringChannel);
+            try {
+                store.writeAll(schedulePlanner);
+            } catch (IOException | RuntimeException e) {
+                store.close();
+                throw e;
+            }
+            return store;
+        }
+
+        /**
+         * Closes both files.
+         */
+        void close() throws IOException {
+            try {
+                recordChannel.close();
+            } finally {
+                stringChannel.close();
+            }
+        }
+
+        /**
+         * Writes {@code schedulePlanner} in full over the open files. The string file is truncated, but the record
+         * file is not, as it is mapped; the slots past the new slot count are left unused.
+         */
+        void rewrite(ReadOnlySchedulePlanner schedulePlanner) throws IOException {
+            setIncomplete();
+            slotCount = 0;
+            freeSlot = NO_SLOT;
+            stringFileSize = 0;
+            sharedStrings.clear();
+            stringChannel.truncate(0);
+            writeAll(schedulePlanner);
+        }
+
+        /**
+         * Marks the saved lists as not known to match the files, so that the next save rewrites them in full.
+         */
+        void setIncomplete() {
+            isComplete = false;
+        }
+
+        /**
+         * Returns true if saves can rewrite only the records that changed.
+         */
+        boolean canUpdate() {
+            return isComplete && stringFileSize <= 2 * stringFileSizeAfterFullWrite + STRING_FILE_SLACK;
+        }
+
+        /**
+         * Writes every element of {@code schedulePlanner} into a new slot.
+         */
+        private void writeAll(ReadOnlySchedulePlanner schedulePlanner) throws IOException {
+            int elementCount = schedulePlanner.getCategoryList().size() + schedulePlanner.getTaskList().size()
+                    + schedulePlanner.getArchivedTaskList().size();
+            int neededCapacity = Math.max(INITIAL_CAPACITY, elementCount + elementCount / 2);
+            if (records == null || capacity < neededCapacity) {
+                mapRecords(neededCapacity);
+            }
+            records.putInt(HEADER_MAGIC, MAGIC);
+            records.putInt(HEADER_VERSION, FORMAT_VERSION);
+
+            categories.writeAll(this, schedulePlanner.getCategoryList());
+            tasks.writeAll(this, schedulePlanner.getTaskList());
+            archivedTasks.writeAll(this, schedulePlanner.getArchivedTaskList());
+            isComplete = true;
+            stringFileSizeAfterFullWrite = stringFileSize;
+            commit();
+        }
+
+        /**
+         * Rewrites the records of the elements of {@code schedulePlanner} that changed since the last save.
+         */
+        void update(ReadOnlySchedulePlanner schedulePlanner) throws IOException {
+            categories.update(this, schedulePlanner.getCategoryList(), schedulePlanner.getCategoryListVersion());
+            tasks.update(this, schedulePlanner.getTaskList(), schedulePlanner.getTaskListVersion());
+            archivedTasks.update(this, schedulePlanner.getArchivedTaskList(),
+                    schedulePlanner.getArchivedTaskListVersion());
+            commit();
+        }
+
+        /**
+         * Writes the header and forces both files to the disk, the strings before the records that refer to them.
+         */
+        private void commit() throws IOException {
+            records.putInt(HEADER_SLOT_COUNT, slotCount);
+            records.putInt(HEADER_FREE_SLOT, freeSlot);
+            records.putLong(HEADER_STRING_FILE_SIZE, stringFileSize);
+            stringChannel.force(false);
+            records.force();
+        }
+
+        /**
+         * Reads every record and returns the schedule planner they hold.
+         */
+        SchedulePlanner read() throws IOException, IllegalValueException {
+            long fileSize = recordChannel.size();
+            if (fileSize < HEADER_SIZE || (fileSize - HEADER_SIZE) % RECORD_SIZE != 0) {
+                throw new IllegalValueException(MESSAGE_NOT_MAPPED_FILE);
+            }
+            mapRecords((int) ((fileSize - HEADER_SIZE) / RECORD_SIZE));
+            if (records.getInt(HEADER_MAGIC) != MAGIC || records.getInt(HEADER_VERSION) != FORMAT_VERSION) {
+                throw new IllegalValueException(MESSAGE_NOT_MAPPED_FILE);
+            }
+            slotCount = records.getInt(HEADER_SLOT_COUNT);
+            freeSlot = records.getInt(HEADER_FREE_SLOT);
+            stringFileSize = records.getLong(HEADER_STRING_FILE_SIZE);
+            if (slotCount < 0 || slotCount > capacity || freeSlot < NO_SLOT || freeSlot >= slotCount
+                    || stringFileSize < 0 || stringFileSize > stringChannel.size()) {
+                throw new IllegalValueException(MESSAGE_NOT_MAPPED_FILE);
+            }
+            stringFileSizeAfterFullWrite = stringFileSize;
+            ByteBuffer strings = ByteBuffer.allocate((int) stringFileSize);
+            while (strings.hasRemaining() && stringChannel.read(strings, strings.position()) >= 0) {
+                // reads until the buffer is full
+            }
+
+            RecordReader reader = new RecordReader(strings.array());
+            List<Integer> categorySlots = new ArrayList<>();
+            List<Integer> taskSlots = new ArrayList<>();
+            List<Integer> archivedTaskSlots = new ArrayList<>();
+            for (int slot = 0; slot < slotCount; slot++) {
+                switch (records.get(position(slot) + RECORD_KIND)) {
+                case KIND_FREE:
+                    break;
+                case KIND_CATEGORY:
+                    categorySlots.add(slot);
+                    break;
+                case KIND_TASK:
+                    taskSlots.add(slot);
+                    break;
+                case KIND_ARCHIVED_TASK:
+                    archivedTaskSlots.add(slot);
+                    break;
+                default:
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, slot));
+                }
+            }
+
+            Map<Object, Integer> slotOfElement = new IdentityHashMap<>();
+            List<Category> categoryList = new ArrayList<>(categorySlots.size());
+            for (int slot : sortByOrderKey(categorySlots)) {
+                Category category = reader.readCategory(slot);
+                categoryList.add(category);
+                slotOfElement.put(category, slot);
+            }
+            List<Task> taskList = readTasks(reader, taskSlots, slotOfElement);
+            List<Task> archivedTaskList = readTasks(reader, archivedTaskSlots, slotOfElement);
+            reader.sharedStrings.forEach((reference, string) -> sharedStrings.put(string, reference));
+
+            SchedulePlanner schedulePlanner =
+                    XmlSerializableSchedulePlanner.toSchedulePlanner(categoryList, taskList, archivedTaskList);
+            isComplete = categories.setSaved(schedulePlanner.getCategoryList(), slotOfElement)
+                    & tasks.setSaved(schedulePlanner.getTaskList(), slotOfElement)
+                    & archivedTasks.setSaved(schedulePlanner.getArchivedTaskList(), slotOfElement)
+                    && slotOfElement.size() == categorySlots.size() + taskSlots.size() + archivedTaskSlots.size();
+            return schedulePlanner;
+        }
+
+        /**
+         * Reads the tasks in {@code slots}, recording the slot of each of them in {@code slotOfElement}.
+         */
+        private List<Task> readTasks(RecordReader reader, List<Integer> slots, Map<Object, Integer> slotOfElement)
+                throws IllegalValueException {
+            List<Task> taskList = new ArrayList<>(slots.size());
+            for (int slot : sortByOrderKey(slots)) {
+                Task task = reader.readTask(slot);
+                taskList.add(task);
+                slotOfElement.put(task, slot);
+            }
+            return taskList;
+        }
+
+        /**
+         * Returns {@code slots} in the order of their order keys.
+         */
+        private int[] sortByOrderKey(List<Integer> slots) {
+            long[][] keyedSlots = new long[slots.size()][];
+            for (int i = 0; i < slots.size(); i++) {
+                keyedSlots[i] = new long[] {getOrderKey(slots.get(i)), slots.get(i)};
+            }
+            Arrays.sort(keyedSlots, (a, b) -> Long.compare(a[0], b[0]));
+            return Arrays.stream(keyedSlots).mapToInt(keyedSlot -> (int) keyedSlot[1]).toArray();
+        }
+
+        /**
+         * Maps the header and {@code capacity} record slots of the record file, growing the file if needed.
+         */
+        private void mapRecords(int capacity) throws IOException {
+            this.capacity = capacity;
+            records = recordChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + (long) capacity * RECORD_SIZE);
+        }
+
+        private static int position(int slot) {
+            return HEADER_SIZE + slot * RECORD_SIZE;
+        }
+
+        long getOrderKey(int slot) {
+            return records.getLong(position(slot) + RECORD_ORDER_KEY);
+        }
+
+        void setOrderKey(int slot, long orderKey) {
+            records.putLong(position(slot) + RECORD_ORDER_KEY, orderKey);
+        }
+
+        /**
+         * Returns a free slot, taken from the free list or added at the end of the file.
+         */
+        int allocateSlot() throws IOException {
+            if (freeSlot != NO_SLOT) {
+                int slot = freeSlot;
+                freeSlot = (int) getOrderKey(slot);
+                return slot;
+            }
+            if (slotCount == capacity) {
+                mapRecords(capacity * 2);
+            }
+            return slotCount++;
+        }
+
+        void freeSlot(int slot) {
+            records.put(position(slot) + RECORD_KIND, KIND_FREE);
+            setOrderKey(slot, freeSlot);
+            freeSlot = slot;
+        }
+
+        /**
+         * Writes {@code element} into {@code slot}, reusing the strings of {@code replaced}, the element the slot
+         * held before, where they are the same.
+         */
+        void writeRecord(int slot, byte kind, long orderKey, Object element, Object replaced) throws IOException {
+            int position = position(slot);
+            records.put(position + RECORD_KIND, kind);
+            records.putLong(position + RECORD_ORDER_KEY, orderKey);
+            if (element instanceof Category) {
+                Category category = (Category) element;
+                Category replacedCategory = replaced instanceof Category ? (Category) replaced : null;
+                records.putInt(position + RECORD_EPOCH_DAY, 0);
+                records.putInt(position + RECORD_PRIORITY, 0);
+                writeString(position + RECORD_NAME, category.getName(),
+                        replacedCategory == null ? null : replacedCategory.getName(), false);
+                records.putLong(position + RECORD_VENUE, 0);
+                writeString(position + RECORD_TAGS, joinTags(category.getTags()), null, true);
+                return;
+            }
+
+            Task task = (Task) element;
+            Task replacedTask = replaced instanceof Task ? (Task) replaced : null;
+            records.putInt(position + RECORD_EPOCH_DAY, task.getDate().getEpochDay());
+            records.putInt(position + RECORD_PRIORITY, Integer.parseInt(task.getPriority().value));
+            writeString(position + RECORD_NAME, task.getName().fullName,
+                    replacedTask == null ? null : replacedTask.getName().fullName, false);
+            writeString(position + RECORD_VENUE, task.getVenue().value, null, true);
+            writeString(position + RECORD_TAGS, joinTags(task.getTags()), null, true);
+        }
+
+        /**
+         * Writes the reference to {@code string} at {@code position}. The reference already there is kept if it
+         * refers to {@code replacedString} and that is the same string. Shared strings are written to the string
+         * file only once.
+         */
+        private void writeString(int position, String string, String replacedString, boolean isShared)
+                throws IOException {
+            if (string.equals(replacedString)) {
+                return;
+            }
+            Long reference = isShared ? sharedStrings.get(string) : null;
+            if (reference == null) {
+                reference = appendString(string);
+                if (isShared) {
+                    sharedStrings.put(string, reference);
+                }
+            }
+            records.putLong(position, reference);
+        }
+
+        /**
+         * Appends {@code string} to the string file and returns its reference: its offset in the high half,
+         * and its length in bytes in the low half.
+         */
+        private long appendString(String string) throws IOException {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length == 0) {
+                return 0;
+            }
+            if (stringFileSize + bytes.length > Integer.MAX_VALUE) {
+                throw new IOException("String file is full");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                stringChannel.write(buffer, stringFileSize + buffer.position());
+            }
+            long reference = (stringFileSize << 32) | bytes.length;
+            stringFileSize += bytes.length;
+            return reference;
+        }
+
+        /**
+         * Returns the names of {@code tags} separated by spaces, which tag names cannot contain.
+         */
+        private static String joinTags(Iterable<Tag> tags) {
+            StringBuilder joined = new StringBuilder();
+            for (Tag tag : tags) {
+                if (joined.length() > 0) {
+                    joined.append(TAG_SEPARATOR);
+                }
+                joined.append(tag.tagName);
+            }
+            return joined.toString();
+        }
+
+        /**
+         * Turns records back into categories and tasks, decoding each shared string once.
+         */
+        private class RecordReader {
+            private final byte[] strings;
+            private final Map<Long, String> sharedStrings = new HashMap<>();
+
+            RecordReader(byte[] strings) {
+                this.strings = strings;
+            }
+
+            /**
+             * Returns the category held by {@code slot}.
+             */
+            Category readCategory(int slot) throws IllegalValueException {
+                int position = position(slot);
+                String name = readString(slot, records.getLong(position + RECORD_NAME), false);
+                if (!Category.isValidName(name)) {
+                    throw new IllegalValueException(Category.MESSAGE_NAME_CONSTRAINTS);
+                }
+                List<XmlAdaptedTag> tags = new ArrayList<>();
+                for (String tagName : splitTags(readString(slot, records.getLong(position + RECORD_TAGS), true))) {
+                    tags.add(new XmlAdaptedTag(tagName));
+                }
+                return new XmlAdaptedCategory(name, tags).toModelType();
+            }
+
+            /**
+             * Returns the task held by {@code slot}.
+             */
+            Task readTask(int slot) throws IllegalValueException {
+                int position = position(slot);
+                int epochDay = records.getInt(position + RECORD_EPOCH_DAY);
+                if (!Date.isValidEpochDay(epochDay)) {
+                    throw new IllegalValueException(Date.MESSAGE_DATE_CONSTRAINTS);
+                }
+                List<XmlAdaptedTag> tags = new ArrayList<>();
+                for (String tagName : splitTags(readString(slot, records.getLong(position + RECORD_TAGS), true))) {
+                    tags.add(new XmlAdaptedTag(tagName));
+                }
+                return new XmlAdaptedTask(readString(slot, records.getLong(position + RECORD_NAME), false),
+                        Date.ofEpochDay(epochDay).value,
+                        Integer.toString(records.getInt(position + RECORD_PRIORITY)),
+                        readString(slot, records.getLong(position + RECORD_VENUE), true),
+                        tags).toModelType();
+            }
+
+            /**
+             * Returns the string {@code reference} refers to, from the record in {@code slot}.
+             */
+            private String readString(int slot, long reference, boolean isShared) throws IllegalValueException {
+                if (isShared && sharedStrings.containsKey(reference)) {
+                    return sharedStrings.get(reference);
+                }
+                long offset = reference >>> 32;
+                int length = (int) reference;
+                if (length < 0 || offset + length > strings.length) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, slot));
+                }
+                String string = new String(strings, (int) offset, length, StandardCharsets.UTF_8);
+                if (isShared) {
+                    sharedStrings.put(reference, string);
+                }
+                return string;
+            }
+
+            private List<String> splitTags(String joinedTags) {
+                return joinedTags.isEmpty() ? new ArrayList<>() : Arrays.asList(joinedTags.split(TAG_SEPARATOR));
+            }
+        }
+    }
+
+    /**
+     * The elements of one list as last saved, and the slot of each of them.
+     */
+    private static class SavedList {
+        private final byte kind;
+        private List<Object> elements = new ArrayList<>();
+        private List<Integer> slots = new ArrayList<>();
+        /** The version of the list last saved by an update, or null if it is not known. */
+        private ListVersion version;
+
+        SavedList(byte kind) {
+            this.kind = kind;
+        }
+
+        /**
+         * Writes every element of {@code list} into a new slot, with evenly spaced order keys.
+         */
+        void writeAll(Store store, List<?> list) throws IOException {
+            version = null;
+            elements = new ArrayList<>(list);
+            slots = new ArrayList<>(list.size());
+            for (int i = 0; i < list.size(); i++) {
+                int slot = store.allocateSlot();
+                store.writeRecord(slot, kind, i * ORDER_KEY_GAP, list.get(i), null);
+                slots.add(slot);
+            }
+        }
+
+        /**
+         * Takes {@code list} as the saved list, finding the slot of each element in {@code slotOfElement}.
+         * Returns false if an element has no slot.
+         */
+        boolean setSaved(List<?> list, Map<Object, Integer> slotOfElement) {
+            version = null;
+            elements = new ArrayList<>(list);
+            slots = new ArrayList<>(list.size());
+            for (Object element : list) {
+                Integer slot = slotOfElement.get(element);
+                if (slot == null) {
+                    return false;
+                }
+                slots.add(slot);
+            }
+            return true;
+        }
+
+        /**
+         * Rewrites the records of the range of the saved list that differs from {@code list}, unless the saved list
+         * has the version {@code listVersion} and so is known to be the same.
+         */
+        void update(Store store, List<?> list, ListVersion listVersion) throws IOException {
+            if (listVersion == version) {
+                return;
+            }
+            rewriteChangedRange(store, list);
+            version = listVersion;
+        }
+
+        /**
+         * Rewrites the records of the range of the saved list that differs from {@code list}.
+         * Elements are compared by identity, as the schedule planner shares every element a change left untouched.
+         */
+        private void rewriteChangedRange(Store store, List<?> list) throws IOException {
+            int maxCommon = Math.min(elements.size(), list.size());
+            int prefix = 0;
+            while (prefix < maxCommon && elements.get(prefix) == list.get(prefix)) {
+                prefix++;
+            }
+            if (prefix == elements.size() && prefix == list.size()) {
+                return;
+            }
+            int suffix = 0;
+            while (suffix < maxCommon - prefix
+                    && elements.get(elements.size() - 1 - suffix) == list.get(list.size() - 1 - suffix)) {
+                suffix++;
+            }
+            int removedCount = elements.size() - prefix - suffix;
+            int addedCount = list.size() - prefix - suffix;
+            int replacedCount = Math.min(removedCount, addedCount);
+
+            // elements replaced one for one keep their slots and order keys
+            List<Integer> newSlots = new ArrayList<>(addedCount);
+            for (int i = 0; i < replacedCount; i++) {
+                int slot = slots.get(prefix + i);
+                store.writeRecord(slot, kind, store.getOrderKey(slot), list.get(prefix + i), elements.get(prefix + i));
+                newSlots.add(slot);
+            }
+            for (int i = replacedCount; i < removedCount; i++) {
+                store.freeSlot(slots.get(prefix + i));
+            }
+
+            int insertedCount = addedCount - replacedCount;
+            long[] orderKeys = new long[insertedCount];
+            boolean hasRoom = insertedCount == 0 || findOrderKeys(store, prefix + replacedCount,
+                    prefix + removedCount, orderKeys);
+            for (int i = 0; i < insertedCount; i++) {
+                int slot = store.allocateSlot();
+                store.writeRecord(slot, kind, orderKeys[i], list.get(prefix + replacedCount + i), null);
+                newSlots.add(slot);
+            }
+
+            List<Integer> replacedSlots = slots.subList(prefix, prefix + removedCount);
+            replacedSlots.clear();
+            replacedSlots.addAll(newSlots);
+            elements = new ArrayList<>(list);
+            if (!hasRoom) {
+                renumber(store);
+            }
+        }
+
+        /**
+         * Fills {@code orderKeys} with increasing keys that fall between the keys of the saved elements before
+         * {@code before} and from {@code after} on. Returns false if there is no room between them.
+         */
+        private boolean findOrderKeys(Store store, int before, int after, long[] orderKeys) {
+            boolean hasPrevious = before > 0;
+            boolean hasNext = after < slots.size();
+            long previous = hasPrevious ? store.getOrderKey(slots.get(before - 1)) : 0;
+            long next = hasNext ? store.getOrderKey(slots.get(after)) : 0;
+            long step = ORDER_KEY_GAP;
+            if (!hasPrevious && hasNext) {
+                previous = next - (orderKeys.length + 1) * ORDER_KEY_GAP;
+            } else if (hasPrevious && hasNext) {
+                step = (next - previous) / (orderKeys.length + 1);
+            }
+            for (int i = 0; i < orderKeys.length; i++) {
+                orderKeys[i] = previous + (i + 1) * step;
+            }
+            return step > 0;
+        }
+
+        /**
+         * Gives the saved elements evenly spaced order keys again.
+         */
+        private void renumber(Store store) {
+            for (int i = 0; i < slots.size(); i++) {
+                store.setOrderKey(slots.get(i), i * ORDER_KEY_GAP);
+            }
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package ssp.scheduleplanner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts the adapted elements read from a file into model elements, in chunks that run in parallel on the
+ * common fork-join pool. The converted elements keep the order of the adapted ones.
+ * A reader adds each element to a {@link Conversion} as soon as it is read, and each full chunk is converted while
+ * the rest of the file is read, so only the chunks still being converted are held as adapted elements.
+ * A list is either converted as a whole, failing at the first element that cannot be converted, or salvaged,
+ * keeping every element that can be converted.
+ */
+final class ParallelConverter {
+
+    public static final String MESSAGE_INVALID_ELEMENT = "%1$s %2$d is invalid: %3$s";
+
+    /** The number of elements converted by one fork-join task; a last, shorter chunk is converted by the reader. */
+    static final int CHUNK_SIZE = 1024;
+    /** The number of chunks that may wait to be converted before the reader waits for the oldest of them. */
+    static final int MAX_PENDING_CHUNKS = Math.max(2, 2 * ForkJoinPool.getCommonPoolParallelism());
+
+    /**
+     * Converts one adapted element into its model element.
+     */
+    @FunctionalInterface
+    interface Converter<A, T> {
+        T convert(A adaptedElement) throws IllegalValueException;
+    }
+
+    private ParallelConverter() {}
+
+    /**
+     * Returns the model elements of {@code adaptedElements}, in the same order.
+     * {@code elementName} names an element in the message of a failed conversion, such as "Task".
+     *
+     * @throws IllegalValueException if an element cannot be converted. The message gives the position of the
+     *     first such element, counted from 1, and the reason it cannot be converted.
+     */
+    static <A, T> List<T> convertAll(List<A> adaptedElements, Converter<A, T> converter, String elementName)
+            throws IllegalValueException {
+        requireNonNull(adaptedElements);
+        requireNonNull(elementName);
+        Conversion<A, T> conversion = startAll(converter);
+        adaptedElements.forEach(conversion::add);
+        return conversion.finish().getElements(elementName);
+    }
+
+    /**
+     * Converts every element of {@code adaptedElements} that can be converted, in a single pass.
+     * Elements that cannot be converted are left out of the conversion rather than failing it, so that the rest of
+     * the elements can be kept.
+     */
+    static <A, T> Conversion<A, T> convertValid(List<A> adaptedElements, Converter<A, T> converter) {
+        requireNonNull(adaptedElements);
+        Conversion<A, T> conversion = startValid(converter);
+        adaptedElements.forEach(conversion::add);
+        return conversion.finish();
+    }
+
+    /**
+     * Returns a conversion of the elements to be added to it that skips the elements after the first one that
+     * cannot be converted, as only the first failure is reported by {@link Conversion#getElements(String)}.
+     */
+    static <A, T> Conversion<A, T> startAll(Converter<A, T> converter) {
+        return new Conversion<>(converter, true);
+    }
+
+    /**
+     * Returns a conversion of the elements to be added to it that converts every element it can.
+     */
+    static <A, T> Conversion<A, T> startValid(Converter<A, T> converter) {
+        return new Conversion<>(converter, false);
+    }
+
+    /**
+     * A conversion of adapted elements that are added one at a time, in order.
+     * Once every element is added, {@link #finish()} waits for the conversion to end; the outcome at each
+     * position, the model element or why the element could not be converted, is then known.
+     */
+    static class Conversion<A, T> {
+        private final Converter<A, T> converter;
+        private final boolean stopAtFailure;
+        /** Every chunk passed to the pool or converted, in order. */
+        private final List<Chunk<A, T>> chunks = new ArrayList<>();
+        /** The chunks passed to the pool that were not known to be converted when last checked, oldest first. */
+        private final Deque<Chunk<A, T>> pendingChunks = new ArrayDeque<>();
+        /** The earliest position at which an element failed to convert, or {@link Integer#MAX_VALUE} if none did. */
+        private final AtomicInteger firstFailurePosition = new AtomicInteger(Integer.MAX_VALUE);
+        /** The chunk that the next added element goes into, or null if that chunk is yet to be started. */
+        private Chunk<A, T> currentChunk;
+        private int size;
+        private boolean isFinished;
+
+        private Conversion(Converter<A, T> converter, boolean stopAtFailure) {
+            this.converter = requireNonNull(converter);
+            this.stopAtFailure = stopAtFailure;
+        }
+
+        /**
+         * Adds {@code adaptedElement} at the next position, and passes its chunk to the pool once the chunk is full.
+         * Waits for the oldest chunk to be converted if too many chunks are waiting.
+         */
+        void add(A adaptedElement) {
+            if (isFinished) {
+                throw new IllegalStateException("Conversion already finished");
+            }
+            if (currentChunk == null) {
+                currentChunk = new Chunk<>(this, size);
+            }
+            currentChunk.adaptedElements.add(adaptedElement);
+            size++;
+            if (currentChunk.adaptedElements.size() == CHUNK_SIZE) {
+                submit(currentChunk);
+                currentChunk = null;
+            }
+        }
+
+        /**
+         * Passes {@code chunk} to the common fork-join pool, after waiting for the oldest pending chunk if there are
+         * already {@link #MAX_PENDING_CHUNKS} of them.
+         */
+        private void submit(Chunk<A, T> chunk) {
+            while (!pendingChunks.isEmpty() && pendingChunks.peekFirst().isDone()) {
+                pendingChunks.removeFirst();
+            }
+            if (pendingChunks.size() >= MAX_PENDING_CHUNKS) {
+                pendingChunks.removeFirst().join();
+            }
+            chunks.add(chunk);
+            pendingChunks.addLast(chunk);
+            ForkJoinPool.commonPool().execute(chunk);
+        }
+
+        /**
+         * Converts the last chunk on the calling thread, waits for the other chunks to be converted, and returns
+         * this conversion. No more elements can be added.
+         */
+        Conversion<A, T> finish() {
+            if (isFinished) {
+                return this;
+            }
+            isFinished = true;
+            if (currentChunk != null) {
+                chunks.add(currentChunk);
+                currentChunk.invoke();
+                currentChunk = null;
+            }
+            while (!pendingChunks.isEmpty()) {
+                pendingChunks.removeFirst().join();
+            }
+            return this;
+        }
+
+        /**
+         * Returns the number of adapted elements added.
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Returns true if the element at {@code position} was converted.
+         */
+        boolean isConverted(int position) {
+            return getFailure(position) == null;
+        }
+
+        /**
+         * Returns the model element of the element at {@code position}, which was converted.
+         */
+        @SuppressWarnings("unchecked")
+        T get(int position) {
+            return (T) getChunk(position).convertedElements[position % CHUNK_SIZE];
+        }
+
+        /**
+         * Returns why the element at {@code position} could not be converted, or null if it was converted.
+         */
+        IllegalValueException getFailure(int position) {
+            Chunk<A, T> chunk = getChunk(position);
+            return chunk.failures == null ? null : chunk.failures[position % CHUNK_SIZE];
+        }
+
+        /**
+         * Returns the adapted element at {@code position}, which could not be converted.
+         */
+        A getFailedElement(int position) {
+            checkFinished();
+            assert !isConverted(position);
+            return getChunk(position).adaptedElements.get(position % CHUNK_SIZE);
+        }
+
+        /**
+         * Returns the model elements, in the order their adapted elements were added.
+         * {@code elementName} names an element in the message of a failed conversion, such as "Task".
+         *
+         * @throws IllegalValueException if an element could not be converted. The message gives the position of
+         *     the first such element, counted from 1, and the reason it could not be converted.
+         */
+        List<T> getElements(String elementName) throws IllegalValueException {
+            requireNonNull(elementName);
+            checkFinished();
+            int position = firstFailurePosition.get();
+            if (position != Integer.MAX_VALUE) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ELEMENT, elementName, position + 1,
+                        getFailure(position).getMessage()));
+            }
+            List<T> elements = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                elements.add(get(i));
+            }
+            return elements;
+        }
+
+        /**
+         * Returns the chunk that holds {@code position}, once the conversion is finished.
+         */
+        private Chunk<A, T> getChunk(int position) {
+            checkFinished();
+            return chunks.get(position / CHUNK_SIZE);
+        }
+
+        private void checkFinished() {
+            if (!isFinished) {
+                throw new IllegalStateException("Conversion not finished");
+            }
+        }
+    }
+
+    /**
+     * Converts up to {@link #CHUNK_SIZE} consecutive adapted elements of a conversion, starting at position
+     * {@code base}. Once converted, the adapted elements are let go unless one of them could not be converted.
+     */
+    private static class Chunk<A, T> extends RecursiveAction {
+        private final Conversion<A, T> conversion;
+        private final int base;
+        private List<A> adaptedElements = new ArrayList<>(CHUNK_SIZE);
+        private Object[] convertedElements;
+        /** Why the element at each position of the chunk could not be converted, or null if all were converted. */
+        private IllegalValueException[] failures;
+
+        Chunk(Conversion<A, T> conversion, int base) {
+            this.conversion = conversion;
+            this.base = base;
+        }
+
+        @Override
+        protected void compute() {
+            convertedElements = new Object[adaptedElements.size()];
+            for (int i = 0; i < convertedElements.length; i++) {
+                if (conversion.stopAtFailure && conversion.firstFailurePosition.get() < base + i) {
+                    break;
+                }
+                try {
+                    convertedElements[i] = conversion.converter.convert(adaptedElements.get(i));
+                } catch (IllegalValueException ive) {
+                    recordFailure(i, ive);
+                }
+            }
+            if (failures == null) {
+                adaptedElements = null;
+            }
+        }
+
+        /**
+         * Records that the element at {@code index} of the chunk could not be converted because of {@code failure}.
+         */
+        private void recordFailure(int index, IllegalValueException failure) {
+            if (failures == null) {
+                failures = new IllegalValueException[convertedElements.length];
+            }
+            failures[index] = failure;
+            conversion.firstFailurePosition.accumulateAndGet(base + index, Math::min);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ssp.scheduleplanner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * The outcome of reading a data file in which some records could not be read: the number of records kept, the
+ * number of records set aside in the quarantine file, and the time taken to read the file.
+ * Guarantees: immutable
+ */
+public class RecoveryReport {
+
+    public static final String MESSAGE_RECOVERY = "Some records of the data file were damaged. "
+            + "%1$d task(s) were recovered; %2$d damaged record(s) were moved to %3$s. (%4$d ms)";
+
+    private final int keptCount;
+    private final int quarantinedCount;
+    private final Path quarantineFilePath;
+    private final long durationMillis;
+
+    public RecoveryReport(int keptCount, int quarantinedCount, Path quarantineFilePath, long durationMillis) {
+        requireNonNull(quarantineFilePath);
+        this.keptCount = keptCount;
+        this.quarantinedCount = quarantinedCount;
+        this.quarantineFilePath = quarantineFilePath;
+        this.durationMillis = durationMillis;
+    }
+
+    public int getKeptCount() {
+        return keptCount;
+    }
+
+    public int getQuarantinedCount() {
+        return quarantinedCount;
+    }
+
+    public Path getQuarantineFilePath() {
+        return quarantineFilePath;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RecoveryReport)) {
+            return false;
+        }
+
+        RecoveryReport otherReport = (RecoveryReport) other;
+        return keptCount == otherReport.keptCount
+                && quarantinedCount == otherReport.quarantinedCount
+                && quarantineFilePath.equals(otherReport.quarantineFilePath)
+                && durationMillis == otherReport.durationMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keptCount, quarantinedCount, quarantineFilePath, durationMillis);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(MESSAGE_RECOVERY, keptCount, quarantinedCount, quarantineFilePath, durationMillis);
+    }
+}
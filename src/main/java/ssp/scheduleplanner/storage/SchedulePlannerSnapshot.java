@@ -0,0 +1,119 @@
+package ssp.scheduleplanner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static ssp.scheduleplanner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import ssp.scheduleplanner.model.ListVersion;
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+import ssp.scheduleplanner.model.category.Category;
+import ssp.scheduleplanner.model.task.Task;
+
+/**
+ * A copy of the lists of a schedule planner as they were when the snapshot was taken.
+ * Tasks and categories are immutable, so only the lists are copied, which makes a snapshot cheap enough to take on
+ * every change and safe to save from another thread.
+ * A snapshot of a schedule planner keeps the versions its lists had, so that a storage can tell which lists
+ * changed between two snapshots without comparing them; a snapshot of plain lists gets versions of its own.
+ * A snapshot taken after an earlier one shares the lists that did not change since, and copies only the others.
+ * Guarantees: immutable.
+ */
+class SchedulePlannerSnapshot implements ReadOnlySchedulePlanner {
+
+    private final ObservableList<Task> tasks;
+    private final ObservableList<Task> archivedTasks;
+    private final ObservableList<Category> categories;
+    private final ListVersion taskListVersion;
+    private final ListVersion archivedTaskListVersion;
+    private final ListVersion categoryListVersion;
+
+    SchedulePlannerSnapshot(ReadOnlySchedulePlanner schedulePlanner) {
+        this(copyOf(schedulePlanner.getCategoryList()), copyOf(schedulePlanner.getTaskList()),
+                copyOf(schedulePlanner.getArchivedTaskList()), schedulePlanner.getCategoryListVersion(),
+                schedulePlanner.getTaskListVersion(), schedulePlanner.getArchivedTaskListVersion());
+    }
+
+    SchedulePlannerSnapshot(List<Category> categories, List<Task> tasks, List<Task> archivedTasks) {
+        this(copyOf(categories), copyOf(tasks), copyOf(archivedTasks), new ListVersion(), new ListVersion(),
+                new ListVersion());
+    }
+
+    /**
+     * Creates a snapshot of the given copies of the lists, which must not be changed afterwards.
+     */
+    private SchedulePlannerSnapshot(ObservableList<Category> categories, ObservableList<Task> tasks,
+                                    ObservableList<Task> archivedTasks, ListVersion categoryListVersion,
+                                    ListVersion taskListVersion, ListVersion archivedTaskListVersion) {
+        requireAllNonNull(categories, tasks, archivedTasks, categoryListVersion, taskListVersion,
+                archivedTaskListVersion);
+        this.tasks = tasks;
+        this.archivedTasks = archivedTasks;
+        this.categories = categories;
+        this.taskListVersion = taskListVersion;
+        this.archivedTaskListVersion = archivedTaskListVersion;
+        this.categoryListVersion = categoryListVersion;
+    }
+
+    /**
+     * Returns a snapshot of {@code schedulePlanner} that shares with {@code previous} the lists whose version is the
+     * same in both, so that only the lists that changed are copied.
+     * @param previous an earlier snapshot, or null if there is none.
+     */
+    static SchedulePlannerSnapshot of(ReadOnlySchedulePlanner schedulePlanner, SchedulePlannerSnapshot previous) {
+        if (previous == null) {
+            return new SchedulePlannerSnapshot(schedulePlanner);
+        }
+        ListVersion categoryListVersion = schedulePlanner.getCategoryListVersion();
+        ListVersion taskListVersion = schedulePlanner.getTaskListVersion();
+        ListVersion archivedTaskListVersion = schedulePlanner.getArchivedTaskListVersion();
+        return new SchedulePlannerSnapshot(
+                categoryListVersion == previous.categoryListVersion
+                        ? previous.categories : copyOf(schedulePlanner.getCategoryList()),
+                taskListVersion == previous.taskListVersion
+                        ? previous.tasks : copyOf(schedulePlanner.getTaskList()),
+                archivedTaskListVersion == previous.archivedTaskListVersion
+                        ? previous.archivedTasks : copyOf(schedulePlanner.getArchivedTaskList()),
+                categoryListVersion, taskListVersion, archivedTaskListVersion);
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code list}.
+     */
+    private static <T> ObservableList<T> copyOf(List<T> list) {
+        requireNonNull(list);
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return tasks;
+    }
+
+    @Override
+    public ObservableList<Task> getArchivedTaskList() {
+        return archivedTasks;
+    }
+
+    @Override
+    public ObservableList<Category> getCategoryList() {
+        return categories;
+    }
+
+    @Override
+    public ListVersion getTaskListVersion() {
+        return taskListVersion;
+    }
+
+    @Override
+    public ListVersion getArchivedTaskListVersion() {
+        return archivedTaskListVersion;
+    }
+
+    @Override
+    public ListVersion getCategoryListVersion() {
+        return categoryListVersion;
+    }
+}
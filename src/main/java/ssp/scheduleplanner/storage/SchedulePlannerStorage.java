@@ -18,6 +18,12 @@ public interface SchedulePlannerStorage {
      */
     Path getSchedulePlannerFilePath();
 
+    /**
+     * Returns what was recovered when the data was last read, if some records could not be read and were set aside
+     * instead.
+     */
+    Optional<RecoveryReport> getRecoveryReport();
+
     /**
      * Returns SchedulePlanner data as a {@link ReadOnlySchedulePlanner}.
      *   Returns {@code Optional.empty()} if storage file is not found.
@@ -0,0 +1,96 @@
+package ssp.scheduleplanner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import ssp.scheduleplanner.commons.core.LogsCenter;
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
+import ssp.scheduleplanner.commons.util.FileUtil;
+import ssp.scheduleplanner.commons.util.StringUtil;
+import ssp.scheduleplanner.model.rangeofweek.SemesterCalendar;
+import ssp.scheduleplanner.model.task.Date;
+
+/**
+ * Reads and writes the semester calendar kept in an XML file, reading the file at most once.
+ * The calendar read is kept in memory, and replaced whenever a calendar is saved.
+ * A file that is missing or holds no valid calendar is replaced with the calendar of the semester starting on
+ * {@link #DEFAULT_FIRST_DAY}.
+ */
+public class SemesterCalendarStorage {
+
+    public static final Path DEFAULT_FILE_PATH = Paths.get("rangeofweek.xml");
+    public static final String DEFAULT_FIRST_DAY = "010118";
+
+    private static final Logger logger = LogsCenter.getLogger(SemesterCalendarStorage.class);
+    private static final SemesterCalendarStorage instance = new SemesterCalendarStorage(DEFAULT_FILE_PATH);
+
+    private final Path filePath;
+    private SemesterCalendar semesterCalendar;
+
+    public SemesterCalendarStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the storage of the semester calendar of the application, kept in {@link #DEFAULT_FILE_PATH}.
+     */
+    public static SemesterCalendarStorage getInstance() {
+        return instance;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the semester calendar in the file, reading the file only the first time.
+     */
+    public synchronized SemesterCalendar getSemesterCalendar() {
+        if (semesterCalendar == null) {
+            semesterCalendar = readSemesterCalendar();
+        }
+        return semesterCalendar;
+    }
+
+    /**
+     * Saves {@code calendar} to the file, and keeps it as the semester calendar.
+     */
+    public synchronized void saveSemesterCalendar(SemesterCalendar calendar) throws IOException {
+        requireNonNull(calendar);
+        FileUtil.createIfMissing(filePath);
+        XmlFileStorage.saveWeekDataToFile(filePath, new XmlSerializableRangeOfWeek(calendar));
+        semesterCalendar = calendar;
+    }
+
+    /**
+     * Reads and checks the file in a single pass, replacing it with the default calendar if it is missing or holds
+     * no valid calendar.
+     */
+    private SemesterCalendar readSemesterCalendar() {
+        try {
+            return XmlFileStorage.loadWeekDataFromSaveFile(filePath).toModelType();
+        } catch (FileNotFoundException e) {
+            logger.info(filePath + " data file not found. Will be starting with a default " + filePath);
+        } catch (DataConversionException e) {
+            logger.warning(filePath + " data file unable to convert. Will be starting with a default " + filePath);
+        } catch (IllegalValueException e) {
+            logger.warning(filePath + " data file is invalid: " + e.getMessage()
+                    + " Will be starting with a default " + filePath);
+        }
+
+        SemesterCalendar defaultCalendar = SemesterCalendar.startingOn(Date.of(DEFAULT_FIRST_DAY));
+        try {
+            saveSemesterCalendar(defaultCalendar);
+        } catch (IOException e) {
+            logger.warning("Failed to save " + filePath + " : " + StringUtil.getDetails(e));
+        }
+        return defaultCalendar;
+    }
+}
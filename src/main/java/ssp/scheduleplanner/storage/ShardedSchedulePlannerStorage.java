@@ -0,0 +1,629 @@
+package ssp.scheduleplanner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import ssp.scheduleplanner.commons.core.LogsCenter;
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
+import ssp.scheduleplanner.commons.util.StringUtil;
+import ssp.scheduleplanner.model.DeferredTaskLoader;
+import ssp.scheduleplanner.model.ListVersion;
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.category.Category;
+import ssp.scheduleplanner.model.task.Date;
+import ssp.scheduleplanner.model.task.Task;
+
+/**
+ * A class to access SchedulePlanner data stored in a directory with one file per calendar month.
+ *
+ * The categories are kept in one file, and the tasks and archived tasks of each month, going by their dates, in a
+ * file named after the month, such as {@code 1812.sspb} for December 2018. The files are in the binary format.
+ * Tasks are read back grouped by month, in their saved order within each month.
+ * A save to the default directory rewrites only the files whose content changed since they were last read or
+ * written. Lists whose version is the same as when they were last written are known to be unchanged, and are
+ * not compared at all, so a change to the categories alone costs the same whatever the number of tasks.
+ *
+ * A storage created with a date reads only the months around that date from the default directory, and loads
+ * the other months when they are asked for as a {@link DeferredTaskLoader}. The months can be read ahead one at a
+ * time, nearest to that date first; a month read ahead counts as loaded only once its tasks are returned.
+ * A default directory that could not be read is never rewritten in place: the first save copies its files to the
+ * directory given by {@link BackupSchedulePlannerStorage#getCorruptFilePath(Path)} before it writes new ones.
+ * Likewise, the file of a month that could not be read is left as it is until tasks dated in that month are saved;
+ * it is then copied to the path given by {@link BackupSchedulePlannerStorage#getCorruptFilePath(Path)} and replaced.
+ */
+public class ShardedSchedulePlannerStorage implements SchedulePlannerStorage, DeferredTaskLoader {
+
+    public static final String CATEGORY_FILE_NAME = "categories" + StorageFormat.BINARY.getFileExtension();
+    public static final String MESSAGE_TASK_IN_WRONG_MONTH = "Task %1$s is dated outside the month of its file.";
+    /** The number of months before and after the month of the given date that are read at first. */
+    public static final int EAGER_MONTHS_AROUND = 1;
+
+    private static final Pattern MONTH_FILE_NAME_PATTERN =
+            Pattern.compile("\\d{4}" + Pattern.quote(StorageFormat.BINARY.getFileExtension()));
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedSchedulePlannerStorage.class);
+
+    private final Path directoryPath;
+    private final int firstEagerMonth;
+    private final int lastEagerMonth;
+
+    /** The months with a file in the default directory, or null if the directory has not been read or written. */
+    private NavigableSet<Integer> storedMonths;
+    /** The content of each month of the default directory that has been loaded, as last read or written. */
+    private final Map<Integer, Shard> loadedShards = new HashMap<>();
+    /** The content of each month of the default directory that has been read ahead but not loaded yet. */
+    private final Map<Integer, Shard> readAheadShards = new HashMap<>();
+    /** The months of the default directory whose file could not be loaded; they are never written. */
+    private final Set<Integer> unreadableMonths = new HashSet<>();
+    private List<Category> savedCategories;
+    /** True if the last read of the default directory failed, so that its content is not known. */
+    private boolean isDefaultDirectoryUnreadable;
+    /** The versions of the lists last written to the default directory, or null if none were written since. */
+    private ListVersion savedCategoryListVersion;
+    private ListVersion savedTaskListVersion;
+    private ListVersion savedArchivedTaskListVersion;
+
+    /**
+     * Creates a storage that reads every month of {@code directoryPath} at once.
+     */
+    public ShardedSchedulePlannerStorage(Path directoryPath) {
+        this.directoryPath = directoryPath;
+        firstEagerMonth = Integer.MIN_VALUE;
+        lastEagerMonth = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Creates a storage that reads only the month of {@code today} and the {@link #EAGER_MONTHS_AROUND} months
+     * before and after it from {@code directoryPath} at first.
+     */
+    public ShardedSchedulePlannerStorage(Path directoryPath, Date today) {
+        requireNonNull(today);
+        this.directoryPath = directoryPath;
+        LocalDate localToday = LocalDate.ofEpochDay(today.getEpochDay());
+        firstEagerMonth = toMonth(localToday.minusMonths(EAGER_MONTHS_AROUND));
+        lastEagerMonth = toMonth(localToday.plusMonths(EAGER_MONTHS_AROUND));
+    }
+
+    @Override
+    public Path getSchedulePlannerFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<RecoveryReport> getRecoveryReport() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the month of {@code date} as its two digit year followed by its two digit month.
+     */
+    static int toMonth(Date date) {
+        return date.yymmdd / 100;
+    }
+
+    /**
+     * Returns the month of {@code date} as in {@link #toMonth(Date)}, extended to dates outside the 21st century.
+     */
+    private static int toMonth(LocalDate date) {
+        return (date.getYear() - 2000) * 100 + date.getMonthValue();
+    }
+
+    /**
+     * Returns the path of the file holding the tasks of {@code month} in {@code directoryPath}.
+     */
+    static Path getMonthFilePath(Path directoryPath, int month) {
+        return directoryPath.resolve(String.format("%04d", month) + StorageFormat.BINARY.getFileExtension());
+    }
+
+    @Override
+    public Optional<ReadOnlySchedulePlanner> readSchedulePlanner() throws DataConversionException, IOException {
+        return readSchedulePlanner(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readSchedulePlanner()}
+     * Only the default directory is read in part; other directories are read in full.
+     * @param directoryPath location of the data directory. Cannot be null
+     * @throws DataConversionException if a file of the directory is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlySchedulePlanner> readSchedulePlanner(Path directoryPath)
+            throws DataConversionException, IOException {
+        requireNonNull(directoryPath);
+        boolean isDefaultDirectory = directoryPath.equals(this.directoryPath);
+        if (isDefaultDirectory) {
+            forgetDirectory();
+        }
+
+        if (!Files.isDirectory(directoryPath)) {
+            logger.info("SchedulePlanner directory " + directoryPath + " not found");
+            return Optional.empty();
+        }
+
+        isDefaultDirectoryUnreadable = isDefaultDirectory;
+        NavigableSet<Integer> months = listMonths(directoryPath);
+        List<Category> categories = readCategories(directoryPath);
+        Map<Integer, Shard> shards = new TreeMap<>();
+        for (int month : isDefaultDirectory ? months.subSet(firstEagerMonth, true, lastEagerMonth, true) : months) {
+            shards.put(month, readShard(directoryPath, month));
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        List<Task> archivedTasks = new ArrayList<>();
+        shards.values().forEach(shard -> {
+            tasks.addAll(shard.tasks);
+            archivedTasks.addAll(shard.archivedTasks);
+        });
+        SchedulePlanner schedulePlanner;
+        try {
+            schedulePlanner = XmlSerializableSchedulePlanner.toSchedulePlanner(categories, tasks, archivedTasks);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (isDefaultDirectory) {
+            isDefaultDirectoryUnreadable = false;
+            storedMonths = months;
+            loadedShards.putAll(shards);
+            savedCategories = categories;
+            logger.info("Read " + shards.size() + " of " + months.size() + " months from " + directoryPath);
+        }
+        return Optional.of(schedulePlanner);
+    }
+
+    @Override
+    public void saveSchedulePlanner(ReadOnlySchedulePlanner schedulePlanner) throws IOException {
+        saveSchedulePlanner(schedulePlanner, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveSchedulePlanner(ReadOnlySchedulePlanner)}
+     * Saves to a directory other than the default one rewrite every file of the directory.
+     * @param directoryPath location of the data directory. Cannot be null
+     */
+    @Override
+    public synchronized void saveSchedulePlanner(ReadOnlySchedulePlanner schedulePlanner, Path directoryPath)
+            throws IOException {
+        requireNonNull(schedulePlanner);
+        requireNonNull(directoryPath);
+
+        if (!directoryPath.equals(this.directoryPath) || storedMonths == null) {
+            Map<Integer, Shard> shards = splitIntoMonths(schedulePlanner);
+            if (directoryPath.equals(this.directoryPath) && isDefaultDirectoryUnreadable) {
+                keepUnreadableDirectory();
+                isDefaultDirectoryUnreadable = false;
+            }
+            writeDirectory(directoryPath, schedulePlanner.getCategoryList(), shards);
+            if (directoryPath.equals(this.directoryPath)) {
+                forgetDirectory();
+                storedMonths = new TreeSet<>(shards.keySet());
+                loadedShards.putAll(shards);
+                savedCategories = new ArrayList<>(schedulePlanner.getCategoryList());
+                rememberVersions(schedulePlanner);
+            }
+            return;
+        }
+
+        if (schedulePlanner.getCategoryListVersion() != savedCategoryListVersion
+                && !isSameElements(savedCategories, schedulePlanner.getCategoryList())) {
+            writeCategories(directoryPath, schedulePlanner.getCategoryList());
+            savedCategories = new ArrayList<>(schedulePlanner.getCategoryList());
+        }
+        if (schedulePlanner.getTaskListVersion() != savedTaskListVersion
+                || schedulePlanner.getArchivedTaskListVersion() != savedArchivedTaskListVersion) {
+            writeChangedShards(directoryPath, splitIntoMonths(schedulePlanner));
+        }
+        rememberVersions(schedulePlanner);
+    }
+
+    /**
+     * Rewrites the files of the default directory {@code directoryPath} whose month in {@code shards} differs from
+     * the month as last read or written.
+     */
+    private void writeChangedShards(Path directoryPath, Map<Integer, Shard> shards) throws IOException {
+        Set<Integer> months = new TreeSet<>(loadedShards.keySet());
+        months.addAll(shards.keySet());
+        for (int month : months) {
+            Shard shard = shards.getOrDefault(month, Shard.EMPTY);
+            if (unreadableMonths.contains(month)) {
+                if (shard.isEmpty()) {
+                    continue;
+                }
+                keepUnreadableMonth(month);
+                unreadableMonths.remove(month);
+                loadedShards.put(month, Shard.EMPTY);
+            }
+            if (!loadedShards.containsKey(month) && storedMonths.contains(month)) {
+                throw new IOException("Tasks of month " + month + " were changed before the month was loaded");
+            }
+            if (shard.isSameAs(loadedShards.get(month))) {
+                continue;
+            }
+            writeShard(directoryPath, month, shard);
+            loadedShards.put(month, shard);
+            if (shard.isEmpty()) {
+                storedMonths.remove(month);
+            } else {
+                storedMonths.add(month);
+            }
+        }
+    }
+
+    /**
+     * Remembers the versions of the lists of {@code schedulePlanner} as the ones last written.
+     */
+    private void rememberVersions(ReadOnlySchedulePlanner schedulePlanner) {
+        savedCategoryListVersion = schedulePlanner.getCategoryListVersion();
+        savedTaskListVersion = schedulePlanner.getTaskListVersion();
+        savedArchivedTaskListVersion = schedulePlanner.getArchivedTaskListVersion();
+    }
+
+    @Override
+    public synchronized boolean isFullyLoaded() {
+        if (storedMonths == null) {
+            return true;
+        }
+        return storedMonths.stream().allMatch(this::isMonthLoaded);
+    }
+
+    @Override
+    public synchronized boolean isLoaded(Date start, Date end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        if (storedMonths == null || toMonth(start) > toMonth(end)) {
+            return true;
+        }
+        return storedMonths.subSet(toMonth(start), true, toMonth(end), true).stream().allMatch(this::isMonthLoaded);
+    }
+
+    @Override
+    public synchronized ReadOnlySchedulePlanner loadReadAheadTasks() {
+        return loadMonths(new TreeSet<>(readAheadShards.keySet()));
+    }
+
+    /**
+     * Reads ahead the month of the default directory nearest to the months read at first that is neither loaded
+     * nor read ahead yet.
+     * A month whose file cannot be read is left out, and is not written by later saves.
+     */
+    @Override
+    public synchronized boolean readAheadNextPart() {
+        if (storedMonths == null) {
+            return false;
+        }
+        Optional<Integer> nearestMonth = storedMonths.stream()
+                .filter(this::isUnread)
+                .min(Comparator.comparingLong(this::getDistanceFromEagerMonths));
+        if (!nearestMonth.isPresent()) {
+            return false;
+        }
+        int month = nearestMonth.get();
+        try {
+            readAheadShards.put(month, readShard(directoryPath, month));
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Unable to load the tasks of month " + month + ": " + StringUtil.getDetails(e));
+            unreadableMonths.add(month);
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized int countUnreadParts() {
+        if (storedMonths == null) {
+            return 0;
+        }
+        return (int) storedMonths.stream().filter(this::isUnread).count();
+    }
+
+    /**
+     * Returns true if {@code month} of the default directory has no tasks left to load: it is either loaded or
+     * unreadable.
+     */
+    private boolean isMonthLoaded(int month) {
+        return loadedShards.containsKey(month) || unreadableMonths.contains(month);
+    }
+
+    /**
+     * Returns true if {@code month} of the default directory is neither loaded, read ahead nor unreadable.
+     */
+    private boolean isUnread(int month) {
+        return !loadedShards.containsKey(month) && !readAheadShards.containsKey(month)
+                && !unreadableMonths.contains(month);
+    }
+
+    /**
+     * Returns the number of months between {@code month} and the nearest month read at first.
+     */
+    private long getDistanceFromEagerMonths(int month) {
+        if (month < firstEagerMonth) {
+            return toMonthCount(firstEagerMonth) - toMonthCount(month);
+        }
+        if (month > lastEagerMonth) {
+            return toMonthCount(month) - toMonthCount(lastEagerMonth);
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the number of months from January 2000 to {@code month}.
+     */
+    private static long toMonthCount(int month) {
+        return Math.floorDiv(month, 100) * 12L + Math.floorMod(month, 100) - 1;
+    }
+
+    /**
+     * Returns the tasks of the months of the default directory from the month of {@code start} to the month of
+     * {@code end} that have not been loaded yet.
+     * Months whose file cannot be read are left out, and are not written by later saves.
+     */
+    @Override
+    public synchronized ReadOnlySchedulePlanner loadTasksInDateRange(Date start, Date end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        if (storedMonths == null || toMonth(start) > toMonth(end)) {
+            return new SchedulePlannerSnapshot(Collections.emptyList(), Collections.emptyList(),
+                    Collections.emptyList());
+        }
+        return loadMonths(storedMonths.subSet(toMonth(start), true, toMonth(end), true));
+    }
+
+    /**
+     * Returns the tasks of every month of the default directory that has not been loaded yet.
+     * Months whose file cannot be read are left out, and are not written by later saves.
+     */
+    @Override
+    public synchronized ReadOnlySchedulePlanner loadAllTasks() {
+        if (storedMonths == null) {
+            return new SchedulePlannerSnapshot(Collections.emptyList(), Collections.emptyList(),
+                    Collections.emptyList());
+        }
+        return loadMonths(storedMonths);
+    }
+
+    /**
+     * Loads the months among {@code months} that have not been loaded yet, and returns their tasks.
+     * Months that were read ahead are not read again.
+     */
+    private ReadOnlySchedulePlanner loadMonths(Set<Integer> months) {
+        List<Task> tasks = new ArrayList<>();
+        List<Task> archivedTasks = new ArrayList<>();
+        for (int month : months) {
+            if (loadedShards.containsKey(month) || unreadableMonths.contains(month)) {
+                continue;
+            }
+            try {
+                Shard shard = readAheadShards.containsKey(month)
+                        ? readAheadShards.remove(month)
+                        : readShard(directoryPath, month);
+                loadedShards.put(month, shard);
+                tasks.addAll(shard.tasks);
+                archivedTasks.addAll(shard.archivedTasks);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Unable to load the tasks of month " + month + ": " + StringUtil.getDetails(e));
+                unreadableMonths.add(month);
+            }
+        }
+        return new SchedulePlannerSnapshot(Collections.emptyList(), tasks, archivedTasks);
+    }
+
+    /**
+     * Copies the files of the default directory, which could not be read, to the directory given by
+     * {@link BackupSchedulePlannerStorage#getCorruptFilePath(Path)}, so that writing the directory does not lose them.
+     */
+    private void keepUnreadableDirectory() throws IOException {
+        Path corruptDirectoryPath = BackupSchedulePlannerStorage.getCorruptFilePath(directoryPath);
+        Files.createDirectories(corruptDirectoryPath);
+        List<Path> files;
+        try (Stream<Path> directoryFiles = Files.list(directoryPath)) {
+            files = directoryFiles.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            Files.copy(file, corruptDirectoryPath.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        }
+        logger.warning("Replacing " + directoryPath + ", which could not be read; its files are kept in "
+                + corruptDirectoryPath);
+    }
+
+    /**
+     * Copies the file of {@code month} in the default directory, which could not be read, to the path given by
+     * {@link BackupSchedulePlannerStorage#getCorruptFilePath(Path)}, so that writing the month does not lose it.
+     */
+    private void keepUnreadableMonth(int month) throws IOException {
+        Path monthFilePath = getMonthFilePath(directoryPath, month);
+        Path corruptFilePath = BackupSchedulePlannerStorage.getCorruptFilePath(monthFilePath);
+        Files.copy(monthFilePath, corruptFilePath, StandardCopyOption.REPLACE_EXISTING);
+        logger.warning("Replacing " + monthFilePath + ", which could not be read; it is kept in " + corruptFilePath);
+    }
+
+    /**
+     * Forgets what is known of the default directory, so that the next save writes it in full.
+     */
+    private void forgetDirectory() {
+        storedMonths = null;
+        loadedShards.clear();
+        readAheadShards.clear();
+        unreadableMonths.clear();
+        savedCategories = null;
+        savedCategoryListVersion = null;
+        savedTaskListVersion = null;
+        savedArchivedTaskListVersion = null;
+    }
+
+    /**
+     * Returns the months that have a file in {@code directoryPath}.
+     */
+    private static NavigableSet<Integer> listMonths(Path directoryPath) throws IOException {
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> MONTH_FILE_NAME_PATTERN.matcher(fileName).matches())
+                    .map(fileName -> Integer.parseInt(fileName.substring(0, 4)))
+                    .collect(Collectors.toCollection(TreeSet::new));
+        }
+    }
+
+    /**
+     * Returns the categories saved in {@code directoryPath}, or none if they were not saved.
+     */
+    private static List<Category> readCategories(Path directoryPath) throws DataConversionException, IOException {
+        Optional<ReadOnlySchedulePlanner> categoryData =
+                new BinarySchedulePlannerStorage(directoryPath.resolve(CATEGORY_FILE_NAME)).readSchedulePlanner();
+        return categoryData.isPresent() ? new ArrayList<>(categoryData.get().getCategoryList()) : new ArrayList<>();
+    }
+
+    /**
+     * Reads the tasks of {@code month} from {@code directoryPath}.
+     * @throws DataConversionException if the file is not in the correct format, or holds tasks of another month.
+     */
+    private static Shard readShard(Path directoryPath, int month) throws DataConversionException, IOException {
+        Optional<ReadOnlySchedulePlanner> monthData =
+                new BinarySchedulePlannerStorage(getMonthFilePath(directoryPath, month)).readSchedulePlanner();
+        if (!monthData.isPresent()) {
+            return Shard.EMPTY;
+        }
+        Shard shard = new Shard(monthData.get().getTaskList(), monthData.get().getArchivedTaskList());
+        for (Task task : shard.getAllTasks()) {
+            if (toMonth(task.getDate()) != month) {
+                throw new DataConversionException(new IllegalValueException(
+                        String.format(MESSAGE_TASK_IN_WRONG_MONTH, task.getName())));
+            }
+        }
+        return shard;
+    }
+
+    /**
+     * Writes every file of {@code directoryPath}, and deletes the files of months that have no tasks.
+     */
+    private static void writeDirectory(Path directoryPath, List<Category> categories, Map<Integer, Shard> shards)
+            throws IOException {
+        Files.createDirectories(directoryPath);
+        writeCategories(directoryPath, categories);
+        for (Map.Entry<Integer, Shard> entry : shards.entrySet()) {
+            writeShard(directoryPath, entry.getKey(), entry.getValue());
+        }
+        for (int month : listMonths(directoryPath)) {
+            if (!shards.containsKey(month)) {
+                Files.delete(getMonthFilePath(directoryPath, month));
+            }
+        }
+    }
+
+    private static void writeCategories(Path directoryPath, List<Category> categories) throws IOException {
+        new BinarySchedulePlannerStorage(directoryPath.resolve(CATEGORY_FILE_NAME)).saveSchedulePlanner(
+                new SchedulePlannerSnapshot(categories, Collections.emptyList(), Collections.emptyList()));
+    }
+
+    /**
+     * Writes the tasks of {@code month} to {@code directoryPath}, or deletes the file of the month if it has none.
+     */
+    private static void writeShard(Path directoryPath, int month, Shard shard) throws IOException {
+        Path monthFilePath = getMonthFilePath(directoryPath, month);
+        if (shard.isEmpty()) {
+            Files.deleteIfExists(monthFilePath);
+            return;
+        }
+        new BinarySchedulePlannerStorage(monthFilePath).saveSchedulePlanner(
+                new SchedulePlannerSnapshot(Collections.emptyList(), shard.tasks, shard.archivedTasks));
+    }
+
+    /**
+     * Returns the tasks and archived tasks of {@code schedulePlanner} by month, in their order within each month.
+     */
+    private static Map<Integer, Shard> splitIntoMonths(ReadOnlySchedulePlanner schedulePlanner) {
+        Map<Integer, List<Task>> tasks = groupByMonth(schedulePlanner.getTaskList());
+        Map<Integer, List<Task>> archivedTasks = groupByMonth(schedulePlanner.getArchivedTaskList());
+        Set<Integer> months = new TreeSet<>(tasks.keySet());
+        months.addAll(archivedTasks.keySet());
+        Map<Integer, Shard> shards = new TreeMap<>();
+        for (int month : months) {
+            shards.put(month, new Shard(tasks.getOrDefault(month, Collections.emptyList()),
+                    archivedTasks.getOrDefault(month, Collections.emptyList())));
+        }
+        return shards;
+    }
+
+    /**
+     * Returns {@code tasks} by month, in their order within each month.
+     */
+    private static Map<Integer, List<Task>> groupByMonth(List<Task> tasks) {
+        Map<Integer, List<Task>> tasksByMonth = new HashMap<>();
+        for (Task task : tasks) {
+            tasksByMonth.computeIfAbsent(toMonth(task.getDate()), unused -> new ArrayList<>()).add(task);
+        }
+        return tasksByMonth;
+    }
+
+    /**
+     * Returns true if {@code list} and {@code otherList} hold the very same elements in the same order.
+     * Elements are compared by identity, as the schedule planner shares every element a change left untouched.
+     */
+    private static boolean isSameElements(List<?> list, List<?> otherList) {
+        if (list.size() != otherList.size()) {
+            return false;
+        }
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) != otherList.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The tasks and archived tasks of one month.
+     */
+    private static class Shard {
+        static final Shard EMPTY = new Shard(Collections.emptyList(), Collections.emptyList());
+
+        private final List<Task> tasks;
+        private final List<Task> archivedTasks;
+
+        Shard(List<Task> tasks, List<Task> archivedTasks) {
+            this.tasks = new ArrayList<>(tasks);
+            this.archivedTasks = new ArrayList<>(archivedTasks);
+        }
+
+        boolean isEmpty() {
+            return tasks.isEmpty() && archivedTasks.isEmpty();
+        }
+
+        List<Task> getAllTasks() {
+            List<Task> allTasks = new ArrayList<>(tasks);
+            allTasks.addAll(archivedTasks);
+            return allTasks;
+        }
+
+        /**
+         * Returns true if {@code other} holds the very same tasks, or if both are empty.
+         */
+        boolean isSameAs(Shard other) {
+            if (other == null) {
+                return isEmpty();
+            }
+            return isSameElements(tasks, other.tasks) && isSameElements(archivedTasks, other.archivedTasks);
+        }
+    }
+}
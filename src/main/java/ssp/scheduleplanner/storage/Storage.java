@@ -7,6 +7,7 @@ import java.util.Optional;
 import ssp.scheduleplanner.commons.events.model.SchedulePlannerChangedEvent;
 import ssp.scheduleplanner.commons.events.storage.DataSavingExceptionEvent;
 import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.model.DeferredTaskLoader;
 import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
 import ssp.scheduleplanner.model.UserPrefs;
 
@@ -36,4 +37,16 @@ public interface Storage extends SchedulePlannerStorage, UserPrefsStorage {
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleSchedulePlannerChangedEvent(SchedulePlannerChangedEvent abce);
+
+    /**
+     * Saves the changes to the Schedule Planner that are still waiting to be saved, and returns once they are written.
+     * Does nothing if changes are saved as soon as they are made.
+     */
+    void flushSchedulePlanner();
+
+    /**
+     * Returns the loader of the tasks left out of the Schedule Planner read from the hard disk, if the data file
+     * is read in part.
+     */
+    Optional<DeferredTaskLoader> getDeferredTaskLoader();
 }
@@ -0,0 +1,135 @@
+package ssp.scheduleplanner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+import ssp.scheduleplanner.model.task.Date;
+
+/**
+ * The formats SchedulePlanner data can be stored in, each known by the extension of its data file.
+ */
+public enum StorageFormat {
+    XML(".xml"),
+    COMPRESSED_XML(".xml.gz"),
+    BINARY(".sspb"),
+    JSON(".json"),
+    MAPPED(".sspm"),
+    SHARDED(".shards");
+
+    private final String fileExtension;
+
+    StorageFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format of the data file at {@code filePath}, going by its extension.
+     * Files with an unknown extension are taken to be xml files.
+     */
+    public static StorageFormat fromFilePath(Path filePath) {
+        requireNonNull(filePath);
+        for (StorageFormat format : values()) {
+            if (format.isFormatOf(filePath)) {
+                return format;
+            }
+        }
+        return XML;
+    }
+
+    /**
+     * Returns a storage for data files of this format, with {@code filePath} as the default data file.
+     */
+    public SchedulePlannerStorage createStorage(Path filePath) {
+        requireNonNull(filePath);
+        switch (this) {
+        case BINARY:
+            return new BinarySchedulePlannerStorage(filePath);
+        case JSON:
+            return new JsonSchedulePlannerStorage(filePath);
+        case MAPPED:
+            return new MappedSchedulePlannerStorage(filePath);
+        case SHARDED:
+            return new ShardedSchedulePlannerStorage(filePath);
+        case COMPRESSED_XML:
+            return new XmlSchedulePlannerStorage(filePath, XmlSchedulePlannerStorage.DEFAULT_COMPRESSION_LEVEL);
+        default:
+            return new XmlSchedulePlannerStorage(filePath, XmlSchedulePlannerStorage.Mode.STREAMING);
+        }
+    }
+
+    /**
+     * Returns a storage for data files of this format that writes only the changes of each save to
+     * {@code filePath}, the default data file.
+     * Record files are updated in place and directories of month files rewrite only the months that changed;
+     * files of other formats are kept with a journal of saves, and with backup generations of their checkpoint that
+     * are read instead of a checkpoint that cannot be read.
+     */
+    public SchedulePlannerStorage createIncrementalStorage(Path filePath) {
+        SchedulePlannerStorage storage = createStorage(filePath);
+        return this == MAPPED || this == SHARDED
+                ? storage
+                : new JournalSchedulePlannerStorage(new BackupSchedulePlannerStorage(storage));
+    }
+
+    /**
+     * Similar to {@link #createIncrementalStorage(Path)}, but a directory of month files is read only around the
+     * month of {@code today} at first, leaving the other months to be loaded when they are needed.
+     */
+    public SchedulePlannerStorage createIncrementalStorage(Path filePath, Date today) {
+        requireNonNull(filePath);
+        return this == SHARDED
+                ? new ShardedSchedulePlannerStorage(filePath, today)
+                : createIncrementalStorage(filePath);
+    }
+
+    /**
+     * Writes the data in {@code source} to {@code target}, each in the format given by its extension.
+     * Saves journalled on top of {@code source} are included.
+     *
+     * @throws FileNotFoundException if {@code source} does not exist.
+     * @throws DataConversionException if {@code source} is not in the format given by its extension.
+     */
+    public static void convert(Path source, Path target) throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        ReadOnlySchedulePlanner data = fromFilePath(source).createIncrementalStorage(source)
+                .readSchedulePlanner(source)
+                .orElseThrow(() -> new FileNotFoundException("File not found : " + source.toAbsolutePath()));
+        fromFilePath(target).createIncrementalStorage(target).saveSchedulePlanner(data, target);
+    }
+
+    /**
+     * Returns an existing data file that has the same name as {@code filePath} but is in another format, if any.
+     */
+    public static Optional<Path> findFileInOtherFormat(Path filePath) {
+        requireNonNull(filePath);
+        StorageFormat format = fromFilePath(filePath);
+        String fileName = filePath.getFileName().toString();
+        String baseName = format.isFormatOf(filePath)
+                ? fileName.substring(0, fileName.length() - format.fileExtension.length())
+                : fileName;
+        for (StorageFormat otherFormat : values()) {
+            Path otherFilePath = filePath.resolveSibling(baseName + otherFormat.fileExtension);
+            if (otherFormat != format && Files.exists(otherFilePath)) {
+                return Optional.of(otherFilePath);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean isFormatOf(Path filePath) {
+        return filePath.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(fileExtension);
+    }
+}
@@ -1,8 +1,11 @@
 package ssp.scheduleplanner.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -12,18 +15,24 @@ import ssp.scheduleplanner.commons.core.LogsCenter;
 import ssp.scheduleplanner.commons.events.model.SchedulePlannerChangedEvent;
 import ssp.scheduleplanner.commons.events.storage.DataSavingExceptionEvent;
 import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.model.DeferredTaskLoader;
 import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
 import ssp.scheduleplanner.model.UserPrefs;
+import ssp.scheduleplanner.model.task.Date;
 
 /**
  * Manages storage of SchedulePlanner data in local storage.
+ * Changes to the schedule planner are saved as soon as they are made, unless write-behind saving is enabled with
+ * {@link #enableWriteBehind(long, Executor)}.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private SchedulePlannerStorage schedulePlannerStorage;
     private UserPrefsStorage userPrefsStorage;
-
+    private WriteBehindSaver writeBehindSaver;
+    /** The data last queued to be saved in write-behind mode, or null if none was queued. */
+    private SchedulePlannerSnapshot lastQueuedData;
 
     public StorageManager(SchedulePlannerStorage schedulePlannerStorage, UserPrefsStorage userPrefsStorage) {
         super();
@@ -31,6 +40,35 @@ public class StorageManager extends ComponentManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Saves changes to the schedule planner on a background thread instead of as soon as they are made.
+     * Changes made within {@code delayMillis} milliseconds of the first unsaved change are saved together.
+     * {@link DataSavingExceptionEvent}s of failed saves are raised through {@code eventExecutor}, such as the
+     * JavaFX application thread.
+     */
+    public void enableWriteBehind(long delayMillis, Executor eventExecutor) {
+        requireNonNull(eventExecutor);
+        if (writeBehindSaver != null) {
+            writeBehindSaver.stop();
+        }
+        writeBehindSaver = new WriteBehindSaver(this::saveSchedulePlanner, e ->
+                eventExecutor.execute(() -> raise(new DataSavingExceptionEvent(e))), delayMillis);
+    }
+
+    /**
+     * Returns the number of changes to the schedule planner queued to be saved in write-behind mode.
+     */
+    public long getQueuedSaveCount() {
+        return writeBehindSaver == null ? 0 : writeBehindSaver.getQueuedSaveCount();
+    }
+
+    /**
+     * Returns the number of times the schedule planner was written to the disk in write-behind mode.
+     */
+    public long getWrittenSaveCount() {
+        return writeBehindSaver == null ? 0 : writeBehindSaver.getWrittenSaveCount();
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -56,6 +94,11 @@ public class StorageManager extends ComponentManager implements Storage {
         return schedulePlannerStorage.getSchedulePlannerFilePath();
     }
 
+    @Override
+    public Optional<RecoveryReport> getRecoveryReport() {
+        return schedulePlannerStorage.getRecoveryReport();
+    }
+
     @Override
     public Optional<ReadOnlySchedulePlanner> readSchedulePlanner() throws DataConversionException, IOException {
         return readSchedulePlanner(schedulePlannerStorage.getSchedulePlannerFilePath());
@@ -83,6 +126,12 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     @Subscribe
     public void handleSchedulePlannerChangedEvent(SchedulePlannerChangedEvent event) {
+        if (writeBehindSaver != null) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, queued to be saved"));
+            lastQueuedData = SchedulePlannerSnapshot.of(event.data, lastQueuedData);
+            writeBehindSaver.queueSave(lastQueuedData);
+            return;
+        }
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
         try {
             saveSchedulePlanner(event.data);
@@ -91,4 +140,76 @@ public class StorageManager extends ComponentManager implements Storage {
         }
     }
 
+    @Override
+    public void flushSchedulePlanner() {
+        if (writeBehindSaver != null) {
+            writeBehindSaver.flush();
+        }
+    }
+
+    @Override
+    public Optional<DeferredTaskLoader> getDeferredTaskLoader() {
+        if (!(schedulePlannerStorage instanceof DeferredTaskLoader)) {
+            return Optional.empty();
+        }
+        return Optional.of(new FlushingTaskLoader((DeferredTaskLoader) schedulePlannerStorage));
+    }
+
+    /**
+     * Loads tasks through another loader once the changes waiting to be saved are written, so that a save of data
+     * taken before the load is not mistaken for the removal of the loaded tasks.
+     * Only loads that add tasks wait for the changes to be written. Each part read ahead is followed by a wait on
+     * the reading thread, so that loading the part seldom has changes to wait for.
+     */
+    private class FlushingTaskLoader implements DeferredTaskLoader {
+        private final DeferredTaskLoader loader;
+
+        FlushingTaskLoader(DeferredTaskLoader loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public boolean isFullyLoaded() {
+            return loader.isFullyLoaded();
+        }
+
+        @Override
+        public boolean isLoaded(Date start, Date end) {
+            return loader.isLoaded(start, end);
+        }
+
+        @Override
+        public ReadOnlySchedulePlanner loadTasksInDateRange(Date start, Date end) {
+            if (!loader.isLoaded(start, end)) {
+                flushSchedulePlanner();
+            }
+            return loader.loadTasksInDateRange(start, end);
+        }
+
+        @Override
+        public ReadOnlySchedulePlanner loadAllTasks() {
+            if (!loader.isFullyLoaded()) {
+                flushSchedulePlanner();
+            }
+            return loader.loadAllTasks();
+        }
+
+        @Override
+        public ReadOnlySchedulePlanner loadReadAheadTasks() {
+            flushSchedulePlanner();
+            return loader.loadReadAheadTasks();
+        }
+
+        @Override
+        public boolean readAheadNextPart() {
+            boolean isPartRead = loader.readAheadNextPart();
+            flushSchedulePlanner();
+            return isPartRead;
+        }
+
+        @Override
+        public int countUnreadParts() {
+            return loader.countUnreadParts();
+        }
+    }
 }
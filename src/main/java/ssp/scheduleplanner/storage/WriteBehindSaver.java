@@ -0,0 +1,156 @@
+package ssp.scheduleplanner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import ssp.scheduleplanner.commons.core.LogsCenter;
+import ssp.scheduleplanner.commons.util.StringUtil;
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+
+/**
+ * Saves schedule planner data on a background thread, some time after it was queued.
+ * Data queued while an earlier save is still waiting replaces the earlier data, so a burst of changes is written
+ * to the disk only once.
+ * A failed save, whether the storage throws an {@code IOException} or any other exception, is passed to the failure
+ * handler and never thrown to the thread that queued or flushed the data.
+ */
+class WriteBehindSaver {
+
+    /**
+     * Writes schedule planner data to the disk.
+     */
+    @FunctionalInterface
+    interface SaveAction {
+        void save(ReadOnlySchedulePlanner schedulePlanner) throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final SaveAction saveAction;
+    private final Consumer<Exception> failureHandler;
+    private final long delayMillis;
+    private final ScheduledExecutorService writer;
+
+    /** The latest data that was queued but not yet written, or null if there is none. */
+    private final AtomicReference<ReadOnlySchedulePlanner> pendingData = new AtomicReference<>();
+    /** The number of saves queued and not yet written: 1 while data is pending or being written, 0 otherwise. */
+    private final AtomicInteger unwrittenSaveCount = new AtomicInteger();
+    private final AtomicLong queuedSaveCount = new AtomicLong();
+    private final AtomicLong writtenSaveCount = new AtomicLong();
+
+    /**
+     * Creates a saver that writes queued data with {@code saveAction} {@code delayMillis} milliseconds after the
+     * first of a burst of changes was queued, and passes the errors of failed saves to {@code failureHandler}.
+     * {@code failureHandler} is called on the writer thread.
+     */
+    WriteBehindSaver(SaveAction saveAction, Consumer<Exception> failureHandler, long delayMillis) {
+        requireNonNull(saveAction);
+        requireNonNull(failureHandler);
+        this.saveAction = saveAction;
+        this.failureHandler = failureHandler;
+        this.delayMillis = delayMillis;
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "schedule-planner-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues {@code schedulePlanner} to be saved, replacing any data that is still waiting to be saved.
+     * {@code schedulePlanner} must not be changed afterwards.
+     */
+    void queueSave(ReadOnlySchedulePlanner schedulePlanner) {
+        requireNonNull(schedulePlanner);
+        queuedSaveCount.incrementAndGet();
+        if (pendingData.getAndSet(schedulePlanner) == null) {
+            unwrittenSaveCount.incrementAndGet();
+            writer.schedule(this::writePendingData, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the data that is waiting to be saved, if any, and returns once it is written.
+     * Returns at once if no data is waiting to be saved or being written.
+     * Does not throw if the save fails, as the failure is passed to the failure handler instead.
+     */
+    void flush() {
+        if (unwrittenSaveCount.get() == 0) {
+            return;
+        }
+        try {
+            writer.submit(this::writePendingData).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RejectedExecutionException e) {
+            logger.severe("Failed to wait for the queued changes to be saved: " + StringUtil.getDetails(e));
+            return;
+        }
+        logger.info("Saved " + writtenSaveCount.get() + " of " + queuedSaveCount.get() + " queued changes");
+    }
+
+    /**
+     * Saves the data that is waiting to be saved, if any, and stops the writer thread.
+     */
+    void stop() {
+        if (!writer.isShutdown()) {
+            flush();
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * Returns the number of times data was queued to be saved.
+     */
+    long getQueuedSaveCount() {
+        return queuedSaveCount.get();
+    }
+
+    /**
+     * Returns the number of times data was written to the disk, failed attempts included.
+     */
+    long getWrittenSaveCount() {
+        return writtenSaveCount.get();
+    }
+
+    /**
+     * Saves the data that is waiting to be saved, if any.
+     */
+    private void writePendingData() {
+        ReadOnlySchedulePlanner data = pendingData.getAndSet(null);
+        if (data == null) {
+            return;
+        }
+        writtenSaveCount.incrementAndGet();
+        try {
+            saveAction.save(data);
+        } catch (IOException | RuntimeException e) {
+            reportFailure(e);
+        } finally {
+            unwrittenSaveCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Passes {@code failure} to the failure handler, and logs it if the handler itself fails.
+     */
+    private void reportFailure(Exception failure) {
+        try {
+            failureHandler.accept(failure);
+        } catch (RuntimeException e) {
+            logger.severe("Failed to report a failed save: " + StringUtil.getDetails(failure) + "\n"
+                    + StringUtil.getDetails(e));
+        }
+    }
+}
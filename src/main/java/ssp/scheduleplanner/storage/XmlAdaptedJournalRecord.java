@@ -0,0 +1,188 @@
+package ssp.scheduleplanner.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+import ssp.scheduleplanner.model.category.Category;
+import ssp.scheduleplanner.model.task.Task;
+
+/**
+ * JAXB-friendly version of one save recorded in the journal of a {@code JournalSchedulePlannerStorage}:
+ * the ranges of the category, task and archived task lists that the save replaced, and what replaced them.
+ */
+@XmlRootElement(name = "record")
+public class XmlAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RANGE = "Journal record replaces a range that is not in the list.";
+
+    @XmlElement
+    private XmlAdaptedRange categories;
+    @XmlElement
+    private XmlAdaptedRange tasks;
+    @XmlElement
+    private XmlAdaptedRange archivedTasks;
+
+    /**
+     * Constructs an XmlAdaptedJournalRecord.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedJournalRecord() {}
+
+    /**
+     * Constructs the record of a save that changed the lists of {@code from} into those of {@code to}.
+     * Each list is recorded as the single range that covers all of its changes, or not at all if it is unchanged.
+     * A list with the same version in both is unchanged and is not compared. Elements are compared by identity,
+     * as the schedule planner shares every element a change left untouched.
+     */
+    public XmlAdaptedJournalRecord(ReadOnlySchedulePlanner from, ReadOnlySchedulePlanner to) {
+        if (from.getCategoryListVersion() != to.getCategoryListVersion()) {
+            categories = XmlAdaptedRange.ofCategories(from.getCategoryList(), to.getCategoryList());
+        }
+        if (from.getTaskListVersion() != to.getTaskListVersion()) {
+            tasks = XmlAdaptedRange.ofTasks(from.getTaskList(), to.getTaskList());
+        }
+        if (from.getArchivedTaskListVersion() != to.getArchivedTaskListVersion()) {
+            archivedTasks = XmlAdaptedRange.ofTasks(from.getArchivedTaskList(), to.getArchivedTaskList());
+        }
+    }
+
+    /**
+     * Returns true if the save left every list unchanged.
+     */
+    public boolean isEmpty() {
+        return categories == null && tasks == null && archivedTasks == null;
+    }
+
+    /**
+     * Replays this record on the given lists.
+     *
+     * @throws IllegalValueException if a replaced range is not in its list, or a recorded element is not valid.
+     */
+    public void applyTo(List<Category> categoryList, List<Task> taskList, List<Task> archivedTaskList)
+            throws IllegalValueException {
+        if (categories != null) {
+            List<Category> added = new ArrayList<>(categories.categories.size());
+            for (XmlAdaptedCategory category : categories.categories) {
+                added.add(category.toModelType());
+            }
+            categories.applyTo(categoryList, added);
+        }
+        if (tasks != null) {
+            tasks.applyTo(taskList, toModelTasks(tasks.tasks));
+        }
+        if (archivedTasks != null) {
+            archivedTasks.applyTo(archivedTaskList, toModelTasks(archivedTasks.tasks));
+        }
+    }
+
+    /**
+     * Converts {@code adaptedTasks} into the model's {@code Task} objects.
+     */
+    private static List<Task> toModelTasks(List<XmlAdaptedTask> adaptedTasks) throws IllegalValueException {
+        List<Task> modelTasks = new ArrayList<>(adaptedTasks.size());
+        for (XmlAdaptedTask task : adaptedTasks) {
+            modelTasks.add(task.toModelType());
+        }
+        return modelTasks;
+    }
+
+    /**
+     * The replacement of {@code removed} elements, found at position {@code from} of a list, by the recorded
+     * categories or tasks.
+     */
+    public static class XmlAdaptedRange {
+        @XmlAttribute(required = true)
+        private int from;
+        @XmlAttribute(required = true)
+        private int removed;
+        @XmlElement(name = "category")
+        private List<XmlAdaptedCategory> categories = new ArrayList<>();
+        @XmlElement(name = "task")
+        private List<XmlAdaptedTask> tasks = new ArrayList<>();
+
+        /**
+         * Constructs an XmlAdaptedRange.
+         * This is the no-arg constructor that is required by JAXB.
+         */
+        public XmlAdaptedRange() {}
+
+        /**
+         * Returns the categories of {@code before} that were replaced to get {@code after}, or null if there are
+         * none.
+         */
+        private static XmlAdaptedRange ofCategories(List<Category> before, List<Category> after) {
+            XmlAdaptedRange range = findChangedRange(before, after);
+            if (range != null) {
+                range.categories = getAddedElements(range, before, after).stream()
+                        .map(XmlAdaptedCategory::new)
+                        .collect(Collectors.toList());
+            }
+            return range;
+        }
+
+        /**
+         * Returns the tasks of {@code before} that were replaced to get {@code after}, or null if there are none.
+         */
+        private static XmlAdaptedRange ofTasks(List<Task> before, List<Task> after) {
+            XmlAdaptedRange range = findChangedRange(before, after);
+            if (range != null) {
+                range.tasks = getAddedElements(range, before, after).stream()
+                        .map(XmlAdaptedTask::new)
+                        .collect(Collectors.toList());
+            }
+            return range;
+        }
+
+        /**
+         * Returns the smallest range of {@code before} that differs from {@code after}, without its elements,
+         * or null if the lists hold the same elements.
+         */
+        private static <T> XmlAdaptedRange findChangedRange(List<T> before, List<T> after) {
+            int maxCommon = Math.min(before.size(), after.size());
+            int prefix = 0;
+            while (prefix < maxCommon && before.get(prefix) == after.get(prefix)) {
+                prefix++;
+            }
+            if (prefix == before.size() && prefix == after.size()) {
+                return null;
+            }
+            int suffix = 0;
+            while (suffix < maxCommon - prefix
+                    && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+                suffix++;
+            }
+
+            XmlAdaptedRange range = new XmlAdaptedRange();
+            range.from = prefix;
+            range.removed = before.size() - prefix - suffix;
+            return range;
+        }
+
+        /**
+         * Returns the elements of {@code after} that replace {@code range} of {@code before}.
+         */
+        private static <T> List<T> getAddedElements(XmlAdaptedRange range, List<T> before, List<T> after) {
+            int addedCount = after.size() - before.size() + range.removed;
+            return after.subList(range.from, range.from + addedCount);
+        }
+
+        /**
+         * Replaces the recorded range of {@code list} with {@code added}.
+         */
+        private <T> void applyTo(List<T> list, List<T> added) throws IllegalValueException {
+            if (from < 0 || removed < 0 || from + removed > list.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_RANGE);
+            }
+            List<T> replaced = list.subList(from, from + removed);
+            replaced.clear();
+            replaced.addAll(added);
+        }
+    }
+}
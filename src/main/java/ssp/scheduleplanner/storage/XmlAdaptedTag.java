@@ -35,6 +35,10 @@ public class XmlAdaptedTag {
         tagName = source.tagName;
     }
 
+    String getTagName() {
+        return tagName;
+    }
+
     /**
      * Converts this jaxb-friendly adapted tag object into the model's Tag object.
      *
@@ -44,7 +48,7 @@ public class XmlAdaptedTag {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.of(tagName);
     }
 
     @Override
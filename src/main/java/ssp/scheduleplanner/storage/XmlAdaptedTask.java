@@ -1,12 +1,15 @@
 package ssp.scheduleplanner.storage;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 
 import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
@@ -19,10 +22,16 @@ import ssp.scheduleplanner.model.task.Venue;
 
 /**
  * JAXB-friendly version of the Task.
+ * A task converted from the model carries the checksum of its fields, so that a task changed on the disk after it
+ * was written is not taken for a valid one. Tasks written without a checksum are read as they are.
  */
 public class XmlAdaptedTask {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Task's %s field is missing!";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Task's fields do not match its checksum!";
+
+    /** Separates the fields in the checksum; it cannot appear in XML text, so no two tasks share a checksum input. */
+    private static final char FIELD_SEPARATOR = '\0';
 
     @XmlElement(required = true)
     private String name;
@@ -36,6 +45,9 @@ public class XmlAdaptedTask {
     @XmlElement
     private List<XmlAdaptedTag> tagged = new ArrayList<>();
 
+    @XmlAttribute
+    private String checksum;
+
     /**
      * Constructs an XmlAdaptedTask.
      * This is the no-arg constructor that is required by JAXB.
@@ -55,6 +67,17 @@ public class XmlAdaptedTask {
         }
     }
 
+    /**
+     * Constructs an {@code XmlAdaptedTask} with the given task details, as read with {@code checksum}.
+     *
+     * @param checksum the checksum written with the task, or null if it was written without one.
+     */
+    public XmlAdaptedTask(String name, String date, String priority, String venue, List<XmlAdaptedTag> tagged,
+                          String checksum) {
+        this(name, date, priority, venue, tagged);
+        this.checksum = checksum;
+    }
+
     /**
      * Converts a given Task into this class for JAXB use.
      *
@@ -68,14 +91,44 @@ public class XmlAdaptedTask {
         tagged = source.getTags().stream()
                 .map(XmlAdaptedTag::new)
                 .collect(Collectors.toList());
+        checksum = computeChecksum();
+    }
+
+    /**
+     * Returns the checksum written with this task, or null if there is none.
+     */
+    String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Returns the CRC32 of the fields of this task, in hexadecimal.
+     */
+    private String computeChecksum() {
+        StringBuilder fields = new StringBuilder()
+                .append(name).append(FIELD_SEPARATOR)
+                .append(date).append(FIELD_SEPARATOR)
+                .append(priority).append(FIELD_SEPARATOR)
+                .append(venue);
+        for (XmlAdaptedTag tag : tagged) {
+            fields.append(FIELD_SEPARATOR).append(tag.getTagName());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(fields.toString().getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x", crc.getValue());
     }
 
     /**
      * Converts this jaxb-friendly adapted task object into the model's Task object.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted task
+     * @throws IllegalValueException if there were any data constraints violated in the adapted task, or its fields
+     *     do not match its checksum
      */
     public Task toModelType() throws IllegalValueException {
+        if (checksum != null && !checksum.equalsIgnoreCase(computeChecksum())) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
         final List<Tag> taskTags = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
             taskTags.add(tag.toModelType());
@@ -87,7 +140,7 @@ public class XmlAdaptedTask {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
@@ -95,7 +148,7 @@ public class XmlAdaptedTask {
         if (!Date.isValidDate(date)) {
             throw new IllegalValueException(Date.MESSAGE_DATE_CONSTRAINTS);
         }
-        final Date modelDate = new Date(date);
+        final Date modelDate = Date.of(date);
 
         if (priority == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -104,7 +157,7 @@ public class XmlAdaptedTask {
         if (!Priority.isValidPriority(priority)) {
             throw new IllegalValueException(Priority.MESSAGE_PRIORITY_CONSTRAINTS);
         }
-        final Priority modelPriority = new Priority(priority);
+        final Priority modelPriority = Priority.of(priority);
 
         if (venue == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Venue.class.getSimpleName()));
@@ -112,7 +165,7 @@ public class XmlAdaptedTask {
         if (!Venue.isValidAddress(venue)) {
             throw new IllegalValueException(Venue.MESSAGE_ADDRESS_CONSTRAINTS);
         }
-        final Venue modelVenue = new Venue(venue);
+        final Venue modelVenue = Venue.of(venue);
 
         final Set<Tag> modelTags = new HashSet<>(taskTags);
         return new Task(modelName, modelDate, modelPriority, modelVenue, modelTags);
@@ -1,6 +1,7 @@
 package ssp.scheduleplanner.storage;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
@@ -16,7 +17,7 @@ public class XmlFileStorage {
      * Saves the given scheduleplanner data to the specified file.
      */
     public static void saveDataToFile(Path file, XmlSerializableSchedulePlanner schedulePlanner)
-            throws FileNotFoundException {
+            throws IOException {
         try {
             XmlUtil.saveDataToFile(file, schedulePlanner);
         } catch (JAXBException e) {
@@ -28,7 +29,7 @@ public class XmlFileStorage {
      * Saves the given scheduleplanner rangeOfWeek data to the specified file.
      */
     public static void saveWeekDataToFile(Path file, XmlSerializableRangeOfWeek rangeOfWeek)
-            throws FileNotFoundException {
+            throws IOException {
         try {
             XmlUtil.saveDataToFile(file, rangeOfWeek);
         } catch (JAXBException e) {
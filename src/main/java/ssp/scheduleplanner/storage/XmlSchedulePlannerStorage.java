@@ -1,37 +1,93 @@
 package ssp.scheduleplanner.storage;
 
 import static java.util.Objects.requireNonNull;
+import static ssp.scheduleplanner.commons.util.AppUtil.checkArgument;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
 
 import ssp.scheduleplanner.commons.core.LogsCenter;
 import ssp.scheduleplanner.commons.exceptions.DataConversionException;
-import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
 import ssp.scheduleplanner.commons.util.FileUtil;
 import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+import ssp.scheduleplanner.model.SchedulePlanner;
 
 /**
  * A class to access SchedulePlanner data stored as an xml file on the hard disk.
+ * The file is read and written either through JAXB or as a stream of elements; both produce the same format.
+ * A stream of elements may also be compressed with gzip as it is written, and is decompressed as it is read.
+ *
+ * A record of the file that cannot be converted, such as a task whose fields do not match its checksum, does not
+ * make the rest of the file unreadable: it is set aside in a quarantine file next to the file, and the other records
+ * are read as usual.
  */
 public class XmlSchedulePlannerStorage implements SchedulePlannerStorage {
 
+    public static final String QUARANTINE_FILE_SUFFIX = ".quarantine";
+    /** Saves as fast as plain text does; higher levels make the file only a little smaller, but take longer. */
+    public static final int DEFAULT_COMPRESSION_LEVEL = Deflater.BEST_SPEED;
+    public static final String MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS = "The compression level should be from "
+            + Deflater.NO_COMPRESSION + " to " + Deflater.BEST_COMPRESSION;
+
+    /**
+     * How the xml file is read and written.
+     */
+    public enum Mode {
+        /** Binds the whole file to {@link XmlSerializableSchedulePlanner} before converting it. */
+        JAXB,
+        /** Converts each element as it is read or written, with {@link XmlStreamFileStorage}. */
+        STREAMING,
+        /** Converts each element as in {@link #STREAMING}, compressing the file with gzip as it is written. */
+        COMPRESSED
+    }
+
     private static final Logger logger = LogsCenter.getLogger(XmlSchedulePlannerStorage.class);
 
     private Path filePath;
+    private final Mode mode;
+    private final int compressionLevel;
+    private RecoveryReport recoveryReport;
 
     public XmlSchedulePlannerStorage(Path filePath) {
+        this(filePath, Mode.JAXB);
+    }
+
+    public XmlSchedulePlannerStorage(Path filePath, Mode mode) {
+        requireNonNull(mode);
         this.filePath = filePath;
+        this.mode = mode;
+        this.compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    }
+
+    /**
+     * Creates a storage that compresses the file with gzip at {@code compressionLevel} as it is written.
+     *
+     * @param compressionLevel a level from {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}.
+     */
+    public XmlSchedulePlannerStorage(Path filePath, int compressionLevel) {
+        checkArgument(Deflater.NO_COMPRESSION <= compressionLevel && compressionLevel <= Deflater.BEST_COMPRESSION,
+                MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+        this.filePath = filePath;
+        this.mode = Mode.COMPRESSED;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getSchedulePlannerFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the path of the file the unreadable records of the file at {@code filePath} are set aside in.
+     */
+    public static Path getQuarantineFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + QUARANTINE_FILE_SUFFIX);
+    }
+
     @Override
     public Optional<ReadOnlySchedulePlanner> readSchedulePlanner() throws DataConversionException, IOException {
         return readSchedulePlanner(filePath);
@@ -39,25 +95,63 @@ public class XmlSchedulePlannerStorage implements SchedulePlannerStorage {
 
     /**
      * Similar to {@link #readSchedulePlanner()}
+     * Records that cannot be converted are added to the quarantine file of {@code filePath}, and described by
+     * {@link #getRecoveryReport()}.
      * @param filePath location of the data. Cannot be null
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlySchedulePlanner> readSchedulePlanner(Path filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+                                                                                 IOException {
         requireNonNull(filePath);
+        recoveryReport = null;
 
         if (!Files.exists(filePath)) {
             logger.info("SchedulePlanner file " + filePath + " not found");
             return Optional.empty();
         }
 
-        XmlSerializableSchedulePlanner xmlSchedulePlanner = XmlFileStorage.loadDataFromSaveFile(filePath);
-        try {
-            return Optional.of(xmlSchedulePlanner.toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+        long startTime = System.nanoTime();
+        XmlSerializableSchedulePlanner quarantine = new XmlSerializableSchedulePlanner();
+        SchedulePlanner schedulePlanner = mode == Mode.JAXB
+                ? XmlFileStorage.loadDataFromSaveFile(filePath).toModelType(quarantine)
+                : XmlStreamFileStorage.loadDataFromSaveFile(filePath, quarantine);
+        if (quarantine.getRecordCount() == 0) {
+            return Optional.of(schedulePlanner);
         }
+
+        Path quarantineFilePath = getQuarantineFilePath(filePath);
+        saveQuarantine(quarantine, quarantineFilePath);
+        recoveryReport = new RecoveryReport(
+                schedulePlanner.getTaskList().size() + schedulePlanner.getArchivedTaskList().size(),
+                quarantine.getRecordCount(), quarantineFilePath,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        logger.warning("Illegal values found in " + filePath + ": " + recoveryReport);
+        return Optional.of(schedulePlanner);
+    }
+
+    /**
+     * Adds the records of {@code quarantine} to the quarantine file at {@code quarantineFilePath}, keeping the
+     * records already set aside there. A quarantine file that cannot be read is replaced.
+     */
+    private static void saveQuarantine(XmlSerializableSchedulePlanner quarantine, Path quarantineFilePath)
+            throws IOException {
+        XmlSerializableSchedulePlanner records = new XmlSerializableSchedulePlanner();
+        if (Files.exists(quarantineFilePath)) {
+            try {
+                records = XmlFileStorage.loadDataFromSaveFile(quarantineFilePath);
+            } catch (DataConversionException e) {
+                logger.warning("Replacing unreadable quarantine file " + quarantineFilePath);
+            }
+        }
+        records.addAll(quarantine);
+
+        FileUtil.createIfMissing(quarantineFilePath);
+        XmlFileStorage.saveDataToFile(quarantineFilePath, records);
+    }
+
+    @Override
+    public Optional<RecoveryReport> getRecoveryReport() {
+        return Optional.ofNullable(recoveryReport);
     }
 
     @Override
@@ -74,7 +168,13 @@ public class XmlSchedulePlannerStorage implements SchedulePlannerStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableSchedulePlanner(schedulePlanner));
+        if (mode == Mode.STREAMING) {
+            XmlStreamFileStorage.saveDataToFile(filePath, schedulePlanner);
+        } else if (mode == Mode.COMPRESSED) {
+            XmlStreamFileStorage.saveDataToFile(filePath, schedulePlanner, compressionLevel);
+        } else {
+            XmlFileStorage.saveDataToFile(filePath, new XmlSerializableSchedulePlanner(schedulePlanner));
+        }
     }
 
     /**
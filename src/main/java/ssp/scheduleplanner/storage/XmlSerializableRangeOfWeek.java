@@ -8,6 +8,9 @@ import java.util.List;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
+import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
+import ssp.scheduleplanner.model.rangeofweek.RangeOfWeek;
+import ssp.scheduleplanner.model.rangeofweek.SemesterCalendar;
 import ssp.scheduleplanner.model.task.Date;
 
 /**
@@ -17,7 +20,7 @@ import ssp.scheduleplanner.model.task.Date;
 public class XmlSerializableRangeOfWeek {
 
     public static final String MESSAGE_DUPLICATE_TASK = "Tasks list contains duplicate task(s).";
-    private static final int WEEKS_IN_SEMESTER = 17;
+    private static final int WEEKS_IN_SEMESTER = SemesterCalendar.WEEKS_IN_SEMESTER;
 
     @XmlElement
     private List<XmlAdaptedRangeOfWeek> rangeOfWeeks;
@@ -40,6 +43,31 @@ public class XmlSerializableRangeOfWeek {
         }
     }
 
+    /**
+     * Conversion from the model's {@code SemesterCalendar}
+     */
+    public XmlSerializableRangeOfWeek(SemesterCalendar source) {
+        this();
+        source.getWeeks().forEach(week -> rangeOfWeeks.add(new XmlAdaptedRangeOfWeek(week)));
+    }
+
+    /**
+     * Converts this rangeOfWeek into the model's {@code SemesterCalendar} object, checking every week at once.
+     *
+     * @throws IllegalValueException if a field is missing, a date or date range is invalid, or the number of weeks
+     *     is not that of a semester.
+     */
+    public SemesterCalendar toModelType() throws IllegalValueException {
+        List<RangeOfWeek> weeks = new ArrayList<>(rangeOfWeeks.size());
+        for (XmlAdaptedRangeOfWeek week : rangeOfWeeks) {
+            weeks.add(week.toModelType());
+        }
+        if (!SemesterCalendar.isValidWeeks(weeks)) {
+            throw new IllegalValueException(SemesterCalendar.MESSAGE_WEEKS_CONSTRAINTS);
+        }
+        return new SemesterCalendar(weeks);
+    }
+
     public int returnSize() {
         return rangeOfWeeks.size();
     }
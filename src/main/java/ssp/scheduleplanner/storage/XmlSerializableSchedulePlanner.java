@@ -2,25 +2,34 @@ package ssp.scheduleplanner.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
+import ssp.scheduleplanner.commons.core.LogsCenter;
 import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
 import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
 import ssp.scheduleplanner.model.SchedulePlanner;
 import ssp.scheduleplanner.model.category.Category;
 import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.model.task.exceptions.DuplicateTaskException;
 
 /**
- * An Immutable SchedulePlanner that is serializable to XML format
+ * An Immutable SchedulePlanner that is serializable to XML format.
+ * It converts into the model's {@code SchedulePlanner} either as a whole, failing at the first record that cannot
+ * be converted, or by salvaging every record that can be converted and setting the rest aside.
  */
 @XmlRootElement(name = "scheduleplanner")
 public class XmlSerializableSchedulePlanner {
 
     public static final String MESSAGE_DUPLICATE_TASK = "Tasks list contains duplicate task(s).";
     public static final String MESSAGE_DUPLICATE_CATEGORY = "Category list contains duplicate category.";
+    public static final String MESSAGE_DUPLICATE_TASK_POSITION = "Task %1$d repeats an earlier task.";
+    public static final String MESSAGE_QUARANTINED_RECORD = "Setting aside %1$s %2$d: %3$s";
+
+    private static final Logger logger = LogsCenter.getLogger(XmlSerializableSchedulePlanner.class);
 
     @XmlElement
     private List<XmlAdaptedCategory> categories;
@@ -41,6 +50,16 @@ public class XmlSerializableSchedulePlanner {
         archivedTasks = new ArrayList<>();
     }
 
+    /**
+     * Creates an XmlSerializableSchedulePlanner of the given records, as read from a file.
+     */
+    XmlSerializableSchedulePlanner(List<XmlAdaptedCategory> categories, List<XmlAdaptedTask> tasks,
+                                   List<XmlAdaptedTask> archivedTasks) {
+        this.categories = new ArrayList<>(categories);
+        this.tasks = new ArrayList<>(tasks);
+        this.archivedTasks = new ArrayList<>(archivedTasks);
+    }
+
     /**
      * Conversion
      */
@@ -58,34 +77,167 @@ public class XmlSerializableSchedulePlanner {
      * {@code XmlAdaptedTask}.
      */
     public SchedulePlanner toModelType() throws IllegalValueException {
+        List<Category> modelCategories = new ArrayList<>(categories.size());
+        for (XmlAdaptedCategory c : categories) {
+            modelCategories.add(c.toModelType());
+        }
+        return toSchedulePlanner(modelCategories, toModelTasks(tasks), toModelTasks(archivedTasks));
+    }
+
+    /**
+     * Converts this schedule planner into the model's {@code SchedulePlanner} object, leaving out the records that
+     * violate data constraints or repeat an earlier record instead of failing.
+     * All records are converted in a single pass; the records left out are added to {@code quarantine} as they were
+     * read, and the reason each was left out is logged.
+     */
+    public SchedulePlanner toModelType(XmlSerializableSchedulePlanner quarantine) {
+        return salvageSchedulePlanner(categories, ParallelConverter.convertValid(tasks, XmlAdaptedTask::toModelType),
+                ParallelConverter.convertValid(archivedTasks, XmlAdaptedTask::toModelType), quarantine);
+    }
+
+    /**
+     * Returns a {@code SchedulePlanner} of the given categories and the converted tasks and archived tasks, as read
+     * from a file, leaving out the records that violate data constraints or repeat an earlier record.
+     * The records left out are added to {@code quarantine}, and the reason each was left out is logged.
+     * A task that repeats an earlier task is set aside as it was converted.
+     */
+    static SchedulePlanner salvageSchedulePlanner(List<XmlAdaptedCategory> categories,
+                                                  ParallelConverter.Conversion<XmlAdaptedTask, Task> tasks,
+                                                  ParallelConverter.Conversion<XmlAdaptedTask, Task> archivedTasks,
+                                                  XmlSerializableSchedulePlanner quarantine) {
         SchedulePlanner schedulePlanner = new SchedulePlanner();
-        for (XmlAdaptedCategory c: categories) {
-            Category category = c.toModelType();
-            String name = category.getName();
-            if (name.equals("Modules") || name.equals("Others")) {
-                schedulePlanner.removeCategory(name);
+        for (int i = 0; i < categories.size(); i++) {
+            try {
+                addCategory(schedulePlanner, categories.get(i).toModelType());
+            } catch (IllegalValueException ive) {
+                logger.warning(String.format(MESSAGE_QUARANTINED_RECORD, "category", i + 1, ive.getMessage()));
+                quarantine.categories.add(categories.get(i));
             }
-            if (schedulePlanner.hasCategory(name)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CATEGORY);
+        }
+
+        List<Integer> validPositions = new ArrayList<>();
+        List<Task> validTasks = salvageTasks(tasks, "task", validPositions, quarantine.tasks);
+        int added = 0;
+        while (added < validTasks.size()) {
+            try {
+                schedulePlanner.addTasks(validTasks.subList(added, validTasks.size()));
+                added = validTasks.size();
+            } catch (DuplicateTaskException dte) {
+                // the tasks before the duplicate are known to be unique, so each task is checked at most twice
+                int duplicate = added + dte.getPosition();
+                schedulePlanner.addTasks(validTasks.subList(added, duplicate));
+                int position = validPositions.get(duplicate);
+                logger.warning(String.format(MESSAGE_QUARANTINED_RECORD, "task", position + 1,
+                        MESSAGE_DUPLICATE_TASK));
+                quarantine.tasks.add(new XmlAdaptedTask(validTasks.get(duplicate)));
+                added = duplicate + 1;
             }
-            schedulePlanner.addCategory(category);
         }
 
-        for (XmlAdaptedTask p : tasks) {
-            Task task = p.toModelType();
-            if (schedulePlanner.hasTask(task)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
+        schedulePlanner.addArchivedTasks(salvageTasks(archivedTasks, "archived task", new ArrayList<>(),
+                quarantine.archivedTasks));
+        return schedulePlanner;
+    }
+
+    /**
+     * Returns the model's {@code Task}s of the tasks in {@code conversion} that were converted. The positions of
+     * the tasks converted are added to {@code validPositions} in the same order, and the tasks that could not be
+     * converted to {@code invalidAdaptedTasks}.
+     */
+    private static List<Task> salvageTasks(ParallelConverter.Conversion<XmlAdaptedTask, Task> conversion,
+                                           String recordName, List<Integer> validPositions,
+                                           List<XmlAdaptedTask> invalidAdaptedTasks) {
+        List<Task> validTasks = new ArrayList<>(conversion.size());
+        for (int i = 0; i < conversion.size(); i++) {
+            if (conversion.isConverted(i)) {
+                validTasks.add(conversion.get(i));
+                validPositions.add(i);
+            } else {
+                logger.warning(String.format(MESSAGE_QUARANTINED_RECORD, recordName, i + 1,
+                        conversion.getFailure(i).getMessage()));
+                invalidAdaptedTasks.add(conversion.getFailedElement(i));
+            }
+        }
+        return validTasks;
+    }
+
+    /**
+     * Returns the number of records in this schedule planner.
+     */
+    int getRecordCount() {
+        return categories.size() + tasks.size() + archivedTasks.size();
+    }
+
+    /**
+     * Adds the records of {@code other} that are not already in this schedule planner.
+     */
+    void addAll(XmlSerializableSchedulePlanner other) {
+        addMissing(categories, other.categories);
+        addMissing(tasks, other.tasks);
+        addMissing(archivedTasks, other.archivedTasks);
+    }
+
+    /**
+     * Adds the elements of {@code added} that are not in {@code list} to its end.
+     */
+    private static <T> void addMissing(List<T> list, List<T> added) {
+        for (T element : added) {
+            if (!list.contains(element)) {
+                list.add(element);
             }
-            schedulePlanner.addTask(task);
         }
+    }
+
+    /**
+     * Converts {@code adaptedTasks} into the model's {@code Task} objects, in parallel for long lists.
+     *
+     * @throws IllegalValueException giving the position of the first task that violates data constraints.
+     */
+    static List<Task> toModelTasks(List<XmlAdaptedTask> adaptedTasks) throws IllegalValueException {
+        return ParallelConverter.convertAll(adaptedTasks, XmlAdaptedTask::toModelType, "Task");
+    }
 
-        for (XmlAdaptedTask p : archivedTasks) {
-            Task archivedTask = p.toModelType();
-            schedulePlanner.addArchivedTask(archivedTask);
+    /**
+     * Returns a {@code SchedulePlanner} with the given categories, tasks and archived tasks, as read from a file.
+     * The saved "Modules" and "Others" categories replace the ones every schedule planner starts with.
+     *
+     * @throws IllegalValueException if there are duplicate categories or tasks. A duplicate task is reported with
+     *     its position, counted from 1.
+     */
+    static SchedulePlanner toSchedulePlanner(List<Category> categories, List<Task> tasks, List<Task> archivedTasks)
+            throws IllegalValueException {
+        SchedulePlanner schedulePlanner = new SchedulePlanner();
+        for (Category category : categories) {
+            addCategory(schedulePlanner, category);
         }
+
+        try {
+            schedulePlanner.addTasks(tasks);
+        } catch (DuplicateTaskException dte) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TASK + " "
+                    + String.format(MESSAGE_DUPLICATE_TASK_POSITION, dte.getPosition() + 1));
+        }
+        schedulePlanner.addArchivedTasks(archivedTasks);
         return schedulePlanner;
     }
 
+    /**
+     * Adds {@code category}, as read from a file, to {@code schedulePlanner}.
+     * The saved "Modules" and "Others" categories replace the ones every schedule planner starts with.
+     *
+     * @throws IllegalValueException if {@code schedulePlanner} already has a category of the same name from the file.
+     */
+    private static void addCategory(SchedulePlanner schedulePlanner, Category category) throws IllegalValueException {
+        String name = category.getName();
+        if (name.equals("Modules") || name.equals("Others")) {
+            schedulePlanner.removeCategory(name);
+        }
+        if (schedulePlanner.hasCategory(name)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CATEGORY);
+        }
+        schedulePlanner.addCategory(category);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,337 @@
+package ssp.scheduleplanner.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.commons.util.FileUtil;
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.category.Category;
+import ssp.scheduleplanner.model.tag.Tag;
+import ssp.scheduleplanner.model.task.Task;
+
+/**
+ * Stores scheduleplanner data in an XML file, in the format written by {@link XmlFileStorage}, one element at a
+ * time. No object graph of the whole file is ever built: tasks are read in chunks, and each chunk is converted into
+ * the model's {@code Task}s in parallel with the reading of the rest of the file, so only the chunks still being
+ * converted are held as text.
+ * The file may be compressed with gzip; it is then compressed and decompressed on the fly.
+ */
+public class XmlStreamFileStorage {
+
+    /** The compression level that writes the file as plain text. */
+    public static final int NO_COMPRESSION = -2;
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    /** The line break and indentation before an element, by the depth of the element. */
+    private static final String[] LINE_STARTS = {"\n", "\n    ", "\n        "};
+
+    /** The first bytes of every gzip stream. */
+    private static final byte[] GZIP_HEADER = {(byte) 0x1f, (byte) 0x8b};
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    /**
+     * Saves the given scheduleplanner data to the specified file.
+     */
+    public static void saveDataToFile(Path file, ReadOnlySchedulePlanner schedulePlanner) throws IOException {
+        saveDataToFile(file, schedulePlanner, NO_COMPRESSION);
+    }
+
+    /**
+     * Saves the given scheduleplanner data to the specified file, compressed with gzip at {@code compressionLevel}
+     * unless it is {@link #NO_COMPRESSION}.
+     * The data is compressed as it is written, so the whole file is never held in memory.
+     *
+     * @param compressionLevel a level from {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}, or
+     *     {@link #NO_COMPRESSION} to write plain text.
+     */
+    public static void saveDataToFile(Path file, ReadOnlySchedulePlanner schedulePlanner, int compressionLevel)
+            throws IOException {
+        try {
+            FileUtil.writeAtomically(file, stream -> {
+                OutputStream target = compressionLevel == NO_COMPRESSION
+                        ? stream
+                        : new LevelledGzipOutputStream(stream, compressionLevel);
+                Writer out = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+                out.write(XML_DECLARATION);
+                XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out);
+                writer.writeStartElement("scheduleplanner");
+                for (Category category : schedulePlanner.getCategoryList()) {
+                    writeCategory(writer, category);
+                }
+                for (Task task : schedulePlanner.getTaskList()) {
+                    writeTask(writer, "tasks", task);
+                }
+                for (Task task : schedulePlanner.getArchivedTaskList()) {
+                    writeTask(writer, "archivedTasks", task);
+                }
+                writer.writeCharacters("\n");
+                writer.writeEndElement();
+                writer.writeCharacters("\n");
+                writer.close();
+                // ends the gzip stream, if any; the file itself is closed by writeAtomically
+                out.close();
+            });
+        } catch (XMLStreamException e) {
+            throw new IOException("Unable to write " + file, e);
+        }
+    }
+
+    /**
+     * Returns the model's {@code SchedulePlanner} of the file, leaving out the records that cannot be converted.
+     * The records left out are added to {@code quarantine}, as in
+     * {@link XmlSerializableSchedulePlanner#toModelType(XmlSerializableSchedulePlanner)}.
+     * A file compressed with gzip is decompressed as it is read.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static SchedulePlanner loadDataFromSaveFile(Path file, XmlSerializableSchedulePlanner quarantine)
+            throws DataConversionException, IOException {
+        List<XmlAdaptedCategory> categories = new ArrayList<>();
+        ParallelConverter.Conversion<XmlAdaptedTask, Task> tasks =
+                ParallelConverter.startValid(XmlAdaptedTask::toModelType);
+        ParallelConverter.Conversion<XmlAdaptedTask, Task> archivedTasks =
+                ParallelConverter.startValid(XmlAdaptedTask::toModelType);
+
+        try (InputStream in = openDataFile(file)) {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                if (!nextChildElement(reader) || !reader.getLocalName().equals("scheduleplanner")) {
+                    throw new DataConversionException(new IOException(file + " has no schedule planner"));
+                }
+                while (nextChildElement(reader)) {
+                    switch (reader.getLocalName()) {
+                    case "categories":
+                        categories.add(readCategory(reader));
+                        break;
+                    case "tasks":
+                        tasks.add(readTask(reader));
+                        break;
+                    case "archivedTasks":
+                        archivedTasks.add(readTask(reader));
+                        break;
+                    default:
+                        skipElement(reader);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new DataConversionException(e);
+        }
+        return XmlSerializableSchedulePlanner.salvageSchedulePlanner(categories, tasks.finish(),
+                archivedTasks.finish(), quarantine);
+    }
+
+    /**
+     * Opens the file for reading, decompressing it as it is read if it starts with the gzip header.
+     */
+    private static InputStream openDataFile(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            in.mark(GZIP_HEADER.length);
+            byte[] start = new byte[GZIP_HEADER.length];
+            int length = in.read(start);
+            in.reset();
+            if (length == GZIP_HEADER.length && Arrays.equals(start, GZIP_HEADER)) {
+                return new GZIPInputStream(in, BUFFER_SIZE);
+            }
+            return in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a factory of readers that ignore DTDs and external entities, and report text in one piece.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Writes {@code category} as a {@code categories} element.
+     */
+    private static void writeCategory(XMLStreamWriter writer, Category category) throws XMLStreamException {
+        writeStartElement(writer, 1, "categories");
+        writeTextElement(writer, 2, "name", category.getName());
+        for (Tag tag : category.getTags()) {
+            writeTextElement(writer, 2, "tags", tag.tagName);
+        }
+        writeEndElement(writer, 1);
+    }
+
+    /**
+     * Writes {@code task} as an element named {@code elementName}.
+     */
+    private static void writeTask(XMLStreamWriter writer, String elementName, Task task) throws XMLStreamException {
+        writeStartElement(writer, 1, elementName);
+        writer.writeAttribute("checksum", new XmlAdaptedTask(task).getChecksum());
+        writeTextElement(writer, 2, "name", task.getName().fullName);
+        writeTextElement(writer, 2, "date", task.getDate().value);
+        writeTextElement(writer, 2, "priority", task.getPriority().value);
+        writeTextElement(writer, 2, "venue", task.getVenue().value);
+        for (Tag tag : task.getTags()) {
+            writeTextElement(writer, 2, "tagged", tag.tagName);
+        }
+        writeEndElement(writer, 1);
+    }
+
+    private static void writeStartElement(XMLStreamWriter writer, int depth, String name) throws XMLStreamException {
+        writeIndent(writer, depth);
+        writer.writeStartElement(name);
+    }
+
+    private static void writeEndElement(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        writeIndent(writer, depth);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes an element holding only {@code text} on a line of its own.
+     */
+    private static void writeTextElement(XMLStreamWriter writer, int depth, String name, String text)
+            throws XMLStreamException {
+        writeIndent(writer, depth);
+        writer.writeStartElement(name);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Starts a new line indented for an element at {@code depth}.
+     */
+    private static void writeIndent(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        writer.writeCharacters(LINE_STARTS[depth]);
+    }
+
+    /**
+     * Reads the category whose start element {@code reader} is at, up to its end element.
+     */
+    private static XmlAdaptedCategory readCategory(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+            case "name":
+                name = reader.getElementText();
+                break;
+            case "tags":
+                tags.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedCategory(name, tags);
+    }
+
+    /**
+     * Reads the task whose start element {@code reader} is at, up to its end element.
+     */
+    private static XmlAdaptedTask readTask(XMLStreamReader reader) throws XMLStreamException {
+        String checksum = reader.getAttributeValue(null, "checksum");
+        String name = null;
+        String date = null;
+        String priority = null;
+        String venue = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+            case "name":
+                name = reader.getElementText();
+                break;
+            case "date":
+                date = reader.getElementText();
+                break;
+            case "priority":
+                priority = reader.getElementText();
+                break;
+            case "venue":
+                venue = reader.getElementText();
+                break;
+            case "tagged":
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedTask(name, date, priority, venue, tagged, checksum);
+    }
+
+    /**
+     * Moves {@code reader} to the start of the next child of the current element and returns true, or to the end
+     * of the current element and returns false if it has no more children.
+     */
+    private static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+                return true;
+            case XMLStreamConstants.END_ELEMENT:
+            case XMLStreamConstants.END_DOCUMENT:
+                return false;
+            default:
+                // text, comments and processing instructions between elements are ignored, as JAXB does
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves {@code reader} from the start of an element to its end, skipping everything in between.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * A gzip stream that compresses at a given level rather than the default one.
+     */
+    private static class LevelledGzipOutputStream extends GZIPOutputStream {
+        LevelledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+}
@@ -128,7 +128,7 @@ public class MainWindow extends UiPart<Stage> {
         sidebarPanel = new SidebarPanel(logic);
         sidebarPlaceholder.getChildren().add(sidebarPanel.getRoot());
 
-        taskListPanel = new TaskListPanel(logic.getFilteredTaskList());
+        taskListPanel = new TaskListPanel(logic.getFilteredTaskList(), logic::getSemesterCalendar);
         taskListPanelPlaceholder.getChildren().add(taskListPanel.getRoot());
 
         ResultDisplay resultDisplay = new ResultDisplay();
@@ -148,7 +148,7 @@ public class MainWindow extends UiPart<Stage> {
      * Shows the archived task list
      */
     public void showArchived() {
-        archivedTaskListPanel = new TaskListPanel(logic.getFilteredArchivedTaskList());
+        archivedTaskListPanel = new TaskListPanel(logic.getFilteredArchivedTaskList(), logic::getSemesterCalendar);
         taskListPanelPlaceholder.getChildren().add(archivedTaskListPanel.getRoot());
     }
 
@@ -156,7 +156,7 @@ public class MainWindow extends UiPart<Stage> {
      * Shows the regular task list
      */
     public void showTasks() {
-        taskListPanel = new TaskListPanel(logic.getFilteredTaskList());
+        taskListPanel = new TaskListPanel(logic.getFilteredTaskList(), logic::getSemesterCalendar);
         taskListPanelPlaceholder.getChildren().add(taskListPanel.getRoot());
     }
 
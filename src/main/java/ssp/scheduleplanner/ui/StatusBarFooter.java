@@ -15,6 +15,7 @@ import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import ssp.scheduleplanner.commons.core.LogsCenter;
 import ssp.scheduleplanner.commons.events.model.SchedulePlannerChangedEvent;
+import ssp.scheduleplanner.commons.events.model.TaskLoadingProgressEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -23,6 +24,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String LOAD_STATUS_LOADING = "Loading older tasks: %d%%";
+    public static final String LOAD_STATUS_LOADED = "";
 
     /**
      * Used to generate time stamps.
@@ -42,11 +45,14 @@ public class StatusBarFooter extends UiPart<Region> {
     private StatusBar syncStatus;
     @FXML
     private StatusBar saveLocationStatus;
+    @FXML
+    private StatusBar loadStatus;
 
 
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         setSyncStatus(SYNC_STATUS_INITIAL);
+        setLoadStatus(LOAD_STATUS_LOADED);
         setSaveLocation(Paths.get(".").resolve(saveLocation).toString());
         registerAsAnEventHandler(this);
     }
@@ -73,6 +79,10 @@ public class StatusBarFooter extends UiPart<Region> {
         Platform.runLater(() -> syncStatus.setText(status));
     }
 
+    private void setLoadStatus(String status) {
+        Platform.runLater(() -> loadStatus.setText(status));
+    }
+
     @Subscribe
     public void handleSchedulePlannerChangedEvent(SchedulePlannerChangedEvent abce) {
         long now = clock.millis();
@@ -80,4 +90,12 @@ public class StatusBarFooter extends UiPart<Region> {
         logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
+
+    @Subscribe
+    public void handleTaskLoadingProgressEvent(TaskLoadingProgressEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event));
+        setLoadStatus(event.isComplete()
+                ? LOAD_STATUS_LOADED
+                : String.format(LOAD_STATUS_LOADING, event.getPercentLoaded()));
+    }
 }
@@ -1,10 +1,13 @@
 package ssp.scheduleplanner.ui;
 
+import java.util.Optional;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import ssp.scheduleplanner.model.rangeofweek.SemesterCalendar;
 import ssp.scheduleplanner.model.task.Task;
 
 /**
@@ -33,6 +36,8 @@ public class TaskCard extends UiPart<Region> {
     @FXML
     private Label date;
     @FXML
+    private Label academicWeek;
+    @FXML
     private Label priority;
     @FXML
     private Label venue;
@@ -40,11 +45,26 @@ public class TaskCard extends UiPart<Region> {
     private FlowPane tags;
 
     public TaskCard(Task task, int displayedIndex) {
+        this(task, displayedIndex, Optional.empty());
+    }
+
+    /**
+     * Creates a {@code TaskCard} that also displays the academic week of the task's date in
+     * {@code semesterCalendar}, if the date lies in the semester.
+     */
+    public TaskCard(Task task, int displayedIndex, SemesterCalendar semesterCalendar) {
+        this(task, displayedIndex, semesterCalendar.getWeekLabel(task.getDate()));
+    }
+
+    private TaskCard(Task task, int displayedIndex, Optional<String> academicWeekLabel) {
         super(FXML);
         this.task = task;
         id.setText(displayedIndex + ". ");
         name.setText(task.getName().fullName);
-        date.setText(task.getDate().displayDate);
+        date.setText(task.getDate().getDisplayDate());
+        academicWeek.setText(academicWeekLabel.orElse(""));
+        academicWeek.setVisible(academicWeekLabel.isPresent());
+        academicWeek.setManaged(academicWeekLabel.isPresent());
         priority.setText(task.getVenue().value);
         venue.setText(task.getPriority().value);
         task.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
@@ -1,12 +1,12 @@
 package ssp.scheduleplanner.ui;
 
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Platform;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
@@ -14,6 +14,7 @@ import javafx.scene.layout.Region;
 import ssp.scheduleplanner.commons.core.LogsCenter;
 import ssp.scheduleplanner.commons.events.ui.JumpToListRequestEvent;
 import ssp.scheduleplanner.commons.events.ui.TaskPanelSelectionChangedEvent;
+import ssp.scheduleplanner.model.rangeofweek.SemesterCalendar;
 import ssp.scheduleplanner.model.task.Task;
 
 /**
@@ -26,14 +27,25 @@ public class TaskListPanel extends UiPart<Region> {
     @FXML
     private ListView<Task> taskListView;
 
+    /** Supplies the semester calendar whose academic weeks are shown on the cards, or null to show none. */
+    private final Supplier<SemesterCalendar> semesterCalendarSupplier;
+
     public TaskListPanel(ObservableList<Task> taskList) {
+        this(taskList, null);
+    }
+
+    /**
+     * Creates a {@code TaskListPanel} whose cards show the academic week of their task in the semester calendar
+     * given by {@code semesterCalendarSupplier} when the card is drawn.
+     */
+    public TaskListPanel(ObservableList<Task> taskList, Supplier<SemesterCalendar> semesterCalendarSupplier) {
         super(FXML);
+        this.semesterCalendarSupplier = semesterCalendarSupplier;
         setConnections(taskList);
         registerAsAnEventHandler(this);
     }
 
     private void setConnections(ObservableList<Task> taskList) {
-        SortedList<Task> sortedList = taskList.sorted((a, b) -> Task.compare(a, b));
         taskListView.setItems(taskList);
         taskListView.setCellFactory(listView -> new TaskListViewCell());
         setEventHandlerForSelectionChangeEvent();
@@ -77,7 +89,10 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, getIndex() + 1).getRoot());
+                TaskCard taskCard = semesterCalendarSupplier == null
+                        ? new TaskCard(task, getIndex() + 1)
+                        : new TaskCard(task, getIndex() + 1, semesterCalendarSupplier.get());
+                setGraphic(taskCard.getRoot());
             }
         }
     }
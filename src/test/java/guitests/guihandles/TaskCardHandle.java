@@ -18,6 +18,7 @@ public class TaskCardHandle extends NodeHandle<Node> {
     private static final String NAME_FIELD_ID = "#name";
     private static final String ADDRESS_FIELD_ID = "#priority";
     private static final String DATE_FIELD_ID = "#date";
+    private static final String ACADEMIC_WEEK_FIELD_ID = "#academicWeek";
     private static final String EMAIL_FIELD_ID = "#venue";
     private static final String TAGS_FIELD_ID = "#tags";
 
@@ -25,6 +26,7 @@ public class TaskCardHandle extends NodeHandle<Node> {
     private final Label nameLabel;
     private final Label addressLabel;
     private final Label dateLabel;
+    private final Label academicWeekLabel;
     private final Label emailLabel;
     private final List<Label> tagLabels;
 
@@ -35,6 +37,7 @@ public class TaskCardHandle extends NodeHandle<Node> {
         nameLabel = getChildNode(NAME_FIELD_ID);
         addressLabel = getChildNode(ADDRESS_FIELD_ID);
         dateLabel = getChildNode(DATE_FIELD_ID);
+        academicWeekLabel = getChildNode(ACADEMIC_WEEK_FIELD_ID);
         emailLabel = getChildNode(EMAIL_FIELD_ID);
 
         Region tagsContainer = getChildNode(TAGS_FIELD_ID);
@@ -61,6 +64,10 @@ public class TaskCardHandle extends NodeHandle<Node> {
         return dateLabel.getText();
     }
 
+    public String getAcademicWeek() {
+        return academicWeekLabel.getText();
+    }
+
     public String getEmail() {
         return emailLabel.getText();
     }
@@ -78,7 +85,7 @@ public class TaskCardHandle extends NodeHandle<Node> {
     public boolean equals(Task task) {
         return getName().equals(task.getName().fullName)
                 && getAddress().equals(task.getVenue().value)
-                && getDate().equals(task.getDate().displayDate)
+                && getDate().equals(task.getDate().getDisplayDate())
                 && getEmail().equals(task.getPriority().value)
                 && ImmutableMultiset.copyOf(getTags()).equals(ImmutableMultiset.copyOf(task.getTags().stream()
                         .map(tag -> tag.tagName)
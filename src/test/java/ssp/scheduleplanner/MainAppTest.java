@@ -0,0 +1,37 @@
+package ssp.scheduleplanner;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ssp.scheduleplanner.model.UserPrefs;
+import ssp.scheduleplanner.storage.JsonUserPrefsStorage;
+
+public class MainAppTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void initPrefs_saveDelaySavedByUser_keptOnEveryStart() throws Exception {
+        Path prefsFilePath = testFolder.getRoot().toPath().resolve("preferences.json");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSaveDelayMillis(0);
+        new JsonUserPrefsStorage(prefsFilePath).saveUserPrefs(userPrefs);
+
+        // each start reads the preferences and writes them back
+        assertEquals(0, new MainApp().initPrefs(new JsonUserPrefsStorage(prefsFilePath)).getSaveDelayMillis());
+        assertEquals(0, new MainApp().initPrefs(new JsonUserPrefsStorage(prefsFilePath)).getSaveDelayMillis());
+    }
+
+    @Test
+    public void initPrefs_noPrefsFile_defaultSaveDelayUsed() {
+        Path prefsFilePath = testFolder.getRoot().toPath().resolve("preferences.json");
+        assertEquals(new UserPrefs().getSaveDelayMillis(),
+                new MainApp().initPrefs(new JsonUserPrefsStorage(prefsFilePath)).getSaveDelayMillis());
+    }
+}
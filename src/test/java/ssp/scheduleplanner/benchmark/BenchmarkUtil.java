@@ -0,0 +1,82 @@
+package ssp.scheduleplanner.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.tag.Tag;
+import ssp.scheduleplanner.model.task.Date;
+import ssp.scheduleplanner.model.task.Name;
+import ssp.scheduleplanner.model.task.Priority;
+import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.model.task.Venue;
+
+/**
+ * A utility class for the benchmarks, which builds large schedule planners and measures time and memory.
+ */
+public class BenchmarkUtil {
+
+    private static final long FIRST_EPOCH_DAY = Date.of("010119").getEpochDay();
+    private static final int DAY_COUNT = 700;
+    private static final int VENUE_COUNT = 50;
+    private static final int TAG_COUNT = 30;
+    private static final int GC_RUNS = 4;
+
+    /**
+     * Returns the task numbered {@code index} with the given priority.
+     * Tasks with different numbers have different names; their dates, venues and tags repeat, as those of a
+     * student's tasks would.
+     */
+    public static Task createTask(int index, String priority) {
+        return new Task(Name.of("Task " + index), Date.ofEpochDay(FIRST_EPOCH_DAY + index % DAY_COUNT),
+                Priority.of(priority), Venue.of("COM1-" + index % VENUE_COUNT),
+                Collections.singleton(Tag.of("CS" + index % TAG_COUNT)));
+    }
+
+    /**
+     * Returns a schedule planner holding {@code taskCount} tasks of priority 1.
+     */
+    public static SchedulePlanner createSchedulePlanner(int taskCount) {
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(createTask(i, "1"));
+        }
+        SchedulePlanner schedulePlanner = new SchedulePlanner();
+        schedulePlanner.addTasks(tasks);
+        return schedulePlanner;
+    }
+
+    /**
+     * Returns the number of bytes taken by the objects still reachable in the heap, after collecting garbage.
+     */
+    public static long measureRetainedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_RUNS; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Returns {@code bytes} in megabytes, for printing.
+     */
+    public static double toMegabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    /**
+     * Returns the integer argument at {@code position} in {@code args}, or {@code defaultValue} if there is none.
+     */
+    public static int getIntArgument(String[] args, int position, int defaultValue) {
+        return args.length > position ? Integer.parseInt(args[position]) : defaultValue;
+    }
+
+    /**
+     * Prints the Java version the benchmark runs on and the largest heap it may use.
+     */
+    public static void printEnvironment() {
+        System.out.printf("Java %s, max heap %.0f MB%n", System.getProperty("java.version"),
+                toMegabytes(Runtime.getRuntime().maxMemory()));
+    }
+}
@@ -0,0 +1,203 @@
+package ssp.scheduleplanner.benchmark;
+
+import static ssp.scheduleplanner.benchmark.BenchmarkUtil.createSchedulePlanner;
+import static ssp.scheduleplanner.benchmark.BenchmarkUtil.getIntArgument;
+import static ssp.scheduleplanner.benchmark.BenchmarkUtil.measureRetainedHeap;
+import static ssp.scheduleplanner.benchmark.BenchmarkUtil.printEnvironment;
+import static ssp.scheduleplanner.benchmark.BenchmarkUtil.toMegabytes;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+import ssp.scheduleplanner.storage.SchedulePlannerStorage;
+import ssp.scheduleplanner.storage.StorageFormat;
+import ssp.scheduleplanner.storage.XmlSchedulePlannerStorage;
+
+/**
+ * Measures how long each storage format takes to save and to read a large schedule planner, the peak heap used
+ * while doing so on top of the planner being saved, and the size of the data file.
+ * Each format is saved and read {@code RUN_COUNT} times, each time by a new storage into a new file, and the
+ * fastest run is printed.
+ *
+ * Usage: {@code StorageBenchmark [taskCount] [format ...]}, by default 10000 tasks in every format.
+ * A format is either {@code JAXB}, for xml bound as a whole through JAXB, the name of a {@link StorageFormat}, or
+ * {@code COMPRESSED_XML:<level>} for gzip-compressed xml at a compression level from 0 to 9.
+ * The files are written to a temporary directory, which is deleted afterwards. The results are printed to the
+ * standard output, apart from what the storages log.
+ */
+public class StorageBenchmark {
+
+    private static final int DEFAULT_TASK_COUNT = 10_000;
+    private static final int RUN_COUNT = 6;
+    private static final String JAXB = "JAXB";
+    private static final String LEVEL_SEPARATOR = ":";
+
+    /**
+     * Runs the benchmark with the arguments described in the class comment and prints its results.
+     */
+    public static void main(String[] args) throws Exception {
+        int taskCount = getIntArgument(args, 0, DEFAULT_TASK_COUNT);
+        List<String> formats = new ArrayList<>();
+        if (args.length > 1) {
+            formats.addAll(Arrays.asList(args).subList(1, args.length));
+        } else {
+            formats.add(JAXB);
+            Stream.of(StorageFormat.values()).map(StorageFormat::name).forEach(formats::add);
+        }
+        printEnvironment();
+
+        ReadOnlySchedulePlanner schedulePlanner = createSchedulePlanner(taskCount);
+        Path directory = Files.createTempDirectory("storage-benchmark");
+        try {
+            System.out.printf("%d tasks, best of %d runs%n", taskCount, RUN_COUNT);
+            System.out.printf("%-16s %10s %10s %12s %12s%n", "format", "save (ms)", "read (ms)", "peak (MB)",
+                    "size (KB)");
+            for (String format : formats) {
+                measure(format, schedulePlanner, directory);
+            }
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    /**
+     * Saves and reads {@code schedulePlanner} in {@code format} and prints the results.
+     */
+    private static void measure(String format, ReadOnlySchedulePlanner schedulePlanner, Path directory)
+            throws DataConversionException, IOException {
+        Path filePath = directory.resolve("data" + getFileExtension(format));
+        long heapBefore = measureRetainedHeap();
+        HeapSampler heapSampler = new HeapSampler();
+
+        long bestSaveTime = Long.MAX_VALUE;
+        for (int i = 0; i < RUN_COUNT; i++) {
+            deleteRecursively(filePath);
+            SchedulePlannerStorage storage = createStorage(format, filePath);
+            measureRetainedHeap();
+            long start = System.nanoTime();
+            storage.saveSchedulePlanner(schedulePlanner);
+            bestSaveTime = Math.min(bestSaveTime, System.nanoTime() - start);
+        }
+
+        long bestReadTime = Long.MAX_VALUE;
+        for (int i = 0; i < RUN_COUNT; i++) {
+            SchedulePlannerStorage storage = createStorage(format, filePath);
+            measureRetainedHeap();
+            long start = System.nanoTime();
+            storage.readSchedulePlanner().orElseThrow(AssertionError::new);
+            bestReadTime = Math.min(bestReadTime, System.nanoTime() - start);
+        }
+        long peakHeap = heapSampler.stop();
+
+        System.out.printf("%-16s %10d %10d %12.0f %12d%n", format, bestSaveTime / 1_000_000,
+                bestReadTime / 1_000_000, toMegabytes(peakHeap - heapBefore), getSize(filePath) / 1024);
+        deleteRecursively(filePath);
+    }
+
+    /**
+     * Returns a storage for {@code format} with {@code filePath} as its data file.
+     */
+    private static SchedulePlannerStorage createStorage(String format, Path filePath) {
+        if (format.equals(JAXB)) {
+            return new XmlSchedulePlannerStorage(filePath, XmlSchedulePlannerStorage.Mode.JAXB);
+        }
+        if (format.contains(LEVEL_SEPARATOR)) {
+            int compressionLevel = Integer.parseInt(format.substring(format.indexOf(LEVEL_SEPARATOR) + 1));
+            return new XmlSchedulePlannerStorage(filePath, compressionLevel);
+        }
+        return StorageFormat.valueOf(format).createStorage(filePath);
+    }
+
+    /**
+     * Returns the extension of data files in {@code format}.
+     */
+    private static String getFileExtension(String format) {
+        if (format.equals(JAXB)) {
+            return StorageFormat.XML.getFileExtension();
+        }
+        if (format.contains(LEVEL_SEPARATOR)) {
+            return StorageFormat.COMPRESSED_XML.getFileExtension();
+        }
+        return StorageFormat.valueOf(format).getFileExtension();
+    }
+
+    /**
+     * Returns the number of bytes taken by the file, or by all files in the directory, at {@code path}.
+     */
+    private static long getSize(Path path) throws IOException {
+        try (Stream<Path> paths = Files.walk(path)) {
+            long size = 0;
+            for (Path file : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                size += Files.size(file);
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Deletes the file or directory at {@code path}, along with everything in it, if it exists.
+     */
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path file : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Samples the heap in use every few milliseconds in the background, keeping the highest sample.
+     */
+    private static class HeapSampler {
+
+        private static final long SAMPLE_INTERVAL_MILLIS = 2;
+
+        private final Thread thread;
+        private volatile long peakHeap;
+
+        HeapSampler() {
+            thread = new Thread(this::sample);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        /**
+         * Stops sampling and returns the highest number of bytes sampled.
+         */
+        long stop() {
+            thread.interrupt();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return peakHeap;
+        }
+
+        /**
+         * Keeps sampling the heap until the thread is interrupted.
+         */
+        private void sample() {
+            Runtime runtime = Runtime.getRuntime();
+            while (!Thread.currentThread().isInterrupted()) {
+                peakHeap = Math.max(peakHeap, runtime.totalMemory() - runtime.freeMemory());
+                try {
+                    Thread.sleep(SAMPLE_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package ssp.scheduleplanner.benchmark;
+
+import static ssp.scheduleplanner.benchmark.BenchmarkUtil.createSchedulePlanner;
+import static ssp.scheduleplanner.benchmark.BenchmarkUtil.getIntArgument;
+import static ssp.scheduleplanner.benchmark.BenchmarkUtil.measureRetainedHeap;
+import static ssp.scheduleplanner.benchmark.BenchmarkUtil.printEnvironment;
+import static ssp.scheduleplanner.benchmark.BenchmarkUtil.toMegabytes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.VersionedSchedulePlanner;
+import ssp.scheduleplanner.model.task.Priority;
+import ssp.scheduleplanner.model.task.Task;
+
+/**
+ * Measures the heap retained by the undo history after many commits on a large schedule planner.
+ * Each commit edits one task. The history of {@code VersionedSchedulePlanner} is compared with keeping a full copy
+ * of the schedule planner for every commit, as the history did before it kept only the changes of each commit.
+ * The history is not bounded by its limits, so that every commit stays undoable.
+ * Full copies of a large planner do not all fit in a usual heap, so only the first {@code copyCount} of them are
+ * kept, and the heap they retain is scaled up to {@code commitCount} copies.
+ *
+ * Usage: {@code UndoHistoryBenchmark [taskCount] [commitCount] [copyCount]}, by default 10000 tasks, 1000 commits
+ * and 50 copies.
+ */
+public class UndoHistoryBenchmark {
+
+    private static final int DEFAULT_TASK_COUNT = 10_000;
+    private static final int DEFAULT_COMMIT_COUNT = 1_000;
+    private static final int DEFAULT_COPY_COUNT = 50;
+
+    /**
+     * Runs the benchmark with the arguments described in the class comment and prints its results.
+     */
+    public static void main(String[] args) {
+        int taskCount = getIntArgument(args, 0, DEFAULT_TASK_COUNT);
+        int commitCount = getIntArgument(args, 1, DEFAULT_COMMIT_COUNT);
+        int copyCount = Math.min(getIntArgument(args, 2, DEFAULT_COPY_COUNT), commitCount);
+        printEnvironment();
+        System.out.printf("%d tasks, %d commits of one edited task each%n", taskCount, commitCount);
+
+        measureHistory(taskCount, commitCount);
+        measureFullCopies(taskCount, commitCount, copyCount);
+    }
+
+    /**
+     * Commits through {@code VersionedSchedulePlanner}, then undoes and redoes every commit.
+     */
+    private static void measureHistory(int taskCount, int commitCount) {
+        VersionedSchedulePlanner versionedSchedulePlanner = new VersionedSchedulePlanner(
+                createSchedulePlanner(taskCount), commitCount, Long.MAX_VALUE);
+        long heapBefore = measureRetainedHeap();
+
+        long commitStart = System.nanoTime();
+        for (int i = 0; i < commitCount; i++) {
+            editTask(versionedSchedulePlanner, i, taskCount);
+            versionedSchedulePlanner.commit();
+        }
+        long commitTime = System.nanoTime() - commitStart;
+        long retainedHeap = measureRetainedHeap() - heapBefore;
+
+        long undoRedoStart = System.nanoTime();
+        for (int i = 0; i < commitCount; i++) {
+            versionedSchedulePlanner.undo();
+        }
+        for (int i = 0; i < commitCount; i++) {
+            versionedSchedulePlanner.redo();
+        }
+        long undoRedoTime = System.nanoTime() - undoRedoStart;
+
+        System.out.printf("change history: retained %.1f MB, %.1f us per commit, %.1f us per undo and redo%n",
+                toMegabytes(retainedHeap), commitTime / 1e3 / commitCount, undoRedoTime / 1e3 / commitCount);
+    }
+
+    /**
+     * Makes the first {@code copyCount} of the same edits, keeping a copy of the whole schedule planner after each
+     * of them, and prints the heap that {@code commitCount} such copies would retain.
+     */
+    private static void measureFullCopies(int taskCount, int commitCount, int copyCount) {
+        SchedulePlanner schedulePlanner = createSchedulePlanner(taskCount);
+        List<ReadOnlySchedulePlanner> copies = new ArrayList<>(copyCount);
+        long heapBefore = measureRetainedHeap();
+
+        long commitStart = System.nanoTime();
+        for (int i = 0; i < copyCount; i++) {
+            editTask(schedulePlanner, i, taskCount);
+            copies.add(new SchedulePlanner(schedulePlanner));
+        }
+        long commitTime = System.nanoTime() - commitStart;
+        long retainedHeap = measureRetainedHeap() - heapBefore;
+
+        System.out.printf("full copies:    retained %.1f MB (%.1f MB measured for %d copies), %.1f us per commit%n",
+                toMegabytes(retainedHeap) * commitCount / copies.size(), toMegabytes(retainedHeap), copies.size(),
+                commitTime / 1e3 / copies.size());
+    }
+
+    /**
+     * Changes the priority of one task of the schedule planner, choosing a different task for each commit.
+     */
+    private static void editTask(SchedulePlanner schedulePlanner, int commitIndex, int taskCount) {
+        Task target = schedulePlanner.getTaskList().get(commitIndex % taskCount);
+        Priority priority = Priority.of(commitIndex % 2 == 0 ? "2" : "3");
+        schedulePlanner.updateTask(target, new Task(target.getName(), target.getDate(), priority, target.getVenue(),
+                target.getTags()));
+    }
+}
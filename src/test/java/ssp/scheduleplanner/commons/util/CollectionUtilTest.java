@@ -1,5 +1,6 @@
 package ssp.scheduleplanner.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static ssp.scheduleplanner.commons.util.CollectionUtil.requireAllNonNull;
@@ -11,6 +12,9 @@ import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
 public class CollectionUtilTest {
     @Test
     public void requireAllNonNullVarargs() {
@@ -81,6 +85,27 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void replaceRange() {
+        ObservableList<Integer> list = FXCollections.observableArrayList(1, 2, 3, 4);
+
+        // single element replaced by single element
+        CollectionUtil.replaceRange(list, 1, 2, Collections.singletonList(5));
+        assertEquals(Arrays.asList(1, 5, 3, 4), list);
+
+        // range replaced by a different number of elements
+        CollectionUtil.replaceRange(list, 1, 3, Collections.singletonList(6));
+        assertEquals(Arrays.asList(1, 6, 4), list);
+
+        // insertion
+        CollectionUtil.replaceRange(list, 3, 3, Arrays.asList(7, 8));
+        assertEquals(Arrays.asList(1, 6, 4, 7, 8), list);
+
+        // whole list
+        CollectionUtil.replaceRange(list, 0, 5, Collections.emptyList());
+        assertEquals(Collections.emptyList(), list);
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
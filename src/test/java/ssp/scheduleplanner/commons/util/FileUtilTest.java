@@ -1,14 +1,28 @@
 package ssp.scheduleplanner.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import ssp.scheduleplanner.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +35,51 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_newFile_contentWritten() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("new.txt");
+        FileUtil.writeAtomically(file, out -> out.write("content".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertOnlyFileInFolder(file);
+    }
+
+    @Test
+    public void writeAtomically_existingFile_contentReplaced() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("existing.txt");
+        FileUtil.writeToFile(file, "a much longer old content");
+
+        // a writer closing its stream does not stop the content from being forced to the disk
+        FileUtil.writeAtomically(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            out.close();
+        });
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertOnlyFileInFolder(file);
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("existing.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        Assert.assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertOnlyFileInFolder(file);
+    }
+
+    /**
+     * Asserts that {@code file} is the only file in the test folder, so no temporary file is left behind.
+     */
+    private void assertOnlyFileInFolder(Path file) throws IOException {
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            assertEquals(Collections.singletonList(file), files.collect(Collectors.toList()));
+        }
+    }
+
 }
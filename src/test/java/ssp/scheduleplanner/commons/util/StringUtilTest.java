@@ -137,6 +137,34 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsWordStartingWithIgnoreCase --------------------------------------
+
+    @Test
+    public void containsWordStartingWithIgnoreCase_multipleWords_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Prefix parameter should be a single word");
+        StringUtil.containsWordStartingWithIgnoreCase("typical sentence", "aaa BBB");
+    }
+
+    @Test
+    public void containsWordStartingWithIgnoreCase_validInputs_correctResult() {
+        // Empty sentence
+        assertFalse(StringUtil.containsWordStartingWithIgnoreCase("", "abc"));
+        assertFalse(StringUtil.containsWordStartingWithIgnoreCase("    ", ""));
+
+        // Prefix not at the start of any word
+        assertFalse(StringUtil.containsWordStartingWithIgnoreCase("aaa bbb ccc", "bc"));
+        assertFalse(StringUtil.containsWordStartingWithIgnoreCase("aaa bbb ccc", "bbbb"));
+
+        // Matches the start of a word, different upper/lower case letters
+        assertTrue(StringUtil.containsWordStartingWithIgnoreCase("aaa bBb ccc", "Bb"));
+        assertTrue(StringUtil.containsWordStartingWithIgnoreCase("  AAA   bBb   ccc  ", "a"));
+        assertTrue(StringUtil.containsWordStartingWithIgnoreCase("aaa bbb ccc", "  ccc  "));
+
+        // Empty prefix matches any word
+        assertTrue(StringUtil.containsWordStartingWithIgnoreCase("aaa", ""));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
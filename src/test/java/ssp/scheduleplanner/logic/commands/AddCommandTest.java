@@ -7,6 +7,8 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -20,9 +22,12 @@ import ssp.scheduleplanner.logic.commands.exceptions.CommandException;
 import ssp.scheduleplanner.model.Model;
 import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
 import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.UndoHistorySummary;
 import ssp.scheduleplanner.model.category.Category;
 import ssp.scheduleplanner.model.tag.Tag;
+import ssp.scheduleplanner.model.task.Date;
 import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.model.task.TaskSortOrder;
 import ssp.scheduleplanner.testutil.TaskBuilder;
 
 public class AddCommandTest {
@@ -181,6 +186,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Task> getTasksInDateRange(Date start, Date end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> getArchivedTasksInDateRange(Date start, Date end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public UndoHistorySummary getUndoHistorySummary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateTaskSortOrder(TaskSortOrder sortOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addTasks(List<Task> tasks) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadTasksInDateRange(Date start, Date end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadAllTasks() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadTasksInBackground(Executor modelExecutor) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Task> getFilteredArchivedTaskList() {
             throw new AssertionError("This method should not be called.");
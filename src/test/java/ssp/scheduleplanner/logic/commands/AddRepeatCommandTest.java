@@ -5,7 +5,10 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -14,14 +17,18 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import ssp.scheduleplanner.logic.CommandHistory;
+import ssp.scheduleplanner.logic.commands.exceptions.CommandException;
 import ssp.scheduleplanner.model.Model;
 import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
 import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.UndoHistorySummary;
 import ssp.scheduleplanner.model.category.Category;
 import ssp.scheduleplanner.model.tag.Tag;
+import ssp.scheduleplanner.model.task.Date;
 import ssp.scheduleplanner.model.task.Interval;
 import ssp.scheduleplanner.model.task.Repeat;
 import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.model.task.TaskSortOrder;
 import ssp.scheduleplanner.testutil.TaskBuilder;
 
 public class AddRepeatCommandTest {
@@ -52,9 +59,32 @@ public class AddRepeatCommandTest {
 
         assertEquals(String.format(AddRepeatCommand.MESSAGE_SUCCESS, validTask), commandResult.feedbackToUser);
         assertEquals(Arrays.asList(validTask, anotherValidTask), modelStub.tasksAdded);
+        assertEquals(1, modelStub.batchesAdded.size());
         assertEquals(EMPTY_COMMAND_HISTORY, commandHistory);
     }
 
+    @Test
+    public void execute_repeatsBeyondSupportedDates_throwsCommandException() throws Exception {
+        ModelStubAcceptingTaskAdded modelStub = new ModelStubAcceptingTaskAdded();
+        Task validTask = new TaskBuilder().withDate("011299").build();
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(AddRepeatCommand.MESSAGE_DATE_OUT_OF_RANGE);
+        new AddRepeatCommand(validTask, new Repeat("3"), new Interval("30")).execute(modelStub, commandHistory);
+    }
+
+    @Test
+    public void execute_repeatedTask_originalDateUnchanged() throws Exception {
+        ModelStubAcceptingTaskAdded modelStub = new ModelStubAcceptingTaskAdded();
+        Task validTask = new TaskBuilder().withDate("311218").build();
+
+        new AddRepeatCommand(validTask, new Repeat("3"), new Interval("1")).execute(modelStub, commandHistory);
+
+        assertEquals("311218", validTask.getDate().value);
+        assertEquals(Arrays.asList("311218", "010119", "020119"), modelStub.tasksAdded.stream()
+                .map(task -> task.getDate().value).collect(Collectors.toList()));
+    }
+
 
     /**
      * A default model stub that have all of the methods failing.
@@ -150,6 +180,46 @@ public class AddRepeatCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Task> getTasksInDateRange(Date start, Date end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> getArchivedTasksInDateRange(Date start, Date end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public UndoHistorySummary getUndoHistorySummary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateTaskSortOrder(TaskSortOrder sortOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addTasks(List<Task> tasks) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadTasksInDateRange(Date start, Date end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadAllTasks() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadTasksInBackground(Executor modelExecutor) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Task> getFilteredArchivedTaskList() {
             throw new AssertionError("This method should not be called.");
@@ -220,6 +290,7 @@ public class AddRepeatCommandTest {
      */
     private class ModelStubAcceptingTaskAdded extends ModelStub {
         final ArrayList<Task> tasksAdded = new ArrayList<>();
+        final ArrayList<List<Task>> batchesAdded = new ArrayList<>();
         final Category modules = new Category("Modules");
         final Category others = new Category("Others");
         final ArrayList<Tag> tags = new ArrayList<>();
@@ -247,6 +318,13 @@ public class AddRepeatCommandTest {
             tasksAdded.add(task);
         }
 
+        @Override
+        public void addTasks(List<Task> tasks) {
+            requireNonNull(tasks);
+            tasksAdded.addAll(tasks);
+            batchesAdded.add(tasks);
+        }
+
 
         @Override
         public void addTag(Tag tag, String category) {
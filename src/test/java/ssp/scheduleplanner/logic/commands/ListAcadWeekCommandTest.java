@@ -0,0 +1,97 @@
+package ssp.scheduleplanner.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ssp.scheduleplanner.logic.commands.CommandTestUtil.assertCommandFailure;
+import static ssp.scheduleplanner.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static ssp.scheduleplanner.testutil.TypicalTasks.CARL;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ELLE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.FIONA;
+import static ssp.scheduleplanner.testutil.TypicalTasks.GEORGE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalSchedulePlanner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ssp.scheduleplanner.logic.CommandHistory;
+import ssp.scheduleplanner.model.Model;
+import ssp.scheduleplanner.model.ModelManager;
+import ssp.scheduleplanner.model.UserPrefs;
+import ssp.scheduleplanner.model.rangeofweek.SemesterCalendar;
+import ssp.scheduleplanner.model.task.AcademicWeekPredicate;
+import ssp.scheduleplanner.model.task.Date;
+import ssp.scheduleplanner.storage.SemesterCalendarStorage;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListAcadWeekCommand}.
+ */
+public class ListAcadWeekCommandTest {
+    /** Week 8 of this semester runs from 081018 to 141018. */
+    private static final SemesterCalendar CALENDAR = SemesterCalendar.startingOn(Date.of("130818"));
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Model model = new ModelManager(getTypicalSchedulePlanner(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalSchedulePlanner(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+    private SemesterCalendarStorage semesterCalendarStorage;
+
+    @Before
+    public void setUp() throws Exception {
+        semesterCalendarStorage = new SemesterCalendarStorage(testFolder.getRoot().toPath().resolve("weeks.xml"));
+        semesterCalendarStorage.saveSemesterCalendar(CALENDAR);
+    }
+
+    @Test
+    public void equals() {
+        ListAcadWeekCommand week8Command = new ListAcadWeekCommand("Week 8", semesterCalendarStorage);
+
+        // same object -> returns true
+        assertTrue(week8Command.equals(week8Command));
+
+        // same week, ignoring case -> returns true
+        assertTrue(week8Command.equals(new ListAcadWeekCommand("week 8", semesterCalendarStorage)));
+
+        // different types -> returns false
+        assertFalse(week8Command.equals(1));
+
+        // null -> returns false
+        assertFalse(week8Command.equals(null));
+
+        // different week -> returns false
+        assertFalse(week8Command.equals(new ListAcadWeekCommand("Recess Week", semesterCalendarStorage)));
+    }
+
+    @Test
+    public void execute_weekWithTasks_tasksListed() {
+        expectedModel.updateFilteredTaskList(new AcademicWeekPredicate(CALENDAR, "Week 8"));
+        assertCommandSuccess(new ListAcadWeekCommand("week 8", semesterCalendarStorage), model, commandHistory,
+                String.format(ListAcadWeekCommand.MESSAGE_SUCCESS, "Week 8"), expectedModel);
+        assertEquals(new HashSet<>(Arrays.asList(CARL, FIONA, ELLE, GEORGE)),
+                new HashSet<>(model.getFilteredTaskList()));
+    }
+
+    @Test
+    public void execute_weekWithoutTasks_noTaskListed() {
+        expectedModel.updateFilteredTaskList(new AcademicWeekPredicate(CALENDAR, "Recess Week"));
+        assertCommandSuccess(new ListAcadWeekCommand("Recess Week", semesterCalendarStorage), model, commandHistory,
+                String.format(ListAcadWeekCommand.MESSAGE_SUCCESS, "Recess Week"), expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_unknownWeek_throwsCommandException() {
+        String expectedMessage = String.format(ListAcadWeekCommand.MESSAGE_UNKNOWN_WEEK, "Week 14",
+                String.join(", ", CALENDAR.getWeekLabels()));
+        assertCommandFailure(new ListAcadWeekCommand("Week 14", semesterCalendarStorage), model, commandHistory,
+                expectedMessage);
+    }
+}
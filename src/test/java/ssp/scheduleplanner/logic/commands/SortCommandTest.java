@@ -0,0 +1,63 @@
+package ssp.scheduleplanner.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ssp.scheduleplanner.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalSchedulePlanner;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import ssp.scheduleplanner.logic.CommandHistory;
+import ssp.scheduleplanner.model.Model;
+import ssp.scheduleplanner.model.ModelManager;
+import ssp.scheduleplanner.model.UserPrefs;
+import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.model.task.TaskSortOrder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SortCommand.
+ */
+public class SortCommandTest {
+
+    private Model model = new ModelManager(getTypicalSchedulePlanner(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalSchedulePlanner(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_eachSortOrder_tasksListedInThatOrder() {
+        for (TaskSortOrder sortOrder : TaskSortOrder.values()) {
+            String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, sortOrder.getKeyword());
+            expectedModel.updateTaskSortOrder(sortOrder);
+            assertCommandSuccess(new SortCommand(sortOrder), model, commandHistory, expectedMessage, expectedModel);
+
+            List<Task> expectedTasks = model.getSchedulePlanner().getTaskList().stream()
+                    .sorted(sortOrder.getComparator())
+                    .collect(Collectors.toList());
+            assertEquals(expectedTasks, model.getFilteredTaskList());
+        }
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByName = new SortCommand(TaskSortOrder.NAME);
+
+        // same object -> returns true
+        assertTrue(sortByName.equals(sortByName));
+
+        // same values -> returns true
+        assertTrue(sortByName.equals(new SortCommand(TaskSortOrder.NAME)));
+
+        // different types -> returns false
+        assertFalse(sortByName.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByName.equals(null));
+
+        // different sort order -> returns false
+        assertFalse(sortByName.equals(new SortCommand(TaskSortOrder.DATE)));
+    }
+}
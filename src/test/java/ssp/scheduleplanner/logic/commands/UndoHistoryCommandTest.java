@@ -0,0 +1,47 @@
+package ssp.scheduleplanner.logic.commands;
+
+import static ssp.scheduleplanner.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
+
+import org.junit.Test;
+
+import ssp.scheduleplanner.logic.CommandHistory;
+import ssp.scheduleplanner.model.Model;
+import ssp.scheduleplanner.model.ModelManager;
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.UserPrefs;
+
+public class UndoHistoryCommandTest {
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_emptyHistory_showsNoSteps() {
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+        UserPrefs userPrefs = new UserPrefs();
+        String expectedMessage = String.format(UndoHistoryCommand.MESSAGE_SUCCESS, 0, userPrefs.getMaxUndoSteps(),
+                0, 0, userPrefs.getUndoHistoryMemoryBudget() / 1024);
+
+        assertCommandSuccess(new UndoHistoryCommand(), model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_committedAndUndoneSteps_showsSteps() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxUndoSteps(5);
+        userPrefs.setUndoHistoryMemoryBudget(10 * 1024);
+        Model model = new ModelManager(new SchedulePlanner(), userPrefs);
+        model.addTask(ALICE);
+        model.commitSchedulePlanner();
+        model.commitSchedulePlanner();
+        model.undoSchedulePlanner();
+        Model expectedModel = new ModelManager(new SchedulePlanner(), userPrefs);
+        expectedModel.addTask(ALICE);
+        expectedModel.commitSchedulePlanner();
+        expectedModel.commitSchedulePlanner();
+        expectedModel.undoSchedulePlanner();
+
+        String expectedMessage = String.format(UndoHistoryCommand.MESSAGE_SUCCESS, 1, 5, 1, 0, 10);
+        assertCommandSuccess(new UndoHistoryCommand(), model, commandHistory, expectedMessage, expectedModel);
+    }
+}
@@ -0,0 +1,27 @@
+package ssp.scheduleplanner.logic.parser;
+
+import static ssp.scheduleplanner.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static ssp.scheduleplanner.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import ssp.scheduleplanner.commons.core.Messages;
+import ssp.scheduleplanner.logic.commands.ListAcadWeekCommand;
+
+public class ListAcadWeekCommandParserTest {
+    private ListAcadWeekCommandParser parser = new ListAcadWeekCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                ListAcadWeekCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsListAcadWeekCommand() {
+        assertParseSuccess(parser, "Recess Week", new ListAcadWeekCommand("Recess Week"));
+
+        // leading, trailing and repeated whitespaces
+        assertParseSuccess(parser, " \n Recess \t Week  \n", new ListAcadWeekCommand("Recess Week"));
+    }
+}
@@ -24,16 +24,20 @@ import ssp.scheduleplanner.logic.commands.FindCommand;
 import ssp.scheduleplanner.logic.commands.FirstDayCommand;
 import ssp.scheduleplanner.logic.commands.HelpCommand;
 import ssp.scheduleplanner.logic.commands.HistoryCommand;
+import ssp.scheduleplanner.logic.commands.ListAcadWeekCommand;
 import ssp.scheduleplanner.logic.commands.ListCommand;
 import ssp.scheduleplanner.logic.commands.ListDayCommand;
 import ssp.scheduleplanner.logic.commands.ListWeekCommand;
 import ssp.scheduleplanner.logic.commands.RedoCommand;
 import ssp.scheduleplanner.logic.commands.SelectCommand;
+import ssp.scheduleplanner.logic.commands.SortCommand;
 import ssp.scheduleplanner.logic.commands.UndoCommand;
+import ssp.scheduleplanner.logic.commands.UndoHistoryCommand;
 import ssp.scheduleplanner.logic.parser.exceptions.ParseException;
 import ssp.scheduleplanner.model.task.NameContainsKeywordsPredicate;
 import ssp.scheduleplanner.model.task.TagsContainsKeywordsPredicate;
 import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.model.task.TaskSortOrder;
 import ssp.scheduleplanner.testutil.EditTaskDescriptorBuilder;
 import ssp.scheduleplanner.testutil.TaskBuilder;
 import ssp.scheduleplanner.testutil.TaskUtil;
@@ -88,6 +92,12 @@ public class SchedulePlannerParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_sort() throws Exception {
+        SortCommand command = (SortCommand) parser.parseCommand(SortCommand.COMMAND_WORD + " priority");
+        assertEquals(new SortCommand(TaskSortOrder.PRIORITY), command);
+    }
+
     @Test
     public void parseCommand_filter() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -132,6 +142,13 @@ public class SchedulePlannerParserTest {
         assertTrue(parser.parseCommand(ListDayCommand.COMMAND_WORD + " 3") instanceof ListDayCommand);
     }
 
+    @Test
+    public void parseCommand_listAcadWeek() throws Exception {
+        ListAcadWeekCommand command = (ListAcadWeekCommand) parser.parseCommand(
+                ListAcadWeekCommand.COMMAND_WORD + " Recess Week");
+        assertEquals(new ListAcadWeekCommand("Recess Week"), command);
+    }
+
     @Test
     public void parseCommand_listWeek() throws Exception {
         assertTrue(parser.parseCommand(ListWeekCommand.COMMAND_WORD) instanceof ListWeekCommand);
@@ -157,6 +174,12 @@ public class SchedulePlannerParserTest {
         assertTrue(parser.parseCommand("undo 3") instanceof UndoCommand);
     }
 
+    @Test
+    public void parseCommand_undoHistory() throws Exception {
+        assertTrue(parser.parseCommand(UndoHistoryCommand.COMMAND_WORD) instanceof UndoHistoryCommand);
+        assertTrue(parser.parseCommand(UndoHistoryCommand.COMMAND_WORD + " 3") instanceof UndoHistoryCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
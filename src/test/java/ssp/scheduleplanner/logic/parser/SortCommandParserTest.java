@@ -0,0 +1,30 @@
+package ssp.scheduleplanner.logic.parser;
+
+import static ssp.scheduleplanner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static ssp.scheduleplanner.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static ssp.scheduleplanner.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import ssp.scheduleplanner.logic.commands.SortCommand;
+import ssp.scheduleplanner.model.task.TaskSortOrder;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, "venue", expectedMessage);
+        assertParseFailure(parser, "date name", expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, "date", new SortCommand(TaskSortOrder.DATE));
+        assertParseSuccess(parser, " \t Priority \n", new SortCommand(TaskSortOrder.PRIORITY));
+        assertParseSuccess(parser, "NAME", new SortCommand(TaskSortOrder.NAME));
+    }
+}
@@ -1,25 +1,56 @@
 package ssp.scheduleplanner.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static ssp.scheduleplanner.model.Model.PREDICATE_SHOW_ALL_TASKS;
 import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
 import static ssp.scheduleplanner.testutil.TypicalTasks.BENSON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.CARL;
 
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
+import javafx.collections.ObservableList;
+
+import ssp.scheduleplanner.commons.events.model.SchedulePlannerChangedEvent;
+import ssp.scheduleplanner.commons.events.model.TaskLoadingProgressEvent;
+import ssp.scheduleplanner.model.task.Date;
+import ssp.scheduleplanner.model.task.DateRangePredicate;
 import ssp.scheduleplanner.model.task.NameContainsKeywordsPredicate;
+import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.model.task.TaskSortOrder;
+import ssp.scheduleplanner.storage.ShardedSchedulePlannerStorage;
 import ssp.scheduleplanner.testutil.SchedulePlannerBuilder;
+import ssp.scheduleplanner.testutil.TaskBuilder;
+import ssp.scheduleplanner.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -45,6 +76,127 @@ public class ModelManagerTest {
         modelManager.getFilteredTaskList().remove(0);
     }
 
+    @Test
+    public void getTasksInDateRange_afterUndoAndRedo_matchesCurrentState() {
+        Date date = ALICE.getDate();
+        modelManager.addTask(ALICE);
+        modelManager.commitSchedulePlanner();
+        modelManager.updateFilteredTaskList(new DateRangePredicate(date, date));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getTasksInDateRange(date, date));
+
+        modelManager.undoSchedulePlanner();
+        assertEquals(Collections.emptyList(), modelManager.getTasksInDateRange(date, date));
+        assertEquals(Collections.emptyList(), modelManager.getFilteredTaskList());
+
+        modelManager.redoSchedulePlanner();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getTasksInDateRange(date, date));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void getFilteredTaskList_sortOrderUpdated_sameListKeptSorted() {
+        ObservableList<Task> filteredTasks = modelManager.getFilteredTaskList();
+        modelManager.updateTaskSortOrder(TaskSortOrder.NAME);
+        modelManager.addTask(BENSON);
+        modelManager.addTask(ALICE);
+
+        assertSame(filteredTasks, modelManager.getFilteredTaskList());
+        assertEquals(Arrays.asList(ALICE, BENSON), filteredTasks);
+    }
+
+    @Test
+    public void addTasks_undo_allTasksRemovedAtOnce() {
+        modelManager.addTasks(Arrays.asList(ALICE, BENSON));
+        modelManager.commitSchedulePlanner();
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredTaskList());
+
+        modelManager.undoSchedulePlanner();
+        assertEquals(Collections.emptyList(), modelManager.getFilteredTaskList());
+        assertFalse(modelManager.canUndoSchedulePlanner());
+    }
+
+    @Test
+    public void hasTask_taskLeftOutAtStartup_loadedAndFound() {
+        DeferredTaskLoaderStub loader = new DeferredTaskLoaderStub(BENSON);
+        modelManager = new ModelManager(new SchedulePlannerBuilder().withTask(ALICE).build(), new UserPrefs(), loader);
+        assertEquals(Arrays.asList(ALICE), modelManager.getSchedulePlanner().getTaskList());
+
+        assertTrue(modelManager.hasTask(BENSON));
+        assertTrue(loader.isFullyLoaded());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getSchedulePlanner().getTaskList());
+        assertFalse(modelManager.canUndoSchedulePlanner());
+    }
+
+    @Test
+    public void loadAllTasks_afterCommit_loadedTasksKeptByUndo() {
+        modelManager = new ModelManager(new SchedulePlannerBuilder().withTask(ALICE).build(), new UserPrefs(),
+                new DeferredTaskLoaderStub(BENSON));
+        modelManager.addTask(CARL);
+        modelManager.commitSchedulePlanner();
+        modelManager.loadTasksInDateRange(ALICE.getDate(), ALICE.getDate());
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getSchedulePlanner().getTaskList());
+
+        modelManager.loadAllTasks();
+        modelManager.undoSchedulePlanner();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getSchedulePlanner().getTaskList());
+        modelManager.redoSchedulePlanner();
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), modelManager.getSchedulePlanner().getTaskList());
+    }
+
+    @Test
+    public void loadAllTasks_expiredArchivedTaskOutsideStartupMonths_deletedAndSaved() throws Exception {
+        Path directoryPath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner.shards");
+        Task expiredTask = new TaskBuilder(ALICE).withDate(Date.today().plusDays(-400).value).build();
+        Task recentTask = new TaskBuilder(BENSON).withDate(Date.today().plusDays(-2).value).build();
+        SchedulePlanner stored = new SchedulePlanner();
+        stored.addArchivedTasks(Arrays.asList(expiredTask, recentTask));
+        new ShardedSchedulePlannerStorage(directoryPath).saveSchedulePlanner(stored);
+
+        ShardedSchedulePlannerStorage storage = new ShardedSchedulePlannerStorage(directoryPath, Date.today());
+        modelManager = new ModelManager(storage.readSchedulePlanner().get(), new UserPrefs(), storage);
+        modelManager.autoDeleteArchived();
+        modelManager.loadAllTasks();
+
+        assertEquals(Arrays.asList(recentTask), modelManager.getSchedulePlanner().getArchivedTaskList());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof SchedulePlannerChangedEvent);
+        storage.saveSchedulePlanner(modelManager.getSchedulePlanner());
+        assertEquals(Arrays.asList(recentTask),
+                new ShardedSchedulePlannerStorage(directoryPath).readSchedulePlanner().get().getArchivedTaskList());
+    }
+
+    @Test
+    public void loadTasksInBackground_deferredTasks_addedThroughExecutorWithProgress() throws Exception {
+        modelManager = new ModelManager(new SchedulePlannerBuilder().withTask(ALICE).build(), new UserPrefs(),
+                new DeferredTaskLoaderStub(CARL, BENSON));
+        BlockingQueue<Runnable> modelThreadTasks = new LinkedBlockingQueue<>();
+        modelManager.loadTasksInBackground(modelThreadTasks::add);
+        assertEquals(new TaskLoadingProgressEvent(0, 2).toString(),
+                eventsCollectorRule.eventsCollector.getMostRecent().toString());
+
+        // the loaded tasks are only added on the model thread
+        while (!(eventsCollectorRule.eventsCollector.getMostRecent() instanceof TaskLoadingProgressEvent
+                && ((TaskLoadingProgressEvent) eventsCollectorRule.eventsCollector.getMostRecent()).isComplete())) {
+            Runnable modelThreadTask = modelThreadTasks.poll(5, TimeUnit.SECONDS);
+            assertNotNull(modelThreadTask);
+            modelThreadTask.run();
+        }
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), modelManager.getSchedulePlanner().getTaskList());
+
+        // the tasks shown keep their positions until the list is filtered again
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredTaskList());
+        modelManager.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, CARL, BENSON)),
+                new HashSet<>(modelManager.getFilteredTaskList()));
+    }
+
+    @Test
+    public void loadTasksInBackground_noDeferredTasks_nothingStarted() {
+        modelManager.loadTasksInBackground(task -> {
+            throw new AssertionError("Nothing should be loaded.");
+        });
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
     @Test
     public void equals() {
         SchedulePlanner schedulePlanner = new SchedulePlannerBuilder().withTask(ALICE).withTask(BENSON).build();
@@ -81,4 +233,77 @@ public class ModelManagerTest {
         differentUserPrefs.setSchedulePlannerFilePath(Paths.get("differentFilePath"));
         assertTrue(modelManager.equals(new ModelManager(schedulePlanner, differentUserPrefs)));
     }
+
+    /**
+     * A loader that holds back some tasks until they are asked for, each task being one part of the held back tasks.
+     */
+    private static class DeferredTaskLoaderStub implements DeferredTaskLoader {
+        private final List<Task> deferredTasks;
+        private final List<Task> readAheadTasks = new ArrayList<>();
+
+        DeferredTaskLoaderStub(Task... deferredTasks) {
+            this.deferredTasks = new ArrayList<>(Arrays.asList(deferredTasks));
+        }
+
+        @Override
+        public synchronized boolean isFullyLoaded() {
+            return deferredTasks.isEmpty() && readAheadTasks.isEmpty();
+        }
+
+        @Override
+        public synchronized boolean isLoaded(Date start, Date end) {
+            return deferredTasks.stream().noneMatch(task -> isInRange(task, start, end))
+                    && readAheadTasks.stream().noneMatch(task -> isInRange(task, start, end));
+        }
+
+        @Override
+        public ReadOnlySchedulePlanner loadTasksInDateRange(Date start, Date end) {
+            return load(task -> isInRange(task, start, end));
+        }
+
+        @Override
+        public ReadOnlySchedulePlanner loadAllTasks() {
+            return load(task -> true);
+        }
+
+        @Override
+        public synchronized ReadOnlySchedulePlanner loadReadAheadTasks() {
+            return load(readAheadTasks::contains);
+        }
+
+        @Override
+        public synchronized boolean readAheadNextPart() {
+            if (deferredTasks.isEmpty()) {
+                return false;
+            }
+            readAheadTasks.add(deferredTasks.remove(0));
+            return true;
+        }
+
+        @Override
+        public synchronized int countUnreadParts() {
+            return deferredTasks.size();
+        }
+
+        /**
+         * Returns true if {@code task} is dated from {@code start} to {@code end} inclusive.
+         */
+        private static boolean isInRange(Task task, Date start, Date end) {
+            return Date.compare(start, task.getDate()) <= 0 && Date.compare(task.getDate(), end) <= 0;
+        }
+
+        /**
+         * Returns the held back tasks that match {@code predicate}, and stops holding them back.
+         */
+        private synchronized ReadOnlySchedulePlanner load(Predicate<Task> predicate) {
+            List<Task> loadedTasks = new ArrayList<>(readAheadTasks);
+            loadedTasks.addAll(deferredTasks);
+            loadedTasks.removeIf(predicate.negate());
+            deferredTasks.removeAll(loadedTasks);
+            readAheadTasks.removeAll(loadedTasks);
+            SchedulePlanner loaded = new SchedulePlanner();
+            loaded.addTasks(loadedTasks);
+            return loaded;
+        }
+    }
 }
@@ -2,6 +2,8 @@ package ssp.scheduleplanner.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static ssp.scheduleplanner.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static ssp.scheduleplanner.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -21,6 +23,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import ssp.scheduleplanner.model.category.Category;
 import ssp.scheduleplanner.model.tag.Tag;
+import ssp.scheduleplanner.model.task.Date;
 import ssp.scheduleplanner.model.task.Task;
 import ssp.scheduleplanner.model.task.exceptions.DuplicateTaskException;
 import ssp.scheduleplanner.testutil.TaskBuilder;
@@ -68,6 +71,20 @@ public class SchedulePlannerTest {
         schedulePlanner.resetData(newData);
     }
 
+    @Test
+    public void autoDeleteArchived_tasksOlderThanTwoWeeks_deleted() {
+        Date today = Date.today();
+        Task expired = new TaskBuilder().withName("Expired").withDate(today.plusDays(-14).value).build();
+        Task expiredWithOtherPriority = new TaskBuilder(expired).withPriority("3").build();
+        Task kept = new TaskBuilder().withName("Kept").withDate(today.plusDays(-13).value).build();
+        schedulePlanner.addArchivedTask(expired);
+        schedulePlanner.addArchivedTask(kept);
+        schedulePlanner.addArchivedTask(expiredWithOtherPriority);
+
+        schedulePlanner.autoDeleteArchived();
+        assertEquals(Collections.singletonList(kept), schedulePlanner.getArchivedTaskList());
+    }
+
     @Test
     public void hasTask_nullTask_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -101,6 +118,67 @@ public class SchedulePlannerTest {
         assertFalse(schedulePlanner.hasTask(editedAlice));
     }
 
+    @Test
+    public void addTasks_newTasks_tasksAndUncategorizedTagsAdded() {
+        Task bob = new TaskBuilder().withName("Bob").withTags("lab", "friends").build();
+        Task carl = new TaskBuilder().withName("Carl").withTags("lab").build();
+        schedulePlanner.addTasks(Arrays.asList(bob, carl));
+
+        assertEquals(Arrays.asList(bob, carl), schedulePlanner.getTaskList());
+        Category others = schedulePlanner.getCategory("Others");
+        assertTrue(others.hasTag(new Tag("lab")));
+        assertTrue(others.hasTag(new Tag("friends")));
+        assertEquals(2, others.getTags().size());
+    }
+
+    @Test
+    public void addTasks_duplicateTasks_nothingAdded() {
+        Task aliceWithNewTag = new TaskBuilder(ALICE).withTags("lab").build();
+        try {
+            schedulePlanner.addTasks(Arrays.asList(aliceWithNewTag, aliceWithNewTag));
+            throw new AssertionError("The expected DuplicateTaskException was not thrown.");
+        } catch (DuplicateTaskException dte) {
+            assertEquals(Collections.emptyList(), schedulePlanner.getTaskList());
+            assertFalse(schedulePlanner.getCategory("Others").hasTag(new Tag("lab")));
+        }
+    }
+
+    @Test
+    public void getListVersions_noChange_sameVersions() {
+        ListVersion taskListVersion = schedulePlanner.getTaskListVersion();
+        schedulePlanner.hasTask(ALICE);
+        assertSame(taskListVersion, schedulePlanner.getTaskListVersion());
+        assertNotSame(taskListVersion, new SchedulePlanner().getTaskListVersion());
+    }
+
+    @Test
+    public void editCategory_onlyCategoryListVersionChanged() {
+        SchedulePlanner schedulePlanner = getTypicalSchedulePlanner();
+        ListVersion categoryListVersion = schedulePlanner.getCategoryListVersion();
+        ListVersion taskListVersion = schedulePlanner.getTaskListVersion();
+        ListVersion archivedTaskListVersion = schedulePlanner.getArchivedTaskListVersion();
+
+        schedulePlanner.editCategory("Others", "Misc");
+
+        assertNotSame(categoryListVersion, schedulePlanner.getCategoryListVersion());
+        assertSame(taskListVersion, schedulePlanner.getTaskListVersion());
+        assertSame(archivedTaskListVersion, schedulePlanner.getArchivedTaskListVersion());
+    }
+
+    @Test
+    public void archiveTask_taskAndArchivedTaskListVersionsChanged() {
+        SchedulePlanner schedulePlanner = getTypicalSchedulePlanner();
+        ListVersion categoryListVersion = schedulePlanner.getCategoryListVersion();
+        ListVersion taskListVersion = schedulePlanner.getTaskListVersion();
+        ListVersion archivedTaskListVersion = schedulePlanner.getArchivedTaskListVersion();
+
+        schedulePlanner.archiveTask(ALICE);
+
+        assertSame(categoryListVersion, schedulePlanner.getCategoryListVersion());
+        assertNotSame(taskListVersion, schedulePlanner.getTaskListVersion());
+        assertNotSame(archivedTaskListVersion, schedulePlanner.getArchivedTaskListVersion());
+    }
+
     @Test
     public void getTaskList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
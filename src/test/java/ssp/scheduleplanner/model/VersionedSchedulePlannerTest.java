@@ -14,6 +14,7 @@ import java.util.List;
 
 import org.junit.Test;
 
+import ssp.scheduleplanner.model.tag.Tag;
 import ssp.scheduleplanner.testutil.SchedulePlannerBuilder;
 
 public class VersionedSchedulePlannerTest {
@@ -207,6 +208,103 @@ public class VersionedSchedulePlannerTest {
         assertThrows(VersionedSchedulePlanner.NoRedoableStateException.class, versionedSchedulePlanner::redo);
     }
 
+    @Test
+    public void undo_uncommittedChanges_uncommittedChangesDiscarded() {
+        VersionedSchedulePlanner versionedSchedulePlanner = prepareSchedulePlannerList(
+                emptySchedulePlanner, schedulePlannerWithAmy);
+        versionedSchedulePlanner.addTask(BOB);
+
+        versionedSchedulePlanner.undo();
+        assertSchedulePlannerListStatus(versionedSchedulePlanner,
+                Collections.emptyList(),
+                emptySchedulePlanner,
+                Collections.singletonList(schedulePlannerWithAmy));
+    }
+
+    @Test
+    public void undo_nonAdjacentTasksRemoved_taskOrderRestored() {
+        ReadOnlySchedulePlanner schedulePlannerWithAmyBobCarl = new SchedulePlannerBuilder()
+                .withTask(AMY).withTask(BOB).withTask(CARL).build();
+        VersionedSchedulePlanner versionedSchedulePlanner = prepareSchedulePlannerList(schedulePlannerWithAmyBobCarl);
+        versionedSchedulePlanner.removeTask(AMY);
+        versionedSchedulePlanner.removeTask(CARL);
+        versionedSchedulePlanner.commit();
+
+        versionedSchedulePlanner.undo();
+        assertEquals(Arrays.asList(AMY, BOB, CARL), versionedSchedulePlanner.getTaskList());
+
+        versionedSchedulePlanner.redo();
+        assertEquals(Collections.singletonList(BOB), versionedSchedulePlanner.getTaskList());
+    }
+
+    @Test
+    public void undo_tagAdded_categoryRestored() {
+        VersionedSchedulePlanner versionedSchedulePlanner = prepareSchedulePlannerList(emptySchedulePlanner);
+        Tag tag = new Tag("CS2103");
+        versionedSchedulePlanner.addTag(tag, "Modules");
+        versionedSchedulePlanner.commit();
+
+        versionedSchedulePlanner.undo();
+        assertFalse(versionedSchedulePlanner.getCategory("Modules").hasTag(tag));
+
+        versionedSchedulePlanner.redo();
+        assertTrue(versionedSchedulePlanner.getCategory("Modules").hasTag(tag));
+    }
+
+    @Test
+    public void commit_moreStatesThanMaxUndoSteps_oldestStatesForgotten() {
+        VersionedSchedulePlanner versionedSchedulePlanner = new VersionedSchedulePlanner(emptySchedulePlanner, 2,
+                VersionedSchedulePlanner.DEFAULT_MEMORY_BUDGET);
+        versionedSchedulePlanner.resetData(schedulePlannerWithAmy);
+        versionedSchedulePlanner.commit();
+        versionedSchedulePlanner.resetData(schedulePlannerWithBob);
+        versionedSchedulePlanner.commit();
+        versionedSchedulePlanner.resetData(schedulePlannerWithCarl);
+        versionedSchedulePlanner.commit();
+
+        assertSchedulePlannerListStatus(versionedSchedulePlanner,
+                Arrays.asList(schedulePlannerWithAmy, schedulePlannerWithBob),
+                schedulePlannerWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_historyOverMemoryBudget_oldestStatesForgottenLatestKept() {
+        VersionedSchedulePlanner versionedSchedulePlanner = new VersionedSchedulePlanner(emptySchedulePlanner,
+                VersionedSchedulePlanner.DEFAULT_MAX_UNDO_STEPS, 0);
+        versionedSchedulePlanner.resetData(schedulePlannerWithAmy);
+        versionedSchedulePlanner.commit();
+        versionedSchedulePlanner.resetData(schedulePlannerWithBob);
+        versionedSchedulePlanner.commit();
+
+        assertSchedulePlannerListStatus(versionedSchedulePlanner,
+                Collections.singletonList(schedulePlannerWithAmy),
+                schedulePlannerWithBob,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void getUndoHistorySummary_stepsUndone_countsStepsAndMemory() {
+        VersionedSchedulePlanner versionedSchedulePlanner = prepareSchedulePlannerList(
+                new SchedulePlannerBuilder().withTask(AMY).withTask(BOB).build());
+        versionedSchedulePlanner.removeTask(AMY);
+        versionedSchedulePlanner.commit();
+        versionedSchedulePlanner.removeTask(BOB);
+        versionedSchedulePlanner.commit();
+        versionedSchedulePlanner.undo();
+
+        assertEquals(new UndoHistorySummary(1, 1, VersionedSchedulePlanner.DEFAULT_MAX_UNDO_STEPS,
+                2 * VersionedSchedulePlanner.ESTIMATED_BYTES_PER_ELEMENT,
+                VersionedSchedulePlanner.DEFAULT_MEMORY_BUDGET),
+                versionedSchedulePlanner.getUndoHistorySummary());
+
+        // committing drops the undone step
+        versionedSchedulePlanner.commit();
+        assertEquals(new UndoHistorySummary(2, 0, VersionedSchedulePlanner.DEFAULT_MAX_UNDO_STEPS,
+                VersionedSchedulePlanner.ESTIMATED_BYTES_PER_ELEMENT, VersionedSchedulePlanner.DEFAULT_MEMORY_BUDGET),
+                versionedSchedulePlanner.getUndoHistorySummary());
+    }
+
     @Test
     public void equals() {
         VersionedSchedulePlanner versionedSchedulePlanner = prepareSchedulePlannerList(schedulePlannerWithAmy,
@@ -0,0 +1,135 @@
+package ssp.scheduleplanner.model.rangeofweek;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import ssp.scheduleplanner.model.task.Date;
+
+public class SemesterCalendarTest {
+    private static final Date FIRST_DAY = Date.of("130818");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final SemesterCalendar calendar = SemesterCalendar.startingOn(FIRST_DAY);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new SemesterCalendar(null);
+    }
+
+    @Test
+    public void constructor_invalidWeeks_throwsIllegalArgumentException() {
+        List<RangeOfWeek> weeks = new ArrayList<>(calendar.getWeeks());
+        weeks.remove(0);
+        thrown.expect(IllegalArgumentException.class);
+        new SemesterCalendar(weeks);
+    }
+
+    @Test
+    public void startingOn_labelsWeeksOfAcademicCalendar() {
+        List<RangeOfWeek> weeks = calendar.getWeeks();
+        assertEquals(SemesterCalendar.WEEKS_IN_SEMESTER, weeks.size());
+        assertEquals(new RangeOfWeek("130818", "190818", "Week 1"), weeks.get(0));
+        assertEquals(new RangeOfWeek("240918", "300918", "Recess Week"), weeks.get(6));
+        assertEquals(new RangeOfWeek("011018", "071018", "Week 7"), weeks.get(7));
+        assertEquals(new RangeOfWeek("191118", "251118", "Study Week"), weeks.get(14));
+        assertEquals(new RangeOfWeek("031218", "091218", "Examination Week"), weeks.get(16));
+    }
+
+    @Test
+    public void isValidWeeks() {
+        List<RangeOfWeek> weeks = new ArrayList<>(calendar.getWeeks());
+        assertTrue(SemesterCalendar.isValidWeeks(weeks));
+
+        // invalid number of weeks
+        assertFalse(SemesterCalendar.isValidWeeks(weeks.subList(1, weeks.size())));
+
+        // invalid date
+        weeks.set(3, new RangeOfWeek("310218", "060318", "Week 4"));
+        assertFalse(SemesterCalendar.isValidWeeks(weeks));
+
+        // week ending before it starts
+        weeks.set(3, new RangeOfWeek("090918", "030918", "Week 4"));
+        assertFalse(SemesterCalendar.isValidWeeks(weeks));
+    }
+
+    @Test
+    public void isWithinSemester() {
+        assertFalse(calendar.isWithinSemester(Date.of("120818")));
+        assertTrue(calendar.isWithinSemester(Date.of("130818")));
+        assertTrue(calendar.isWithinSemester(Date.of("211018")));
+        assertTrue(calendar.isWithinSemester(Date.of("091218")));
+        assertFalse(calendar.isWithinSemester(Date.of("101218")));
+    }
+
+    @Test
+    public void getWeekLabel() {
+        assertEquals(Optional.empty(), calendar.getWeekLabel(Date.of("120818")));
+        assertEquals(Optional.of("Week 1"), calendar.getWeekLabel(Date.of("130818")));
+        assertEquals(Optional.of("Week 1"), calendar.getWeekLabel(Date.of("190818")));
+        assertEquals(Optional.of("Recess Week"), calendar.getWeekLabel(Date.of("270918")));
+        assertEquals(Optional.of("Week 9"), calendar.getWeekLabel(Date.of("211018")));
+        assertEquals(Optional.of("Examination Week"), calendar.getWeekLabel(Date.of("091218")));
+        assertEquals(Optional.empty(), calendar.getWeekLabel(Date.of("101218")));
+    }
+
+    @Test
+    public void getWeeksLabelled() {
+        List<RangeOfWeek> weeks = calendar.getWeeks();
+        assertEquals(Collections.singletonList(weeks.get(6)), calendar.getWeeksLabelled("recess WEEK"));
+        assertEquals(weeks.subList(15, 17), calendar.getWeeksLabelled("Examination Week"));
+        assertEquals(Collections.emptyList(), calendar.getWeeksLabelled("Week 14"));
+    }
+
+    @Test
+    public void getWeekLabels_returnsEachLabelOnce() {
+        List<String> labels = calendar.getWeekLabels();
+        assertEquals(SemesterCalendar.WEEKS_IN_SEMESTER - 1, labels.size());
+        assertEquals("Week 1", labels.get(0));
+        assertEquals("Examination Week", labels.get(labels.size() - 1));
+    }
+
+    @Test
+    public void getWeek_gapBetweenWeeks_returnsEmpty() {
+        List<RangeOfWeek> weeks = new ArrayList<>(calendar.getWeeks());
+        weeks.set(1, new RangeOfWeek("220818", "260818", "Week 2"));
+        SemesterCalendar calendarWithGap = new SemesterCalendar(weeks);
+
+        assertTrue(calendarWithGap.isWithinSemester(Date.of("210818")));
+        assertEquals(Optional.empty(), calendarWithGap.getWeek(Date.of("210818")));
+        assertEquals(Optional.of(weeks.get(1)), calendarWithGap.getWeek(Date.of("220818")));
+    }
+
+    @Test
+    public void getWeek_overlappingWeeks_returnsEarliestWeek() {
+        List<RangeOfWeek> weeks = new ArrayList<>(calendar.getWeeks());
+        weeks.set(1, new RangeOfWeek("160818", "260818", "Week 2"));
+        SemesterCalendar overlappingCalendar = new SemesterCalendar(weeks);
+
+        assertEquals(Optional.of(weeks.get(0)), overlappingCalendar.getWeek(Date.of("170818")));
+        assertEquals(Optional.of(weeks.get(1)), overlappingCalendar.getWeek(Date.of("200818")));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(calendar.equals(calendar));
+        assertTrue(calendar.equals(SemesterCalendar.startingOn(FIRST_DAY)));
+        assertEquals(calendar.hashCode(), SemesterCalendar.startingOn(FIRST_DAY).hashCode());
+
+        assertFalse(calendar.equals(null));
+        assertFalse(calendar.equals(5));
+        assertFalse(calendar.equals(SemesterCalendar.startingOn(FIRST_DAY.plusDays(7))));
+    }
+}
@@ -1,5 +1,9 @@
 package ssp.scheduleplanner.model.tag;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
 import org.junit.Test;
 
 import ssp.scheduleplanner.testutil.Assert;
@@ -23,4 +27,13 @@ public class TagTest {
         Assert.assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of_namesDifferingInCase_keptApart() {
+        Tag upper = Tag.of(new String("CS2103"));
+        Tag lower = Tag.of(new String("cs2103"));
+        assertSame(upper, Tag.of("CS2103"));
+        assertNotSame(upper, lower);
+        assertEquals("CS2103", upper.getTagName());
+        assertEquals("cs2103", lower.getTagName());
+    }
 }
@@ -0,0 +1,90 @@
+package ssp.scheduleplanner.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.CARL;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ELLE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.FIONA;
+import static ssp.scheduleplanner.testutil.TypicalTasks.GEORGE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalTasks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import ssp.scheduleplanner.model.rangeofweek.RangeOfWeek;
+import ssp.scheduleplanner.model.rangeofweek.SemesterCalendar;
+import ssp.scheduleplanner.testutil.TaskBuilder;
+
+public class AcademicWeekPredicateTest {
+    /** Week 8 of this semester runs from 081018 to 141018. */
+    private static final SemesterCalendar CALENDAR = SemesterCalendar.startingOn(Date.of("130818"));
+
+    @Test
+    public void equals() {
+        AcademicWeekPredicate predicate = new AcademicWeekPredicate(CALENDAR, "Week 8");
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // same values, ignoring case -> returns true
+        assertTrue(predicate.equals(new AcademicWeekPredicate(SemesterCalendar.startingOn(Date.of("130818")),
+                "week 8")));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different week -> returns false
+        assertFalse(predicate.equals(new AcademicWeekPredicate(CALENDAR, "Week 9")));
+
+        // different calendar -> returns false
+        assertFalse(predicate.equals(new AcademicWeekPredicate(SemesterCalendar.startingOn(Date.of("200818")),
+                "Week 8")));
+    }
+
+    @Test
+    public void test_dateInWeek_returnsTrue() {
+        assertTrue(new AcademicWeekPredicate(CALENDAR, "Week 8").test(CARL));
+        assertTrue(new AcademicWeekPredicate(CALENDAR, "WEEK 8").test(ELLE));
+
+        // a label shared by two weeks matches both of them
+        AcademicWeekPredicate examinationWeek = new AcademicWeekPredicate(CALENDAR, "Examination Week");
+        assertTrue(examinationWeek.test(new TaskBuilder().withDate("261118").build()));
+        assertTrue(examinationWeek.test(new TaskBuilder().withDate("091218").build()));
+    }
+
+    @Test
+    public void test_dateNotInWeek_returnsFalse() {
+        assertFalse(new AcademicWeekPredicate(CALENDAR, "Week 9").test(CARL));
+        assertFalse(new AcademicWeekPredicate(CALENDAR, "Week 8").test(ALICE));
+        assertFalse(new AcademicWeekPredicate(CALENDAR, "Week 8").test(new TaskBuilder().withDate("071018").build()));
+        assertFalse(new AcademicWeekPredicate(CALENDAR, "Week 20").test(CARL));
+    }
+
+    @Test
+    public void getCandidates_returnsTasksInWeekInDateOrder() {
+        UniqueTaskList taskList = new UniqueTaskList();
+        taskList.setTasks(getTypicalTasks());
+
+        assertEquals(Arrays.asList(CARL, FIONA, ELLE, GEORGE),
+                new AcademicWeekPredicate(CALENDAR, "Week 8").getCandidates(taskList.getIndex()));
+        assertEquals(Collections.emptyList(),
+                new AcademicWeekPredicate(CALENDAR, "Week 20").getCandidates(taskList.getIndex()));
+    }
+
+    @Test
+    public void getCandidates_overlappingWeeksWithSameLabel_returnsEachTaskOnce() {
+        List<RangeOfWeek> weeks = new ArrayList<>(CALENDAR.getWeeks());
+        weeks.set(9, new RangeOfWeek("121018", "211018", "Week 8"));
+        UniqueTaskList taskList = new UniqueTaskList();
+        taskList.setTasks(getTypicalTasks());
+
+        assertEquals(Arrays.asList(CARL, FIONA, ELLE, GEORGE),
+                new AcademicWeekPredicate(new SemesterCalendar(weeks), "Week 8").getCandidates(taskList.getIndex()));
+    }
+}
@@ -0,0 +1,79 @@
+package ssp.scheduleplanner.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.BENSON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.CARL;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ELLE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.FIONA;
+import static ssp.scheduleplanner.testutil.TypicalTasks.GEORGE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalTasks;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import ssp.scheduleplanner.testutil.TaskBuilder;
+
+public class DateRangePredicateTest {
+    private static final Date START = new Date("131018");
+    private static final Date END = new Date("130921");
+
+    @Test
+    public void equals() {
+        DateRangePredicate predicate = new DateRangePredicate(START, END);
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new DateRangePredicate(new Date("131018"), new Date("130921"))));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different range -> returns false
+        assertFalse(predicate.equals(new DateRangePredicate(START, START)));
+    }
+
+    @Test
+    public void test_dateWithinRange_returnsTrue() {
+        DateRangePredicate predicate = new DateRangePredicate(START, END);
+
+        // start and end dates are inclusive
+        assertTrue(predicate.test(CARL));
+        assertTrue(predicate.test(BENSON));
+        assertTrue(predicate.test(ELLE));
+    }
+
+    @Test
+    public void test_dateOutsideRange_returnsFalse() {
+        DateRangePredicate predicate = new DateRangePredicate(START, END);
+        assertFalse(predicate.test(ALICE));
+        assertFalse(predicate.test(new TaskBuilder().withDate("121018").build()));
+    }
+
+    @Test
+    public void getCandidates_returnsTasksInRangeInDateOrder() {
+        UniqueTaskList taskList = new UniqueTaskList();
+        taskList.setTasks(getTypicalTasks());
+
+        assertEquals(Arrays.asList(CARL, FIONA, ELLE, GEORGE, BENSON),
+                new DateRangePredicate(START, END).getCandidates(taskList.getIndex()));
+        assertEquals(Collections.emptyList(),
+                new DateRangePredicate(END, START).getCandidates(taskList.getIndex()));
+    }
+
+    @Test
+    public void getCandidates_afterRemoval_excludesRemovedTask() {
+        UniqueTaskList taskList = new UniqueTaskList();
+        taskList.setTasks(getTypicalTasks());
+        taskList.remove(CARL);
+
+        assertEquals(Collections.singletonList(FIONA),
+                new DateRangePredicate(START, START).getCandidates(taskList.getIndex()));
+    }
+}
@@ -1,8 +1,19 @@
 package ssp.scheduleplanner.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Test;
 
 import ssp.scheduleplanner.testutil.Assert;
@@ -42,4 +53,81 @@ public class DateTest {
         assertTrue(Date.isValidDate("031234"));
         assertTrue(Date.isValidDate("120223"));
     }
+
+    @Test
+    public void of_sameDay_returnsSharedInstance() {
+        Date date = Date.of("291218");
+        assertSame(date, Date.of("291218"));
+        assertEquals(new Date("291218"), date);
+        Assert.assertThrows(IllegalArgumentException.class, () -> Date.of("300218"));
+    }
+
+    @Test
+    public void of_sameDaysFromSeveralThreads_returnsSharedInstances() throws Exception {
+        // the days of a year that no other test asks for, so that none of them is shared yet
+        List<String> days = new ArrayList<>();
+        for (LocalDate day = LocalDate.of(2087, 1, 1); day.getYear() == 2087; day = day.plusDays(1)) {
+            days.add(day.format(DateTimeFormatter.ofPattern("ddMMyy")));
+        }
+        int threadCount = 8;
+        CyclicBarrier start = new CyclicBarrier(threadCount);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<List<Date>>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    List<Date> dates = new ArrayList<>();
+                    for (String day : days) {
+                        dates.add(Date.of(day));
+                    }
+                    return dates;
+                }));
+            }
+            List<Date> firstDates = results.get(0).get();
+            for (Future<List<Date>> result : results) {
+                List<Date> dates = result.get();
+                for (int i = 0; i < days.size(); i++) {
+                    assertSame(firstDates.get(i), dates.get(i));
+                }
+            }
+            assertSame(firstDates.get(0), Date.of(days.get(0)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void plusDays_acrossMonthAndYear_returnsCorrectDate() {
+        Date date = Date.of("291218");
+        assertEquals(Date.of("010119"), date.plusDays(3));
+        assertEquals(Date.of("010319"), date.plusDays(62));
+        assertEquals(Date.of("290220"), Date.of("010320").plusDays(-1)); // leap year
+        assertSame(date, date.plusDays(0));
+        assertEquals(date.getEpochDay() + 3, date.plusDays(3).getEpochDay());
+    }
+
+    @Test
+    public void plusDays_beyondSupportedYears_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Date.of("311299").plusDays(1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Date.of("010100").plusDays(-1));
+    }
+
+    @Test
+    public void today_returnsSystemDate() {
+        assertEquals(LocalDate.now().toEpochDay(), Date.today().getEpochDay());
+    }
+
+    @Test
+    public void getDisplayDate() {
+        assertEquals("19 Dec 2019", Date.of("191219").getDisplayDate());
+        assertEquals("01 Jan 2000", new Date("010100").getDisplayDate());
+    }
+
+    @Test
+    public void compare() {
+        assertEquals(-1, Date.compare(Date.of("311218"), Date.of("010119")));
+        assertEquals(0, Date.compare(Date.of("010119"), new Date("010119")));
+        assertEquals(1, Date.compare(Date.of("020119"), Date.of("010119")));
+    }
 }
@@ -0,0 +1,145 @@
+package ssp.scheduleplanner.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.BENSON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.CARL;
+import static ssp.scheduleplanner.testutil.TypicalTasks.DANIEL;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ELLE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.FIONA;
+import static ssp.scheduleplanner.testutil.TypicalTasks.GEORGE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalTasks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import ssp.scheduleplanner.testutil.TaskBuilder;
+
+public class FilteredTaskListTest {
+    private static final DateRangePredicate OCTOBER_2018 =
+            new DateRangePredicate(new Date("011018"), new Date("311018"));
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueTaskList taskList = new UniqueTaskList();
+    private FilteredTaskList filteredTaskList;
+
+    @Before
+    public void setUp() {
+        taskList.setTasks(getTypicalTasks());
+        filteredTaskList = new FilteredTaskList(taskList.asUnmodifiableObservableList(), taskList.getIndex());
+    }
+
+    @Test
+    public void constructor_showsAllTasks() {
+        assertEquals(getTypicalTasks(), filteredTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        filteredTaskList.setPredicate(null);
+    }
+
+    @Test
+    public void setPredicate_indexedPredicate_showsMatchingTasks() {
+        filteredTaskList.setPredicate(OCTOBER_2018);
+        assertEquals(Arrays.asList(CARL, FIONA, ELLE, GEORGE), filteredTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_unindexedPredicate_showsMatchingTasksInListOrder() {
+        filteredTaskList.setPredicate(task -> task.getTags().isEmpty());
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE), filteredTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_samePredicate_viewStaysUpToDate() {
+        Predicate<Task> showAll = unused -> true;
+        filteredTaskList.setPredicate(showAll);
+        taskList.remove(ALICE);
+        filteredTaskList.setPredicate(showAll);
+
+        List<Task> expectedTasks = new ArrayList<>(getTypicalTasks());
+        expectedTasks.remove(ALICE);
+        assertEquals(expectedTasks, filteredTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_matchingAndNonMatchingTasks_onlyMatchingTaskShown() {
+        filteredTaskList.setPredicate(OCTOBER_2018);
+        Task octoberTask = new TaskBuilder().withName("October").withDate("201018").build();
+        Task novemberTask = new TaskBuilder().withName("November").withDate("201118").build();
+        taskList.add(octoberTask);
+        taskList.add(novemberTask);
+
+        assertEquals(Arrays.asList(CARL, FIONA, ELLE, GEORGE, octoberTask),
+                filteredTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void holdBack_tasksAdded_shownOnceThePredicateIsSetAgain() {
+        filteredTaskList.setPredicate(OCTOBER_2018);
+        Task heldBackTask = new TaskBuilder().withName("Held back").withDate("021018").build();
+        Task octoberTask = new TaskBuilder().withName("October").withDate("201018").build();
+        filteredTaskList.holdBack(Collections.singletonList(heldBackTask));
+        taskList.add(heldBackTask);
+        taskList.add(octoberTask);
+        assertEquals(Arrays.asList(CARL, FIONA, ELLE, GEORGE, octoberTask),
+                filteredTaskList.asUnmodifiableObservableList());
+
+        // setting the same predicate shows the held back tasks too
+        filteredTaskList.setPredicate(OCTOBER_2018);
+        assertEquals(new HashSet<>(Arrays.asList(CARL, FIONA, ELLE, GEORGE, heldBackTask, octoberTask)),
+                new HashSet<>(filteredTaskList.asUnmodifiableObservableList()));
+    }
+
+    @Test
+    public void remove_shownTask_taskNoLongerShown() {
+        filteredTaskList.setPredicate(OCTOBER_2018);
+        taskList.remove(FIONA);
+        assertEquals(Arrays.asList(CARL, ELLE, GEORGE), filteredTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTask_editedTaskStillMatches_keepsPosition() {
+        filteredTaskList.setPredicate(OCTOBER_2018);
+        Task editedFiona = new TaskBuilder(FIONA).withPriority("3").build();
+        taskList.setTask(FIONA, editedFiona);
+
+        List<Task> shownTasks = filteredTaskList.asUnmodifiableObservableList();
+        assertEquals(Arrays.asList(CARL, editedFiona, ELLE, GEORGE), shownTasks);
+        assertTrue(shownTasks.get(1) == editedFiona);
+    }
+
+    @Test
+    public void setTask_editedTaskNoLongerMatches_taskNoLongerShown() {
+        filteredTaskList.setPredicate(OCTOBER_2018);
+        Task editedFiona = new TaskBuilder(FIONA).withDate("011118").build();
+        taskList.setTask(FIONA, editedFiona);
+
+        assertEquals(Arrays.asList(CARL, ELLE, GEORGE), filteredTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTasks_wholeListReplaced_viewFilteredAgain() {
+        filteredTaskList.setPredicate(OCTOBER_2018);
+        taskList.setTasks(Arrays.asList(ALICE, BENSON, DANIEL));
+        assertEquals(Collections.emptyList(), filteredTaskList.asUnmodifiableObservableList());
+
+        taskList.setTasks(getTypicalTasks());
+        assertEquals(new HashSet<>(Arrays.asList(CARL, FIONA, ELLE, GEORGE)),
+                new HashSet<>(filteredTaskList.asUnmodifiableObservableList()));
+    }
+}
@@ -1,5 +1,6 @@
 package ssp.scheduleplanner.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -55,6 +56,10 @@ public class NameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new TaskBuilder().withName("Alice Bob").build()));
+
+        // Prefix keyword
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("lEc*"));
+        assertTrue(predicate.test(new TaskBuilder().withName("CS2103 Lecture").build()));
     }
 
     @Test
@@ -71,5 +76,31 @@ public class NameContainsKeywordsPredicateTest {
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("120345", "alice@email.com", "Main", "Street"));
         assertFalse(predicate.test(new TaskBuilder().withName("Alice").withDate("120345")
                 .withPriority("1").withVenue("Main Street").build()));
+
+        // Prefix keyword matching the middle of a word only
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("ture*"));
+        assertFalse(predicate.test(new TaskBuilder().withName("CS2103 Lecture").build()));
+    }
+
+    @Test
+    public void getCandidates_returnsTasksMatchingAnyKeywordOnce() {
+        Task lecture = new TaskBuilder().withName("CS2103 Lecture").build();
+        Task lab = new TaskBuilder().withName("Lab lecture").build();
+        Task tutorial = new TaskBuilder().withName("CS2101 Tutorial").build();
+        UniqueTaskList taskList = new UniqueTaskList();
+        taskList.setTasks(Arrays.asList(lecture, lab, tutorial));
+
+        // whole words
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("lecture", "LAB"));
+        assertEquals(Arrays.asList(lecture, lab), predicate.getCandidates(taskList.getIndex()));
+
+        // prefixes
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("cs21*", "tut*"));
+        assertEquals(Arrays.asList(tutorial, lecture), predicate.getCandidates(taskList.getIndex()));
+
+        // removed task no longer found
+        taskList.remove(lab);
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("la*"));
+        assertEquals(Collections.emptyList(), predicate.getCandidates(taskList.getIndex()));
     }
 }
@@ -1,6 +1,9 @@
 package ssp.scheduleplanner.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -38,4 +41,14 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void of_namesDifferingInSpacing_keptApart() {
+        Name lecture = Name.of(new String("CS2103 Lecture"));
+        Name spacedLecture = Name.of(new String("CS2103  Lecture"));
+        assertSame(lecture, Name.of("CS2103 Lecture"));
+        assertNotSame(lecture, spacedLecture);
+        assertEquals("CS2103  Lecture", spacedLecture.fullName);
+        assertEquals(-1, Name.compare(spacedLecture, lecture));
+    }
 }
@@ -1,6 +1,9 @@
 package ssp.scheduleplanner.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -53,4 +56,22 @@ public class PriorityTest {
         assertTrue(Priority.isValidPriority("3"));
 
     }
+
+    @Test
+    public void of_eachLevel_returnsOneInstancePerLevel() {
+        Priority low = Priority.of("1");
+        Priority medium = Priority.of("2");
+        Priority high = Priority.of("3");
+        assertSame(medium, Priority.of(new String("2")));
+        assertNotSame(low, medium);
+        assertNotSame(medium, high);
+        assertEquals(new Priority("3"), high);
+        assertEquals(-1, Priority.compare(high, low));
+
+        // the level is validated before one is picked
+        Assert.assertThrows(NullPointerException.class, () -> Priority.of(null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Priority.of("0"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Priority.of("4"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Priority.of("11"));
+    }
 }
@@ -1,5 +1,6 @@
 package ssp.scheduleplanner.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -71,4 +72,25 @@ public class TagsContainsAllKeywordsPredicateTest {
         predicate = new TagsContainsAllKeywordsPredicate(Arrays.asList("CS2103", "Tutorial"));
         assertFalse(predicate.test(new TaskBuilder().withName("CS2103 Tutorial").withTags("CS2103", "Test").build()));
     }
+
+    @Test
+    public void getCandidates_returnsTasksWithAllTags() {
+        Task lecture = new TaskBuilder().withName("Lecture").withTags("CS2101", "CS2103").build();
+        Task tutorial = new TaskBuilder().withName("Tutorial").withTags("cs2103").build();
+        Task exam = new TaskBuilder().withName("Exam").withTags("CS2101", "Exam").build();
+        UniqueTaskList taskList = new UniqueTaskList();
+        taskList.setTasks(Arrays.asList(lecture, tutorial, exam));
+
+        TagsContainsAllKeywordsPredicate predicate =
+                new TagsContainsAllKeywordsPredicate(Arrays.asList("cs2103", "CS2101"));
+        assertEquals(Collections.singletonList(lecture), predicate.getCandidates(taskList.getIndex()));
+
+        // tag removed together with its task
+        taskList.remove(lecture);
+        assertEquals(Collections.emptyList(), predicate.getCandidates(taskList.getIndex()));
+
+        // zero keywords
+        assertEquals(Collections.emptyList(),
+                new TagsContainsAllKeywordsPredicate(Collections.emptyList()).getCandidates(taskList.getIndex()));
+    }
 }
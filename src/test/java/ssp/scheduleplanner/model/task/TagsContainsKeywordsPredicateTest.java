@@ -1,5 +1,6 @@
 package ssp.scheduleplanner.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -68,4 +69,23 @@ public class TagsContainsKeywordsPredicateTest {
         predicate = new TagsContainsKeywordsPredicate(Arrays.asList("CS2101"));
         assertFalse(predicate.test(new TaskBuilder().withName("Alice Bob").withTags("CS2103").build()));
     }
+
+    @Test
+    public void getCandidates_returnsTasksWithAnyTagOnce() {
+        Task lecture = new TaskBuilder().withName("Lecture").withTags("CS2101", "CS2103").build();
+        Task tutorial = new TaskBuilder().withName("Tutorial").withTags("cs2103").build();
+        Task exam = new TaskBuilder().withName("Exam").withTags("Exam").build();
+        UniqueTaskList taskList = new UniqueTaskList();
+        taskList.setTasks(Arrays.asList(lecture, tutorial, exam));
+
+        TagsContainsKeywordsPredicate predicate = new TagsContainsKeywordsPredicate(Arrays.asList("CS2101", "cs2103"));
+        assertEquals(Arrays.asList(lecture, tutorial), predicate.getCandidates(taskList.getIndex()));
+
+        // edited task is indexed under its new tags only
+        Task editedExam = new TaskBuilder(exam).withTags("CS2101").build();
+        taskList.setTask(exam, editedExam);
+        assertEquals(Arrays.asList(lecture, editedExam, tutorial), predicate.getCandidates(taskList.getIndex()));
+        predicate = new TagsContainsKeywordsPredicate(Collections.singletonList("Exam"));
+        assertEquals(Collections.emptyList(), predicate.getCandidates(taskList.getIndex()));
+    }
 }
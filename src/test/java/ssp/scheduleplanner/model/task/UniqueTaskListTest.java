@@ -7,9 +7,12 @@ import static ssp.scheduleplanner.logic.commands.CommandTestUtil.VALID_ADDRESS_B
 import static ssp.scheduleplanner.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
 import static ssp.scheduleplanner.testutil.TypicalTasks.BOB;
+import static ssp.scheduleplanner.testutil.TypicalTasks.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import org.junit.Rule;
@@ -53,6 +56,30 @@ public class UniqueTaskListTest {
         assertFalse(uniqueTaskList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_taskRemovedFromList_returnsFalse() {
+        uniqueTaskList.add(ALICE);
+        uniqueTaskList.remove(ALICE);
+        assertFalse(uniqueTaskList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_taskReplacedInList_returnsFalse() {
+        uniqueTaskList.add(ALICE);
+        uniqueTaskList.setTask(ALICE, BOB);
+        assertFalse(uniqueTaskList.contains(ALICE));
+        assertTrue(uniqueTaskList.contains(BOB));
+    }
+
+    @Test
+    public void contains_taskRemovedThroughIterator_returnsFalse() {
+        uniqueTaskList.add(ALICE);
+        Iterator<Task> iterator = uniqueTaskList.iterator();
+        iterator.next();
+        iterator.remove();
+        assertFalse(uniqueTaskList.contains(ALICE));
+    }
+
     @Test
     public void add_nullTask_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -179,6 +206,76 @@ public class UniqueTaskListTest {
         uniqueTaskList.setTasks(listWithDuplicateTasks);
     }
 
+    @Test
+    public void addAll_taskInList_throwsDuplicateTaskException() {
+        uniqueTaskList.add(ALICE);
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.addAll(Arrays.asList(BOB, ALICE));
+    }
+
+    @Test
+    public void addAll_duplicateTasks_reportsPositionOfFirstDuplicate() {
+        try {
+            uniqueTaskList.addAll(Arrays.asList(ALICE, BOB, CARL, BOB, ALICE));
+        } catch (DuplicateTaskException dte) {
+            assertEquals(3, dte.getPosition());
+            assertTrue(uniqueTaskList.asUnmodifiableObservableList().isEmpty());
+            return;
+        }
+        throw new AssertionError("The duplicate tasks should have been rejected.");
+    }
+
+    @Test
+    public void addAll_newTasks_tasksAddedInOrder() {
+        uniqueTaskList.add(ALICE);
+        uniqueTaskList.addAll(Arrays.asList(CARL, BOB));
+        assertEquals(Arrays.asList(ALICE, CARL, BOB), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTasks_range_replacesOnlyTasksInRange() {
+        uniqueTaskList.add(ALICE);
+        uniqueTaskList.add(BOB);
+        uniqueTaskList.setTasks(1, 2, Collections.singletonList(CARL));
+        assertEquals(Arrays.asList(ALICE, CARL), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTasks_rangeWithTaskOutsideRange_throwsDuplicateTaskException() {
+        uniqueTaskList.add(ALICE);
+        uniqueTaskList.add(BOB);
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.setTasks(1, 2, Collections.singletonList(ALICE));
+    }
+
+    @Test
+    public void setTasks_listWithSameIdentityTasks_throwsDuplicateTaskException() {
+        Task aliceWithOtherPriority = new TaskBuilder(ALICE).withPriority("3").build();
+        List<Task> listWithDuplicateTasks = Arrays.asList(ALICE, BOB, aliceWithOtherPriority);
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.setTasks(listWithDuplicateTasks);
+    }
+
+    @Test
+    public void setTasks_manyTasksSharingTagAndDateRemoved_removedFromIndex() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            tasks.add(new TaskBuilder().withName("Task " + i).withDate("011118").withTags("Others").build());
+        }
+        uniqueTaskList.setTasks(tasks);
+        uniqueTaskList.add(ALICE);
+        uniqueTaskList.remove(tasks.get(2500));
+        TaskIndex index = uniqueTaskList.getIndex();
+        assertEquals(4999, index.getTasksWithAnyTag(Collections.singletonList("others")).size());
+        assertFalse(index.getTasksWithAnyTag(Collections.singletonList("others")).contains(tasks.get(2500)));
+
+        uniqueTaskList.setTasks(Collections.singletonList(ALICE));
+        assertEquals(Collections.emptyList(), index.getTasksWithAnyTag(Collections.singletonList("others")));
+        assertEquals(Collections.emptyList(), index.getTasksInDateRange(181101, 181101));
+        assertEquals(Collections.singletonList(ALICE),
+                index.getTasksWithAnyNameWord(Collections.emptyList(), Collections.singletonList("")));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -1,6 +1,9 @@
 package ssp.scheduleplanner.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -34,4 +37,16 @@ public class VenueTest {
         assertTrue(Venue.isValidAddress("-")); // one character
         assertTrue(Venue.isValidAddress("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA")); // long address
     }
+
+    @Test
+    public void of_addressesDifferingInTrailingText_keptApart() {
+        Venue room = Venue.of(new String("COM1-0210"));
+        Venue roomWithSpace = Venue.of(new String("COM1-0210 "));
+        assertSame(room, Venue.of("COM1-0210"));
+        assertNotSame(room, roomWithSpace);
+        assertEquals("COM1-0210 ", roomWithSpace.value);
+
+        // a leading space is rejected rather than shared with the trimmed address
+        Assert.assertThrows(IllegalArgumentException.class, () -> Venue.of(" COM1-0210"));
+    }
 }
@@ -0,0 +1,160 @@
+package ssp.scheduleplanner.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ssp.scheduleplanner.testutil.TypicalTasks.HOON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.IDA;
+import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalSchedulePlanner;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.model.SchedulePlanner;
+
+public class BackupSchedulePlannerStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BackupSchedulePlannerStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner.xml");
+        storage = new BackupSchedulePlannerStorage(new XmlSchedulePlannerStorage(filePath), 2);
+    }
+
+    private Path generation(int generation) {
+        return BackupSchedulePlannerStorage.getGenerationFilePath(filePath, generation);
+    }
+
+    private SchedulePlanner readFile(Path path) throws Exception {
+        return new SchedulePlanner(new XmlSchedulePlannerStorage(filePath).readSchedulePlanner(path).get());
+    }
+
+    /**
+     * Cuts the file at {@code path} short, as a crash in the middle of writing it would.
+     */
+    private void truncate(Path path) throws Exception {
+        byte[] content = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(content, content.length / 2));
+    }
+
+    /**
+     * Saves three different versions of the schedule planner, returning them oldest first.
+     */
+    private SchedulePlanner[] saveThreeVersions() throws Exception {
+        SchedulePlanner first = getTypicalSchedulePlanner();
+        SchedulePlanner second = getTypicalSchedulePlanner();
+        second.addTask(HOON);
+        SchedulePlanner third = new SchedulePlanner(second);
+        third.addTask(IDA);
+        for (SchedulePlanner version : new SchedulePlanner[] {first, second, third}) {
+            storage.saveSchedulePlanner(version);
+        }
+        return new SchedulePlanner[] {first, second, third};
+    }
+
+    @Test
+    public void constructor_noGenerations_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new BackupSchedulePlannerStorage(new XmlSchedulePlannerStorage(filePath), 0);
+    }
+
+    @Test
+    public void save_firstSave_noGeneration() throws Exception {
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+
+        assertEquals(getTypicalSchedulePlanner(), readFile(filePath));
+        assertFalse(Files.exists(generation(1)));
+    }
+
+    @Test
+    public void save_emptyFile_notKeptAsGeneration() throws Exception {
+        Files.createFile(filePath);
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+
+        assertFalse(Files.exists(generation(1)));
+    }
+
+    @Test
+    public void save_manySaves_lastGenerationsKept() throws Exception {
+        SchedulePlanner[] versions = saveThreeVersions();
+
+        assertEquals(versions[2], readFile(filePath));
+        assertEquals(versions[1], readFile(generation(1)));
+        assertEquals(versions[0], readFile(generation(2)));
+        assertFalse(Files.exists(generation(3)));
+    }
+
+    @Test
+    public void read_readableFile_generationsUntouched() throws Exception {
+        SchedulePlanner[] versions = saveThreeVersions();
+        byte[] newestGeneration = Files.readAllBytes(generation(1));
+
+        assertEquals(versions[2], new SchedulePlanner(storage.readSchedulePlanner().get()));
+        assertArrayEquals(newestGeneration, Files.readAllBytes(generation(1)));
+        assertFalse(Files.exists(BackupSchedulePlannerStorage.getCorruptFilePath(filePath)));
+    }
+
+    @Test
+    public void read_truncatedFile_newestGenerationRestored() throws Exception {
+        SchedulePlanner[] versions = saveThreeVersions();
+        truncate(filePath);
+        byte[] truncatedContent = Files.readAllBytes(filePath);
+
+        assertEquals(versions[1], new SchedulePlanner(storage.readSchedulePlanner().get()));
+
+        // the file is restored from the generation, and the unreadable file is kept aside
+        assertEquals(versions[1], readFile(filePath));
+        assertArrayEquals(truncatedContent,
+                Files.readAllBytes(BackupSchedulePlannerStorage.getCorruptFilePath(filePath)));
+    }
+
+    @Test
+    public void read_truncatedFileAndNewestGeneration_olderGenerationRestored() throws Exception {
+        SchedulePlanner[] versions = saveThreeVersions();
+        truncate(filePath);
+        truncate(generation(1));
+
+        assertEquals(versions[0], new SchedulePlanner(storage.readSchedulePlanner().get()));
+        assertEquals(versions[0], readFile(filePath));
+    }
+
+    @Test
+    public void read_noReadableGeneration_throwsDataConversionException() throws Exception {
+        saveThreeVersions();
+        truncate(filePath);
+        truncate(generation(1));
+        truncate(generation(2));
+
+        thrown.expect(DataConversionException.class);
+        storage.readSchedulePlanner();
+    }
+
+    @Test
+    public void read_restoredFile_laterSavesKeepRestoredDataAsGeneration() throws Exception {
+        SchedulePlanner[] versions = saveThreeVersions();
+        truncate(filePath);
+        storage.readSchedulePlanner();
+
+        storage.saveSchedulePlanner(versions[2]);
+        assertEquals(versions[2], readFile(filePath));
+        assertEquals(versions[1], readFile(generation(1)));
+        assertTrue(Files.exists(generation(2)));
+    }
+}
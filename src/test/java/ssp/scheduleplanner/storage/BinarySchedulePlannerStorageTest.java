@@ -0,0 +1,114 @@
+package ssp.scheduleplanner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.BENSON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.HOON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalSchedulePlanner;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.tag.Tag;
+
+public class BinarySchedulePlannerStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSchedulePlannerStorageTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinarySchedulePlannerStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner.sspb");
+        storage = new BinarySchedulePlannerStorage(filePath);
+    }
+
+    @Test
+    public void readSchedulePlanner_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.readSchedulePlanner(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readSchedulePlanner().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        storage.readSchedulePlanner(TEST_DATA_FOLDER.resolve("NotXmlFormatSchedulePlanner.xml"));
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 5));
+
+        thrown.expect(DataConversionException.class);
+        storage.readSchedulePlanner();
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+        byte[] content = Files.readAllBytes(filePath);
+        content[4] = (byte) (BinarySchedulePlannerStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, content);
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(String.format(BinarySchedulePlannerStorage.MESSAGE_UNSUPPORTED_VERSION,
+                BinarySchedulePlannerStorage.FORMAT_VERSION + 1));
+        storage.readSchedulePlanner();
+    }
+
+    @Test
+    public void readAndSaveSchedulePlanner_allInOrder_success() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        original.addTag(Tag.of("CS2103"), "Modules");
+        storage.saveSchedulePlanner(original);
+        assertEquals(original, new SchedulePlanner(storage.readSchedulePlanner().get()));
+
+        original.addTask(HOON);
+        original.removeTask(ALICE);
+        original.archiveTask(BENSON);
+        storage.saveSchedulePlanner(original, filePath);
+        SchedulePlanner readBack = new SchedulePlanner(storage.readSchedulePlanner(filePath).get());
+        assertEquals(original, readBack);
+        assertEquals(original.getArchivedTaskList(), readBack.getArchivedTaskList());
+    }
+
+    @Test
+    public void saveSchedulePlanner_typicalData_smallerThanXml() throws Exception {
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner.xml");
+        new XmlSchedulePlannerStorage(xmlFilePath).saveSchedulePlanner(getTypicalSchedulePlanner());
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+
+        assertTrue(Files.size(filePath) * 5 < Files.size(xmlFilePath));
+    }
+
+    @Test
+    public void saveSchedulePlanner_nullSchedulePlanner_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveSchedulePlanner(null);
+    }
+}
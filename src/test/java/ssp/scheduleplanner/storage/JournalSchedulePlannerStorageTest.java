@@ -0,0 +1,254 @@
+package ssp.scheduleplanner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.HOON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.IDA;
+import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalSchedulePlanner;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.model.SchedulePlanner;
+
+public class JournalSchedulePlannerStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner.xml");
+        journalFilePath = JournalSchedulePlannerStorage.getJournalFilePath(filePath);
+    }
+
+    private JournalSchedulePlannerStorage createStorage(int maxJournalRecords) {
+        return new JournalSchedulePlannerStorage(new XmlSchedulePlannerStorage(filePath), maxJournalRecords,
+                JournalSchedulePlannerStorage.DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    private SchedulePlanner readBack() throws Exception {
+        return new SchedulePlanner(createStorage(10).readSchedulePlanner().get());
+    }
+
+    private SchedulePlanner readCheckpoint() throws Exception {
+        return new SchedulePlanner(new XmlSchedulePlannerStorage(filePath).readSchedulePlanner().get());
+    }
+
+    @Test
+    public void constructor_noRecordsAllowed_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        createStorage(0);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(10).readSchedulePlanner().isPresent());
+    }
+
+    @Test
+    public void save_firstSave_checkpointWritten() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        createStorage(10).saveSchedulePlanner(original);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, readCheckpoint());
+    }
+
+    @Test
+    public void save_laterSaves_changesAppendedToJournal() throws Exception {
+        JournalSchedulePlannerStorage storage = createStorage(10);
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+        long checkpointSize = Files.size(filePath);
+
+        original.addTask(HOON);
+        storage.saveSchedulePlanner(original);
+        original.removeTask(ALICE);
+        storage.saveSchedulePlanner(original);
+
+        // the checkpoint is untouched, the journal holds its header and one record per save
+        assertEquals(checkpointSize, Files.size(filePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void save_unchangedData_nothingAppended() throws Exception {
+        JournalSchedulePlannerStorage storage = createStorage(10);
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+        storage.saveSchedulePlanner(original);
+
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void save_afterRead_onlyChangeAppended() throws Exception {
+        createStorage(10).saveSchedulePlanner(getTypicalSchedulePlanner());
+
+        JournalSchedulePlannerStorage storage = createStorage(10);
+        SchedulePlanner schedulePlanner = new SchedulePlanner(storage.readSchedulePlanner().get());
+        schedulePlanner.removeTask(ALICE);
+        storage.saveSchedulePlanner(schedulePlanner);
+
+        List<String> journal = Files.readAllLines(journalFilePath);
+        assertEquals(2, journal.size());
+        assertTrue(journal.get(1).length() < Files.size(filePath) / 4);
+        assertEquals(schedulePlanner, readBack());
+    }
+
+    @Test
+    public void save_categoryRenamed_onlyChangedListsRecorded() throws Exception {
+        JournalSchedulePlannerStorage storage = createStorage(10);
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+
+        original.editCategory("Others", "Misc");
+        storage.saveSchedulePlanner(original);
+        original.addTask(HOON);
+        storage.saveSchedulePlanner(original);
+
+        List<String> journal = Files.readAllLines(journalFilePath);
+        assertEquals(3, journal.size());
+        assertTrue(journal.get(1).contains("<categories"));
+        assertFalse(journal.get(1).contains("<tasks"));
+        assertFalse(journal.get(2).contains("<categories"));
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void save_journalFull_checkpointWritten() throws Exception {
+        JournalSchedulePlannerStorage storage = createStorage(1);
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+
+        original.addTask(HOON);
+        storage.saveSchedulePlanner(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.addTask(IDA);
+        storage.saveSchedulePlanner(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, readCheckpoint());
+    }
+
+    @Test
+    public void save_afterRecoveredRead_checkpointWritten() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        createStorage(10).saveSchedulePlanner(original);
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        Files.write(filePath, content.replace("Alice Pauline", "Alice Paulina").getBytes(StandardCharsets.UTF_8));
+
+        JournalSchedulePlannerStorage storage = createStorage(10);
+        SchedulePlanner recovered = new SchedulePlanner(storage.readSchedulePlanner().get());
+        assertTrue(storage.getRecoveryReport().isPresent());
+
+        // saving the unchanged data rewrites the checkpoint without the damaged task
+        storage.saveSchedulePlanner(recovered);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(recovered, readCheckpoint());
+        storage.readSchedulePlanner();
+        assertFalse(storage.getRecoveryReport().isPresent());
+    }
+
+    @Test
+    public void read_journalOfOlderCheckpoint_journalIgnored() throws Exception {
+        JournalSchedulePlannerStorage storage = createStorage(10);
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+        original.addTask(HOON);
+        storage.saveSchedulePlanner(original);
+
+        // a checkpoint interrupted before the journal was removed
+        SchedulePlanner checkpoint = getTypicalSchedulePlanner();
+        checkpoint.removeTask(ALICE);
+        new XmlSchedulePlannerStorage(filePath).saveSchedulePlanner(checkpoint);
+
+        assertEquals(checkpoint, readBack());
+    }
+
+    @Test
+    public void read_lastRecordCutShort_recordDropped() throws Exception {
+        JournalSchedulePlannerStorage storage = createStorage(10);
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+        original.addTask(HOON);
+        storage.saveSchedulePlanner(original);
+        SchedulePlanner beforeLastSave = new SchedulePlanner(original);
+        original.addTask(IDA);
+        storage.saveSchedulePlanner(original);
+
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        Files.write(journalFilePath, Arrays.copyOf(journal, journal.length - 10));
+
+        JournalSchedulePlannerStorage recoveredStorage = createStorage(10);
+        assertEquals(beforeLastSave, new SchedulePlanner(recoveredStorage.readSchedulePlanner().get()));
+
+        // the next save starts from a clean checkpoint
+        recoveredStorage.saveSchedulePlanner(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void read_invalidRecord_throwsDataConversionException() throws Exception {
+        JournalSchedulePlannerStorage storage = createStorage(10);
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+        original.addTask(HOON);
+        storage.saveSchedulePlanner(original);
+
+        List<String> journal = Files.readAllLines(journalFilePath);
+        Files.write(journalFilePath, Arrays.asList(journal.get(0), "not a record", journal.get(1)),
+                StandardCharsets.UTF_8);
+
+        thrown.expect(DataConversionException.class);
+        createStorage(10).readSchedulePlanner();
+    }
+
+    @Test
+    public void read_recordOutOfRange_throwsDataConversionException() throws Exception {
+        JournalSchedulePlannerStorage storage = createStorage(10);
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+        original.addTask(HOON);
+        storage.saveSchedulePlanner(original);
+
+        List<String> journal = Files.readAllLines(journalFilePath);
+        Files.write(journalFilePath, Arrays.asList(journal.get(0),
+                journal.get(1).replaceFirst("from=\"\\d+\"", "from=\"1000\"")), StandardCharsets.UTF_8);
+
+        thrown.expect(DataConversionException.class);
+        createStorage(10).readSchedulePlanner();
+    }
+
+    @Test
+    public void save_otherFile_checkpointWritten() throws Exception {
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("Other.xml");
+        JournalSchedulePlannerStorage storage = createStorage(10);
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original, otherFilePath);
+
+        assertFalse(Files.exists(JournalSchedulePlannerStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new SchedulePlanner(storage.readSchedulePlanner(otherFilePath).get()));
+    }
+}
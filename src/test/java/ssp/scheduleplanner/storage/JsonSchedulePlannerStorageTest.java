@@ -0,0 +1,124 @@
+package ssp.scheduleplanner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.BENSON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.HOON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalSchedulePlanner;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.tag.Tag;
+
+public class JsonSchedulePlannerStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private JsonSchedulePlannerStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner.json");
+        storage = new JsonSchedulePlannerStorage(filePath);
+    }
+
+    private void writeFile(String content) throws Exception {
+        Files.write(filePath, Collections.singletonList(content), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void readSchedulePlanner_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.readSchedulePlanner(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readSchedulePlanner().isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() throws Exception {
+        writeFile("this file is not in json format!");
+        thrown.expect(DataConversionException.class);
+        storage.readSchedulePlanner();
+    }
+
+    @Test
+    public void read_emptyFile_exceptionThrown() throws Exception {
+        writeFile("");
+        thrown.expect(DataConversionException.class);
+        storage.readSchedulePlanner();
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        writeFile("{ \"version\" : 2 }");
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(String.format(JsonSchedulePlannerStorage.MESSAGE_UNSUPPORTED_VERSION, 2));
+        storage.readSchedulePlanner();
+    }
+
+    @Test
+    public void read_invalidTask_exceptionThrown() throws Exception {
+        writeFile("{ \"tasks\" : [ { \"name\" : \"Ha!ns\", \"date\" : \"111124\", \"priority\" : \"1\", "
+                + "\"venue\" : \"4th street\" } ] }");
+        thrown.expect(DataConversionException.class);
+        storage.readSchedulePlanner();
+    }
+
+    @Test
+    public void read_missingTaskField_exceptionThrown() throws Exception {
+        writeFile("{ \"tasks\" : [ { \"name\" : \"Hans\", \"priority\" : \"1\", \"venue\" : \"4th street\" } ] }");
+        thrown.expect(DataConversionException.class);
+        storage.readSchedulePlanner();
+    }
+
+    @Test
+    public void read_unknownFields_fieldsSkipped() throws Exception {
+        writeFile("{ \"version\" : 1, \"extra\" : { \"nested\" : [ 1, 2 ] }, \"tasks\" : [ { \"name\" : \"Hans\", "
+                + "\"date\" : \"111124\", \"priority\" : \"1\", \"venue\" : \"4th street\", \"extra\" : [ ] } ] }");
+        SchedulePlanner readBack = new SchedulePlanner(storage.readSchedulePlanner().get());
+        assertEquals(1, readBack.getTaskList().size());
+        assertEquals("Hans", readBack.getTaskList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void readAndSaveSchedulePlanner_allInOrder_success() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        original.addTag(Tag.of("CS2103"), "Modules");
+        storage.saveSchedulePlanner(original);
+        assertEquals(original, new SchedulePlanner(storage.readSchedulePlanner().get()));
+
+        original.addTask(HOON);
+        original.removeTask(ALICE);
+        original.archiveTask(BENSON);
+        storage.saveSchedulePlanner(original, filePath);
+        SchedulePlanner readBack = new SchedulePlanner(storage.readSchedulePlanner(filePath).get());
+        assertEquals(original, readBack);
+        assertEquals(original.getArchivedTaskList(), readBack.getArchivedTaskList());
+    }
+
+    @Test
+    public void saveSchedulePlanner_nullSchedulePlanner_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveSchedulePlanner(null);
+    }
+}
@@ -0,0 +1,253 @@
+package ssp.scheduleplanner.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.BENSON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.CARL;
+import static ssp.scheduleplanner.testutil.TypicalTasks.HOON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.IDA;
+import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalSchedulePlanner;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.tag.Tag;
+import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.testutil.TaskBuilder;
+
+public class MappedSchedulePlannerStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSchedulePlannerStorageTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private MappedSchedulePlannerStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner.sspm");
+        storage = new MappedSchedulePlannerStorage(filePath);
+    }
+
+    @Test
+    public void readSchedulePlanner_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.readSchedulePlanner(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readSchedulePlanner().isPresent());
+    }
+
+    @Test
+    public void read_notMappedFormat_exceptionThrown() throws Exception {
+        Path notMappedFilePath = testFolder.getRoot().toPath().resolve("NotMapped.sspm");
+        Files.copy(TEST_DATA_FOLDER.resolve("NotXmlFormatSchedulePlanner.xml"), notMappedFilePath);
+        Files.createFile(MappedSchedulePlannerStorage.getStringFilePath(notMappedFilePath));
+
+        thrown.expect(DataConversionException.class);
+        storage.readSchedulePlanner(notMappedFilePath);
+    }
+
+    @Test
+    public void read_damagedRecord_exceptionThrown() throws Exception {
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+        byte[] content = Files.readAllBytes(filePath);
+        content[MappedSchedulePlannerStorage.HEADER_SIZE] = 9;
+        Files.write(filePath, content);
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(String.format(MappedSchedulePlannerStorage.MESSAGE_INVALID_RECORD, 0));
+        new MappedSchedulePlannerStorage(filePath).readSchedulePlanner();
+    }
+
+    @Test
+    public void saveSchedulePlanner_afterDamagedRecordRead_damagedFilesKept() throws Exception {
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+        byte[] content = Files.readAllBytes(filePath);
+        content[MappedSchedulePlannerStorage.HEADER_SIZE] = 9;
+        Files.write(filePath, content);
+        Path stringFilePath = MappedSchedulePlannerStorage.getStringFilePath(filePath);
+        byte[] strings = Files.readAllBytes(stringFilePath);
+
+        MappedSchedulePlannerStorage reopenedStorage = new MappedSchedulePlannerStorage(filePath);
+        try {
+            reopenedStorage.readSchedulePlanner();
+            fail();
+        } catch (DataConversionException dce) {
+            // the planner starts empty, and its first save must not lose the damaged files
+        }
+        SchedulePlanner replacement = new SchedulePlanner();
+        replacement.addTask(HOON);
+        reopenedStorage.saveSchedulePlanner(replacement);
+
+        assertArrayEquals(content, Files.readAllBytes(BackupSchedulePlannerStorage.getCorruptFilePath(filePath)));
+        assertArrayEquals(strings,
+                Files.readAllBytes(BackupSchedulePlannerStorage.getCorruptFilePath(stringFilePath)));
+        assertReadBack(replacement);
+
+        // later saves update the new file in place and leave the kept files alone
+        replacement.addTask(IDA);
+        reopenedStorage.saveSchedulePlanner(replacement);
+        assertArrayEquals(content, Files.readAllBytes(BackupSchedulePlannerStorage.getCorruptFilePath(filePath)));
+        assertReadBack(replacement);
+    }
+
+    @Test
+    public void readAndSaveSchedulePlanner_allInOrder_success() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        original.addTag(Tag.of("CS2103"), "Modules");
+        storage.saveSchedulePlanner(original);
+        assertEquals(original, new SchedulePlanner(storage.readSchedulePlanner().get()));
+
+        original.addTask(HOON);
+        original.removeTask(ALICE);
+        original.archiveTask(BENSON);
+        storage.saveSchedulePlanner(original);
+        assertReadBack(original);
+
+        // saves to another file write it in full
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("Other.sspm");
+        storage.saveSchedulePlanner(original, otherFilePath);
+        assertEquals(original, new SchedulePlanner(storage.readSchedulePlanner(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveSchedulePlanner_oneTaskEdited_onlyItsRecordRewritten() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+        byte[] before = Files.readAllBytes(filePath);
+        long stringFileSize = Files.size(MappedSchedulePlannerStorage.getStringFilePath(filePath));
+
+        original.updateTask(CARL, new TaskBuilder(CARL).withPriority("3").build());
+        storage.saveSchedulePlanner(original);
+        byte[] after = Files.readAllBytes(filePath);
+
+        assertEquals(before.length, after.length);
+        assertEquals(stringFileSize, Files.size(MappedSchedulePlannerStorage.getStringFilePath(filePath)));
+        List<Integer> changedRecords = new ArrayList<>();
+        for (int i = MappedSchedulePlannerStorage.HEADER_SIZE; i < after.length; i++) {
+            int record = (i - MappedSchedulePlannerStorage.HEADER_SIZE) / MappedSchedulePlannerStorage.RECORD_SIZE;
+            if (before[i] != after[i] && !changedRecords.contains(record)) {
+                changedRecords.add(record);
+            }
+        }
+        assertEquals(1, changedRecords.size());
+        assertReadBack(original);
+    }
+
+    @Test
+    public void saveSchedulePlanner_taskRemovedThenAdded_slotReused() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+        long fileSize = Files.size(filePath);
+
+        original.removeTask(ALICE);
+        storage.saveSchedulePlanner(original);
+        original.addTask(IDA);
+        storage.saveSchedulePlanner(original);
+
+        assertEquals(fileSize, Files.size(filePath));
+        assertReadBack(original);
+    }
+
+    @Test
+    public void saveSchedulePlanner_manyTasksInsertedAtOnePlace_orderKept() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+
+        // enough insertions between the same two tasks to use up the room between their order keys
+        for (int i = 0; i < 30; i++) {
+            List<Task> tasks = new ArrayList<>(original.getTaskList());
+            tasks.add(1, new TaskBuilder().withName("Inserted " + i).build());
+            original.setTasks(tasks);
+            storage.saveSchedulePlanner(original);
+        }
+        assertReadBack(original);
+    }
+
+    @Test
+    public void saveSchedulePlanner_afterReadByNewStorage_updatesInPlace() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+        long fileSize = Files.size(filePath);
+
+        MappedSchedulePlannerStorage reopenedStorage = new MappedSchedulePlannerStorage(filePath);
+        SchedulePlanner readBack = new SchedulePlanner(reopenedStorage.readSchedulePlanner().get());
+        readBack.removeTask(CARL);
+        readBack.addTask(HOON);
+        reopenedStorage.saveSchedulePlanner(readBack);
+
+        assertEquals(fileSize, Files.size(filePath));
+        assertReadBack(readBack);
+    }
+
+    @Test
+    public void saveSchedulePlanner_stringFileOutgrown_rewrittenWithoutTruncatingRecordFile() throws Exception {
+        List<Task> manyTasks = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            manyTasks.add(new TaskBuilder().withName("Task " + i).build());
+        }
+        SchedulePlanner original = new SchedulePlanner();
+        original.setTasks(manyTasks);
+        storage.saveSchedulePlanner(original);
+        long fileSize = Files.size(filePath);
+
+        // a long name outgrows the string file, so the save after it writes the files in full
+        original.setTasks(manyTasks.subList(0, 10));
+        StringBuilder longName = new StringBuilder("Long");
+        while (longName.length() < 1 << 21) {
+            longName.append(" name");
+        }
+        Task longNamedTask = new TaskBuilder().withName(longName.toString()).build();
+        original.addTask(longNamedTask);
+        storage.saveSchedulePlanner(original);
+        original.removeTask(longNamedTask);
+        original.addTask(HOON);
+        storage.saveSchedulePlanner(original);
+
+        // the record file is still mapped, so it is rewritten in place rather than truncated
+        assertEquals(fileSize, Files.size(filePath));
+        assertTrue(Files.size(MappedSchedulePlannerStorage.getStringFilePath(filePath)) < 1 << 20);
+        assertReadBack(original);
+    }
+
+    @Test
+    public void saveSchedulePlanner_nullSchedulePlanner_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveSchedulePlanner(null);
+    }
+
+    /**
+     * Asserts that a new storage reads back {@code expected} from the file, with its lists in the same order.
+     */
+    private void assertReadBack(SchedulePlanner expected) throws Exception {
+        SchedulePlanner readBack = new SchedulePlanner(
+                new MappedSchedulePlannerStorage(filePath).readSchedulePlanner().get());
+        assertEquals(expected, readBack);
+        assertEquals(expected.getTaskList(), readBack.getTaskList());
+        assertEquals(expected.getArchivedTaskList(), readBack.getArchivedTaskList());
+        assertEquals(expected.getCategoryList(), readBack.getCategoryList());
+        assertTrue(Files.exists(MappedSchedulePlannerStorage.getStringFilePath(filePath)));
+    }
+}
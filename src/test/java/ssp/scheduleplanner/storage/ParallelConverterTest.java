@@ -0,0 +1,127 @@
+package ssp.scheduleplanner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final String MESSAGE_NOT_A_NUMBER = "Not a number";
+    private static final int ELEMENT_COUNT = ParallelConverter.CHUNK_SIZE * 5 + 3;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void convertAll_nullList_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        ParallelConverter.convertAll(null, ParallelConverterTest::parse, "Number");
+    }
+
+    @Test
+    public void convertAll_emptyList_returnsEmptyList() throws Exception {
+        assertEquals(Collections.emptyList(),
+                ParallelConverter.convertAll(Collections.<String>emptyList(), ParallelConverterTest::parse, "Number"));
+    }
+
+    @Test
+    public void convertAll_manyChunks_keepsOrder() throws Exception {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, ParallelConverter.convertAll(getNumbers(), ParallelConverterTest::parse, "Number"));
+    }
+
+    @Test
+    public void convertAll_invalidElementsInSeveralChunks_reportsFirstPosition() throws Exception {
+        List<String> numbers = getNumbers();
+        numbers.set(ELEMENT_COUNT - 1, "last");
+        numbers.set(ParallelConverter.CHUNK_SIZE + 7, "early");
+        numbers.set(ParallelConverter.CHUNK_SIZE * 3, "middle");
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(ParallelConverter.MESSAGE_INVALID_ELEMENT, "Number",
+                ParallelConverter.CHUNK_SIZE + 8, MESSAGE_NOT_A_NUMBER));
+        ParallelConverter.convertAll(numbers, ParallelConverterTest::parse, "Number");
+    }
+
+    @Test
+    public void convertValid_invalidElementsInSeveralChunks_keepsValidElements() {
+        List<String> numbers = getNumbers();
+        numbers.set(ELEMENT_COUNT - 1, "last");
+        numbers.set(ParallelConverter.CHUNK_SIZE + 7, "early");
+
+        ParallelConverter.Conversion<String, Integer> conversion =
+                ParallelConverter.convertValid(numbers, ParallelConverterTest::parse);
+        assertEquals(ELEMENT_COUNT, conversion.size());
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            if (i == ELEMENT_COUNT - 1 || i == ParallelConverter.CHUNK_SIZE + 7) {
+                assertFalse(conversion.isConverted(i));
+                assertEquals(MESSAGE_NOT_A_NUMBER, conversion.getFailure(i).getMessage());
+            } else {
+                assertTrue(conversion.isConverted(i));
+                assertEquals(Integer.valueOf(i), conversion.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void startValid_elementsAddedOneAtATime_failedElementsKept() {
+        ParallelConverter.Conversion<String, Integer> conversion =
+                ParallelConverter.startValid(ParallelConverterTest::parse);
+        List<String> numbers = getNumbers();
+        numbers.set(ParallelConverter.CHUNK_SIZE * 4 + 1, "late");
+        for (String number : numbers) {
+            conversion.add(number);
+        }
+        conversion.finish();
+
+        assertEquals(ELEMENT_COUNT, conversion.size());
+        assertEquals("late", conversion.getFailedElement(ParallelConverter.CHUNK_SIZE * 4 + 1));
+        assertEquals(Integer.valueOf(ELEMENT_COUNT - 1), conversion.get(ELEMENT_COUNT - 1));
+    }
+
+    @Test
+    public void add_finishedConversion_throwsIllegalStateException() {
+        ParallelConverter.Conversion<String, Integer> conversion =
+                ParallelConverter.startAll(ParallelConverterTest::parse);
+        conversion.add("1");
+        conversion.finish();
+
+        thrown.expect(IllegalStateException.class);
+        conversion.add("2");
+    }
+
+    /**
+     * Returns the numbers from 0 to {@code ELEMENT_COUNT} exclusive, as text.
+     */
+    private static List<String> getNumbers() {
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            numbers.add(Integer.toString(i));
+        }
+        return numbers;
+    }
+
+    /**
+     * Returns the number written in {@code text}.
+     */
+    private static Integer parse(String text) throws IllegalValueException {
+        try {
+            return Integer.valueOf(text);
+        } catch (NumberFormatException nfe) {
+            throw new IllegalValueException(MESSAGE_NOT_A_NUMBER);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ssp.scheduleplanner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ssp.scheduleplanner.model.rangeofweek.SemesterCalendar;
+import ssp.scheduleplanner.model.task.Date;
+
+public class SemesterCalendarStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSerializableRangeOfWeekTest");
+    private static final SemesterCalendar DEFAULT_CALENDAR =
+            SemesterCalendar.startingOn(Date.of(SemesterCalendarStorage.DEFAULT_FIRST_DAY));
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    /**
+     * Returns a storage of a copy of the test data file {@code fileName}, which the storage may replace.
+     */
+    private SemesterCalendarStorage copyOf(String fileName) throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve(fileName);
+        Files.copy(TEST_DATA_FOLDER.resolve(fileName), filePath);
+        return new SemesterCalendarStorage(filePath);
+    }
+
+    @Test
+    public void getSemesterCalendar_typicalFile_readsFileOnce() throws Exception {
+        SemesterCalendarStorage storage = copyOf("typicalrangeofweek.xml");
+        SemesterCalendar calendar = storage.getSemesterCalendar();
+        assertEquals(DEFAULT_CALENDAR, calendar);
+
+        // later calls return the calendar read, even when the file is gone
+        Files.delete(storage.getFilePath());
+        assertSame(calendar, storage.getSemesterCalendar());
+    }
+
+    @Test
+    public void getSemesterCalendar_missingFile_savesDefaultCalendar() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("missing.xml");
+        SemesterCalendarStorage storage = new SemesterCalendarStorage(filePath);
+
+        assertEquals(DEFAULT_CALENDAR, storage.getSemesterCalendar());
+        assertTrue(Files.exists(filePath));
+        assertEquals(DEFAULT_CALENDAR, new SemesterCalendarStorage(filePath).getSemesterCalendar());
+    }
+
+    @Test
+    public void getSemesterCalendar_invalidFiles_savesDefaultCalendar() throws Exception {
+        for (String fileName : new String[] {"diffsizerangeofweek.xml", "invaliddaterangeofweek.xml",
+            "invaliddaterangerangeofweek.xml", "nullrangeofweek.xml", "unableconvertrangeofweek.xml"}) {
+            SemesterCalendarStorage storage = copyOf(fileName);
+            assertEquals(fileName, DEFAULT_CALENDAR, storage.getSemesterCalendar());
+            assertEquals(fileName, DEFAULT_CALENDAR,
+                    new SemesterCalendarStorage(storage.getFilePath()).getSemesterCalendar());
+        }
+    }
+
+    @Test
+    public void saveSemesterCalendar_replacesCalendar() throws Exception {
+        SemesterCalendarStorage storage = copyOf("typicalrangeofweek.xml");
+        storage.getSemesterCalendar();
+
+        SemesterCalendar calendar = SemesterCalendar.startingOn(Date.of("130818"));
+        storage.saveSemesterCalendar(calendar);
+        assertSame(calendar, storage.getSemesterCalendar());
+        assertEquals(calendar, new SemesterCalendarStorage(storage.getFilePath()).getSemesterCalendar());
+    }
+}
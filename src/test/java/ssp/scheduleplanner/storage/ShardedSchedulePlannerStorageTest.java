@@ -0,0 +1,310 @@
+package ssp.scheduleplanner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.BENSON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.CARL;
+import static ssp.scheduleplanner.testutil.TypicalTasks.DANIEL;
+import static ssp.scheduleplanner.testutil.TypicalTasks.HOON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalSchedulePlanner;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import ssp.scheduleplanner.commons.exceptions.DataConversionException;
+import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.category.Category;
+import ssp.scheduleplanner.model.tag.Tag;
+import ssp.scheduleplanner.model.task.Date;
+import ssp.scheduleplanner.model.task.Task;
+import ssp.scheduleplanner.testutil.TaskBuilder;
+
+public class ShardedSchedulePlannerStorageTest {
+    /** A date whose window of months holds only ALICE and DANIEL of the typical tasks. */
+    private static final Date TODAY = Date.of("150823");
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path directoryPath;
+    private ShardedSchedulePlannerStorage storage;
+
+    @Before
+    public void setUp() {
+        directoryPath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner.shards");
+        storage = new ShardedSchedulePlannerStorage(directoryPath);
+    }
+
+    @Test
+    public void readSchedulePlanner_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.readSchedulePlanner(null);
+    }
+
+    @Test
+    public void read_missingDirectory_emptyResult() throws Exception {
+        assertFalse(storage.readSchedulePlanner().isPresent());
+        assertTrue(storage.isFullyLoaded());
+    }
+
+    @Test
+    public void readAndSaveSchedulePlanner_allMonths_success() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        original.addTag(Tag.of("CS2103"), "Modules");
+        original.archiveTask(BENSON);
+        storage.saveSchedulePlanner(original);
+
+        assertTrue(Files.exists(directoryPath.resolve(ShardedSchedulePlannerStorage.CATEGORY_FILE_NAME)));
+        assertTrue(Files.exists(ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 2308)));
+        assertTrue(Files.exists(ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 2109)));
+        assertTrue(Files.exists(ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 1810)));
+        assertSameData(original, new ShardedSchedulePlannerStorage(directoryPath).readSchedulePlanner().get());
+    }
+
+    @Test
+    public void readSchedulePlanner_withDate_onlyMonthsAroundDateRead() throws Exception {
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+
+        ShardedSchedulePlannerStorage lazyStorage = new ShardedSchedulePlannerStorage(directoryPath, TODAY);
+        ReadOnlySchedulePlanner readBack = lazyStorage.readSchedulePlanner().get();
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, DANIEL)), new HashSet<>(readBack.getTaskList()));
+        assertFalse(lazyStorage.isFullyLoaded());
+
+        assertTrue(lazyStorage.isLoaded(TODAY, TODAY));
+        assertFalse(lazyStorage.isLoaded(Date.of("010921"), Date.of("300921")));
+        ReadOnlySchedulePlanner loaded = lazyStorage.loadTasksInDateRange(Date.of("010921"), Date.of("300921"));
+        assertTrue(lazyStorage.isLoaded(Date.of("010921"), Date.of("300921")));
+        assertEquals(Arrays.asList(BENSON), loaded.getTaskList());
+        // months are loaded only once
+        assertTrue(lazyStorage.loadTasksInDateRange(Date.of("010921"), Date.of("300921")).getTaskList().isEmpty());
+
+        assertEquals(4, lazyStorage.loadAllTasks().getTaskList().size());
+        assertTrue(lazyStorage.isFullyLoaded());
+    }
+
+    @Test
+    public void readAheadNextPart_partlyRead_nearestMonthFirstAndLoadedOnce() throws Exception {
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+        ShardedSchedulePlannerStorage lazyStorage = new ShardedSchedulePlannerStorage(directoryPath, TODAY);
+        lazyStorage.readSchedulePlanner();
+        assertEquals(2, lazyStorage.countUnreadParts());
+
+        assertTrue(lazyStorage.readAheadNextPart());
+        assertEquals(1, lazyStorage.countUnreadParts());
+        assertFalse(lazyStorage.isFullyLoaded());
+        assertEquals(Arrays.asList(BENSON), lazyStorage.loadReadAheadTasks().getTaskList());
+        assertTrue(lazyStorage.loadTasksInDateRange(Date.of("010921"), Date.of("300921")).getTaskList().isEmpty());
+
+        assertTrue(lazyStorage.readAheadNextPart());
+        assertFalse(lazyStorage.readAheadNextPart());
+        assertEquals(0, lazyStorage.countUnreadParts());
+        assertEquals(4, lazyStorage.loadAllTasks().getTaskList().size());
+        assertTrue(lazyStorage.isFullyLoaded());
+        assertTrue(lazyStorage.loadReadAheadTasks().getTaskList().isEmpty());
+    }
+
+    @Test
+    public void saveSchedulePlanner_monthReadAheadButNotLoaded_monthKept() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+
+        ShardedSchedulePlannerStorage lazyStorage = new ShardedSchedulePlannerStorage(directoryPath, TODAY);
+        SchedulePlanner readBack = new SchedulePlanner(lazyStorage.readSchedulePlanner().get());
+        assertTrue(lazyStorage.readAheadNextPart());
+        readBack.removeTask(DANIEL);
+        lazyStorage.saveSchedulePlanner(readBack);
+
+        original.removeTask(DANIEL);
+        assertSameData(original, new ShardedSchedulePlannerStorage(directoryPath).readSchedulePlanner().get());
+    }
+
+    @Test
+    public void saveSchedulePlanner_partlyRead_unloadedMonthsKept() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+        Path unloadedMonthFilePath = ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 1810);
+        Files.setLastModifiedTime(unloadedMonthFilePath, OLD_TIME);
+
+        ShardedSchedulePlannerStorage lazyStorage = new ShardedSchedulePlannerStorage(directoryPath, TODAY);
+        SchedulePlanner readBack = new SchedulePlanner(lazyStorage.readSchedulePlanner().get());
+        readBack.removeTask(DANIEL);
+        lazyStorage.saveSchedulePlanner(readBack);
+
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(unloadedMonthFilePath));
+        original.removeTask(DANIEL);
+        assertSameData(original, new ShardedSchedulePlannerStorage(directoryPath).readSchedulePlanner().get());
+    }
+
+    @Test
+    public void saveSchedulePlanner_oneTaskEdited_onlyItsMonthRewritten() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+        Path editedMonthFilePath = ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 2308);
+        Path otherMonthFilePath = ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 1810);
+        Path categoryFilePath = directoryPath.resolve(ShardedSchedulePlannerStorage.CATEGORY_FILE_NAME);
+        for (Path filePath : Arrays.asList(editedMonthFilePath, otherMonthFilePath, categoryFilePath)) {
+            Files.setLastModifiedTime(filePath, OLD_TIME);
+        }
+
+        original.updateTask(ALICE, new TaskBuilder(ALICE).withPriority("3").build());
+        storage.saveSchedulePlanner(original);
+
+        assertFalse(OLD_TIME.equals(Files.getLastModifiedTime(editedMonthFilePath)));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(otherMonthFilePath));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(categoryFilePath));
+        assertSameData(original, new ShardedSchedulePlannerStorage(directoryPath).readSchedulePlanner().get());
+    }
+
+    @Test
+    public void saveSchedulePlanner_categoryRenamed_onlyCategoryFileRewritten() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        original.addCategory(new Category("Lab"));
+        storage.saveSchedulePlanner(original);
+        Path monthFilePath = ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 2308);
+        Path categoryFilePath = directoryPath.resolve(ShardedSchedulePlannerStorage.CATEGORY_FILE_NAME);
+        for (Path filePath : Arrays.asList(monthFilePath, categoryFilePath)) {
+            Files.setLastModifiedTime(filePath, OLD_TIME);
+        }
+
+        original.editCategory("Lab", "Labs");
+        storage.saveSchedulePlanner(new SchedulePlannerSnapshot(original));
+
+        assertFalse(OLD_TIME.equals(Files.getLastModifiedTime(categoryFilePath)));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(monthFilePath));
+        assertSameData(original, new ShardedSchedulePlannerStorage(directoryPath).readSchedulePlanner().get());
+    }
+
+    @Test
+    public void saveSchedulePlanner_lastTaskOfMonthRemoved_monthFileDeleted() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        storage.saveSchedulePlanner(original);
+        original.removeTask(BENSON);
+        original.addTask(HOON);
+        storage.saveSchedulePlanner(original);
+
+        assertFalse(Files.exists(ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 2109)));
+        assertTrue(Files.exists(ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 2304)));
+        assertSameData(original, new ShardedSchedulePlannerStorage(directoryPath).readSchedulePlanner().get());
+    }
+
+    @Test
+    public void loadTasksInDateRange_unreadableMonth_leftOutAndNotSaved() throws Exception {
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+        Path damagedMonthFilePath = ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 2109);
+        byte[] damagedContent = "not a month file".getBytes();
+        Files.write(damagedMonthFilePath, damagedContent);
+
+        ShardedSchedulePlannerStorage lazyStorage = new ShardedSchedulePlannerStorage(directoryPath, TODAY);
+        SchedulePlanner readBack = new SchedulePlanner(lazyStorage.readSchedulePlanner().get());
+        assertTrue(lazyStorage.loadAllTasks().getTaskList().contains(CARL));
+        assertTrue(lazyStorage.isFullyLoaded());
+
+        lazyStorage.saveSchedulePlanner(readBack);
+        assertTrue(Arrays.equals(damagedContent, Files.readAllBytes(damagedMonthFilePath)));
+    }
+
+    @Test
+    public void saveSchedulePlanner_taskAddedToUnreadableMonth_damagedFileKeptAndTaskSaved() throws Exception {
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+        Path damagedMonthFilePath = ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 2109);
+        byte[] damagedContent = "not a month file".getBytes();
+        Files.write(damagedMonthFilePath, damagedContent);
+
+        ShardedSchedulePlannerStorage lazyStorage = new ShardedSchedulePlannerStorage(directoryPath, TODAY);
+        SchedulePlanner readBack = new SchedulePlanner(lazyStorage.readSchedulePlanner().get());
+        ReadOnlySchedulePlanner loaded = lazyStorage.loadAllTasks();
+        readBack.addTasks(loaded.getTaskList());
+        readBack.addArchivedTasks(loaded.getArchivedTaskList());
+        Task taskInDamagedMonth = new TaskBuilder().withName("Dated in the damaged month").withDate("150921").build();
+        readBack.addTask(taskInDamagedMonth);
+        lazyStorage.saveSchedulePlanner(readBack);
+
+        assertTrue(Arrays.equals(damagedContent,
+                Files.readAllBytes(BackupSchedulePlannerStorage.getCorruptFilePath(damagedMonthFilePath))));
+        assertSameData(readBack, new ShardedSchedulePlannerStorage(directoryPath).readSchedulePlanner().get());
+    }
+
+    @Test
+    public void read_taskInWrongMonth_exceptionThrown() throws Exception {
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+        Files.move(ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 2109),
+                ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 2110));
+
+        thrown.expect(DataConversionException.class);
+        new ShardedSchedulePlannerStorage(directoryPath).readSchedulePlanner();
+    }
+
+    @Test
+    public void saveSchedulePlanner_afterUnreadableDirectoryRead_filesKept() throws Exception {
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+        Path movedMonthFilePath = ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 2110);
+        Files.move(ShardedSchedulePlannerStorage.getMonthFilePath(directoryPath, 2109), movedMonthFilePath);
+        byte[] movedContent = Files.readAllBytes(movedMonthFilePath);
+
+        ShardedSchedulePlannerStorage reopenedStorage = new ShardedSchedulePlannerStorage(directoryPath);
+        try {
+            reopenedStorage.readSchedulePlanner();
+            fail();
+        } catch (DataConversionException dce) {
+            // the planner starts empty, and its first save must not lose the unreadable files
+        }
+        SchedulePlanner replacement = new SchedulePlanner();
+        replacement.addTask(HOON);
+        reopenedStorage.saveSchedulePlanner(replacement);
+
+        Path corruptDirectoryPath = BackupSchedulePlannerStorage.getCorruptFilePath(directoryPath);
+        assertTrue(Arrays.equals(movedContent, Files.readAllBytes(corruptDirectoryPath.resolve(
+                movedMonthFilePath.getFileName()))));
+        assertTrue(Files.exists(corruptDirectoryPath.resolve(ShardedSchedulePlannerStorage.CATEGORY_FILE_NAME)));
+        assertFalse(Files.exists(movedMonthFilePath));
+        assertSameData(replacement, new ShardedSchedulePlannerStorage(directoryPath).readSchedulePlanner().get());
+    }
+
+    @Test
+    public void saveSchedulePlanner_otherDirectory_writtenInFull() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        Path otherDirectoryPath = testFolder.getRoot().toPath().resolve("Other.shards");
+        storage.saveSchedulePlanner(original, otherDirectoryPath);
+        assertSameData(original, storage.readSchedulePlanner(otherDirectoryPath).get());
+        assertFalse(Files.exists(directoryPath));
+    }
+
+    @Test
+    public void saveSchedulePlanner_nullSchedulePlanner_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveSchedulePlanner(null);
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same categories, tasks and archived tasks as {@code expected}.
+     * Tasks are read back grouped by month, so their order is not compared.
+     */
+    private void assertSameData(ReadOnlySchedulePlanner expected, ReadOnlySchedulePlanner actual) {
+        assertEquals(expected.getCategoryList(), actual.getCategoryList());
+        assertSameTasks(expected.getTaskList(), actual.getTaskList());
+        assertSameTasks(expected.getArchivedTaskList(), actual.getArchivedTaskList());
+    }
+
+    private void assertSameTasks(List<Task> expected, List<Task> actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+    }
+}
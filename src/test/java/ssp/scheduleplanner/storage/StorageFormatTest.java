@@ -0,0 +1,178 @@
+package ssp.scheduleplanner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ssp.scheduleplanner.testutil.TypicalTasks.HOON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalSchedulePlanner;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.task.Date;
+
+public class StorageFormatTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    @Test
+    public void fromFilePath() {
+        assertEquals(StorageFormat.XML, StorageFormat.fromFilePath(Paths.get("data", "scheduleplanner.xml")));
+        assertEquals(StorageFormat.BINARY, StorageFormat.fromFilePath(Paths.get("data", "scheduleplanner.sspb")));
+        assertEquals(StorageFormat.BINARY, StorageFormat.fromFilePath(Paths.get("data", "scheduleplanner.SSPB")));
+        assertEquals(StorageFormat.JSON, StorageFormat.fromFilePath(Paths.get("data", "scheduleplanner.json")));
+        assertEquals(StorageFormat.MAPPED, StorageFormat.fromFilePath(Paths.get("data", "scheduleplanner.sspm")));
+        assertEquals(StorageFormat.SHARDED, StorageFormat.fromFilePath(Paths.get("data", "scheduleplanner.shards")));
+        assertEquals(StorageFormat.COMPRESSED_XML,
+                StorageFormat.fromFilePath(Paths.get("data", "scheduleplanner.xml.gz")));
+
+        // unknown extensions are read as xml
+        assertEquals(StorageFormat.XML, StorageFormat.fromFilePath(Paths.get("data", "scheduleplanner")));
+    }
+
+    @Test
+    public void createStorage() {
+        assertTrue(StorageFormat.XML.createStorage(getTempFilePath("a.xml")) instanceof XmlSchedulePlannerStorage);
+        assertTrue(StorageFormat.BINARY.createStorage(getTempFilePath("a.sspb"))
+                instanceof BinarySchedulePlannerStorage);
+        assertTrue(StorageFormat.JSON.createStorage(getTempFilePath("a.json")) instanceof JsonSchedulePlannerStorage);
+        assertTrue(StorageFormat.MAPPED.createStorage(getTempFilePath("a.sspm"))
+                instanceof MappedSchedulePlannerStorage);
+    }
+
+    @Test
+    public void createIncrementalStorage() {
+        assertTrue(StorageFormat.XML.createIncrementalStorage(getTempFilePath("a.xml"))
+                instanceof JournalSchedulePlannerStorage);
+        assertTrue(StorageFormat.MAPPED.createIncrementalStorage(getTempFilePath("a.sspm"))
+                instanceof MappedSchedulePlannerStorage);
+        assertTrue(StorageFormat.SHARDED.createIncrementalStorage(getTempFilePath("a.shards"), Date.today())
+                instanceof ShardedSchedulePlannerStorage);
+        assertTrue(StorageFormat.XML.createIncrementalStorage(getTempFilePath("a.xml"), Date.today())
+                instanceof JournalSchedulePlannerStorage);
+    }
+
+    @Test
+    public void convert_xmlToShards_dataKept() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        Path xmlFilePath = getTempFilePath("scheduleplanner.xml");
+        Path directoryPath = getTempFilePath("scheduleplanner.shards");
+        new XmlSchedulePlannerStorage(xmlFilePath).saveSchedulePlanner(original);
+
+        assertEquals(Optional.of(xmlFilePath), StorageFormat.findFileInOtherFormat(directoryPath));
+        StorageFormat.convert(xmlFilePath, directoryPath);
+        SchedulePlanner readBack = new SchedulePlanner(
+                new ShardedSchedulePlannerStorage(directoryPath).readSchedulePlanner().get());
+        assertEquals(new HashSet<>(original.getTaskList()), new HashSet<>(readBack.getTaskList()));
+        assertEquals(original.getCategoryList(), readBack.getCategoryList());
+    }
+
+    @Test
+    public void convert_xmlToMapped_dataKept() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        Path xmlFilePath = getTempFilePath("scheduleplanner.xml");
+        Path mappedFilePath = getTempFilePath("scheduleplanner.sspm");
+        new XmlSchedulePlannerStorage(xmlFilePath).saveSchedulePlanner(original);
+
+        StorageFormat.convert(xmlFilePath, mappedFilePath);
+        assertEquals(original, new SchedulePlanner(
+                new MappedSchedulePlannerStorage(mappedFilePath).readSchedulePlanner().get()));
+    }
+
+    @Test
+    public void convert_xmlToCompressedXml_dataKept() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        Path xmlFilePath = getTempFilePath("scheduleplanner.xml");
+        Path compressedFilePath = getTempFilePath("scheduleplanner.xml.gz");
+        new XmlSchedulePlannerStorage(xmlFilePath).saveSchedulePlanner(original);
+
+        assertEquals(Optional.of(xmlFilePath), StorageFormat.findFileInOtherFormat(compressedFilePath));
+        StorageFormat.convert(xmlFilePath, compressedFilePath);
+        assertTrue(Files.size(compressedFilePath) < Files.size(xmlFilePath));
+        assertEquals(original, new SchedulePlanner(StorageFormat.COMPRESSED_XML.createStorage(compressedFilePath)
+                .readSchedulePlanner().get()));
+    }
+
+    @Test
+    public void convert_xmlToJson_dataKept() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        Path xmlFilePath = getTempFilePath("scheduleplanner.xml");
+        Path jsonFilePath = getTempFilePath("scheduleplanner.json");
+        new XmlSchedulePlannerStorage(xmlFilePath).saveSchedulePlanner(original);
+
+        assertEquals(Optional.of(xmlFilePath), StorageFormat.findFileInOtherFormat(jsonFilePath));
+        StorageFormat.convert(xmlFilePath, jsonFilePath);
+        assertEquals(original, new SchedulePlanner(
+                new JsonSchedulePlannerStorage(jsonFilePath).readSchedulePlanner().get()));
+    }
+
+    @Test
+    public void convert_bothDirections_dataKept() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        Path xmlFilePath = getTempFilePath("original.xml");
+        Path binaryFilePath = getTempFilePath("converted.sspb");
+        Path convertedBackFilePath = getTempFilePath("convertedBack.xml");
+        new XmlSchedulePlannerStorage(xmlFilePath).saveSchedulePlanner(original);
+
+        StorageFormat.convert(xmlFilePath, binaryFilePath);
+        assertEquals(original, new SchedulePlanner(
+                new BinarySchedulePlannerStorage(binaryFilePath).readSchedulePlanner().get()));
+
+        StorageFormat.convert(binaryFilePath, convertedBackFilePath);
+        assertEquals(original, new SchedulePlanner(
+                new XmlSchedulePlannerStorage(convertedBackFilePath).readSchedulePlanner().get()));
+    }
+
+    @Test
+    public void convert_journalledSource_journalIncluded() throws Exception {
+        Path xmlFilePath = getTempFilePath("original.xml");
+        Path binaryFilePath = getTempFilePath("converted.sspb");
+        JournalSchedulePlannerStorage journalStorage =
+                new JournalSchedulePlannerStorage(new XmlSchedulePlannerStorage(xmlFilePath));
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        journalStorage.saveSchedulePlanner(original);
+        original.addTask(HOON);
+        journalStorage.saveSchedulePlanner(original);
+
+        StorageFormat.convert(xmlFilePath, binaryFilePath);
+        assertEquals(original, new SchedulePlanner(
+                new BinarySchedulePlannerStorage(binaryFilePath).readSchedulePlanner().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        StorageFormat.convert(getTempFilePath("missing.xml"), getTempFilePath("converted.sspb"));
+    }
+
+    @Test
+    public void findFileInOtherFormat() throws Exception {
+        Path binaryFilePath = getTempFilePath("scheduleplanner.sspb");
+        Path xmlFilePath = getTempFilePath("scheduleplanner.xml");
+        assertFalse(StorageFormat.findFileInOtherFormat(binaryFilePath).isPresent());
+
+        new XmlSchedulePlannerStorage(xmlFilePath).saveSchedulePlanner(getTypicalSchedulePlanner());
+        assertEquals(Optional.of(xmlFilePath), StorageFormat.findFileInOtherFormat(binaryFilePath));
+
+        // a file is not in another format than itself
+        assertFalse(StorageFormat.findFileInOtherFormat(xmlFilePath).isPresent());
+    }
+}
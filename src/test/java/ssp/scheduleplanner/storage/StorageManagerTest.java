@@ -1,8 +1,10 @@
 package ssp.scheduleplanner.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
 import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalSchedulePlanner;
 
 import java.io.IOException;
@@ -16,9 +18,11 @@ import org.junit.rules.TemporaryFolder;
 
 import ssp.scheduleplanner.commons.events.model.SchedulePlannerChangedEvent;
 import ssp.scheduleplanner.commons.events.storage.DataSavingExceptionEvent;
+import ssp.scheduleplanner.model.DeferredTaskLoader;
 import ssp.scheduleplanner.model.ReadOnlySchedulePlanner;
 import ssp.scheduleplanner.model.SchedulePlanner;
 import ssp.scheduleplanner.model.UserPrefs;
+import ssp.scheduleplanner.model.task.Date;
 import ssp.scheduleplanner.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -84,6 +88,111 @@ public class StorageManagerTest {
     }
 
 
+    @Test
+    public void handleSchedulePlannerChangedEvent_writeBehind_changesCoalescedAndFlushed() throws Exception {
+        storageManager.enableWriteBehind(60_000, Runnable::run);
+        SchedulePlanner schedulePlanner = new SchedulePlanner();
+        storageManager.handleSchedulePlannerChangedEvent(new SchedulePlannerChangedEvent(schedulePlanner));
+        schedulePlanner.resetData(getTypicalSchedulePlanner());
+        storageManager.handleSchedulePlannerChangedEvent(new SchedulePlannerChangedEvent(schedulePlanner));
+
+        // nothing written before the delay has passed
+        assertFalse(storageManager.readSchedulePlanner().isPresent());
+
+        storageManager.flushSchedulePlanner();
+        assertEquals(getTypicalSchedulePlanner(), new SchedulePlanner(storageManager.readSchedulePlanner().get()));
+        assertEquals(2, storageManager.getQueuedSaveCount());
+        assertEquals(1, storageManager.getWrittenSaveCount());
+    }
+
+    @Test
+    public void handleSchedulePlannerChangedEvent_writeBehind_laterChangesNotSaved() throws Exception {
+        storageManager.enableWriteBehind(60_000, Runnable::run);
+        SchedulePlanner schedulePlanner = getTypicalSchedulePlanner();
+        storageManager.handleSchedulePlannerChangedEvent(new SchedulePlannerChangedEvent(schedulePlanner));
+        schedulePlanner.resetData(new SchedulePlanner());
+
+        storageManager.flushSchedulePlanner();
+        assertEquals(getTypicalSchedulePlanner(), new SchedulePlanner(storageManager.readSchedulePlanner().get()));
+    }
+
+    @Test
+    public void handleSchedulePlannerChangedEvent_writeBehindExceptionThrown_eventRaised() {
+        StorageManager storage = new StorageManager(
+                new XmlSchedulePlannerStorageExceptionThrowingStub(Paths.get("dummy")),
+                new JsonUserPrefsStorage(Paths.get("dummy")));
+        storage.enableWriteBehind(60_000, Runnable::run);
+        storage.handleSchedulePlannerChangedEvent(new SchedulePlannerChangedEvent(new SchedulePlanner()));
+        assertFalse(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+
+        storage.flushSchedulePlanner();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+    @Test
+    public void flushSchedulePlanner_writeBehindRuntimeExceptionThrown_eventRaisedAndNotThrown() {
+        StorageManager storage = new StorageManager(
+                new XmlSchedulePlannerStorageRuntimeExceptionThrowingStub(Paths.get("dummy")),
+                new JsonUserPrefsStorage(Paths.get("dummy")));
+        storage.enableWriteBehind(60_000, Runnable::run);
+        storage.handleSchedulePlannerChangedEvent(new SchedulePlannerChangedEvent(new SchedulePlanner()));
+
+        storage.flushSchedulePlanner();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+
+        // later changes are still queued and written
+        storage.handleSchedulePlannerChangedEvent(new SchedulePlannerChangedEvent(new SchedulePlanner()));
+        storage.flushSchedulePlanner();
+        assertEquals(2, storage.getWrittenSaveCount());
+    }
+
+    @Test
+    public void flushSchedulePlanner_failedSaveCannotBeReported_notThrown() {
+        StorageManager storage = new StorageManager(
+                new XmlSchedulePlannerStorageExceptionThrowingStub(Paths.get("dummy")),
+                new JsonUserPrefsStorage(Paths.get("dummy")));
+        // such as Platform::runLater once the FX toolkit has exited
+        storage.enableWriteBehind(60_000, runnable -> {
+            throw new IllegalStateException("Toolkit has exited");
+        });
+        storage.handleSchedulePlannerChangedEvent(new SchedulePlannerChangedEvent(new SchedulePlanner()));
+
+        storage.flushSchedulePlanner();
+        assertEquals(1, storage.getWrittenSaveCount());
+    }
+
+    @Test
+    public void getDeferredTaskLoader_writeBehindAndMonthsLoaded_flushedOnlyWhenMonthsAreLoaded() throws Exception {
+        Path directoryPath = getTempFilePath("TempSchedulePlanner.shards");
+        new ShardedSchedulePlannerStorage(directoryPath).saveSchedulePlanner(getTypicalSchedulePlanner());
+        Date today = Date.of("150823");
+        StorageManager storage = new StorageManager(new ShardedSchedulePlannerStorage(directoryPath, today),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        SchedulePlanner schedulePlanner = new SchedulePlanner(storage.readSchedulePlanner().get());
+        storage.enableWriteBehind(60_000, Runnable::run);
+        DeferredTaskLoader loader = storage.getDeferredTaskLoader().get();
+
+        schedulePlanner.removeTask(ALICE);
+        storage.handleSchedulePlannerChangedEvent(new SchedulePlannerChangedEvent(schedulePlanner));
+        assertTrue(loader.isLoaded(today, today));
+        loader.loadTasksInDateRange(today, today);
+        assertEquals(0, storage.getWrittenSaveCount());
+
+        assertFalse(loader.isFullyLoaded());
+        assertFalse(loader.loadAllTasks().getTaskList().isEmpty());
+        assertEquals(1, storage.getWrittenSaveCount());
+        // nothing is left to write, so flushing again does not wait for the writer
+        storage.flushSchedulePlanner();
+        assertEquals(1, storage.getWrittenSaveCount());
+    }
+
+    @Test
+    public void flushSchedulePlanner_noWriteBehind_nothingWritten() {
+        storageManager.flushSchedulePlanner();
+        assertEquals(0, storageManager.getWrittenSaveCount());
+    }
+
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
@@ -99,5 +208,20 @@ public class StorageManagerTest {
         }
     }
 
+    /**
+     * A Stub class to throw an unchecked exception when the save method is called
+     */
+    class XmlSchedulePlannerStorageRuntimeExceptionThrowingStub extends XmlSchedulePlannerStorage {
+
+        public XmlSchedulePlannerStorageRuntimeExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveSchedulePlanner(ReadOnlySchedulePlanner schedulePlanner, Path filePath) {
+            throw new IllegalStateException("dummy exception");
+        }
+    }
+
 
 }
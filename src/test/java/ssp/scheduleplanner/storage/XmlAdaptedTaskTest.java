@@ -38,6 +38,23 @@ public class XmlAdaptedTaskTest {
         assertEquals(BENSON, task.toModelType());
     }
 
+    @Test
+    public void toModelType_matchingChecksum_returnsTask() throws Exception {
+        String checksum = new XmlAdaptedTask(BENSON).getChecksum();
+        XmlAdaptedTask task =
+                new XmlAdaptedTask(VALID_NAME, VALID_DATE, VALID_EMAIL, VALID_ADDRESS, VALID_TAGS, checksum);
+        assertEquals(BENSON, task.toModelType());
+    }
+
+    @Test
+    public void toModelType_fieldChangedAfterChecksum_throwsIllegalValueException() {
+        String checksum = new XmlAdaptedTask(BENSON).getChecksum();
+        XmlAdaptedTask task =
+                new XmlAdaptedTask(VALID_NAME, "140921", VALID_EMAIL, VALID_ADDRESS, VALID_TAGS, checksum);
+        Assert.assertThrows(IllegalValueException.class, XmlAdaptedTask.MESSAGE_CHECKSUM_MISMATCH,
+                task::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         XmlAdaptedTask task =
@@ -1,15 +1,25 @@
 package ssp.scheduleplanner.storage;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.BENSON;
 import static ssp.scheduleplanner.testutil.TypicalTasks.HOON;
 import static ssp.scheduleplanner.testutil.TypicalTasks.IDA;
 import static ssp.scheduleplanner.testutil.TypicalTasks.getTypicalSchedulePlanner;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -62,16 +72,70 @@ public class XmlSchedulePlannerStorageTest {
          */
     }
 
+    /**
+     * Reads a copy of the file {@code fileName} in the test data folder, so that the quarantine file is written
+     * next to the copy, and checks that its {@code invalidTaskCount} tasks are set aside.
+     */
+    private void assertInvalidTasksQuarantined(String fileName, XmlSchedulePlannerStorage.Mode mode,
+                                               int invalidTaskCount) throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve(fileName);
+        Files.copy(TEST_DATA_FOLDER.resolve(fileName), filePath);
+        XmlSchedulePlannerStorage storage = new XmlSchedulePlannerStorage(filePath, mode);
+
+        ReadOnlySchedulePlanner readBack = storage.readSchedulePlanner().get();
+        assertTrue(readBack.getTaskList().isEmpty());
+        RecoveryReport report = storage.getRecoveryReport().get();
+        assertEquals(0, report.getKeptCount());
+        assertEquals(invalidTaskCount, report.getQuarantinedCount());
+        assertEquals(XmlSchedulePlannerStorage.getQuarantineFilePath(filePath), report.getQuarantineFilePath());
+        assertEquals(invalidTaskCount,
+                XmlFileStorage.loadDataFromSaveFile(report.getQuarantineFilePath()).getRecordCount());
+    }
+
     @Test
-    public void readSchedulePlanner_invalidTaskSchedulePlanner_throwDataConversionException() throws Exception {
-        thrown.expect(DataConversionException.class);
-        readSchedulePlanner("invalidTaskSchedulePlanner.xml");
+    public void readSchedulePlanner_invalidTaskSchedulePlanner_taskQuarantined() throws Exception {
+        assertInvalidTasksQuarantined("invalidTaskSchedulePlanner.xml", XmlSchedulePlannerStorage.Mode.JAXB, 1);
     }
 
     @Test
-    public void readSchedulePlanner_invalidAndValidTaskSchedulePlanner_throwDataConversionException() throws Exception {
-        thrown.expect(DataConversionException.class);
-        readSchedulePlanner("invalidAndValidTaskSchedulePlanner.xml");
+    public void readSchedulePlanner_invalidAndValidTaskSchedulePlanner_tasksQuarantined() throws Exception {
+        assertInvalidTasksQuarantined("invalidAndValidTaskSchedulePlanner.xml", XmlSchedulePlannerStorage.Mode.JAXB,
+                2);
+    }
+
+    @Test
+    public void readSchedulePlanner_validFile_noRecoveryReport() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner.xml");
+        XmlSchedulePlannerStorage storage = new XmlSchedulePlannerStorage(filePath);
+        storage.saveSchedulePlanner(getTypicalSchedulePlanner());
+
+        storage.readSchedulePlanner();
+        assertFalse(storage.getRecoveryReport().isPresent());
+        assertFalse(Files.exists(XmlSchedulePlannerStorage.getQuarantineFilePath(filePath)));
+    }
+
+    @Test
+    public void readSchedulePlanner_taskChangedOnDisk_taskQuarantinedOthersKept() throws Exception {
+        for (XmlSchedulePlannerStorage.Mode mode : Arrays.asList(XmlSchedulePlannerStorage.Mode.JAXB,
+                XmlSchedulePlannerStorage.Mode.STREAMING)) {
+            Path filePath = testFolder.getRoot().toPath().resolve(mode + ".xml");
+            XmlSchedulePlannerStorage storage = new XmlSchedulePlannerStorage(filePath, mode);
+            SchedulePlanner original = getTypicalSchedulePlanner();
+            storage.saveSchedulePlanner(original);
+            // a name that is still valid, so only the checksum shows the change
+            String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+            Files.write(filePath, content.replace("Alice Pauline", "Alice Paulina").getBytes(StandardCharsets.UTF_8));
+
+            original.removeTask(ALICE);
+            assertEquals(original, new SchedulePlanner(storage.readSchedulePlanner().get()));
+            RecoveryReport report = storage.getRecoveryReport().get();
+            assertEquals(original.getTaskList().size(), report.getKeptCount());
+            assertEquals(1, report.getQuarantinedCount());
+
+            // reading the same file again does not set the task aside twice
+            storage.readSchedulePlanner();
+            assertEquals(1, XmlFileStorage.loadDataFromSaveFile(report.getQuarantineFilePath()).getRecordCount());
+        }
     }
 
     @Test
@@ -100,6 +164,119 @@ public class XmlSchedulePlannerStorageTest {
 
     }
 
+    private java.util.Optional<ReadOnlySchedulePlanner> readSchedulePlannerStreaming(String filePath) throws Exception {
+        return new XmlSchedulePlannerStorage(Paths.get(filePath), XmlSchedulePlannerStorage.Mode.STREAMING)
+                .readSchedulePlanner(addToTestDataPathIfNotNull(filePath));
+    }
+
+    @Test
+    public void readStreaming_missingFile_emptyResult() throws Exception {
+        assertFalse(readSchedulePlannerStreaming("NonExistentFile.xml").isPresent());
+    }
+
+    @Test
+    public void readStreaming_notXmlFormat_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readSchedulePlannerStreaming("NotXmlFormatSchedulePlanner.xml");
+    }
+
+    @Test
+    public void readStreaming_invalidTaskSchedulePlanner_taskQuarantined() throws Exception {
+        assertInvalidTasksQuarantined("invalidTaskSchedulePlanner.xml", XmlSchedulePlannerStorage.Mode.STREAMING,
+                1);
+    }
+
+    @Test
+    public void readStreaming_invalidAndValidTaskSchedulePlanner_tasksQuarantined() throws Exception {
+        assertInvalidTasksQuarantined("invalidAndValidTaskSchedulePlanner.xml",
+                XmlSchedulePlannerStorage.Mode.STREAMING, 2);
+    }
+
+    @Test
+    public void readAndSaveSchedulePlannerStreaming_allInOrder_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner.xml");
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        XmlSchedulePlannerStorage streamingStorage =
+                new XmlSchedulePlannerStorage(filePath, XmlSchedulePlannerStorage.Mode.STREAMING);
+
+        streamingStorage.saveSchedulePlanner(original, filePath);
+        assertEquals(original, new SchedulePlanner(streamingStorage.readSchedulePlanner(filePath).get()));
+
+        original.addTask(HOON);
+        original.removeTask(ALICE);
+        original.archiveTask(BENSON);
+        streamingStorage.saveSchedulePlanner(original);
+        assertEquals(original, new SchedulePlanner(streamingStorage.readSchedulePlanner().get()));
+    }
+
+    @Test
+    public void readAndSaveSchedulePlanner_modesMixed_sameFormat() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner.xml");
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        original.archiveTask(ALICE);
+        XmlSchedulePlannerStorage jaxbStorage = new XmlSchedulePlannerStorage(filePath);
+        XmlSchedulePlannerStorage streamingStorage =
+                new XmlSchedulePlannerStorage(filePath, XmlSchedulePlannerStorage.Mode.STREAMING);
+
+        jaxbStorage.saveSchedulePlanner(original);
+        byte[] savedByJaxb = Files.readAllBytes(filePath);
+        assertEquals(original, new SchedulePlanner(streamingStorage.readSchedulePlanner().get()));
+
+        streamingStorage.saveSchedulePlanner(original);
+        assertArrayEquals(savedByJaxb, Files.readAllBytes(filePath));
+        assertEquals(original, new SchedulePlanner(jaxbStorage.readSchedulePlanner().get()));
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new XmlSchedulePlannerStorage(Paths.get("SomeFile.xml.gz"), Deflater.BEST_COMPRESSION + 1);
+    }
+
+    @Test
+    public void readAndSaveSchedulePlannerCompressed_allCompressionLevels_success() throws Exception {
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        original.archiveTask(ALICE);
+        for (int level = Deflater.NO_COMPRESSION; level <= Deflater.BEST_COMPRESSION; level++) {
+            Path filePath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner" + level + ".xml.gz");
+            XmlSchedulePlannerStorage compressedStorage = new XmlSchedulePlannerStorage(filePath, level);
+            compressedStorage.saveSchedulePlanner(original);
+
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(filePath))) {
+                assertTrue(new String(readAllBytes(in), StandardCharsets.UTF_8).contains("<scheduleplanner>"));
+            }
+            assertEquals(original, new SchedulePlanner(compressedStorage.readSchedulePlanner().get()));
+        }
+    }
+
+    @Test
+    public void readSchedulePlanner_compressionChanged_fileReadEitherWay() throws Exception {
+        Path plainFilePath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner.xml");
+        Path compressedFilePath = testFolder.getRoot().toPath().resolve("TempSchedulePlanner.xml.gz");
+        SchedulePlanner original = getTypicalSchedulePlanner();
+        new XmlSchedulePlannerStorage(plainFilePath, XmlSchedulePlannerStorage.Mode.STREAMING)
+                .saveSchedulePlanner(original);
+        new XmlSchedulePlannerStorage(compressedFilePath, XmlSchedulePlannerStorage.Mode.COMPRESSED)
+                .saveSchedulePlanner(original);
+
+        assertEquals(original, new SchedulePlanner(new XmlSchedulePlannerStorage(compressedFilePath,
+                XmlSchedulePlannerStorage.Mode.STREAMING).readSchedulePlanner().get()));
+        assertEquals(original, new SchedulePlanner(new XmlSchedulePlannerStorage(plainFilePath,
+                XmlSchedulePlannerStorage.Mode.COMPRESSED).readSchedulePlanner().get()));
+    }
+
+    /**
+     * Returns the remaining bytes of {@code in}.
+     */
+    private static byte[] readAllBytes(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        for (int length = in.read(buffer); length != -1; length = in.read(buffer)) {
+            out.write(buffer, 0, length);
+        }
+        return out.toByteArray();
+    }
+
     @Test
     public void saveSchedulePlanner_nullSchedulePlanner_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -1,9 +1,15 @@
 package ssp.scheduleplanner.storage;
 
 import static org.junit.Assert.assertEquals;
+import static ssp.scheduleplanner.testutil.TypicalTasks.ALICE;
+import static ssp.scheduleplanner.testutil.TypicalTasks.BENSON;
+import static ssp.scheduleplanner.testutil.TypicalTasks.CARL;
+import static ssp.scheduleplanner.testutil.TypicalTasks.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -12,6 +18,7 @@ import org.junit.rules.ExpectedException;
 import ssp.scheduleplanner.commons.exceptions.IllegalValueException;
 import ssp.scheduleplanner.commons.util.XmlUtil;
 import ssp.scheduleplanner.model.SchedulePlanner;
+import ssp.scheduleplanner.model.task.Priority;
 import ssp.scheduleplanner.testutil.TypicalTasks;
 
 public class XmlSerializableSchedulePlannerTest {
@@ -50,4 +57,59 @@ public class XmlSerializableSchedulePlannerTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_duplicateTasks_reportsPositionOfDuplicate() throws Exception {
+        XmlSerializableSchedulePlanner dataFromFile = XmlUtil.getDataFromFile(DUPLICATE_TASK_FILE,
+                XmlSerializableSchedulePlanner.class);
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(XmlSerializableSchedulePlanner.MESSAGE_DUPLICATE_TASK_POSITION, 2));
+        dataFromFile.toModelType();
+    }
+
+    @Test
+    public void toModelType_invalidTaskFile_reportsPositionOfInvalidTask() throws Exception {
+        XmlSerializableSchedulePlanner dataFromFile = XmlUtil.getDataFromFile(INVALID_TASK_FILE,
+                XmlSerializableSchedulePlanner.class);
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(ParallelConverter.MESSAGE_INVALID_ELEMENT, "Task", 1,
+                Priority.MESSAGE_PRIORITY_CONSTRAINTS));
+        dataFromFile.toModelType();
+    }
+
+    @Test
+    public void toModelTypeWithQuarantine_typicalTasksFile_nothingQuarantined() throws Exception {
+        XmlSerializableSchedulePlanner dataFromFile = XmlUtil.getDataFromFile(TYPICAL_TASK_FILE,
+                XmlSerializableSchedulePlanner.class);
+        XmlSerializableSchedulePlanner quarantine = new XmlSerializableSchedulePlanner();
+        SchedulePlanner schedulePlannerFromFile = dataFromFile.toModelType(quarantine);
+        assertEquals(TypicalTasks.getTypicalSchedulePlanner().getTaskList(), schedulePlannerFromFile.getTaskList());
+        assertEquals(new XmlSerializableSchedulePlanner(), quarantine);
+    }
+
+    @Test
+    public void toModelTypeWithQuarantine_invalidTaskFile_invalidTaskQuarantined() throws Exception {
+        XmlSerializableSchedulePlanner dataFromFile = XmlUtil.getDataFromFile(INVALID_TASK_FILE,
+                XmlSerializableSchedulePlanner.class);
+        XmlSerializableSchedulePlanner quarantine = new XmlSerializableSchedulePlanner();
+        SchedulePlanner schedulePlannerFromFile = dataFromFile.toModelType(quarantine);
+        assertEquals(Collections.emptyList(), schedulePlannerFromFile.getTaskList());
+        assertEquals(1, quarantine.getRecordCount());
+    }
+
+    @Test
+    public void toModelTypeWithQuarantine_duplicateTasks_laterDuplicateQuarantined() {
+        XmlAdaptedTask alice = new XmlAdaptedTask(ALICE);
+        XmlAdaptedTask invalid = new XmlAdaptedTask("R@chel", "010118", "1", "Home", null);
+        XmlSerializableSchedulePlanner data = new XmlSerializableSchedulePlanner(Collections.emptyList(),
+                Arrays.asList(alice, new XmlAdaptedTask(BENSON), invalid, alice, new XmlAdaptedTask(CARL), alice),
+                Collections.singletonList(new XmlAdaptedTask(DANIEL)));
+        XmlSerializableSchedulePlanner quarantine = new XmlSerializableSchedulePlanner();
+
+        SchedulePlanner schedulePlanner = data.toModelType(quarantine);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), schedulePlanner.getTaskList());
+        assertEquals(Collections.singletonList(DANIEL), schedulePlanner.getArchivedTaskList());
+        assertEquals(new XmlSerializableSchedulePlanner(Collections.emptyList(),
+                Arrays.asList(invalid, alice, alice), Collections.emptyList()), quarantine);
+    }
+
 }
@@ -2,6 +2,8 @@ package ssp.scheduleplanner.ui;
 
 import static org.junit.Assert.assertEquals;
 import static ssp.scheduleplanner.testutil.EventsUtil.postNow;
+import static ssp.scheduleplanner.ui.StatusBarFooter.LOAD_STATUS_LOADED;
+import static ssp.scheduleplanner.ui.StatusBarFooter.LOAD_STATUS_LOADING;
 import static ssp.scheduleplanner.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
 import static ssp.scheduleplanner.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
 
@@ -19,6 +21,7 @@ import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
 import ssp.scheduleplanner.commons.events.model.SchedulePlannerChangedEvent;
+import ssp.scheduleplanner.commons.events.model.TaskLoadingProgressEvent;
 import ssp.scheduleplanner.model.SchedulePlanner;
 
 public class StatusBarFooterTest extends GuiUnitTest {
@@ -65,6 +68,17 @@ public class StatusBarFooterTest extends GuiUnitTest {
                 String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
     }
 
+    @Test
+    public void display_taskLoadingProgress() {
+        assertEquals(LOAD_STATUS_LOADED, statusBarFooterHandle.getLoadStatus());
+
+        postNow(new TaskLoadingProgressEvent(1, 4));
+        assertEquals(String.format(LOAD_STATUS_LOADING, 25), statusBarFooterHandle.getLoadStatus());
+
+        postNow(new TaskLoadingProgressEvent(4, 4));
+        assertEquals(LOAD_STATUS_LOADED, statusBarFooterHandle.getLoadStatus());
+    }
+
     /**
      * Asserts that the save location matches that of {@code expectedSaveLocation}, and the
      * sync status matches that of {@code expectedSyncStatus}.
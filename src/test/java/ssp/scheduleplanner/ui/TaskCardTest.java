@@ -8,6 +8,8 @@ import static ssp.scheduleplanner.ui.testutil.GuiTestAssert.assertCardDisplaysTa
 import org.junit.Test;
 
 import guitests.guihandles.TaskCardHandle;
+import ssp.scheduleplanner.model.rangeofweek.SemesterCalendar;
+import ssp.scheduleplanner.model.task.Date;
 import ssp.scheduleplanner.model.task.Task;
 import ssp.scheduleplanner.testutil.TaskBuilder;
 
@@ -28,6 +30,25 @@ public class TaskCardTest extends GuiUnitTest {
         assertCardDisplay(taskCard, taskWithTags, 2);
     }
 
+    @Test
+    public void display_withSemesterCalendar_showsAcademicWeek() {
+        SemesterCalendar semesterCalendar = SemesterCalendar.startingOn(Date.of("130818"));
+
+        // date in the semester
+        Task taskInSemester = new TaskBuilder().withDate("270918").build();
+        TaskCard taskCard = new TaskCard(taskInSemester, 1, semesterCalendar);
+        uiPartRule.setUiPart(taskCard);
+        assertCardDisplay(taskCard, taskInSemester, 1);
+        assertEquals("Recess Week", new TaskCardHandle(taskCard.getRoot()).getAcademicWeek());
+
+        // date outside the semester
+        Task taskOutsideSemester = new TaskBuilder().withDate("101218").build();
+        taskCard = new TaskCard(taskOutsideSemester, 2, semesterCalendar);
+        uiPartRule.setUiPart(taskCard);
+        assertCardDisplay(taskCard, taskOutsideSemester, 2);
+        assertEquals("", new TaskCardHandle(taskCard.getRoot()).getAcademicWeek());
+    }
+
     @Test
     public void equals() {
         Task task = new TaskBuilder().build();